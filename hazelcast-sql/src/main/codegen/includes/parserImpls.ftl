@@ -727,6 +727,58 @@ SqlDrop SqlDropView(Span span, boolean replace) :
     }
 }
 
+/**
+ * Parses CREATE MATERIALIZED VIEW statement.
+ */
+SqlCreate SqlCreateMaterializedView(Span span, boolean replace) :
+{
+    SqlParserPos startPos = span.pos();
+    boolean ifNotExists = false;
+    SqlIdentifier name;
+    SqlNode query;
+}
+{
+    <MATERIALIZED> <VIEW>
+    [
+        <IF> <NOT> <EXISTS> { ifNotExists = true; }
+    ]
+    name = CompoundIdentifier()
+
+    <AS>
+
+    query = OrderedQueryOrExpr(ExprContext.ACCEPT_QUERY)
+    {
+        return new SqlCreateMaterializedView(
+            startPos,
+            replace,
+            ifNotExists,
+            name,
+            query
+        );
+    }
+}
+
+/**
+ * Parses DROP MATERIALIZED VIEW statement.
+ */
+SqlDrop SqlDropMaterializedView(Span span, boolean replace) :
+{
+    SqlParserPos pos = span.pos();
+
+    SqlIdentifier name;
+    boolean ifExists = false;
+}
+{
+    <MATERIALIZED> <VIEW>
+    [
+        <IF> <EXISTS> { ifExists = true; }
+    ]
+    name = CompoundIdentifier()
+    {
+        return new SqlDropMaterializedView(name, ifExists, pos.plus(getPos()));
+    }
+}
+
 /**
  * Parses OPTIONS.
  */
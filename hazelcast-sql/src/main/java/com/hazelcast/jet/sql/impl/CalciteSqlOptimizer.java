@@ -21,9 +21,11 @@ import com.hazelcast.dataconnection.impl.InternalDataConnectionService;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.datamodel.Tuple2;
+import com.hazelcast.jet.sql.impl.MaterializedViewResolver.MaterializedViewDefinition;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.AlterJobPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateJobPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateMappingPlan;
+import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateMaterializedViewPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateSnapshotPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateTypePlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateViewPlan;
@@ -31,6 +33,7 @@ import com.hazelcast.jet.sql.impl.SqlPlanImpl.DmlPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropDataConnectionPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropJobPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropMappingPlan;
+import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropMaterializedViewPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropSnapshotPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropTypePlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropViewPlan;
@@ -75,6 +78,7 @@ import com.hazelcast.jet.sql.impl.parse.SqlCreateDataConnection;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateIndex;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateJob;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateMapping;
+import com.hazelcast.jet.sql.impl.parse.SqlCreateMaterializedView;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateSnapshot;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateType;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateView;
@@ -82,6 +86,7 @@ import com.hazelcast.jet.sql.impl.parse.SqlDropDataConnection;
 import com.hazelcast.jet.sql.impl.parse.SqlDropIndex;
 import com.hazelcast.jet.sql.impl.parse.SqlDropJob;
 import com.hazelcast.jet.sql.impl.parse.SqlDropMapping;
+import com.hazelcast.jet.sql.impl.parse.SqlDropMaterializedView;
 import com.hazelcast.jet.sql.impl.parse.SqlDropSnapshot;
 import com.hazelcast.jet.sql.impl.parse.SqlDropType;
 import com.hazelcast.jet.sql.impl.parse.SqlDropView;
@@ -346,6 +351,10 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
             return toCreateViewPlan(planKey, context, (SqlCreateView) node);
         } else if (node instanceof SqlDropView) {
             return toDropViewPlan(planKey, (SqlDropView) node);
+        } else if (node instanceof SqlCreateMaterializedView) {
+            return toCreateMaterializedViewPlan(planKey, parseResult, context, task.getSql());
+        } else if (node instanceof SqlDropMaterializedView) {
+            return toDropMaterializedViewPlan(planKey, (SqlDropMaterializedView) node);
         } else if (node instanceof SqlDropType) {
             return toDropTypePlan(planKey, (SqlDropType) node);
         } else if (node instanceof SqlShowStatement) {
@@ -516,6 +525,41 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
         return new DropViewPlan(planKey, sqlNode.viewName(), sqlNode.ifExists(), planExecutor);
     }
 
+    private SqlPlan toCreateMaterializedViewPlan(
+            PlanKey planKey,
+            QueryParseResult parseResult,
+            OptimizerContext context,
+            String query
+    ) {
+        SqlCreateMaterializedView sqlNode = (SqlCreateMaterializedView) parseResult.getNode();
+        QueryConvertResult convertResult = context.convert(sqlNode.getQuery());
+        context.setParameterMetadata(parseResult.getParameterMetadata());
+        LogicalRel logicalRel = optimizeLogical(context, convertResult.getRel());
+        if (logger.isFineEnabled()) {
+            logger.fine("Materialized view after logical opt:\n" + RelOptUtil.toString(logicalRel));
+        }
+
+        MaterializedViewDefinition definition = MaterializedViewResolver.resolve(
+                sqlNode.name(),
+                logicalRel,
+                convertResult.getFieldNames(),
+                parseResult.getParameterMetadata()
+        );
+        return new CreateMaterializedViewPlan(
+                planKey,
+                sqlNode.name(),
+                definition,
+                sqlNode.getReplace(),
+                sqlNode.ifNotExists(),
+                query,
+                planExecutor
+        );
+    }
+
+    private SqlPlan toDropMaterializedViewPlan(PlanKey planKey, SqlDropMaterializedView sqlNode) {
+        return new DropMaterializedViewPlan(planKey, sqlNode.viewName(), sqlNode.ifExists(), planExecutor);
+    }
+
     private SqlPlan toDropTypePlan(PlanKey planKey, SqlDropType sqlNode) {
         return new DropTypePlan(planKey, sqlNode.typeName(), sqlNode.ifExists(), planExecutor);
     }
@@ -583,7 +627,7 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
                     planKey,
                     select.objectKey(),
                     parameterMetadata, select.mapName(),
-                    select.keyCondition(parameterMetadata),
+                    select.keyConditions(parameterMetadata),
                     select.rowProjectorSupplier(parameterMetadata),
                     rowMetadata,
                     planExecutor,
@@ -21,6 +21,8 @@ import com.hazelcast.internal.serialization.impl.ArrayDataSerializableFactory;
 import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.internal.util.ConstructorFunction;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViewAggregation;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViewDelta;
 import com.hazelcast.jet.sql.impl.connector.map.RowProjectorProcessorSupplier;
 import com.hazelcast.jet.sql.impl.expression.UdtObjectToJsonFunction;
 import com.hazelcast.jet.sql.impl.expression.json.JsonArrayFunction;
@@ -217,7 +219,10 @@ public class JetSqlSerializerHook implements DataSerializerHook {
 
     public static final int EXPRESSION_GET_DDL = 90;
 
-    public static final int LEN = EXPRESSION_GET_DDL + 1;
+    public static final int MATERIALIZED_VIEW_AGGREGATION = 91;
+    public static final int MATERIALIZED_VIEW_DELTA = 92;
+
+    public static final int LEN = MATERIALIZED_VIEW_DELTA + 1;
 
     @Override
     public int getFactoryId() {
@@ -335,6 +340,9 @@ public class JetSqlSerializerHook implements DataSerializerHook {
 
         constructors[EXPRESSION_GET_DDL] = arg -> new GetDdlFunction();
 
+        constructors[MATERIALIZED_VIEW_AGGREGATION] = arg -> new MaterializedViewAggregation();
+        constructors[MATERIALIZED_VIEW_DELTA] = arg -> new MaterializedViewDelta();
+
         return new ArrayDataSerializableFactory(constructors);
     }
 
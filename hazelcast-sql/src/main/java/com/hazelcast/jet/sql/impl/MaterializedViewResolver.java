@@ -0,0 +1,334 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.jet.core.DAG;
+import com.hazelcast.jet.core.Edge;
+import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.jet.sql.impl.connector.map.IMapSqlConnector;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViewAggregateP;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViewAggregation;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViewAggregation.AggregationKind;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViewDelta;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViewSourceP;
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.jet.sql.impl.opt.logical.AggregateLogicalRel;
+import com.hazelcast.jet.sql.impl.opt.logical.CalcLogicalRel;
+import com.hazelcast.jet.sql.impl.opt.logical.FullScanLogicalRel;
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.schema.Mapping;
+import com.hazelcast.sql.impl.schema.MappingField;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.rex.RexVisitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.jet.impl.util.Util.toList;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.COMPACT_FORMAT;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.JAVA_FORMAT;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_KEY_CLASS;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_KEY_COMPACT_TYPE_NAME;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_KEY_FORMAT;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_VALUE_COMPACT_TYPE_NAME;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_VALUE_FORMAT;
+import static com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeUtils.toHazelcastType;
+
+/**
+ * Translates the query of a {@code CREATE MATERIALIZED VIEW} statement into
+ * the IMap mapping backing the view and the streaming job maintaining it.
+ * <p>
+ * Only queries of the form {@code SELECT <grouping columns and aggregates>
+ * FROM <IMap mapping> [WHERE ...] [GROUP BY ...]} are supported, where the
+ * aggregates are {@code COUNT} or {@code SUM}. The job reads the entries of
+ * every partition of the source IMap and then the event journal of the
+ * partition from the sequence following them, and applies each change to
+ * the affected group, so the cost of maintaining the view is proportional
+ * to the number of changes, not to the size of the source.
+ */
+final class MaterializedViewResolver {
+
+    /**
+     * Prefix of the name of the job maintaining a materialized view.
+     */
+    static final String JOB_NAME_PREFIX = "__sql.materializedView.";
+
+    private MaterializedViewResolver() {
+    }
+
+    static String jobName(String viewName) {
+        return JOB_NAME_PREFIX + viewName;
+    }
+
+    /**
+     * Creates the definition of a materialized view.
+     *
+     * @param viewName          the name of the view
+     * @param rel               the logical plan of the view query
+     * @param fieldNames        the names of the view columns
+     * @param parameterMetadata the parameter metadata of the view query
+     */
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity", "checkstyle:MethodLength"})
+    static MaterializedViewDefinition resolve(
+            String viewName,
+            RelNode rel,
+            List<String> fieldNames,
+            QueryParameterMetadata parameterMetadata
+    ) {
+        if (parameterMetadata.getParameterCount() > 0) {
+            throw QueryException.error("Dynamic parameters are not supported in a materialized view");
+        }
+
+        // the top-most Calc can only reorder the output of the aggregation
+        int[] outputIndexes = null;
+        if (rel instanceof CalcLogicalRel) {
+            RexProgram program = ((CalcLogicalRel) rel).getProgram();
+            if (program.getCondition() != null) {
+                throw unsupported("HAVING clause");
+            }
+            List<RexNode> projects = program.expandList(program.getProjectList());
+            outputIndexes = new int[projects.size()];
+            for (int i = 0; i < projects.size(); i++) {
+                if (!(projects.get(i) instanceof RexInputRef)) {
+                    throw unsupported("expression over an aggregate function");
+                }
+                outputIndexes[i] = ((RexInputRef) projects.get(i)).getIndex();
+            }
+            rel = ((CalcLogicalRel) rel).getInput();
+        }
+        if (!(rel instanceof AggregateLogicalRel)) {
+            throw QueryException.error("The query of a materialized view must contain a GROUP BY clause " +
+                    "or an aggregate function");
+        }
+        AggregateLogicalRel aggregate = (AggregateLogicalRel) rel;
+        if (aggregate.getGroupType() != Group.SIMPLE) {
+            throw unsupported("GROUPING SETS, ROLLUP or CUBE");
+        }
+        if (outputIndexes == null) {
+            outputIndexes = new int[aggregate.getRowType().getFieldCount()];
+            Arrays.setAll(outputIndexes, i -> i);
+        }
+
+        // the input of the aggregation is a scan of an IMap, optionally with a Calc in between
+        RelNode input = aggregate.getInput();
+        List<RexNode> inputProjects = null;
+        RexNode inputCondition = null;
+        if (input instanceof CalcLogicalRel) {
+            RexProgram program = ((CalcLogicalRel) input).getProgram();
+            inputProjects = program.expandList(program.getProjectList());
+            inputCondition = program.getCondition() == null ? null : program.expandLocalRef(program.getCondition());
+            input = ((CalcLogicalRel) input).getInput();
+        }
+        if (!(input instanceof FullScanLogicalRel)
+                || !(OptUtils.extractHazelcastTable(input).getTarget() instanceof PartitionedMapTable)) {
+            throw QueryException.error("The query of a materialized view must read from a single "
+                    + IMapSqlConnector.TYPE_NAME + " mapping");
+        }
+        HazelcastTable hazelcastTable = OptUtils.extractHazelcastTable(input);
+        PartitionedMapTable table = hazelcastTable.getTarget();
+        List<RexNode> projects = hazelcastTable.getProjects();
+        RexNode filter = hazelcastTable.getFilter();
+        if (inputProjects != null) {
+            if (inputCondition != null) {
+                inputCondition = OptUtils.inlineExpression(projects, inputCondition);
+                filter = RexUtil.composeConjunction(input.getCluster().getRexBuilder(),
+                        Arrays.asList(filter, inputCondition), true);
+            }
+            projects = OptUtils.inlineExpressions(projects, inputProjects);
+        }
+
+        // map the view columns to the grouping columns and aggregate functions
+        int groupCount = aggregate.getGroupCount();
+        List<Integer> groupKeys = aggregate.getGroupSet().asList();
+        boolean[] groupSelected = new boolean[groupCount];
+
+        String keyTypeName = JOB_NAME_PREFIX + viewName + ".key";
+        String valueTypeName = JOB_NAME_PREFIX + viewName + ".value";
+        List<MappingField> keyFields = new ArrayList<>();
+        List<MappingField> valueFields = new ArrayList<>();
+        List<Integer> groupIndexes = new ArrayList<>();
+        List<QueryDataType> groupTypes = new ArrayList<>();
+        List<AggregationKind> aggregateKinds = new ArrayList<>();
+        List<Integer> aggregateArgIndexes = new ArrayList<>();
+        List<QueryDataType> aggregateTypes = new ArrayList<>();
+        for (int i = 0; i < outputIndexes.length; i++) {
+            String fieldName = fieldNames.get(i);
+            if (fieldName.startsWith("__")) {
+                throw QueryException.error("Invalid column name in a materialized view: " + fieldName);
+            }
+            int outputIndex = outputIndexes[i];
+            QueryDataType type = toHazelcastType(aggregate.getRowType().getFieldList().get(outputIndex).getType());
+            if (!MaterializedViewAggregation.isSupportedColumnType(type)) {
+                throw QueryException.error("Unsupported type of column '" + fieldName + "' in a materialized view: "
+                        + type.getTypeFamily());
+            }
+
+            if (outputIndex < groupCount) {
+                groupSelected[outputIndex] = true;
+                keyFields.add(new MappingField(fieldName, type, QueryPath.KEY_PREFIX + fieldName));
+                groupIndexes.add(groupKeys.get(outputIndex));
+                groupTypes.add(type);
+                continue;
+            }
+
+            AggregateCall aggregateCall = aggregate.getAggCallList().get(outputIndex - groupCount);
+            if (aggregateCall.isDistinct() || aggregateCall.hasFilter()) {
+                throw unsupported("DISTINCT or FILTER in an aggregate function");
+            }
+            switch (aggregateCall.getAggregation().getKind()) {
+                case COUNT:
+                    if (aggregateCall.getArgList().isEmpty()) {
+                        aggregateKinds.add(AggregationKind.COUNT_ROWS);
+                        aggregateArgIndexes.add(-1);
+                    } else {
+                        aggregateKinds.add(AggregationKind.COUNT);
+                        aggregateArgIndexes.add(aggregateCall.getArgList().get(0));
+                    }
+                    break;
+                case SUM:
+                    aggregateKinds.add(AggregationKind.SUM);
+                    aggregateArgIndexes.add(aggregateCall.getArgList().get(0));
+                    break;
+                default:
+                    throw unsupported("aggregate function " + aggregateCall.getAggregation().getName());
+            }
+            valueFields.add(new MappingField(fieldName, type, QueryPath.VALUE_PREFIX + fieldName));
+            aggregateTypes.add(type);
+        }
+        for (boolean selected : groupSelected) {
+            if (!selected) {
+                throw QueryException.error("All GROUP BY columns must be selected in a materialized view");
+            }
+        }
+        if (valueFields.isEmpty()) {
+            throw QueryException.error("A materialized view must contain at least one aggregate function");
+        }
+
+        MaterializedViewAggregation aggregation = new MaterializedViewAggregation(
+                keyTypeName,
+                valueTypeName,
+                toList(keyFields, MappingField::name).toArray(new String[0]),
+                groupIndexes.stream().mapToInt(Integer::intValue).toArray(),
+                groupTypes.toArray(new QueryDataType[0]),
+                toList(valueFields, MappingField::name).toArray(new String[0]),
+                aggregateKinds.toArray(new AggregationKind[0]),
+                aggregateArgIndexes.stream().mapToInt(Integer::intValue).toArray(),
+                aggregateTypes.toArray(new QueryDataType[0])
+        );
+
+        Map<String, String> options = new LinkedHashMap<>();
+        if (aggregation.isGlobal()) {
+            options.put(OPTION_KEY_FORMAT, JAVA_FORMAT);
+            options.put(OPTION_KEY_CLASS, Integer.class.getName());
+        } else {
+            options.put(OPTION_KEY_FORMAT, COMPACT_FORMAT);
+            options.put(OPTION_KEY_COMPACT_TYPE_NAME, keyTypeName);
+        }
+        options.put(OPTION_VALUE_FORMAT, COMPACT_FORMAT);
+        options.put(OPTION_VALUE_COMPACT_TYPE_NAME, valueTypeName);
+        List<MappingField> mappingFields = new ArrayList<>(keyFields);
+        mappingFields.addAll(valueFields);
+        Mapping mapping = new Mapping(viewName, viewName, null, IMapSqlConnector.TYPE_NAME, null,
+                mappingFields, options);
+
+        RexVisitor<Expression<?>> visitor = OptUtils.createRexToExpressionVisitor(
+                OptUtils.schema(table), parameterMetadata);
+        @SuppressWarnings("unchecked")
+        Expression<Boolean> predicate = filter == null ? null : (Expression<Boolean>) filter.accept(visitor);
+        List<Expression<?>> projection = toList(projects, project -> project.accept(visitor));
+        KvRowProjector.Supplier projectorSupplier = KvRowProjector.supplier(
+                table.paths(),
+                table.types(),
+                table.getKeyDescriptor(),
+                table.getValueDescriptor(),
+                predicate,
+                projection
+        );
+
+        return new MaterializedViewDefinition(mapping, table.getMapName(),
+                createDag(table.getMapName(), viewName, projectorSupplier, aggregation));
+    }
+
+    /**
+     * Creates the DAG of the job maintaining the view. The deltas of a group
+     * are applied by a single processor, and the deltas produced from one
+     * partition of the source reach it in the order of the event journal, so
+     * that a row is never retracted from a group before it was added.
+     */
+    private static DAG createDag(
+            String sourceMapName,
+            String viewName,
+            KvRowProjector.Supplier projectorSupplier,
+            MaterializedViewAggregation aggregation
+    ) {
+        DAG dag = new DAG();
+        Vertex source = dag.newVertex("mapJournalSource(" + sourceMapName + ")",
+                MaterializedViewSourceP.supplier(sourceMapName, projectorSupplier, aggregation));
+        Vertex aggregate = dag.newVertex("aggregate(" + viewName + ")",
+                MaterializedViewAggregateP.supplier(viewName, aggregation));
+
+        dag.edge(Edge.between(source, aggregate).distributed().partitioned(MaterializedViewDelta::key));
+        return dag;
+    }
+
+    private static QueryException unsupported(String what) {
+        return QueryException.error("Unsupported in a materialized view: " + what);
+    }
+
+    /**
+     * The mapping backing a materialized view and the job maintaining it.
+     */
+    static final class MaterializedViewDefinition {
+        private final Mapping mapping;
+        private final String sourceMapName;
+        private final DAG dag;
+
+        private MaterializedViewDefinition(Mapping mapping, String sourceMapName, DAG dag) {
+            this.mapping = mapping;
+            this.sourceMapName = sourceMapName;
+            this.dag = dag;
+        }
+
+        Mapping mapping() {
+            return mapping;
+        }
+
+        String sourceMapName() {
+            return sourceMapName;
+        }
+
+        DAG dag() {
+            return dag;
+        }
+    }
+}
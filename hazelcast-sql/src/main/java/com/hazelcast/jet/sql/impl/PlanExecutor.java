@@ -31,15 +31,19 @@ import com.hazelcast.jet.Job;
 import com.hazelcast.jet.JobStateSnapshot;
 import com.hazelcast.jet.RestartableException;
 import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.config.ProcessingGuarantee;
+import com.hazelcast.jet.core.JobStatus;
 import com.hazelcast.jet.datamodel.Tuple2;
 import com.hazelcast.jet.impl.AbstractJetInstance;
 import com.hazelcast.jet.impl.JetServiceBackend;
 import com.hazelcast.jet.impl.util.ReflectionUtils;
 import com.hazelcast.jet.impl.util.Util;
+import com.hazelcast.jet.sql.impl.MaterializedViewResolver.MaterializedViewDefinition;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.AlterJobPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateIndexPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateJobPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateMappingPlan;
+import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateMaterializedViewPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateSnapshotPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateTypePlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateViewPlan;
@@ -47,6 +51,7 @@ import com.hazelcast.jet.sql.impl.SqlPlanImpl.DmlPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropDataConnectionPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropJobPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropMappingPlan;
+import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropMaterializedViewPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropSnapshotPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropTypePlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropViewPlan;
@@ -59,6 +64,7 @@ import com.hazelcast.jet.sql.impl.SqlPlanImpl.IMapUpdatePlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.SelectPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.ShowStatementPlan;
 import com.hazelcast.jet.sql.impl.connector.SqlConnector;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement.ShowStatementTarget;
 import com.hazelcast.jet.sql.impl.schema.DataConnectionResolver;
 import com.hazelcast.jet.sql.impl.schema.TableResolverImpl;
@@ -85,6 +91,7 @@ import com.hazelcast.sql.impl.QueryId;
 import com.hazelcast.sql.impl.QueryParameterMetadata;
 import com.hazelcast.sql.impl.SqlErrorCode;
 import com.hazelcast.sql.impl.UpdateSqlResultImpl;
+import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContextImpl;
 import com.hazelcast.sql.impl.row.EmptyRow;
@@ -104,10 +111,13 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -136,6 +146,7 @@ import static com.hazelcast.sql.SqlColumnType.VARCHAR;
 import static com.hazelcast.sql.impl.QueryUtils.quoteCompoundIdentifier;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparing;
 
@@ -371,6 +382,110 @@ public class PlanExecutor {
         return UpdateSqlResultImpl.createUpdateCountResult(0);
     }
 
+    SqlResult execute(CreateMaterializedViewPlan plan) {
+        MaterializedViewDefinition definition = plan.definition();
+        String sourceMapName = definition.sourceMapName();
+        if (!nodeEngine.getConfig().findMapConfig(sourceMapName).getEventJournalConfig().isEnabled()) {
+            throw QueryException.error("Event journal must be enabled for the IMap '" + sourceMapName
+                    + "' to create a materialized view over it");
+        }
+
+        String jobName = MaterializedViewResolver.jobName(plan.viewName());
+        Job job = hazelcastInstance.getJet().getJob(jobName);
+        IMap<Object, Object> map = hazelcastInstance.getMap(plan.viewName());
+        // like in DROP, a view whose job has terminated exists until it's dropped
+        boolean jobActive = job != null && !job.getStatus().isTerminal();
+        if (jobActive || (job != null && catalog.getMappingNames().contains(plan.viewName()))) {
+            if (plan.ifNotExists()) {
+                return UpdateSqlResultImpl.createUpdateCountResult(0);
+            }
+            if (!plan.isReplace()) {
+                throw QueryException.error("Materialized view already exists: " + plan.viewName());
+            }
+            // the new view is computed from scratch
+            if (jobActive) {
+                cancelAndJoin(job);
+            }
+            map.destroy();
+        } else if (!map.isEmpty()) {
+            throw QueryException.error("The IMap '" + plan.viewName() + "' must be empty to be used " +
+                    "by a materialized view");
+        }
+
+        catalog.createMapping(definition.mapping(), plan.isReplace(), false);
+        job = null;
+        try {
+            // the view is written when the snapshots of the job are committed,
+            // see MaterializedViewAggregateP
+            job = hazelcastInstance.getJet().newJob(definition.dag(), new JobConfig()
+                    .setName(jobName)
+                    .setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList())
+                    .setArgument(KEY_SQL_QUERY_TEXT, plan.query())
+                    .setArgument(KEY_SQL_UNBOUNDED, true)
+                    .setProcessingGuarantee(ProcessingGuarantee.EXACTLY_ONCE)
+                    .setSuspendOnFailure(true));
+            awaitRunning(job);
+        } catch (Throwable t) {
+            if (job != null) {
+                cancelAndJoin(job);
+            }
+            catalog.removeMapping(plan.viewName(), true);
+            map.destroy();
+            throw t;
+        }
+        return UpdateSqlResultImpl.createUpdateCountResult(0);
+    }
+
+    private static void awaitRunning(Job job) {
+        CompletableFuture<Void> running = new CompletableFuture<>();
+        UUID registrationId = job.addStatusListener(event -> {
+            if (event.getNewStatus() == JobStatus.RUNNING || event.getNewStatus().isTerminal()) {
+                running.complete(null);
+            }
+        });
+        try {
+            JobStatus status = job.getStatus();
+            if (status != JobStatus.RUNNING && !status.isTerminal()) {
+                running.join();
+            }
+        } finally {
+            job.removeStatusListener(registrationId);
+        }
+        if (job.getStatus().isTerminal()) {
+            // throws the failure of the job
+            job.join();
+            throw QueryException.error("The job maintaining the materialized view completed unexpectedly");
+        }
+    }
+
+    SqlResult execute(DropMaterializedViewPlan plan) {
+        // the job is looked up even if it's terminated, so that the view is
+        // dropped also when the job was cancelled or failed
+        Job job = hazelcastInstance.getJet().getJob(MaterializedViewResolver.jobName(plan.viewName()));
+        boolean jobActive = job != null && !job.getStatus().isTerminal();
+        if (!jobActive && (job == null || !catalog.getMappingNames().contains(plan.viewName()))) {
+            if (plan.isIfExists()) {
+                return UpdateSqlResultImpl.createUpdateCountResult(0);
+            }
+            throw QueryException.error("Materialized view does not exist: " + plan.viewName());
+        }
+        if (jobActive) {
+            cancelAndJoin(job);
+        }
+        catalog.removeMapping(plan.viewName(), true);
+        hazelcastInstance.getMap(plan.viewName()).destroy();
+        return UpdateSqlResultImpl.createUpdateCountResult(0);
+    }
+
+    private static void cancelAndJoin(Job job) {
+        try {
+            job.cancel();
+            job.join();
+        } catch (IllegalStateException ignored) {
+            // a CancellationException, or the job has already completed
+        }
+    }
+
     SqlResult execute(DropTypePlan plan) {
         catalog.removeType(plan.typeName(), plan.isIfExists());
         return UpdateSqlResultImpl.createUpdateCountResult(0);
@@ -542,17 +657,42 @@ public class PlanExecutor {
                 args,
                 serializationService,
                 Util.getNodeEngine(hazelcastInstance));
-        Object key = plan.keyCondition().eval(EmptyRow.INSTANCE, evalContext);
-        CompletableFuture<JetSqlRow> future = hazelcastInstance.getMap(plan.mapName())
-                .getAsync(key)
-                .toCompletableFuture()
-                .thenApply(value -> value == null ? null : plan.rowProjectorSupplier()
-                        .get(evalContext, Extractors.newBuilder(serializationService).build())
-                        .project(key, value));
-        JetSqlRow row = await(future, timeout);
-        StaticQueryResultProducerImpl resultProducer = row != null
-                ? new StaticQueryResultProducerImpl(row)
-                : new StaticQueryResultProducerImpl(emptyIterator());
+        StaticQueryResultProducerImpl resultProducer;
+        if (plan.keyConditions().size() == 1) {
+            Object key = plan.keyConditions().get(0).eval(EmptyRow.INSTANCE, evalContext);
+            CompletableFuture<JetSqlRow> future = hazelcastInstance.getMap(plan.mapName())
+                    .getAsync(key)
+                    .toCompletableFuture()
+                    .thenApply(value -> value == null ? null : plan.rowProjectorSupplier()
+                            .get(evalContext, Extractors.newBuilder(serializationService).build())
+                            .project(key, value));
+            JetSqlRow row = await(future, timeout);
+            resultProducer = row != null
+                    ? new StaticQueryResultProducerImpl(row)
+                    : new StaticQueryResultProducerImpl(emptyIterator());
+        } else {
+            // `__key = NULL` never matches, null keys are dropped
+            Set<Object> keys = new HashSet<>();
+            for (Expression<?> keyCondition : plan.keyConditions()) {
+                Object key = keyCondition.eval(EmptyRow.INSTANCE, evalContext);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+            CompletableFuture<List<JetSqlRow>> future = ((MapProxyImpl<Object, Object>) hazelcastInstance.getMap(plan.mapName()))
+                    .getAllAsync(keys)
+                    .toCompletableFuture()
+                    .thenApply(entries -> {
+                        KvRowProjector projector = plan.rowProjectorSupplier()
+                                .get(evalContext, Extractors.newBuilder(serializationService).build());
+                        List<JetSqlRow> rows = new ArrayList<>(entries.size());
+                        for (Entry<Object, Object> entry : entries.entrySet()) {
+                            rows.add(projector.project(entry.getKey(), entry.getValue()));
+                        }
+                        return rows;
+                    });
+            resultProducer = new StaticQueryResultProducerImpl(await(future, timeout).iterator());
+        }
 
         directIMapQueriesExecuted.getAndIncrement();
 
@@ -21,6 +21,7 @@ import com.hazelcast.jet.config.DeltaJobConfig;
 import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.sql.impl.MaterializedViewResolver.MaterializedViewDefinition;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
 import com.hazelcast.jet.sql.impl.connector.map.UpdatingEntryProcessor;
 import com.hazelcast.jet.sql.impl.opt.physical.PhysicalRel;
@@ -845,6 +846,128 @@ abstract class SqlPlanImpl extends SqlPlan {
         }
     }
 
+    static class CreateMaterializedViewPlan extends SqlPlanImpl {
+        private final String viewName;
+        private final MaterializedViewDefinition definition;
+        private final boolean replace;
+        private final boolean ifNotExists;
+        private final String query;
+        private final PlanExecutor planExecutor;
+
+        CreateMaterializedViewPlan(
+                PlanKey planKey,
+                String viewName,
+                MaterializedViewDefinition definition,
+                boolean replace,
+                boolean ifNotExists,
+                String query,
+                PlanExecutor planExecutor
+        ) {
+            super(planKey);
+
+            this.viewName = viewName;
+            this.definition = definition;
+            this.replace = replace;
+            this.ifNotExists = ifNotExists;
+            this.query = query;
+            this.planExecutor = planExecutor;
+        }
+
+        String viewName() {
+            return viewName;
+        }
+
+        MaterializedViewDefinition definition() {
+            return definition;
+        }
+
+        boolean isReplace() {
+            return replace;
+        }
+
+        boolean ifNotExists() {
+            return ifNotExists;
+        }
+
+        String query() {
+            return query;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return false;
+        }
+
+        @Override
+        public void checkPermissions(SqlSecurityContext context) {
+            context.checkPermission(new SqlPermission(viewName, ACTION_CREATE_VIEW));
+            context.checkPermission(new SqlPermission(viewName, ACTION_CREATE));
+            checkPermissions(context, definition.dag());
+        }
+
+        @Override
+        public boolean producesRows() {
+            return false;
+        }
+
+        @Override
+        public SqlResult execute(QueryId queryId, List<Object> arguments, long timeout) {
+            SqlPlanImpl.ensureNoArguments("CREATE MATERIALIZED VIEW", arguments);
+            SqlPlanImpl.ensureNoTimeout("CREATE MATERIALIZED VIEW", timeout);
+            return planExecutor.execute(this);
+        }
+    }
+
+    static class DropMaterializedViewPlan extends SqlPlanImpl {
+        private final String viewName;
+        private final boolean ifExists;
+        private final PlanExecutor planExecutor;
+
+        DropMaterializedViewPlan(
+                PlanKey planKey,
+                String viewName,
+                boolean ifExists,
+                PlanExecutor planExecutor
+        ) {
+            super(planKey);
+
+            this.viewName = viewName;
+            this.ifExists = ifExists;
+            this.planExecutor = planExecutor;
+        }
+
+        String viewName() {
+            return viewName;
+        }
+
+        boolean isIfExists() {
+            return ifExists;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return false;
+        }
+
+        @Override
+        public boolean producesRows() {
+            return false;
+        }
+
+        @Override
+        public void checkPermissions(SqlSecurityContext context) {
+            context.checkPermission(new SqlPermission(viewName, ACTION_DROP_VIEW));
+            context.checkPermission(new MapPermission(viewName, ACTION_DESTROY));
+        }
+
+        @Override
+        public SqlResult execute(QueryId queryId, List<Object> arguments, long timeout) {
+            SqlPlanImpl.ensureNoArguments("DROP MATERIALIZED VIEW", arguments);
+            SqlPlanImpl.ensureNoTimeout("DROP MATERIALIZED VIEW", timeout);
+            return planExecutor.execute(this);
+        }
+    }
+
     static class CreateTypePlan extends SqlPlanImpl {
         private final String name;
         private final boolean replace;
@@ -1210,7 +1333,7 @@ abstract class SqlPlanImpl extends SqlPlan {
         private final Set<PlanObjectKey> objectKeys;
         private final QueryParameterMetadata parameterMetadata;
         private final String mapName;
-        private final Expression<?> keyCondition;
+        private final List<Expression<?>> keyConditions;
         private final KvRowProjector.Supplier rowProjectorSupplier;
         private final SqlRowMetadata rowMetadata;
         private final PlanExecutor planExecutor;
@@ -1222,7 +1345,7 @@ abstract class SqlPlanImpl extends SqlPlan {
                 PlanObjectKey objectKey,
                 QueryParameterMetadata parameterMetadata,
                 String mapName,
-                Expression<?> keyCondition,
+                List<Expression<?>> keyConditions,
                 KvRowProjector.Supplier rowProjectorSupplier,
                 SqlRowMetadata rowMetadata,
                 PlanExecutor planExecutor,
@@ -1233,13 +1356,13 @@ abstract class SqlPlanImpl extends SqlPlan {
             this.objectKeys = Collections.singleton(objectKey);
             this.parameterMetadata = parameterMetadata;
             this.mapName = mapName;
-            this.keyCondition = keyCondition;
+            this.keyConditions = keyConditions;
             this.rowProjectorSupplier = rowProjectorSupplier;
             this.rowMetadata = rowMetadata;
             this.planExecutor = planExecutor;
             this.permissions = permissions;
-            this.keyConditionParamIndex = keyCondition instanceof ParameterExpression
-                    ? ((ParameterExpression<?>) keyCondition).getIndex()
+            this.keyConditionParamIndex = keyConditions.size() == 1 && keyConditions.get(0) instanceof ParameterExpression
+                    ? ((ParameterExpression<?>) keyConditions.get(0)).getIndex()
                     : -1;
         }
 
@@ -1251,8 +1374,8 @@ abstract class SqlPlanImpl extends SqlPlan {
             return mapName;
         }
 
-        Expression<?> keyCondition() {
-            return keyCondition;
+        List<Expression<?>> keyConditions() {
+            return keyConditions;
         }
 
         KvRowProjector.Supplier rowProjectorSupplier() {
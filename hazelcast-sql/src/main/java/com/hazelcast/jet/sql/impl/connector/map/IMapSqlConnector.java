@@ -49,17 +49,19 @@ import com.hazelcast.sql.impl.exec.scan.index.IndexFilter;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
-import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
 import com.hazelcast.sql.impl.schema.MappingField;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.schema.TableField;
 import com.hazelcast.sql.impl.schema.map.MapTableIndex;
+import com.hazelcast.sql.impl.schema.map.MapTableStatistics;
 import com.hazelcast.sql.impl.schema.map.MapTableUtils;
 import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Map;
 
 import static com.hazelcast.internal.util.UuidUtil.newUnsecureUuidString;
 import static com.hazelcast.jet.core.Edge.between;
@@ -73,6 +75,7 @@ import static com.hazelcast.sql.impl.QueryUtils.quoteCompoundIdentifier;
 import static com.hazelcast.sql.impl.schema.map.MapTableUtils.estimatePartitionedMapRowCount;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Stream.concat;
@@ -149,13 +152,18 @@ public class IMapSqlConnector implements SqlConnector {
         List<MapTableIndex> indexes = container != null
                 ? MapTableUtils.getPartitionedMapIndexes(container, fields)
                 : emptyList();
+        Map<Integer, ColumnStatistics> columnStatistics = container != null
+                ? MapTableUtils.getPartitionedMapColumnStatistics(
+                        context.getMapStatisticsCache().getStatistics(container, estimatedRowCount),
+                        fields)
+                : emptyMap();
 
         return new PartitionedMapTable(
                 schemaName,
                 mappingName,
                 mapName,
                 fields,
-                new ConstantTableStatistics(estimatedRowCount),
+                new MapTableStatistics(estimatedRowCount, columnStatistics),
                 keyMetadata.getQueryTargetDescriptor(),
                 valueMetadata.getQueryTargetDescriptor(),
                 keyMetadata.getUpsertTargetDescriptor(),
@@ -18,11 +18,13 @@ package com.hazelcast.jet.sql.impl.connector.map;
 
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
-import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceOrderedP;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceBatchedP;
 import com.hazelcast.jet.pipeline.ServiceFactories;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
 import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
@@ -39,11 +41,17 @@ import java.io.IOException;
 import java.security.Permission;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static com.hazelcast.jet.Traversers.singleton;
+import static com.hazelcast.jet.Traversers.traverseIterable;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_CREATE;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
@@ -54,6 +62,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 final class JoinByPrimitiveKeyProcessorSupplier implements ProcessorSupplier, DataSerializable {
 
     private static final int MAX_CONCURRENT_OPS = 8;
+    private static final int MAX_BATCH_SIZE = 256;
 
     private boolean inner;
     private int leftEquiJoinIndex;
@@ -95,24 +104,33 @@ final class JoinByPrimitiveKeyProcessorSupplier implements ProcessorSupplier, Da
         for (int i = 0; i < count; i++) {
             String mapName = this.mapName;
             KvRowProjector projector = rightRowProjectorSupplier.get(evalContext, extractors);
-            Processor processor = new AsyncTransformUsingServiceOrderedP<>(
+            Processor processor = new AsyncTransformUsingServiceBatchedP<>(
                     ServiceFactories.nonSharedService(SecuredFunctions.iMapFn(mapName))
                             .setCooperative(projector.isCooperative()),
                     null,
                     MAX_CONCURRENT_OPS,
-                    (IMap<Object, Object> map, JetSqlRow left) -> {
-                        Object key = left.get(leftEquiJoinIndex);
-                        if (key == null) {
-                            return inner ? null : completedFuture(null);
+                    MAX_BATCH_SIZE,
+                    (IMap<Object, Object> map, List<JetSqlRow> lefts) -> {
+                        // look up all the keys of the batch with a single, partition-grouped operation
+                        Set<Object> keys = new HashSet<>();
+                        for (JetSqlRow left : lefts) {
+                            Object key = left.get(leftEquiJoinIndex);
+                            if (key != null) {
+                                keys.add(key);
+                            }
                         }
-                        return map.getAsync(key).toCompletableFuture();
-                    },
-                    (left, value) -> {
-                        JetSqlRow joined = join(left, left.get(leftEquiJoinIndex), value,
-                                projector, condition, evalContext);
-                        return joined != null ? singleton(joined)
-                                : inner ? null
-                                : singleton(left.extendedRow(projector.getColumnCount()));
+                        CompletableFuture<Map<Object, Object>> future = keys.isEmpty()
+                                ? completedFuture(emptyMap())
+                                : ((MapProxyImpl<Object, Object>) map).getAllAsync(keys).toCompletableFuture();
+                        // the traverser is lazy, the rows are projected on the processor thread
+                        return future.thenApply(values -> traverseIterable(lefts).flatMap(left -> {
+                            Object key = left.get(leftEquiJoinIndex);
+                            JetSqlRow joined = join(left, key, key == null ? null : values.get(key),
+                                    projector, condition, evalContext);
+                            return joined != null ? singleton(joined)
+                                    : inner ? Traversers.<JetSqlRow>empty()
+                                    : singleton(left.extendedRow(projector.getColumnCount()));
+                        }));
                     }
             );
             processors.add(processor);
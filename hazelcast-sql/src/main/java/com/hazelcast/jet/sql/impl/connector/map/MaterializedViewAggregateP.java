@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.jet.RestartableException;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.datamodel.Tuple2;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.security.permission.MapPermission;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.hazelcast.jet.Traversers.traverseStream;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
+import static com.hazelcast.security.permission.ActionConstants.ACTION_CREATE;
+import static com.hazelcast.security.permission.ActionConstants.ACTION_PUT;
+import static com.hazelcast.security.permission.ActionConstants.ACTION_REMOVE;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Applies the {@link MaterializedViewDelta}s to the groups of a materialized
+ * view and writes the groups to the IMap backing the view.
+ * <p>
+ * The groups are kept in the processor and saved to the state snapshot, so
+ * that after a restart the deltas replayed from the event journal are
+ * applied to the groups as of the snapshot. The changed groups are written
+ * to the IMap only when the snapshot is committed: the IMap never contains
+ * the effect of a delta which can be replayed, therefore every change of the
+ * source is applied to the view exactly once. The view lags behind the
+ * source by up to the snapshot interval of the job.
+ * <p>
+ * The groups to be written when a snapshot is committed are marked in the
+ * snapshot and written again after a restart from it, in case the commit
+ * didn't complete.
+ */
+public final class MaterializedViewAggregateP extends AbstractProcessor {
+
+    private final String viewName;
+    private final MaterializedViewAggregation aggregation;
+
+    private final Map<Object, GenericRecord> groups = new HashMap<>();
+    // the keys of the groups changed since the last snapshot
+    private final Set<Object> changedKeys = new HashSet<>();
+    // the groups to write when the last snapshot is committed, a null value removes the group
+    private final Map<Object, GenericRecord> pendingWrites = new HashMap<>();
+
+    private IMap<Object, GenericRecord> view;
+    private Traverser<Entry<Object, Tuple2<GenericRecord, Boolean>>> snapshotTraverser;
+
+    private MaterializedViewAggregateP(String viewName, MaterializedViewAggregation aggregation) {
+        this.viewName = viewName;
+        this.aggregation = aggregation;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return false;
+    }
+
+    @Override
+    protected void init(@Nonnull Context context) {
+        view = context.hazelcastInstance().getMap(viewName);
+    }
+
+    @Override
+    protected boolean tryProcess(int ordinal, @Nonnull Object item) {
+        MaterializedViewDelta delta = (MaterializedViewDelta) item;
+        GenericRecord value = aggregation.apply(groups.get(delta.key()), delta);
+        if (value == null) {
+            groups.remove(delta.key());
+        } else {
+            groups.put(delta.key(), value);
+        }
+        changedKeys.add(delta.key());
+        return true;
+    }
+
+    @Override
+    public boolean saveToSnapshot() {
+        if (snapshotTraverser == null) {
+            for (Object key : changedKeys) {
+                pendingWrites.put(key, groups.get(key));
+            }
+            changedKeys.clear();
+            snapshotTraverser = traverseStream(Stream.concat(
+                    groups.entrySet().stream()
+                          .map(e -> entry(e.getKey(), tuple2(e.getValue(), pendingWrites.containsKey(e.getKey())))),
+                    pendingWrites.entrySet().stream()
+                                 .filter(e -> e.getValue() == null)
+                                 .map(e -> entry(e.getKey(), tuple2((GenericRecord) null, true)))));
+        }
+        boolean done = emitFromTraverserToSnapshot(snapshotTraverser);
+        if (done) {
+            snapshotTraverser = null;
+        }
+        return done;
+    }
+
+    @Override
+    public boolean snapshotCommitFinish(boolean success) {
+        if (success) {
+            writePendingGroups();
+        } else {
+            // the groups are written when the next snapshot is committed
+            changedKeys.addAll(pendingWrites.keySet());
+            pendingWrites.clear();
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void restoreFromSnapshot(@Nonnull Object key, @Nonnull Object value) {
+        Tuple2<GenericRecord, Boolean> group = (Tuple2<GenericRecord, Boolean>) value;
+        if (group.f0() != null) {
+            groups.put(key, group.f0());
+        }
+        if (group.f1()) {
+            pendingWrites.put(key, group.f0());
+        }
+    }
+
+    @Override
+    public boolean finishSnapshotRestore() {
+        writePendingGroups();
+        return true;
+    }
+
+    private void writePendingGroups() {
+        Map<Object, GenericRecord> puts = new HashMap<>();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (Entry<Object, GenericRecord> write : pendingWrites.entrySet()) {
+            if (write.getValue() == null) {
+                futures.add(view.removeAsync(write.getKey()).toCompletableFuture());
+            } else {
+                puts.put(write.getKey(), write.getValue());
+            }
+        }
+        if (!puts.isEmpty()) {
+            futures.add(view.putAllAsync(puts).toCompletableFuture());
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // the groups are written again after the restart
+            throw new RestartableException("Failed to write to the materialized view '" + viewName + "'", e.getCause());
+        }
+        pendingWrites.clear();
+    }
+
+    /**
+     * Returns the supplier of the processors maintaining the given view.
+     */
+    public static ProcessorSupplier supplier(String viewName, MaterializedViewAggregation aggregation) {
+        return new Supplier(viewName, aggregation);
+    }
+
+    private static final class Supplier implements ProcessorSupplier, DataSerializable {
+
+        private String viewName;
+        private MaterializedViewAggregation aggregation;
+
+        @SuppressWarnings("unused")
+        private Supplier() {
+        }
+
+        private Supplier(String viewName, MaterializedViewAggregation aggregation) {
+            this.viewName = viewName;
+            this.aggregation = aggregation;
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            return IntStream.range(0, count)
+                    .mapToObj(i -> new MaterializedViewAggregateP(viewName, aggregation))
+                    .collect(toList());
+        }
+
+        @Override
+        public List<Permission> permissions() {
+            return singletonList(new MapPermission(viewName, ACTION_CREATE, ACTION_PUT, ACTION_REMOVE));
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeString(viewName);
+            out.writeObject(aggregation);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            viewName = in.readString();
+            aggregation = in.readObject();
+        }
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.function.BiFunctionEx;
+import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+
+import static com.hazelcast.sql.impl.type.QueryDataTypeUtils.DECIMAL_MATH_CONTEXT;
+
+/**
+ * Incrementally maintained aggregation backing a materialized view.
+ * <p>
+ * The state of every group is stored as a Compact {@link GenericRecord} in
+ * the IMap backing the view. The key contains the grouping columns, the value
+ * contains the aggregated columns plus some bookkeeping fields, which are not
+ * part of the view's mapping:
+ * <ul>
+ *     <li>{@value #ROW_COUNT_FIELD}: the number of source rows in the group.
+ *     The group is removed from the view when it drops to zero.
+ *     <li>{@value #NON_NULL_COUNT_FIELD_PREFIX}{@code <column>}: for each
+ *     {@code SUM} column, the number of non-null inputs, used to distinguish
+ *     a zero sum from a sum of no values.
+ * </ul>
+ * Only invertible aggregations ({@code COUNT} and {@code SUM}) are supported,
+ * because every change of a source entry is applied as a retraction of the
+ * old row followed by an accumulation of the new row.
+ * <p>
+ * The deltas are applied to the groups by {@link MaterializedViewAggregateP},
+ * in the order in which their source partition produced them, so that a row
+ * is never retracted from a group before it was added.
+ */
+public class MaterializedViewAggregation
+        implements BiFunctionEx<GenericRecord, MaterializedViewDelta, GenericRecord>, IdentifiedDataSerializable {
+
+    static final String ROW_COUNT_FIELD = "__rowCount";
+    static final String NON_NULL_COUNT_FIELD_PREFIX = "__nonNullCount_";
+
+    /**
+     * Key of the single entry of a view without a GROUP BY clause.
+     */
+    static final Integer GLOBAL_KEY = 0;
+
+    private static final long serialVersionUID = 1L;
+
+    private String keyTypeName;
+    private String valueTypeName;
+    private String[] groupFieldNames;
+    private int[] groupIndexes;
+    private QueryDataType[] groupTypes;
+    private String[] aggregateFieldNames;
+    private AggregationKind[] aggregateKinds;
+    private int[] aggregateArgIndexes;
+    private QueryDataType[] aggregateTypes;
+
+    @SuppressWarnings("unused")
+    public MaterializedViewAggregation() {
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public MaterializedViewAggregation(
+            String keyTypeName,
+            String valueTypeName,
+            String[] groupFieldNames,
+            int[] groupIndexes,
+            QueryDataType[] groupTypes,
+            String[] aggregateFieldNames,
+            AggregationKind[] aggregateKinds,
+            int[] aggregateArgIndexes,
+            QueryDataType[] aggregateTypes
+    ) {
+        this.keyTypeName = keyTypeName;
+        this.valueTypeName = valueTypeName;
+        this.groupFieldNames = groupFieldNames;
+        this.groupIndexes = groupIndexes;
+        this.groupTypes = groupTypes;
+        this.aggregateFieldNames = aggregateFieldNames;
+        this.aggregateKinds = aggregateKinds;
+        this.aggregateArgIndexes = aggregateArgIndexes;
+        this.aggregateTypes = aggregateTypes;
+    }
+
+    public boolean isGlobal() {
+        return groupFieldNames.length == 0;
+    }
+
+    /**
+     * Returns the IMap key of the group the given source row belongs to.
+     */
+    public Object key(JetSqlRow row) {
+        if (isGlobal()) {
+            return GLOBAL_KEY;
+        }
+        GenericRecordBuilder builder = GenericRecordBuilder.compact(keyTypeName);
+        for (int i = 0; i < groupFieldNames.length; i++) {
+            setField(builder, groupFieldNames[i], groupTypes[i].getTypeFamily(), row.get(groupIndexes[i]));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public GenericRecord applyEx(@Nullable GenericRecord oldValue, @Nonnull MaterializedViewDelta delta) {
+        int sign = delta.isRetraction() ? -1 : 1;
+        JetSqlRow row = delta.row();
+
+        long rowCount = (oldValue == null ? 0 : oldValue.getInt64(ROW_COUNT_FIELD)) + sign;
+        if (rowCount < 0) {
+            throw new IllegalStateException("A row retracted from a group it was not added to: " + delta.key());
+        }
+        if (rowCount == 0) {
+            return null;
+        }
+
+        GenericRecordBuilder builder = GenericRecordBuilder.compact(valueTypeName);
+        builder.setInt64(ROW_COUNT_FIELD, rowCount);
+        for (int i = 0; i < aggregateKinds.length; i++) {
+            String fieldName = aggregateFieldNames[i];
+            switch (aggregateKinds[i]) {
+                case COUNT_ROWS:
+                    builder.setNullableInt64(fieldName, (oldValue == null ? 0 : oldValue.getInt64(fieldName)) + sign);
+                    break;
+                case COUNT:
+                    long count = oldValue == null ? 0 : oldValue.getInt64(fieldName);
+                    if (row.get(aggregateArgIndexes[i]) != null) {
+                        count += sign;
+                    }
+                    builder.setNullableInt64(fieldName, count);
+                    break;
+                case SUM:
+                    applySum(builder, oldValue, fieldName, aggregateTypes[i].getTypeFamily(),
+                            row.get(aggregateArgIndexes[i]), sign);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected aggregation kind: " + aggregateKinds[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void applySum(
+            GenericRecordBuilder builder,
+            @Nullable GenericRecord oldValue,
+            String fieldName,
+            QueryDataTypeFamily type,
+            @Nullable Object arg,
+            int sign
+    ) {
+        String countFieldName = NON_NULL_COUNT_FIELD_PREFIX + fieldName;
+        long count = oldValue == null ? 0 : oldValue.getInt64(countFieldName);
+        Object sum = oldValue == null ? null : getField(oldValue, fieldName, type);
+        if (arg != null) {
+            count += sign;
+            sum = count == 0 ? null : add(type, sum, arg, sign);
+        }
+        builder.setInt64(countFieldName, count);
+        setField(builder, fieldName, type, sum);
+    }
+
+    private static Object add(QueryDataTypeFamily type, @Nullable Object sum, Object arg, int sign) {
+        switch (type) {
+            case BIGINT:
+                long longSum = sum == null ? 0L : (long) sum;
+                long longArg = ((Number) arg).longValue();
+                try {
+                    return sign > 0 ? Math.addExact(longSum, longArg) : Math.subtractExact(longSum, longArg);
+                } catch (ArithmeticException e) {
+                    throw QueryException.dataException(QueryDataTypeFamily.BIGINT + " overflow in 'SUM' function " +
+                            "(consider adding explicit CAST to DECIMAL)");
+                }
+            case DECIMAL:
+                BigDecimal decimalSum = sum == null ? BigDecimal.ZERO : (BigDecimal) sum;
+                BigDecimal decimalArg = arg instanceof BigDecimal
+                        ? (BigDecimal) arg
+                        : new BigDecimal(((Number) arg).longValue());
+                return sign > 0
+                        ? decimalSum.add(decimalArg, DECIMAL_MATH_CONTEXT)
+                        : decimalSum.subtract(decimalArg, DECIMAL_MATH_CONTEXT);
+            case REAL:
+                return (sum == null ? 0f : (float) sum) + sign * ((Number) arg).floatValue();
+            case DOUBLE:
+                return (sum == null ? 0d : (double) sum) + sign * ((Number) arg).doubleValue();
+            default:
+                throw QueryException.error("Unsupported SUM type in a materialized view: " + type);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static void setField(GenericRecordBuilder builder, String name, QueryDataTypeFamily type, Object value) {
+        switch (type) {
+            case BOOLEAN:
+                builder.setNullableBoolean(name, (Boolean) value);
+                break;
+            case TINYINT:
+                builder.setNullableInt8(name, (Byte) value);
+                break;
+            case SMALLINT:
+                builder.setNullableInt16(name, (Short) value);
+                break;
+            case INTEGER:
+                builder.setNullableInt32(name, (Integer) value);
+                break;
+            case BIGINT:
+                builder.setNullableInt64(name, (Long) value);
+                break;
+            case REAL:
+                builder.setNullableFloat32(name, (Float) value);
+                break;
+            case DOUBLE:
+                builder.setNullableFloat64(name, (Double) value);
+                break;
+            case DECIMAL:
+                builder.setDecimal(name, (BigDecimal) value);
+                break;
+            case VARCHAR:
+                builder.setString(name, (String) value);
+                break;
+            case TIME:
+                builder.setTime(name, (LocalTime) value);
+                break;
+            case DATE:
+                builder.setDate(name, (LocalDate) value);
+                break;
+            case TIMESTAMP:
+                builder.setTimestamp(name, (LocalDateTime) value);
+                break;
+            case TIMESTAMP_WITH_TIME_ZONE:
+                builder.setTimestampWithTimezone(name, (OffsetDateTime) value);
+                break;
+            default:
+                throw QueryException.error("Unsupported column type in a materialized view: " + type);
+        }
+    }
+
+    private static Object getField(GenericRecord record, String name, QueryDataTypeFamily type) {
+        switch (type) {
+            case BIGINT:
+                return record.getNullableInt64(name);
+            case DECIMAL:
+                return record.getDecimal(name);
+            case REAL:
+                return record.getNullableFloat32(name);
+            case DOUBLE:
+                return record.getNullableFloat64(name);
+            default:
+                throw QueryException.error("Unsupported SUM type in a materialized view: " + type);
+        }
+    }
+
+    /**
+     * Checks whether a column of the given type can be stored in the view.
+     */
+    public static boolean isSupportedColumnType(QueryDataType type) {
+        switch (type.getTypeFamily()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case REAL:
+            case DOUBLE:
+            case DECIMAL:
+            case VARCHAR:
+            case TIME:
+            case DATE:
+            case TIMESTAMP:
+            case TIMESTAMP_WITH_TIME_ZONE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeString(keyTypeName);
+        out.writeString(valueTypeName);
+        out.writeStringArray(groupFieldNames);
+        out.writeIntArray(groupIndexes);
+        writeTypes(out, groupTypes);
+        out.writeStringArray(aggregateFieldNames);
+        out.writeInt(aggregateKinds.length);
+        for (AggregationKind kind : aggregateKinds) {
+            out.writeInt(kind.ordinal());
+        }
+        out.writeIntArray(aggregateArgIndexes);
+        writeTypes(out, aggregateTypes);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        keyTypeName = in.readString();
+        valueTypeName = in.readString();
+        groupFieldNames = in.readStringArray();
+        groupIndexes = in.readIntArray();
+        groupTypes = readTypes(in);
+        aggregateFieldNames = in.readStringArray();
+        aggregateKinds = new AggregationKind[in.readInt()];
+        for (int i = 0; i < aggregateKinds.length; i++) {
+            aggregateKinds[i] = AggregationKind.values()[in.readInt()];
+        }
+        aggregateArgIndexes = in.readIntArray();
+        aggregateTypes = readTypes(in);
+    }
+
+    private static void writeTypes(ObjectDataOutput out, QueryDataType[] types) throws IOException {
+        out.writeInt(types.length);
+        for (QueryDataType type : types) {
+            out.writeObject(type);
+        }
+    }
+
+    private static QueryDataType[] readTypes(ObjectDataInput in) throws IOException {
+        QueryDataType[] types = new QueryDataType[in.readInt()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = in.readObject();
+        }
+        return types;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetSqlSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetSqlSerializerHook.MATERIALIZED_VIEW_AGGREGATION;
+    }
+
+    /**
+     * The aggregate functions supported in a materialized view.
+     */
+    public enum AggregationKind {
+        /**
+         * {@code COUNT(*)}
+         */
+        COUNT_ROWS,
+
+        /**
+         * {@code COUNT(expression)}
+         */
+        COUNT,
+
+        /**
+         * {@code SUM(expression)}
+         */
+        SUM
+    }
+}
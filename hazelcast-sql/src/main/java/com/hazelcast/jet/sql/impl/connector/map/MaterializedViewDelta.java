@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import java.io.IOException;
+
+/**
+ * A change of a single source row, to be applied to the group identified
+ * by {@link #key()} of a materialized view. See {@link
+ * MaterializedViewAggregation}.
+ */
+public class MaterializedViewDelta implements IdentifiedDataSerializable {
+
+    private Object key;
+    private JetSqlRow row;
+    private boolean retraction;
+
+    @SuppressWarnings("unused")
+    public MaterializedViewDelta() {
+    }
+
+    MaterializedViewDelta(Object key, JetSqlRow row, boolean retraction) {
+        this.key = key;
+        this.row = row;
+        this.retraction = retraction;
+    }
+
+    public Object key() {
+        return key;
+    }
+
+    public JetSqlRow row() {
+        return row;
+    }
+
+    /**
+     * Returns {@code true} if the row is removed from the group, {@code
+     * false} if it's added.
+     */
+    public boolean isRetraction() {
+        return retraction;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(key);
+        out.writeObject(row);
+        out.writeBoolean(retraction);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        key = in.readObject();
+        row = in.readObject();
+        retraction = in.readBoolean();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetSqlSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetSqlSerializerHook.MATERIALIZED_VIEW_DELTA;
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.internal.journal.EventJournalReader;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.BroadcastKey;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.map.EventJournalMapEvent;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.journal.MapEventJournalFetchSnapshotOperation;
+import com.hazelcast.map.impl.journal.MapEventJournalSnapshot;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.ringbuffer.ReadResultSet;
+import com.hazelcast.security.permission.MapPermission;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.security.Permission;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.jet.Traversers.traverseStream;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
+import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
+import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
+import static com.hazelcast.jet.impl.util.Util.arrayIndexOf;
+import static com.hazelcast.jet.impl.util.Util.distributeObjects;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.security.permission.ActionConstants.ACTION_CREATE;
+import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reads the source IMap of a materialized view and converts its rows into
+ * {@link MaterializedViewDelta}s: first the entries of every assigned
+ * partition, then the changes of the partition from its event journal.
+ * <p>
+ * The entries of a partition and the sequence of the first journal event
+ * not reflected in them are read atomically by a {@link
+ * MapEventJournalFetchSnapshotOperation}, so every change is seen exactly once.
+ * An entry is added to its group if it passes the view's filter. An event
+ * is projected twice: the old value, if it passes the filter, is retracted
+ * from its group and the new value, if it passes, is added to its group.
+ * <p>
+ * The deltas of the entries of a partition are all emitted before the next
+ * snapshot barrier. The snapshot therefore either contains the journal
+ * offset of a partition and the downstream state reflects all its entries,
+ * or it contains nothing for the partition and it's read from scratch after
+ * a restart. The partitions are read one at a time, to hold the entries of
+ * a single partition in memory.
+ */
+public final class MaterializedViewSourceP extends AbstractProcessor {
+
+    private static final int MAX_FETCH_SIZE = 128;
+    private static final long NOT_READ = -1;
+
+    private final String mapName;
+    private final OperationService operationService;
+    private final EventJournalReader<EventJournalMapEvent<Object, Object>> eventJournalReader;
+    private final KvRowProjector projector;
+    private final MaterializedViewAggregation aggregation;
+    private final int[] partitionIds;
+
+    // the sequence of the next event to emit, NOT_READ until the entries are emitted
+    private final long[] offsets;
+    private final CompletableFuture<ReadResultSet<EventJournalMapEvent<Object, Object>>>[] readFutures;
+
+    private int entriesIndex = -1;
+    private CompletableFuture<MapEventJournalSnapshot> entriesFuture;
+    private int nextIndex;
+
+    private Traverser<MaterializedViewDelta> traverser = Traversers.empty();
+    private Traverser<Entry<BroadcastKey<Integer>, Long>> snapshotTraverser;
+
+    @SuppressWarnings("unchecked")
+    private MaterializedViewSourceP(
+            String mapName,
+            OperationService operationService,
+            EventJournalReader<EventJournalMapEvent<Object, Object>> eventJournalReader,
+            KvRowProjector projector,
+            MaterializedViewAggregation aggregation,
+            int[] partitionIds
+    ) {
+        this.mapName = mapName;
+        this.operationService = operationService;
+        this.eventJournalReader = eventJournalReader;
+        this.projector = projector;
+        this.aggregation = aggregation;
+        this.partitionIds = partitionIds;
+
+        offsets = new long[partitionIds.length];
+        Arrays.fill(offsets, NOT_READ);
+        readFutures = new CompletableFuture[partitionIds.length];
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return projector.isCooperative();
+    }
+
+    @Override
+    public boolean complete() {
+        if (!emitFromTraverser(traverser)) {
+            return false;
+        }
+        if (entriesFuture == null) {
+            readNextEntries();
+        }
+        if (entriesFuture != null && entriesFuture.isDone()) {
+            MapEventJournalSnapshot snapshot = result(entriesFuture);
+            entriesFuture = null;
+            offsets[entriesIndex] = snapshot.getNextSequence();
+            traverser = entryDeltas(snapshot.getEntries());
+            if (!emitFromTraverser(traverser)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < partitionIds.length; i++) {
+            int index = nextIndex;
+            nextIndex = (nextIndex + 1) % partitionIds.length;
+            if (offsets[index] == NOT_READ) {
+                continue;
+            }
+            if (readFutures[index] == null) {
+                readFutures[index] = readFromJournal(index);
+                continue;
+            }
+            if (!readFutures[index].isDone()) {
+                continue;
+            }
+            ReadResultSet<EventJournalMapEvent<Object, Object>> resultSet = result(readFutures[index]);
+            checkNoEventLost(index, resultSet);
+            offsets[index] = resultSet.getNextSequenceToReadFrom();
+            readFutures[index] = readFromJournal(index);
+            traverser = traverseStream(IntStream.range(0, resultSet.size()).mapToObj(resultSet::get))
+                    .flatMap(this::eventDeltas);
+            if (!emitFromTraverser(traverser)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void readNextEntries() {
+        while (++entriesIndex < partitionIds.length) {
+            if (offsets[entriesIndex] == NOT_READ) {
+                entriesFuture = operationService.<MapEventJournalSnapshot>invokeOnPartition(MapService.SERVICE_NAME,
+                        new MapEventJournalFetchSnapshotOperation(mapName), partitionIds[entriesIndex]);
+                return;
+            }
+        }
+    }
+
+    private CompletableFuture<ReadResultSet<EventJournalMapEvent<Object, Object>>> readFromJournal(int index) {
+        return eventJournalReader.<EventJournalMapEvent<Object, Object>>readFromEventJournal(
+                offsets[index], 1, MAX_FETCH_SIZE, partitionIds[index], null, null).toCompletableFuture();
+    }
+
+    private void checkNoEventLost(int index, ReadResultSet<?> resultSet) {
+        long lostCount = resultSet.getNextSequenceToReadFrom() - resultSet.readCount() - offsets[index];
+        if (lostCount > 0) {
+            throw new JetException(lostCount + " events lost for partition " + partitionIds[index]
+                    + " due to event journal overflow when reading from the event journal of the IMap '" + mapName
+                    + "', the materialized view can't be maintained. Increase the capacity of the event journal.");
+        }
+    }
+
+    private Traverser<MaterializedViewDelta> entryDeltas(MapEntries entries) {
+        return traverseStream(IntStream.range(0, entries.size())
+                .mapToObj(i -> delta(projector.project(entries.getKey(i), entries.getValue(i)), false))
+                .filter(Objects::nonNull));
+    }
+
+    private Traverser<MaterializedViewDelta> eventDeltas(EventJournalMapEvent<Object, Object> event) {
+        return Traversers.traverseItems(
+                event.getOldValue() == null ? null : delta(projector.project(event.getKey(), event.getOldValue()), true),
+                event.getNewValue() == null ? null : delta(projector.project(event.getKey(), event.getNewValue()), false));
+    }
+
+    @Nullable
+    private MaterializedViewDelta delta(@Nullable JetSqlRow row, boolean retraction) {
+        return row == null ? null : new MaterializedViewDelta(aggregation.key(row), row, retraction);
+    }
+
+    @Override
+    public boolean saveToSnapshot() {
+        if (!emitFromTraverser(traverser)) {
+            return false;
+        }
+        if (snapshotTraverser == null) {
+            snapshotTraverser = traverseStream(IntStream.range(0, partitionIds.length)
+                    .filter(index -> offsets[index] != NOT_READ)
+                    .mapToObj(index -> entry(broadcastKey(partitionIds[index]), offsets[index])));
+        }
+        boolean done = emitFromTraverserToSnapshot(snapshotTraverser);
+        if (done) {
+            snapshotTraverser = null;
+        }
+        return done;
+    }
+
+    @Override
+    protected void restoreFromSnapshot(@Nonnull Object key, @Nonnull Object value) {
+        @SuppressWarnings("unchecked")
+        int index = arrayIndexOf(((BroadcastKey<Integer>) key).key(), partitionIds);
+        if (index >= 0) {
+            offsets[index] = (long) value;
+        }
+    }
+
+    private static <T> T result(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw rethrow(peel(e));
+        }
+    }
+
+    /**
+     * Returns the supplier of the processors reading the partitions of the
+     * given IMap owned by the local member.
+     */
+    public static ProcessorSupplier supplier(
+            String mapName,
+            KvRowProjector.Supplier projectorSupplier,
+            MaterializedViewAggregation aggregation
+    ) {
+        return new Supplier(mapName, projectorSupplier, aggregation);
+    }
+
+    private static final class Supplier implements ProcessorSupplier, DataSerializable {
+
+        private String mapName;
+        private KvRowProjector.Supplier projectorSupplier;
+        private MaterializedViewAggregation aggregation;
+
+        private transient int[] memberPartitions;
+        private transient OperationService operationService;
+        private transient EventJournalReader<EventJournalMapEvent<Object, Object>> eventJournalReader;
+        private transient ExpressionEvalContext evalContext;
+        private transient Extractors extractors;
+
+        @SuppressWarnings("unused")
+        private Supplier() {
+        }
+
+        private Supplier(
+                String mapName,
+                KvRowProjector.Supplier projectorSupplier,
+                MaterializedViewAggregation aggregation
+        ) {
+            this.mapName = mapName;
+            this.projectorSupplier = projectorSupplier;
+            this.aggregation = aggregation;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void init(@Nonnull Context context) {
+            memberPartitions = context.memberPartitions();
+            operationService = getNodeEngine(context.hazelcastInstance()).getOperationService();
+            eventJournalReader = (EventJournalReader<EventJournalMapEvent<Object, Object>>)
+                    context.hazelcastInstance().getMap(mapName);
+            evalContext = ExpressionEvalContext.from(context);
+            extractors = Extractors.newBuilder(evalContext.getSerializationService()).build();
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            return Arrays.stream(distributeObjects(count, memberPartitions))
+                    .map(partitions -> partitions.length == 0
+                            ? Processors.noopP().get()
+                            : new MaterializedViewSourceP(mapName, operationService, eventJournalReader,
+                                    projectorSupplier.get(evalContext, extractors), aggregation, partitions))
+                    .collect(toList());
+        }
+
+        @Override
+        public List<Permission> permissions() {
+            return singletonList(new MapPermission(mapName, ACTION_CREATE, ACTION_READ));
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeString(mapName);
+            out.writeObject(projectorSupplier);
+            out.writeObject(aggregation);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            mapName = in.readString();
+            projectorSupplier = in.readObject();
+            aggregation = in.readObject();
+        }
+    }
+}
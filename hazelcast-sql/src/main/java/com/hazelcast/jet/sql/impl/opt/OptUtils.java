@@ -465,6 +465,54 @@ public final class OptUtils {
         }
     }
 
+    /**
+     * Extracts the constant key expressions from the filter of the given
+     * table. In addition to a single-key filter handled by {@link
+     * #extractKeyConstantExpression}, it recognizes a disjunction of key
+     * equalities, e.g. {@code WHERE __key IN (1, 2, ?)}, which Calcite
+     * represents either as an {@code OR} or as a {@code SEARCH} with a
+     * point {@code Sarg}.
+     *
+     * @return the key expressions, or {@code null} if the filter is not a
+     * key lookup
+     */
+    @Nullable
+    public static List<RexNode> extractKeyConstantExpressions(RelOptTable relTable, RexBuilder rexBuilder) {
+        RexNode keyCondition = extractKeyConstantExpression(relTable, rexBuilder);
+        if (keyCondition != null) {
+            return Collections.singletonList(keyCondition);
+        }
+
+        HazelcastTable table = relTable.unwrap(HazelcastTable.class);
+        RexNode filter = table.getFilter();
+        if (filter == null) {
+            return null;
+        }
+        if (filter.getKind() == SqlKind.SEARCH) {
+            // ranges expand to comparisons and `nullAs TRUE` to IS NULL, both are rejected below
+            filter = RexUtil.expandSearch(rexBuilder, null, filter);
+        }
+        if (filter.getKind() != SqlKind.OR) {
+            return null;
+        }
+
+        int keyIndex = findPrimaryKeyIndex(table.getTarget());
+        List<RexNode> operands = ((RexCall) filter).getOperands();
+        List<RexNode> keyConditions = new ArrayList<>(operands.size());
+        for (RexNode operand : operands) {
+            if (operand.getKind() != SqlKind.EQUALS) {
+                return null;
+            }
+            Tuple2<Integer, RexNode> constantExpressionByIndex = extractConstantExpression((RexCall) operand);
+            //noinspection ConstantConditions
+            if (constantExpressionByIndex == null || constantExpressionByIndex.getKey() != keyIndex) {
+                return null;
+            }
+            keyConditions.add(constantExpressionByIndex.getValue());
+        }
+        return keyConditions;
+    }
+
     /**
      * Returns the index of the primary key field in the given `table`. If
      * there's no primary key, or if there's more than ona primary key field, it
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.opt.cost;
+
+import com.google.common.collect.Range;
+import com.hazelcast.jet.sql.impl.schema.HazelcastTableStatistic;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUnknownAs;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.Sarg;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+
+/**
+ * Estimates the selectivity of a scan filter using the column statistics of the table.
+ * <p>
+ * Equality predicates use the number of distinct values, range predicates use the histogram, {@code IS [NOT] NULL}
+ * predicates use the fraction of nulls. Conjunctions, disjunctions and negations are combined assuming independence.
+ * Predicates which cannot be estimated with the statistics fall back to {@link RelMdUtil#guessSelectivity(RexNode)}.
+ * <p>
+ * The filter is expected to reference the fields of the target table, as in {@code HazelcastTable#getFilter()}.
+ */
+public final class SelectivityEstimator {
+
+    private SelectivityEstimator() {
+        // No-op.
+    }
+
+    /**
+     * @param filter    Filter, may be {@code null}.
+     * @param statistic Statistic of the table.
+     * @return Estimated fraction of the table rows matching the filter.
+     */
+    public static double estimate(@Nullable RexNode filter, Statistic statistic) {
+        if (filter == null) {
+            return 1.0d;
+        }
+
+        if (!(statistic instanceof HazelcastTableStatistic)) {
+            return RelMdUtil.guessSelectivity(filter);
+        }
+
+        return clamp(estimate0(filter, (HazelcastTableStatistic) statistic));
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static double estimate0(RexNode node, HazelcastTableStatistic statistic) {
+        switch (node.getKind()) {
+            case AND:
+                double and = 1.0d;
+
+                for (RexNode operand : ((RexCall) node).getOperands()) {
+                    and *= clamp(estimate0(operand, statistic));
+                }
+
+                return and;
+
+            case OR:
+                double none = 1.0d;
+
+                for (RexNode operand : ((RexCall) node).getOperands()) {
+                    none *= 1.0d - clamp(estimate0(operand, statistic));
+                }
+
+                return 1.0d - none;
+
+            case NOT:
+                return 1.0d - clamp(estimate0(((RexCall) node).getOperands().get(0), statistic));
+
+            case IS_NULL:
+            case IS_NOT_NULL:
+                ColumnStatistics nullColumn = columnStatistics(((RexCall) node).getOperands().get(0), statistic);
+
+                if (nullColumn == null) {
+                    break;
+                }
+
+                return node.getKind() == SqlKind.IS_NULL ? nullColumn.getNullFraction() : 1.0d - nullColumn.getNullFraction();
+
+            case EQUALS:
+            case NOT_EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                Double comparison = estimateComparison((RexCall) node, statistic);
+
+                if (comparison == null) {
+                    break;
+                }
+
+                return comparison;
+
+            case SEARCH:
+                Double search = estimateSearch((RexCall) node, statistic);
+
+                if (search == null) {
+                    break;
+                }
+
+                return search;
+
+            default:
+                break;
+        }
+
+        return RelMdUtil.guessSelectivity(node);
+    }
+
+    @Nullable
+    private static Double estimateComparison(RexCall call, HazelcastTableStatistic statistic) {
+        RexNode first = call.getOperands().get(0);
+        RexNode second = call.getOperands().get(1);
+        SqlKind kind = call.getKind();
+
+        ColumnStatistics column = columnStatistics(first, statistic);
+        RexNode constant = second;
+
+        if (column == null) {
+            column = columnStatistics(second, statistic);
+            constant = first;
+            kind = kind.reverse();
+        }
+
+        if (column == null || !isConstant(constant)) {
+            return null;
+        }
+
+        switch (kind) {
+            case EQUALS:
+                return column.getEqualsSelectivity();
+
+            case NOT_EQUALS:
+                return 1.0d - column.getNullFraction() - column.getEqualsSelectivity();
+
+            default:
+                Double value = numericValue(constant);
+
+                if (value == null) {
+                    return null;
+                }
+
+                return kind == SqlKind.LESS_THAN || kind == SqlKind.LESS_THAN_OR_EQUAL
+                        ? column.getRangeSelectivity(Double.NEGATIVE_INFINITY, value)
+                        : column.getRangeSelectivity(value, Double.POSITIVE_INFINITY);
+        }
+    }
+
+    @Nullable
+    private static Double estimateSearch(RexCall call, HazelcastTableStatistic statistic) {
+        ColumnStatistics column = columnStatistics(call.getOperands().get(0), statistic);
+
+        if (column == null || !(call.getOperands().get(1) instanceof RexLiteral)) {
+            return null;
+        }
+
+        Sarg<?> sarg = ((RexLiteral) call.getOperands().get(1)).getValueAs(Sarg.class);
+
+        if (sarg == null) {
+            return null;
+        }
+
+        double nulls = sarg.nullAs == RexUnknownAs.TRUE ? column.getNullFraction() : 0.0d;
+
+        if (sarg.isPoints()) {
+            return sarg.pointCount * column.getEqualsSelectivity() + nulls;
+        }
+
+        if (sarg.isComplementedPoints()) {
+            return 1.0d - column.getNullFraction() - sarg.negate().pointCount * column.getEqualsSelectivity() + nulls;
+        }
+
+        double res = nulls;
+
+        for (Range<?> range : sarg.rangeSet.asRanges()) {
+            Double from = range.hasLowerBound() ? numericValue(range.lowerEndpoint()) : Double.valueOf(Double.NEGATIVE_INFINITY);
+            Double to = range.hasUpperBound() ? numericValue(range.upperEndpoint()) : Double.valueOf(Double.POSITIVE_INFINITY);
+
+            if (from == null || to == null) {
+                return null;
+            }
+
+            Double rangeSelectivity = column.getRangeSelectivity(from, to);
+
+            if (rangeSelectivity == null) {
+                return null;
+            }
+
+            res += rangeSelectivity;
+        }
+
+        return res;
+    }
+
+    @Nullable
+    private static ColumnStatistics columnStatistics(RexNode node, HazelcastTableStatistic statistic) {
+        while (node.getKind() == SqlKind.CAST) {
+            node = ((RexCall) node).getOperands().get(0);
+        }
+
+        if (node instanceof RexInputRef) {
+            return statistic.getColumnStatistics(((RexInputRef) node).getIndex());
+        }
+
+        return null;
+    }
+
+    private static boolean isConstant(RexNode node) {
+        while (node.getKind() == SqlKind.CAST) {
+            node = ((RexCall) node).getOperands().get(0);
+        }
+
+        return node instanceof RexLiteral || node instanceof RexDynamicParam;
+    }
+
+    @Nullable
+    private static Double numericValue(RexNode node) {
+        while (node.getKind() == SqlKind.CAST) {
+            node = ((RexCall) node).getOperands().get(0);
+        }
+
+        return node instanceof RexLiteral ? numericValue(((RexLiteral) node).getValue()) : null;
+    }
+
+    @Nullable
+    private static Double numericValue(Object value) {
+        if (value instanceof BigDecimal || value instanceof Double || value instanceof Long || value instanceof Integer) {
+            return ((Number) value).doubleValue();
+        }
+
+        return null;
+    }
+
+    private static double clamp(double selectivity) {
+        return Math.max(0.0d, Math.min(1.0d, selectivity));
+    }
+}
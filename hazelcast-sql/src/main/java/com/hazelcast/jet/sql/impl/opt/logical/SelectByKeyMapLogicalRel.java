@@ -37,7 +37,7 @@ import java.util.stream.Collectors;
 public class SelectByKeyMapLogicalRel extends AbstractRelNode implements LogicalRel {
 
     private final RelOptTable table;
-    private final RexNode keyCondition;
+    private final List<RexNode> keyConditions;
     private final List<? extends RexNode> projections;
 
     SelectByKeyMapLogicalRel(
@@ -45,7 +45,7 @@ public class SelectByKeyMapLogicalRel extends AbstractRelNode implements Logical
             RelTraitSet traitSet,
             RelDataType rowType,
             RelOptTable table,
-            RexNode keyCondition,
+            List<RexNode> keyConditions,
             List<? extends RexNode> projections
     ) {
         super(cluster, traitSet);
@@ -54,7 +54,8 @@ public class SelectByKeyMapLogicalRel extends AbstractRelNode implements Logical
         assert table.unwrap(HazelcastTable.class).getTarget() instanceof PartitionedMapTable;
 
         this.table = table;
-        this.keyCondition = keyCondition;
+        assert !keyConditions.isEmpty();
+        this.keyConditions = keyConditions;
         this.projections = projections;
     }
 
@@ -62,8 +63,8 @@ public class SelectByKeyMapLogicalRel extends AbstractRelNode implements Logical
         return table;
     }
 
-    public RexNode keyCondition() {
-        return keyCondition;
+    public List<RexNode> keyConditions() {
+        return keyConditions;
     }
 
     public List<? extends RexNode> projections() {
@@ -80,7 +81,8 @@ public class SelectByKeyMapLogicalRel extends AbstractRelNode implements Logical
     public RelWriter explainTerms(RelWriter pw) {
         return pw
                 .item("table", table.getQualifiedName())
-                .item("keyCondition", keyCondition)
+                .itemIf("keyCondition", keyConditions.get(0), keyConditions.size() == 1)
+                .itemIf("keyConditions", keyConditions, keyConditions.size() > 1)
                 .item("projections", Ord.zip(rowType.getFieldList()).stream()
                         .map(field -> {
                             String fieldName = field.e.getName() == null ? "field#" + field.i : field.e.getName();
@@ -91,6 +93,6 @@ public class SelectByKeyMapLogicalRel extends AbstractRelNode implements Logical
 
     @Override
     public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
-        return new SelectByKeyMapLogicalRel(getCluster(), traitSet, rowType, table, keyCondition, projections);
+        return new SelectByKeyMapLogicalRel(getCluster(), traitSet, rowType, table, keyConditions, projections);
     }
 }
@@ -25,20 +25,25 @@ import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexNode;
 
+import java.util.List;
+
 import static org.apache.calcite.plan.RelOptRule.none;
 import static org.apache.calcite.plan.RelOptRule.operandJ;
 
 /**
- * A planner rule that matches a single-key, constant-expression, {@link
+ * A planner rule that matches a constant-expression key lookup {@link
  * PartitionedMapTable} SELECT.
  * <p>
  * For example,
  * <blockquote><code>SELECT * FROM map WHERE __key = 1</code></blockquote>
  * or
  * <blockquote><code>SELECT this + 1 FROM map WHERE __key = 1</code></blockquote>
+ * or
+ * <blockquote><code>SELECT * FROM map WHERE __key IN (1, 2, ?)</code></blockquote>
  * <p>
  * Such SELECT is translated to optimized, direct-key {@code IMap} operation
- * which does not involve starting a Jet job.
+ * - a {@code get} for a single key or a partition-grouped {@code getAll} for
+ * multiple keys - which does not involve starting a Jet job.
  */
 public final class SelectByKeyMapLogicalRule {
 
@@ -57,14 +62,14 @@ public final class SelectByKeyMapLogicalRule {
 
             RelOptTable table = scan.getTable();
             RexBuilder rexBuilder = scan.getCluster().getRexBuilder();
-            RexNode keyCondition = OptUtils.extractKeyConstantExpression(table, rexBuilder);
-            if (keyCondition != null) {
+            List<RexNode> keyConditions = OptUtils.extractKeyConstantExpressions(table, rexBuilder);
+            if (keyConditions != null) {
                 SelectByKeyMapLogicalRel rel = new SelectByKeyMapLogicalRel(
                         scan.getCluster(),
                         OptUtils.toLogicalConvention(scan.getTraitSet()),
                         scan.getRowType(),
                         table,
-                        keyCondition,
+                        keyConditions,
                         OptUtils.extractHazelcastTable(scan).getProjects()
                 );
                 call.transformTo(rel);
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.opt.metadata;
+
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Calc;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+
+/**
+ * Metadata which provides the number of distinct values based on the column statistics of Hazelcast tables.
+ */
+public final class HazelcastRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    /** Do not change the name (see {@code RelMetadataQueryBase} JavaDoc). */
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(
+            BuiltInMethod.DISTINCT_ROW_COUNT.method,
+            new HazelcastRelMdDistinctRowCount()
+    );
+
+    private HazelcastRelMdDistinctRowCount() {
+        // No-op.
+    }
+
+    @Override
+    public Double getDistinctRowCount(TableScan rel, RelMetadataQuery mq, ImmutableBitSet groupKey, RexNode predicate) {
+        HazelcastTable table = rel.getTable().unwrap(HazelcastTable.class);
+        Double distinctCount = table != null ? tableDistinctCount(table, groupKey) : null;
+        Double rowCount = mq.getRowCount(rel);
+
+        if (distinctCount == null || rowCount == null) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+
+        if (predicate != null) {
+            rowCount *= RelMdUtil.guessSelectivity(predicate);
+        }
+
+        // The scan may return only a part of the rows due to the pushed-down filter.
+        return RelMdUtil.numDistinctVals(distinctCount, rowCount);
+    }
+
+    @SuppressWarnings("unused")
+    public Double getDistinctRowCount(Calc rel, RelMetadataQuery mq, ImmutableBitSet groupKey, RexNode predicate) {
+        if (predicate != null) {
+            return getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+        }
+
+        RexProgram program = rel.getProgram();
+        ImmutableBitSet.Builder inputGroupKey = ImmutableBitSet.builder();
+
+        for (int index : groupKey) {
+            RexNode project = program.expandLocalRef(program.getProjectList().get(index));
+
+            if (!(project instanceof RexInputRef)) {
+                return getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+            }
+
+            inputGroupKey.set(((RexInputRef) project).getIndex());
+        }
+
+        // The Calc may filter out a part of the input rows.
+        Double distinctCount = mq.getDistinctRowCount(rel.getInput(), inputGroupKey.build(), null);
+
+        return RelMdUtil.numDistinctVals(distinctCount, mq.getRowCount(rel));
+    }
+
+    /**
+     * Gets the number of distinct combinations of the given projected columns of the table, counting {@code NULL} as
+     * a distinct value. Returns {@code null} if any of the columns has no statistics.
+     */
+    private static Double tableDistinctCount(HazelcastTable table, ImmutableBitSet groupKey) {
+        if (groupKey.isEmpty()) {
+            return null;
+        }
+
+        double res = 1.0d;
+
+        for (int index : groupKey) {
+            RexNode project = table.getProjects().get(index);
+
+            if (!(project instanceof RexInputRef)) {
+                return null;
+            }
+
+            ColumnStatistics statistics = table.getColumnStatistics(((RexInputRef) project).getIndex());
+
+            if (statistics == null) {
+                return null;
+            }
+
+            res *= statistics.getDistinctCount() + (statistics.getNullFraction() > 0.0d ? 1 : 0);
+        }
+
+        return res;
+    }
+}
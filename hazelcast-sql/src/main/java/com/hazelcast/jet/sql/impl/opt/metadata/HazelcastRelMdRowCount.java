@@ -16,9 +16,14 @@
 
 package com.hazelcast.jet.sql.impl.opt.metadata;
 
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.util.BuiltInMethod;
 
 /**
@@ -33,6 +38,38 @@ public final class HazelcastRelMdRowCount extends RelMdRowCount {
         // No-op.
     }
 
-    // Empty at the moment, will be extended in the future.
-    // Now it serves as an example of how to wire up a metadata handler into Calcite.
+    /**
+     * Estimates the row count of an equi-join as {@code |L| * |R| / max(NDV(L.keys), NDV(R.keys))}, if the number
+     * of distinct values of the join keys is known for both inputs. Otherwise, falls back to the default estimate.
+     */
+    @Override
+    public Double getRowCount(Join rel, RelMetadataQuery mq) {
+        JoinRelType joinType = rel.getJoinType();
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        if ((joinType != JoinRelType.INNER && joinType != JoinRelType.LEFT) || joinInfo.leftKeys.isEmpty()) {
+            return super.getRowCount(rel, mq);
+        }
+
+        Double leftRowCount = mq.getRowCount(rel.getLeft());
+        Double rightRowCount = mq.getRowCount(rel.getRight());
+        Double leftDistinctCount = mq.getDistinctRowCount(rel.getLeft(), joinInfo.leftSet(), null);
+        Double rightDistinctCount = mq.getDistinctRowCount(rel.getRight(), joinInfo.rightSet(), null);
+
+        if (leftRowCount == null || rightRowCount == null || leftDistinctCount == null || rightDistinctCount == null) {
+            return super.getRowCount(rel, mq);
+        }
+
+        double rowCount = leftRowCount * rightRowCount / Math.max(Math.max(leftDistinctCount, rightDistinctCount), 1.0d);
+
+        if (!joinInfo.isEqui()) {
+            rowCount *= RelMdUtil.guessSelectivity(joinInfo.getRemaining(rel.getCluster().getRexBuilder()));
+        }
+
+        if (joinType == JoinRelType.LEFT) {
+            rowCount = Math.max(rowCount, leftRowCount);
+        }
+
+        return rowCount;
+    }
 }
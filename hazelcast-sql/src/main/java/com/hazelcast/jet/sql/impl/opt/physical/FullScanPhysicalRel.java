@@ -39,7 +39,6 @@ import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 
@@ -99,7 +98,7 @@ public class FullScanPhysicalRel extends FullScan implements HazelcastPhysicalSc
         double filterRowCount = totalRowCount;
 
         if (table.getFilter() != null) {
-            filterRowCount = CostUtils.adjustFilteredRowCount(totalRowCount, RelMdUtil.guessSelectivity(table.getFilter()));
+            filterRowCount = CostUtils.adjustFilteredRowCount(totalRowCount, table.estimateSelectivity(table.getFilter()));
         }
 
         return computeSelfCost(
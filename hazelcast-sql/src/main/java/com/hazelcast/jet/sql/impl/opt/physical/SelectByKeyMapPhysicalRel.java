@@ -45,7 +45,7 @@ import static com.hazelcast.sql.impl.plan.node.PlanNodeFieldTypeProvider.FAILING
 public class SelectByKeyMapPhysicalRel extends AbstractRelNode implements PhysicalRel {
 
     private final RelOptTable table;
-    private final RexNode keyCondition;
+    private final List<RexNode> keyConditions;
     private final List<? extends RexNode> projections;
 
     SelectByKeyMapPhysicalRel(
@@ -53,7 +53,7 @@ public class SelectByKeyMapPhysicalRel extends AbstractRelNode implements Physic
             RelTraitSet traitSet,
             RelDataType rowType,
             RelOptTable table,
-            RexNode keyCondition,
+            List<RexNode> keyConditions,
             List<? extends RexNode> projections
     ) {
         super(cluster, traitSet);
@@ -62,7 +62,8 @@ public class SelectByKeyMapPhysicalRel extends AbstractRelNode implements Physic
         assert table.unwrap(HazelcastTable.class).getTarget() instanceof PartitionedMapTable;
 
         this.table = table;
-        this.keyCondition = keyCondition;
+        assert !keyConditions.isEmpty();
+        this.keyConditions = keyConditions;
         this.projections = projections;
     }
 
@@ -74,9 +75,9 @@ public class SelectByKeyMapPhysicalRel extends AbstractRelNode implements Physic
         return table().getObjectKey();
     }
 
-    public Expression<?> keyCondition(QueryParameterMetadata parameterMetadata) {
+    public List<Expression<?>> keyConditions(QueryParameterMetadata parameterMetadata) {
         RexToExpressionVisitor visitor = new RexToExpressionVisitor(FAILING_FIELD_TYPE_PROVIDER, parameterMetadata);
-        return keyCondition.accept(visitor);
+        return toList(keyConditions, keyCondition -> keyCondition.accept(visitor));
     }
 
     public KvRowProjector.Supplier rowProjectorSupplier(QueryParameterMetadata parameterMetadata) {
@@ -115,7 +116,8 @@ public class SelectByKeyMapPhysicalRel extends AbstractRelNode implements Physic
     public RelWriter explainTerms(RelWriter pw) {
         return pw
                 .item("table", table.getQualifiedName())
-                .item("keyCondition", keyCondition)
+                .itemIf("keyCondition", keyConditions.get(0), keyConditions.size() == 1)
+                .itemIf("keyConditions", keyConditions, keyConditions.size() > 1)
                 .item("projections", Ord.zip(rowType.getFieldList()).stream()
                         .map(field -> {
                             String fieldName = field.e.getName() == null ? "field#" + field.i : field.e.getName();
@@ -126,6 +128,6 @@ public class SelectByKeyMapPhysicalRel extends AbstractRelNode implements Physic
 
     @Override
     public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
-        return new SelectByKeyMapPhysicalRel(getCluster(), traitSet, rowType, table, keyCondition, projections);
+        return new SelectByKeyMapPhysicalRel(getCluster(), traitSet, rowType, table, keyConditions, projections);
     }
 }
@@ -45,7 +45,7 @@ final class SelectByKeyMapPhysicalRule extends ConverterRule {
                 OptUtils.toPhysicalConvention(logicalSelect.getTraitSet()),
                 logicalSelect.getRowType(),
                 logicalSelect.table(),
-                logicalSelect.keyCondition(),
+                logicalSelect.keyConditions(),
                 logicalSelect.projections()
         );
     }
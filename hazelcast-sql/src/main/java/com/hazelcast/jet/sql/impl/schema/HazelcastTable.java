@@ -19,13 +19,14 @@ package com.hazelcast.jet.sql.impl.schema;
 import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.jet.sql.impl.opt.common.CalcIntoScanRule;
 import com.hazelcast.jet.sql.impl.opt.cost.CostUtils;
+import com.hazelcast.jet.sql.impl.opt.cost.SelectivityEstimator;
 import com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeFactory;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.schema.TableField;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelReferentialConstraint;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
@@ -161,12 +162,34 @@ public class HazelcastTable extends AbstractTable {
         if (filter == null) {
             return statistic;
         } else {
-            Double selectivity = RelMdUtil.guessSelectivity(filter);
+            Double selectivity = estimateSelectivity(filter);
             Double rowCount = CostUtils.adjustFilteredRowCount(statistic.getRowCount(), selectivity);
             return new AdjustedStatistic(rowCount);
         }
     }
 
+    /**
+     * Estimates the selectivity of the given condition referencing the fields of the target table, using the column
+     * statistics if available.
+     *
+     * @param condition Condition.
+     * @return Estimated fraction of the table rows matching the condition.
+     */
+    public double estimateSelectivity(@Nullable RexNode condition) {
+        return SelectivityEstimator.estimate(condition, statistic);
+    }
+
+    /**
+     * @param fieldIndex Index of the field in the target table.
+     * @return Statistics of the column or {@code null} if not available.
+     */
+    @Nullable
+    public ColumnStatistics getColumnStatistics(int fieldIndex) {
+        return statistic instanceof HazelcastTableStatistic
+                ? ((HazelcastTableStatistic) statistic).getColumnStatistics(fieldIndex)
+                : null;
+    }
+
     public double getTotalRowCount() {
         return statistic.getRowCount();
     }
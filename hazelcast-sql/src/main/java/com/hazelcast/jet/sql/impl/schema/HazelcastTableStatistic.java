@@ -16,6 +16,9 @@
 
 package com.hazelcast.jet.sql.impl.schema;
 
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
+import com.hazelcast.sql.impl.schema.TableStatistics;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
@@ -23,6 +26,7 @@ import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.util.ImmutableBitSet;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 
@@ -33,8 +37,16 @@ public class HazelcastTableStatistic implements Statistic {
     /** Row count that is fixed for the duration of query optimization process. */
     private final Long rowCount;
 
+    /** Column statistics provided by the table, if any. */
+    private final TableStatistics tableStatistics;
+
     public HazelcastTableStatistic(long rowCount) {
-        this.rowCount = rowCount;
+        this(new ConstantTableStatistics(rowCount));
+    }
+
+    public HazelcastTableStatistic(TableStatistics tableStatistics) {
+        this.rowCount = tableStatistics.getRowCount();
+        this.tableStatistics = tableStatistics;
     }
 
     @Override
@@ -42,6 +54,15 @@ public class HazelcastTableStatistic implements Statistic {
         return (double) rowCount;
     }
 
+    /**
+     * @param fieldIndex Index of the field in the target table.
+     * @return Statistics of the column or {@code null} if not available.
+     */
+    @Nullable
+    public ColumnStatistics getColumnStatistics(int fieldIndex) {
+        return tableStatistics.getColumnStatistics(fieldIndex);
+    }
+
     @Override
     public boolean isKey(ImmutableBitSet columns) {
         // See getKeys().
@@ -151,6 +151,8 @@ public final class UnsupportedOperationVisitor extends SqlBasicVisitor<Void> {
         SUPPORTED_KINDS.add(SqlKind.DROP_TABLE);
         SUPPORTED_KINDS.add(SqlKind.CREATE_INDEX);
         SUPPORTED_KINDS.add(SqlKind.DROP_VIEW);
+        SUPPORTED_KINDS.add(SqlKind.CREATE_MATERIALIZED_VIEW);
+        SUPPORTED_KINDS.add(SqlKind.DROP_MATERIALIZED_VIEW);
         SUPPORTED_KINDS.add(SqlKind.COLUMN_DECL);
         SUPPORTED_KINDS.add(SqlKind.CREATE_TYPE);
         SUPPORTED_KINDS.add(SqlKind.DROP_TYPE);
@@ -16,6 +16,8 @@
 
 package com.hazelcast.sql.impl.schema;
 
+import javax.annotation.Nullable;
+
 /**
  * Statistics for the table. Must not invoke any distributed operations.
  */
@@ -28,4 +30,16 @@ public interface TableStatistics {
      * @return Estimated number of rows in the table. Never negative.
      */
     long getRowCount();
+
+    /**
+     * Gets the statistics of the given column, if available. Statistics are typically available only for the columns
+     * which are covered by an index.
+     *
+     * @param fieldIndex Index of the field in the table.
+     * @return Statistics of the column or {@code null} if the table doesn't have them.
+     */
+    @Nullable
+    default ColumnStatistics getColumnStatistics(int fieldIndex) {
+        return null;
+    }
 }
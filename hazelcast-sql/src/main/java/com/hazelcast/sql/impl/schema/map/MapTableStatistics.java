@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.sql.impl.schema.map;
+
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Statistics of a partitioned map: the estimated row count and the statistics of the indexed columns collected by
+ * {@link MapStatisticsCache}.
+ */
+public class MapTableStatistics implements TableStatistics {
+
+    private final long rowCount;
+    private final Map<Integer, ColumnStatistics> columnStatistics;
+
+    public MapTableStatistics(long rowCount, Map<Integer, ColumnStatistics> columnStatistics) {
+        this.rowCount = rowCount;
+        this.columnStatistics = columnStatistics;
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Nullable
+    @Override
+    public ColumnStatistics getColumnStatistics(int fieldIndex) {
+        return columnStatistics.get(fieldIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "MapTableStatistics{rowCount=" + rowCount + ", columnStatistics=" + columnStatistics + '}';
+    }
+}
@@ -30,6 +30,7 @@ import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.TypeConverters;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
 import com.hazelcast.sql.impl.schema.TableField;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.QueryDataTypeUtils;
@@ -138,6 +139,35 @@ public final class MapTableUtils {
         return res;
     }
 
+    /**
+     * Resolves the statistics of the indexed attributes collected by {@link MapStatisticsCache} to the table fields.
+     *
+     * @param attributeStatistics Statistics keyed by the index attribute name.
+     * @param fields Fields.
+     * @return Statistics keyed by the field ordinal.
+     */
+    public static Map<Integer, ColumnStatistics> getPartitionedMapColumnStatistics(
+            Map<String, ColumnStatistics> attributeStatistics,
+            List<TableField> fields
+    ) {
+        if (attributeStatistics.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<QueryPath, Integer> pathToOrdinalMap = mapPathsToOrdinals(fields);
+        Map<Integer, ColumnStatistics> res = new HashMap<>();
+
+        for (Map.Entry<String, ColumnStatistics> entry : attributeStatistics.entrySet()) {
+            Integer ordinal = pathToOrdinalMap.get(QueryPath.create(entry.getKey()));
+
+            if (ordinal != null) {
+                res.put(ordinal, entry.getValue());
+            }
+        }
+
+        return res;
+    }
+
     /**
      * Given the field list assign ordinals to fields.
      *
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.core.JobStatus;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CreateMaterializedViewStatementTest extends SqlTestSupport {
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("src*").getEventJournalConfig().setEnabled(true);
+        // a single event per partition
+        config.getMapConfig("small_journal*").getEventJournalConfig().setEnabled(true).setCapacity(271);
+
+        initialize(1, config);
+    }
+
+    @After
+    public void after() {
+        instance().getSql().execute("DROP MATERIALIZED VIEW IF EXISTS v");
+    }
+
+    @Test
+    public void when_sourceChanges_then_viewIsUpdated() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10), (2, 'a', 20), (3, 'b', 30), (4, 'b', null)");
+
+        execute("CREATE MATERIALIZED VIEW v AS "
+                + "SELECT dept, COUNT(*) cnt, COUNT(salary) salaries, SUM(salary) total FROM " + src + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(
+                new Row("a", 2L, 2L, 30L),
+                new Row("b", 2L, 1L, 30L)));
+
+        execute("UPDATE " + src + " SET dept = 'b' WHERE __key = 1");
+        execute("UPDATE " + src + " SET salary = 5 WHERE __key = 4");
+        execute("INSERT INTO " + src + " VALUES (5, 'c', 50)");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(
+                new Row("a", 1L, 1L, 20L),
+                new Row("b", 3L, 3L, 45L),
+                new Row("c", 1L, 1L, 50L)));
+
+        execute("DELETE FROM " + src + " WHERE dept = 'b'");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(
+                new Row("a", 1L, 1L, 20L),
+                new Row("c", 1L, 1L, 50L)));
+    }
+
+    @Test
+    public void when_eventJournalWrapped_then_viewIsSeededFromEntries() {
+        String src = createSource("small_journal_");
+        for (int i = 0; i < 3; i++) {
+            // every entry is updated several times, so that its insertion is evicted from the event journal
+            execute("SINK INTO " + src + " SELECT v, 'd' || CAST(v % 3 AS VARCHAR), " + i + " FROM TABLE(generate_series(1, 30))");
+        }
+
+        execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt, SUM(salary) total FROM " + src
+                + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(
+                new Row("d0", 10L, 20L),
+                new Row("d1", 10L, 20L),
+                new Row("d2", 10L, 20L)));
+
+        execute("DELETE FROM " + src + " WHERE __key <= 3");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(
+                new Row("d0", 9L, 18L),
+                new Row("d1", 9L, 18L),
+                new Row("d2", 9L, 18L)));
+    }
+
+    @Test
+    public void when_filterAndReorderedColumns_then_viewIsUpdated() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10), (2, 'a', 20), (3, 'b', 30)");
+
+        execute("CREATE MATERIALIZED VIEW v AS "
+                + "SELECT SUM(CAST(salary AS DECIMAL)) total, dept FROM " + src + " WHERE salary > 15 GROUP BY dept");
+        assertRowsEventually("SELECT total, dept FROM v", Arrays.asList(
+                new Row(BigDecimal.valueOf(20), "a"),
+                new Row(BigDecimal.valueOf(30), "b")));
+
+        execute("UPDATE " + src + " SET salary = 5 WHERE __key = 2");
+        assertRowsEventually("SELECT total, dept FROM v", Collections.singletonList(
+                new Row(BigDecimal.valueOf(30), "b")));
+    }
+
+    @Test
+    public void when_noGroupBy_then_singleRow() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10), (2, 'b', 20)");
+
+        execute("CREATE MATERIALIZED VIEW v AS SELECT COUNT(*) cnt, SUM(salary) total FROM " + src);
+        assertRowsEventually("SELECT cnt, total FROM v", Collections.singletonList(new Row(2L, 30L)));
+
+        execute("DELETE FROM " + src + " WHERE __key = 1");
+        assertRowsEventually("SELECT cnt, total FROM v", Collections.singletonList(new Row(1L, 20L)));
+    }
+
+    @Test
+    public void when_dropped_then_jobAndMappingAreRemoved() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10)");
+        execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt FROM " + src + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Collections.singletonList(new Row("a", 1L)));
+
+        execute("DROP MATERIALIZED VIEW v");
+
+        assertThat(instance().getJet().getJob(MaterializedViewResolver.jobName("v")).getStatus().isTerminal()).isTrue();
+        assertThat(instance().getMap("v").size()).isZero();
+        assertThatThrownBy(() -> execute("SELECT * FROM v"))
+                .hasMessageContaining("Object 'v' not found");
+        assertThatThrownBy(() -> execute("DROP MATERIALIZED VIEW v"))
+                .hasMessageContaining("Materialized view does not exist: v");
+    }
+
+    @Test
+    public void when_jobCancelled_then_dropRemovesMapping() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10)");
+        execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt FROM " + src + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Collections.singletonList(new Row("a", 1L)));
+        Job job = instance().getJet().getJob(MaterializedViewResolver.jobName("v"));
+        job.cancel();
+        assertJobStatusEventually(job, JobStatus.FAILED);
+
+        execute("DROP MATERIALIZED VIEW v");
+
+        assertThat(instance().getMap("v").size()).isZero();
+        assertThatThrownBy(() -> execute("SELECT * FROM v"))
+                .hasMessageContaining("Object 'v' not found");
+    }
+
+    @Test
+    public void when_createdTwice_then_fails() {
+        String src = createSource();
+        String sql = "CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt FROM " + src + " GROUP BY dept";
+        execute(sql);
+
+        assertThatThrownBy(() -> execute(sql))
+                .hasMessageContaining("Materialized view already exists: v");
+        execute("CREATE MATERIALIZED VIEW IF NOT EXISTS v AS SELECT dept, COUNT(*) cnt FROM " + src + " GROUP BY dept");
+    }
+
+    @Test
+    public void when_replaced_then_viewIsRecomputed() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10), (2, 'b', 20)");
+        execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt FROM " + src + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(new Row("a", 1L), new Row("b", 1L)));
+
+        execute("CREATE OR REPLACE MATERIALIZED VIEW v AS SELECT dept, SUM(salary) total FROM " + src + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(new Row("a", 10L), new Row("b", 20L)));
+    }
+
+    @Test
+    public void when_replacedAfterJobTerminated_then_viewIsRecomputed() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10)");
+        execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt FROM " + src + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Collections.singletonList(new Row("a", 1L)));
+        Job job = instance().getJet().getJob(MaterializedViewResolver.jobName("v"));
+        job.cancel();
+        assertJobStatusEventually(job, JobStatus.FAILED);
+
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt FROM "
+                + src + " GROUP BY dept"))
+                .hasMessageContaining("Materialized view already exists: v");
+        execute("CREATE OR REPLACE MATERIALIZED VIEW v AS SELECT dept, SUM(salary) total FROM " + src + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Collections.singletonList(new Row("a", 10L)));
+    }
+
+    @Test
+    public void when_jobRestarted_then_changesAreAppliedOnce() {
+        String src = createSource();
+        execute("INSERT INTO " + src + " VALUES (1, 'a', 10), (2, 'a', 20)");
+        execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) cnt, SUM(salary) total FROM " + src
+                + " GROUP BY dept");
+        assertRowsEventually("SELECT * FROM v", Collections.singletonList(new Row("a", 2L, 30L)));
+
+        Job job = instance().getJet().getJob(MaterializedViewResolver.jobName("v"));
+        execute("INSERT INTO " + src + " VALUES (3, 'a', 30)");
+        job.restart();
+        execute("INSERT INTO " + src + " VALUES (4, 'b', 40)");
+        assertRowsEventually("SELECT * FROM v", Arrays.asList(
+                new Row("a", 3L, 60L),
+                new Row("b", 1L, 40L)));
+    }
+
+    @Test
+    public void when_eventJournalDisabled_then_fails() {
+        createMapping("no_journal", Integer.class, Integer.class);
+
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW v AS SELECT COUNT(*) FROM no_journal"))
+                .hasMessageContaining("Event journal must be enabled for the IMap 'no_journal'");
+    }
+
+    @Test
+    public void when_unsupportedQuery_then_fails() {
+        String src = createSource();
+
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW v AS SELECT dept, MAX(salary) m FROM "
+                + src + " GROUP BY dept"))
+                .hasMessageContaining("Unsupported in a materialized view: aggregate function MAX");
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(DISTINCT salary) c FROM "
+                + src + " GROUP BY dept"))
+                .hasMessageContaining("Unsupported in a materialized view: DISTINCT or FILTER");
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW v AS SELECT COUNT(*) c FROM "
+                + src + " GROUP BY dept"))
+                .hasMessageContaining("All GROUP BY columns must be selected in a materialized view");
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW v AS SELECT dept, salary FROM " + src))
+                .hasMessageContaining("must contain a GROUP BY clause or an aggregate function");
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW v AS SELECT dept, COUNT(*) c FROM "
+                + src + " GROUP BY dept HAVING COUNT(*) > 1"))
+                .hasMessageContaining("Unsupported in a materialized view: HAVING clause");
+    }
+
+    private static String createSource() {
+        return createSource("src_");
+    }
+
+    private static String createSource(String prefix) {
+        String name = prefix + randomName();
+        execute("CREATE MAPPING " + name + " (__key INT, dept VARCHAR, salary INT) TYPE IMap "
+                + "OPTIONS ('keyFormat'='int', 'valueFormat'='json-flat')");
+        return name;
+    }
+
+    private static void execute(String sql) {
+        instance().getSql().execute(sql).close();
+    }
+
+    private static void assertRowsEventually(String sql, Collection<Row> expectedRows) {
+        assertTrueEventually(() -> assertRowsAnyOrder(sql, expectedRows));
+    }
+}
@@ -28,6 +28,7 @@ import org.junit.experimental.categories.Category;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
@@ -91,6 +92,36 @@ public class SqlSelectTest extends SqlTestSupport {
         assertRowsAnyOrder("SELECT __key * 2, this FROM " + name + " AS I WHERE I.__key = 5", filteredAndProjectedRows);
     }
 
+    @Test
+    public void test_selectWithKeyInFilter() {
+        HazelcastInstance hazelcastInstance = instance();
+        String name = randomName();
+        createMapping(name, int.class, String.class);
+        IMap<Integer, String> map = hazelcastInstance.getMap(name);
+
+        fillIMapAndGetData(map, 14);
+        List<Row> filteredRows = asList(new Row(1, "B"), new Row(5, "F"), new Row(13, "N"));
+
+        assertRowsAnyOrder("SELECT * FROM " + name + " WHERE __key IN (1, 5, 13, 100)", filteredRows);
+        assertRowsAnyOrder("SELECT * FROM " + name + " WHERE __key = 1 OR __key = 5 OR __key = 13", filteredRows);
+    }
+
+    @Test
+    public void test_selectWithKeyInFilterAndParameters() {
+        HazelcastInstance hazelcastInstance = instance();
+        String name = randomName();
+        createMapping(name, int.class, String.class);
+        IMap<Integer, String> map = hazelcastInstance.getMap(name);
+
+        fillIMapAndGetData(map, 14);
+
+        assertRowsAnyOrder(
+                "SELECT __key * 2, this FROM " + name + " WHERE __key IN (?, ?, ?)",
+                asList(3, 5, null),
+                asList(new Row(6L, "D"), new Row(10L, "F"))
+        );
+    }
+
     @Test
     public void test_selectWithEvenNumbersFilter() {
         HazelcastInstance hazelcastInstance = instance();
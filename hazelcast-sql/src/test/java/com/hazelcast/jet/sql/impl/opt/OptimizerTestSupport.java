@@ -20,6 +20,7 @@ import com.hazelcast.jet.sql.SqlTestSupport;
 import com.hazelcast.jet.sql.impl.CalciteSqlOptimizer;
 import com.hazelcast.jet.sql.impl.OptimizerContext;
 import com.hazelcast.jet.sql.impl.connector.generator.StreamSqlConnector;
+import com.hazelcast.jet.sql.impl.opt.logical.FullScanLogicalRel;
 import com.hazelcast.jet.sql.impl.opt.logical.LogicalRel;
 import com.hazelcast.jet.sql.impl.opt.logical.LogicalRules;
 import com.hazelcast.jet.sql.impl.opt.logical.SelectByKeyMapLogicalRule;
@@ -99,7 +100,10 @@ public abstract class OptimizerTestSupport extends SqlTestSupport {
         LogicalRel optimizedLogicalRel = (LogicalRel) context
                 .optimize(rel, LogicalRules.getRuleSet(), OptUtils.toLogicalConvention(rel.getTraitSet()));
 
-        // IMap keyed access optimization
+        // IMap keyed access optimization, applied only to a top-level scan, as in CalciteSqlOptimizer
+        if (!(optimizedLogicalRel instanceof FullScanLogicalRel)) {
+            return optimizedLogicalRel;
+        }
         return (LogicalRel) context
                 .optimize(
                         optimizedLogicalRel,
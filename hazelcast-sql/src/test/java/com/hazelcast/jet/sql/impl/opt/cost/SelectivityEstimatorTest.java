@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.opt.cost;
+
+import com.hazelcast.jet.sql.impl.schema.HazelcastTableStatistic;
+import com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeFactory;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.map.MapTableStatistics;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SelectivityEstimatorTest {
+
+    private static final double DELTA = 0.0001d;
+
+    private final RexBuilder rexBuilder = new RexBuilder(HazelcastTypeFactory.INSTANCE);
+    private final RelDataType intType = HazelcastTypeFactory.INSTANCE.createTypeWithNullability(
+            HazelcastTypeFactory.INSTANCE.createSqlType(SqlTypeName.INTEGER), true);
+
+    /** Column 0: 100 uniformly distributed values 0..99, no nulls. Column 1: 4 values, 20% nulls. Column 2: unknown. */
+    private final HazelcastTableStatistic statistic = statistic();
+
+    @Test
+    public void test_equals() {
+        assertEquals(0.01d, estimate(call(SqlStdOperatorTable.EQUALS, column(0), literal(5))), DELTA);
+        assertEquals(0.01d, estimate(call(SqlStdOperatorTable.EQUALS, literal(5), column(0))), DELTA);
+        assertEquals(0.2d, estimate(call(SqlStdOperatorTable.EQUALS, column(1), literal(5))), DELTA);
+        assertEquals(0.2d, estimate(call(SqlStdOperatorTable.EQUALS, column(1), rexBuilder.makeDynamicParam(intType, 0))),
+                DELTA);
+        assertEquals(0.6d, estimate(call(SqlStdOperatorTable.NOT_EQUALS, column(1), literal(5))), DELTA);
+    }
+
+    @Test
+    public void test_range() {
+        assertEquals(0.5d, estimate(call(SqlStdOperatorTable.LESS_THAN, column(0), literal(50))), 0.02d);
+        assertEquals(0.5d, estimate(call(SqlStdOperatorTable.GREATER_THAN, literal(50), column(0))), 0.02d);
+        assertEquals(0.1d, estimate(call(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, column(0), literal(90))), 0.02d);
+        // Below the minimum, estimated as a single value.
+        assertEquals(0.01d, estimate(call(SqlStdOperatorTable.LESS_THAN, column(0), literal(-10))), DELTA);
+    }
+
+    @Test
+    public void test_null() {
+        assertEquals(0.2d, estimate(rexBuilder.makeCall(SqlStdOperatorTable.IS_NULL, column(1))), DELTA);
+        assertEquals(0.8d, estimate(rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, column(1))), DELTA);
+    }
+
+    @Test
+    public void test_search() {
+        RexNode in = rexBuilder.makeIn(column(0), asList(literal(1), literal(2), literal(3)));
+        assertEquals(0.03d, estimate(in), 0.001d);
+
+        RexNode between = rexBuilder.makeBetween(column(0), literal(10), literal(29));
+        assertEquals(0.2d, estimate(between), 0.02d);
+    }
+
+    @Test
+    public void test_logical() {
+        RexNode first = call(SqlStdOperatorTable.EQUALS, column(0), literal(5));
+        RexNode second = call(SqlStdOperatorTable.EQUALS, column(1), literal(5));
+
+        assertEquals(0.01d * 0.2d, estimate(rexBuilder.makeCall(SqlStdOperatorTable.AND, first, second)), DELTA);
+        assertEquals(1 - 0.99d * 0.8d, estimate(rexBuilder.makeCall(SqlStdOperatorTable.OR, first, second)), DELTA);
+        assertEquals(0.99d, estimate(rexBuilder.makeCall(SqlStdOperatorTable.NOT, first)), DELTA);
+    }
+
+    @Test
+    public void test_unknownColumn_then_guess() {
+        RexNode condition = call(SqlStdOperatorTable.EQUALS, column(2), literal(5));
+
+        assertEquals(RelMdUtil.guessSelectivity(condition), estimate(condition), DELTA);
+        assertEquals(RelMdUtil.guessSelectivity(condition),
+                SelectivityEstimator.estimate(condition, new HazelcastTableStatistic(100)), DELTA);
+    }
+
+    private double estimate(RexNode condition) {
+        return SelectivityEstimator.estimate(condition, statistic);
+    }
+
+    private RexNode call(SqlOperator operator, RexNode first, RexNode second) {
+        return rexBuilder.makeCall(operator, first, second);
+    }
+
+    private RexNode column(int index) {
+        return rexBuilder.makeInputRef(intType, index);
+    }
+
+    private RexNode literal(int value) {
+        return rexBuilder.makeExactLiteral(BigDecimal.valueOf(value), intType);
+    }
+
+    private static HazelcastTableStatistic statistic() {
+        double[] bounds = IntStream.rangeClosed(0, 32).mapToDouble(i -> 99d * i / 32).toArray();
+
+        Map<Integer, ColumnStatistics> columnStatistics = new HashMap<>();
+        columnStatistics.put(0, new ColumnStatistics(100, 0.0d, bounds));
+        columnStatistics.put(1, new ColumnStatistics(4, 0.2d, null));
+
+        return new HazelcastTableStatistic(new MapTableStatistics(1000, columnStatistics));
+    }
+}
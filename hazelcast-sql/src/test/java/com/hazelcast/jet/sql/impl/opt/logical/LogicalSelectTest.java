@@ -106,7 +106,7 @@ public class LogicalSelectTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("SELECT * FROM m WHERE __key = 1 OR __key = 2", table),
                 plan(
-                        planRow(0, FullScanLogicalRel.class)
+                        planRow(0, SelectByKeyMapLogicalRel.class)
                 )
         );
     }
@@ -247,4 +247,44 @@ public class LogicalSelectTest extends OptimizerTestSupport {
                 )
         );
     }
+
+    @Test
+    public void test_selectByKeyInList() {
+        HazelcastTable table = partitionedTable("m", asList(field(KEY, INT), field(VALUE, VARCHAR)), 10);
+        assertPlan(
+                optimizeLogical("SELECT * FROM m WHERE __key IN (1, 2, 3)", table),
+                plan(
+                        planRow(0, SelectByKeyMapLogicalRel.class)
+                )
+        );
+        assertPlan(
+                optimizeLogical("SELECT this FROM m WHERE __key = ? OR __key = ? OR __key = 1", table),
+                plan(
+                        planRow(0, SelectByKeyMapLogicalRel.class)
+                )
+        );
+    }
+
+    @Test
+    public void test_selectByKeyInListAndOtherCondition() {
+        HazelcastTable table = partitionedTable("m", asList(field(KEY, INT), field(VALUE, VARCHAR)), 10);
+        assertPlan(
+                optimizeLogical("SELECT * FROM m WHERE __key IN (1, 2, 3) OR __key > 10", table),
+                plan(
+                        planRow(0, FullScanLogicalRel.class)
+                )
+        );
+        assertPlan(
+                optimizeLogical("SELECT * FROM m WHERE __key = 1 OR this = '1'", table),
+                plan(
+                        planRow(0, FullScanLogicalRel.class)
+                )
+        );
+        assertPlan(
+                optimizeLogical("SELECT * FROM m WHERE __key IN (1, 2, 3) AND this = '1'", table),
+                plan(
+                        planRow(0, FullScanLogicalRel.class)
+                )
+        );
+    }
 }
@@ -92,6 +92,34 @@ public interface ClientEndpoint extends Client, DynamicMetricsProvider {
      */
     boolean isAuthenticated();
 
+    /**
+     * Marks this endpoint as a secondary connection of a client, which is
+     * opened in addition to the primary connection of the client to this
+     * member. Must be called before the endpoint is authenticated.
+     *
+     * @see com.hazelcast.client.impl.protocol.ClientMessage#SECONDARY_CONNECTION_FLAG
+     */
+    void setSecondary();
+
+    /**
+     * Returns true if this endpoint is a secondary connection of a client.
+     * A secondary endpoint is not visible as a separate client: its
+     * registration and removal fire no client events, and its removal
+     * does not release the resources of the client, such as its parked
+     * blocking operations, which are released when the primary connection
+     * of the client is closed.
+     */
+    boolean isSecondary();
+
+    /**
+     * Takes a credit for sending a listener event to this endpoint. Returns
+     * false if the connection of the endpoint has too many frames waiting
+     * to be written, in which case the event is dropped.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#CLIENT_EVENT_MAX_PENDING_FRAMES
+     */
+    boolean tryAcquireEventCredit();
+
     /**
      * @return the version string as obtained from the environment
      */
@@ -29,6 +29,7 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.security.Credentials;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.eventservice.EventService;
+import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.transaction.TransactionContext;
 import com.hazelcast.transaction.TransactionException;
 import com.hazelcast.transaction.impl.xa.XATransactionContextImpl;
@@ -65,6 +66,7 @@ public final class ClientEndpointImpl implements ClientEndpoint {
     private final ConcurrentMap<UUID, Callable> removeListenerActions = new ConcurrentHashMap<>();
     private final SocketAddress socketAddress;
     private final long creationTime;
+    private final ClientEventCredits eventCredits;
 
     private LoginContext loginContext;
     private UUID clientUuid;
@@ -76,6 +78,7 @@ public final class ClientEndpointImpl implements ClientEndpoint {
     private Set<String> labels;
     private volatile boolean destroyed;
     private volatile TpcToken tpcToken;
+    private volatile boolean secondary;
 
     public ClientEndpointImpl(ClientEngine clientEngine, NodeEngineImpl nodeEngine, ServerConnection connection) {
         this.clientEngine = clientEngine;
@@ -85,6 +88,8 @@ public final class ClientEndpointImpl implements ClientEndpoint {
         this.socketAddress = connection.getRemoteSocketAddress();
         this.clientVersion = "Unknown";
         this.creationTime = System.currentTimeMillis();
+        this.eventCredits = new ClientEventCredits(connection,
+                nodeEngine.getProperties().getInteger(ClusterProperty.CLIENT_EVENT_MAX_PENDING_FRAMES));
     }
 
     @Override
@@ -121,7 +126,9 @@ public final class ClientEndpointImpl implements ClientEndpoint {
         this.setClientVersion(clientVersion);
         this.clientName = clientName;
         this.labels = labels;
-        clientEngine.onEndpointAuthenticated(this);
+        if (!secondary) {
+            clientEngine.onEndpointAuthenticated(this);
+        }
     }
 
     @Override
@@ -129,6 +136,21 @@ public final class ClientEndpointImpl implements ClientEndpoint {
         return authenticated;
     }
 
+    @Override
+    public void setSecondary() {
+        this.secondary = true;
+    }
+
+    @Override
+    public boolean isSecondary() {
+        return secondary;
+    }
+
+    @Override
+    public boolean tryAcquireEventCredit() {
+        return eventCredits.tryAcquire();
+    }
+
     @Override
     public String getClientVersion() {
         return clientVersion;
@@ -223,7 +245,9 @@ public final class ClientEndpointImpl implements ClientEndpoint {
 
     public void destroy() throws LoginException {
         destroyed = true;
-        nodeEngine.onClientDisconnected(getUuid());
+        if (!secondary) {
+            nodeEngine.onClientDisconnected(getUuid());
+        }
 
         for (UUID registrationId : removeListenerActions.keySet()) {
             removeAndCallRemoveAction(registrationId);
@@ -239,7 +263,9 @@ public final class ClientEndpointImpl implements ClientEndpoint {
                 lc.logout();
             }
         } finally {
-            clientEngine.onEndpointDestroyed(this);
+            if (!secondary) {
+                clientEngine.onEndpointDestroyed(this);
+            }
             authenticated = false;
         }
     }
@@ -89,4 +89,13 @@ public interface ClientEndpointManager {
      */
     void removeEndpoint(ClientEndpoint endpoint);
 
+    /**
+     * Records that a listener event to the given endpoint is dropped
+     * because the endpoint has no credits for it.
+     *
+     * @param endpoint the endpoint the event is dropped for.
+     * @see ClientEndpoint#tryAcquireEventCredit()
+     */
+    void onEventDropped(ClientEndpoint endpoint);
+
 }
@@ -36,21 +36,27 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.hazelcast.client.impl.ClientEngineImpl.SERVICE_NAME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_ENDPOINT_MANAGER_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_ENDPOINT_MANAGER_EVENTS_DROPPED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_ENDPOINT;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.spi.properties.ClusterProperty.CLIENT_EVENT_MAX_PENDING_FRAMES;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Manages and stores {@link com.hazelcast.client.impl.ClientEndpointImpl}s.
  */
 public class ClientEndpointManagerImpl implements ClientEndpointManager, DynamicMetricsProvider {
 
+    private static final long EVENTS_DROPPED_WARNING_INTERVAL_MILLIS = SECONDS.toMillis(10);
+
     private final ILogger logger;
     private final EventService eventService;
 
@@ -61,6 +67,11 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     @Probe(name = CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS, level = MANDATORY)
     private final MwCounter totalRegistrations = newMwCounter();
 
+    @Probe(name = CLIENT_METRIC_ENDPOINT_MANAGER_EVENTS_DROPPED)
+    private final MwCounter eventsDropped = newMwCounter();
+
+    private final AtomicLong lastEventsDroppedWarningMillis = new AtomicLong();
+
     public ClientEndpointManagerImpl(NodeEngine nodeEngine) {
         this.logger = nodeEngine.getLogger(ClientEndpointManager.class);
         this.eventService = nodeEngine.getEventService();
@@ -92,6 +103,9 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
         final ServerConnection conn = endpoint.getConnection();
         if (endpoints.putIfAbsent(conn, endpoint) != null) {
             return false;
+        } else if (endpoint.isSecondary()) {
+            // the client is already connected via its primary connection
+            return true;
         } else {
             totalRegistrations.inc();
             ClientEvent event = new ClientEvent(endpoint.getUuid(),
@@ -122,12 +136,28 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
             logger.finest(e);
         }
 
+        if (endpoint.isSecondary()) {
+            return;
+        }
         ClientEvent event = new ClientEvent(endpoint.getUuid(),
                 ClientEventType.DISCONNECTED, endpoint.getSocketAddress(), endpoint.getClientType(), endpoint.getName(),
                 endpoint.getLabels());
         sendClientEvent(event);
     }
 
+    @Override
+    public void onEventDropped(ClientEndpoint endpoint) {
+        eventsDropped.inc();
+        long now = System.currentTimeMillis();
+        long lastWarning = lastEventsDroppedWarningMillis.get();
+        if (now - lastWarning >= EVENTS_DROPPED_WARNING_INTERVAL_MILLIS
+                && lastEventsDroppedWarningMillis.compareAndSet(lastWarning, now)) {
+            logger.warning("Dropping listener events to " + endpoint + " since its connection has more than "
+                    + CLIENT_EVENT_MAX_PENDING_FRAMES.getName() + " frames waiting to be written. "
+                    + "Total number of dropped events: " + eventsDropped.get());
+        }
+    }
+
     private void sendClientEvent(ClientEvent event) {
         final Collection<EventRegistration> regs = eventService.getRegistrations(SERVICE_NAME, SERVICE_NAME);
         UUID uuid = event.getUuid();
@@ -23,6 +23,7 @@ import com.hazelcast.client.impl.statistics.ClientStatistics;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.cluster.AddressChecker;
 import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.logging.ILogger;
@@ -32,6 +33,7 @@ import com.hazelcast.spi.impl.proxyservice.ProxyService;
 import com.hazelcast.transaction.TransactionManagerService;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
@@ -163,4 +165,12 @@ public interface ClientEngine extends Consumer<ClientMessage> {
     void dispatchBackupEvent(UUID clientUUID, long clientCorrelationId);
 
     AddressChecker getManagementTasksChecker();
+
+    /**
+     * Returns the latency histograms of the client message tasks keyed by
+     * the message task class, or {@code null} if the latency histograms
+     * are disabled.
+     */
+    @Nullable
+    LatencyHistograms<Class> getMessageTaskLatencyHistograms();
 }
@@ -38,6 +38,7 @@ import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.cluster.AddressChecker;
 import com.hazelcast.internal.cluster.ClusterService;
 import com.hazelcast.internal.cluster.impl.AddressCheckerImpl;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.ConnectionListener;
 import com.hazelcast.internal.nio.ConnectionType;
@@ -83,6 +84,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.hazelcast.instance.EndpointQualifier.CLIENT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_DISCRIMINATOR_MESSAGE_TASK_TYPE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_MESSAGE_TASK_LATENCY;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static com.hazelcast.internal.util.ThreadUtil.createThreadPoolName;
@@ -123,6 +126,7 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
     private final AddressChecker addressChecker;
     private final IOBufferAllocator responseBufAllocator = new ConcurrentIOBufferAllocator(4096, true);
     private final boolean tpcEnabled;
+    private final LatencyHistograms<Class> messageTaskLatencyHistograms;
 
     // not final for the testing purposes
     private ClientEndpointStatisticsManager endpointStatisticsManager;
@@ -146,6 +150,10 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
         this.endpointStatisticsManager = PhoneHome.isPhoneHomeEnabled(node)
                 ? new ClientEndpointStatisticsManagerImpl() : new NoOpClientEndpointStatisticsManager();
         this.tpcEnabled = nodeEngine.getTpcServerBootstrap().isEnabled();
+        this.messageTaskLatencyHistograms = node.getProperties().getBoolean(ClusterProperty.METRICS_LATENCY_HISTOGRAMS)
+                ? new LatencyHistograms<>(CLIENT_PREFIX_MESSAGE_TASK_LATENCY,
+                        (descriptor, c) -> descriptor.withDiscriminator(CLIENT_DISCRIMINATOR_MESSAGE_TASK_TYPE, c.getName()))
+                : null;
     }
 
     private ClientExceptionFactory initClientExceptionFactory() {
@@ -324,7 +332,9 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
             conn.setRemoteAddress(new Address(socketAddress));
         }
 
-        if (endpointManager.registerEndpoint(endpoint)) {
+        // A secondary connection is not registered, since it would replace the primary connection of the client.
+        // Its endpoint is removed by ClientHeartbeatMonitor#cleanupEndpointsWithDeadConnections when it is closed.
+        if (endpointManager.registerEndpoint(endpoint) && !endpoint.isSecondary()) {
             // remote address can be null if connection closed before bind.
             // On such a case, `ClientEngine#connectionRemoved` will not be called for this connection since
             // we did not register the connection.
@@ -370,7 +380,11 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
     public Collection<Client> getClients() {
         Collection<ClientEndpoint> endpoints = endpointManager.getEndpoints();
         Set<Client> clients = createHashSet(endpoints.size());
-        clients.addAll(endpoints);
+        for (ClientEndpoint endpoint : endpoints) {
+            if (!endpoint.isSecondary()) {
+                clients.add(endpoint);
+            }
+        }
         return clients;
     }
 
@@ -383,6 +397,10 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
         heartbeatMonitor.start();
 
         lifecycleMonitor.start();
+
+        if (messageTaskLatencyHistograms != null) {
+            this.nodeEngine.getMetricsRegistry().registerDynamicMetricsProvider(messageTaskLatencyHistograms);
+        }
     }
 
     @Override
@@ -551,6 +569,11 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
         return addressChecker;
     }
 
+    @Override
+    public LatencyHistograms<Class> getMessageTaskLatencyHistograms() {
+        return messageTaskLatencyHistograms;
+    }
+
     public void setEndpointStatisticsManager(ClientEndpointStatisticsManager endpointStatisticsManager) {
         // this should only be used in tests
         this.endpointStatisticsManager = endpointStatisticsManager;
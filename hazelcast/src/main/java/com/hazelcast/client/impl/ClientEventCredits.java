@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl;
+
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.nio.NioChannel;
+import com.hazelcast.internal.networking.nio.NioOutboundPipeline;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Credits for the listener events a member sends to a client connection.
+ * <p>
+ * An event is sent only if the outbound pipeline of the connection has
+ * fewer than {@code maxPendingFrames} frames waiting to be written, so that
+ * a client which does not read its events fast enough cannot make the member
+ * buffer an unbounded number of them. Since counting the pending frames
+ * traverses the write queues, the count is taken only once the credits
+ * granted by the previous count are used up, and at most once per
+ * {@link #REFILL_INTERVAL_MILLIS} while the connection is congested.
+ * <p>
+ * The credits are approximate: concurrent refills may grant a few credits
+ * more than the limit allows.
+ */
+final class ClientEventCredits {
+
+    static final long REFILL_INTERVAL_MILLIS = 10;
+
+    private final NioOutboundPipeline outboundPipeline;
+    private final int maxPendingFrames;
+    private final AtomicInteger credits = new AtomicInteger();
+    private volatile long lastRefillMillis;
+
+    ClientEventCredits(ServerConnection connection, int maxPendingFrames) {
+        this.outboundPipeline = maxPendingFrames > 0 ? outboundPipeline(connection) : null;
+        this.maxPendingFrames = maxPendingFrames;
+    }
+
+    /**
+     * Takes a credit for sending an event to the connection. Returns
+     * {@code false} if the connection has too many frames waiting to be
+     * written, in which case the event should be dropped.
+     */
+    boolean tryAcquire() {
+        if (outboundPipeline == null) {
+            return true;
+        }
+
+        for (;;) {
+            int current = credits.get();
+            if (current > 0) {
+                if (credits.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            } else if (!tryRefill()) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Grants the credits allowed by the number of frames pending on the
+     * connection. Returns {@code false} if no credits are available, either
+     * because the connection is congested or because it was found congested
+     * within the last {@link #REFILL_INTERVAL_MILLIS}.
+     */
+    private boolean tryRefill() {
+        long now = System.currentTimeMillis();
+        if (now - lastRefillMillis < REFILL_INTERVAL_MILLIS) {
+            // a concurrent refill may have granted credits in the meantime
+            return credits.get() > 0;
+        }
+        lastRefillMillis = now;
+
+        int available = maxPendingFrames - outboundPipeline.totalFramesPending();
+        if (available <= 0) {
+            return false;
+        }
+        credits.set(available);
+        return true;
+    }
+
+    private static NioOutboundPipeline outboundPipeline(ServerConnection connection) {
+        if (!(connection instanceof TcpServerConnection)) {
+            return null;
+        }
+        Channel channel = ((TcpServerConnection) connection).getChannel();
+        return channel instanceof NioChannel ? ((NioChannel) channel).outboundPipeline() : null;
+    }
+}
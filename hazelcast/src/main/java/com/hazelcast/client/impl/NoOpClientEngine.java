@@ -23,6 +23,7 @@ import com.hazelcast.client.impl.statistics.ClientStatistics;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.cluster.AddressChecker;
 import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.security.SecurityContext;
@@ -176,4 +177,9 @@ public class NoOpClientEngine implements ClientEngine {
     public AddressChecker getManagementTasksChecker() {
         return null;
     }
+
+    @Override
+    public LatencyHistograms<Class> getMessageTaskLatencyHistograms() {
+        return null;
+    }
 }
@@ -25,6 +25,7 @@ import com.hazelcast.client.impl.connection.tcp.ClientPlainChannelInitializer;
 import com.hazelcast.client.impl.proxy.ClientMapProxy;
 import com.hazelcast.client.impl.spi.ClientProxyFactory;
 import com.hazelcast.client.map.impl.nearcache.NearCachedClientMapProxy;
+import com.hazelcast.client.properties.ClientProperty;
 import com.hazelcast.config.InstanceTrackingConfig;
 import com.hazelcast.config.InstanceTrackingConfig.InstanceMode;
 import com.hazelcast.config.InstanceTrackingConfig.InstanceProductName;
@@ -143,6 +144,8 @@ public class DefaultClientExtension implements ClientExtension {
                     .setHazelcastInstance(hazelcastInstance)
                     .setNotActiveExceptionSupplier(HazelcastClientNotActiveException::new)
                     .setSchemaService(client.getSchemaService())
+                    .setSpecializedCompactSerializersEnabled(
+                            client.getProperties().getBoolean(ClientProperty.COMPACT_SPECIALIZED_SERIALIZERS_ENABLED))
                     .build();
         } catch (Exception e) {
             throw rethrow(e);
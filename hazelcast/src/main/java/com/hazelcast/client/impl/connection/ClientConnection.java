@@ -19,6 +19,7 @@ package com.hazelcast.client.impl.connection;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.nio.Connection;
 
 import javax.annotation.Nullable;
@@ -61,4 +62,23 @@ public interface ClientConnection extends Connection {
      */
     @Nullable
     Channel[] getTpcChannels();
+
+    /**
+     * Returns the additional connections to the same member, which are
+     * used to spread the invocations over multiple sockets, or {@code null}
+     * if there are none.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#CONNECTIONS_PER_MEMBER
+     */
+    @Nullable
+    ClientConnection[] getSecondaryConnections();
+
+    /**
+     * Returns the number of the routed invocations sent over this connection
+     * which are waiting for a response. It is maintained only if an in-flight
+     * invocation limit per connection is configured.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#MAX_IN_FLIGHT_INVOCATIONS_PER_CONNECTION
+     */
+    Counter getInFlightInvocations();
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection;
+
+/**
+ * Strategy for selecting one of the connections to a member for an
+ * invocation, when the client opens multiple connections per member.
+ *
+ * @see com.hazelcast.client.properties.ClientProperty#CONNECTION_SELECTION_STRATEGY
+ */
+public enum ConnectionSelectionStrategy {
+
+    /**
+     * Invocations of a partition always use the same connection, and
+     * invocations without a partition use the first connection.
+     */
+    PARTITION_AFFINE,
+
+    /**
+     * Invocations are spread over the connections in turns.
+     */
+    ROUND_ROBIN
+}
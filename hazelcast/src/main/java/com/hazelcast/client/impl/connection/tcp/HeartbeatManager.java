@@ -91,6 +91,14 @@ public final class HeartbeatManager {
                         check(tpcChannel, connection, now);
                     }
                 }
+
+                // and the secondary connections to the same member
+                ClientConnection[] secondaryConnections = connection.getSecondaryConnections();
+                if (secondaryConnections != null) {
+                    for (ClientConnection secondaryConnection : secondaryConnections) {
+                        check(secondaryConnection, now);
+                    }
+                }
             }
         }
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.LoggingService;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Opens the secondary connections of the connections to the members in a
+ * non-blocking way, when the client is configured to use multiple
+ * connections per member.
+ * <p>
+ * A secondary connection is authenticated with the same member as its
+ * primary connection. It is closed along with its primary connection,
+ * and if it is closed alone, it is opened again the next time
+ * {@link #connectMissing(TcpClientConnection)} is called.
+ *
+ * @see com.hazelcast.client.properties.ClientProperty#CONNECTIONS_PER_MEMBER
+ */
+final class SecondaryConnectionConnector {
+
+    private final int secondaryConnectionCount;
+    private final ExecutorService executor;
+    private final Function<TcpClientConnection, TcpClientConnection> connectionCreator;
+    private final ILogger logger;
+    private final Set<TcpClientConnection> connecting = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    SecondaryConnectionConnector(int secondaryConnectionCount,
+                                 ExecutorService executor,
+                                 Function<TcpClientConnection, TcpClientConnection> connectionCreator,
+                                 LoggingService loggingService) {
+        this.secondaryConnectionCount = secondaryConnectionCount;
+        this.executor = executor;
+        this.connectionCreator = connectionCreator;
+        this.logger = loggingService.getLogger(SecondaryConnectionConnector.class);
+    }
+
+    /**
+     * Opens the missing secondary connections of the given connection,
+     * unless they are already being opened.
+     * <p>
+     * This call does not block.
+     */
+    void connectMissing(TcpClientConnection connection) {
+        if (connection.getSecondaryConnectionCount() >= secondaryConnectionCount || !connecting.add(connection)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    connect(connection);
+                } finally {
+                    connecting.remove(connection);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the client is shutting down
+            connecting.remove(connection);
+        }
+    }
+
+    private void connect(TcpClientConnection connection) {
+        while (connection.isAlive() && connection.getSecondaryConnectionCount() < secondaryConnectionCount) {
+            TcpClientConnection secondary;
+            try {
+                secondary = connectionCreator.apply(connection);
+            } catch (Exception e) {
+                logger.warning("Could not open a secondary connection for " + connection + ", reason " + e);
+                return;
+            }
+
+            if (!connection.addSecondaryConnection(secondary)) {
+                secondary.close("Primary connection " + connection + " is closed", null);
+                return;
+            }
+
+            if (logger.isFineEnabled()) {
+                logger.fine("Opened secondary connection " + secondary + " for " + connection);
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.logging.ILogger;
 
 import java.io.EOFException;
@@ -35,7 +36,9 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.channels.CancelledKeyException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,6 +52,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_ME
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.util.StringUtil.timeToStringFriendly;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 
 /**
  * Client implementation of {@link Connection}.
@@ -72,6 +76,8 @@ public class TcpClientConnection implements ClientConnection {
     private final ConcurrentMap<Long, EventHandler> eventHandlerMap = new ConcurrentHashMap<>();
     @Probe(name = CLIENT_METRIC_CONNECTION_CLOSED_TIME, level = ProbeLevel.DEBUG)
     private final AtomicLong closedTime = new AtomicLong();
+    private final Counter inFlightInvocations = newMwCounter();
+    private final Object secondaryConnectionsMutex = new Object();
 
     private volatile Address remoteAddress;
     private volatile Throwable closeCause;
@@ -79,6 +85,8 @@ public class TcpClientConnection implements ClientConnection {
     private volatile UUID remoteUuid;
     private volatile UUID clusterUuid;
     private volatile Channel[] tpcChannels;
+    private volatile TcpClientConnection[] secondaryConnections;
+    private volatile TcpClientConnection primaryConnection;
 
     public TcpClientConnection(HazelcastClientInstanceImpl client, int connectionId, Channel channel) {
         this.client = client;
@@ -196,6 +204,12 @@ public class TcpClientConnection implements ClientConnection {
             logger.warning("Exception while closing connection " + e.getMessage());
         }
 
+        TcpClientConnection primary = primaryConnection;
+        if (primary != null) {
+            primary.removeSecondaryConnection(this);
+        }
+        closeSecondaryConnections();
+
         connectionManager.onConnectionClose(this);
     }
 
@@ -339,4 +353,74 @@ public class TcpClientConnection implements ClientConnection {
     public Channel[] getTpcChannels() {
         return tpcChannels;
     }
+
+    @Override
+    public ClientConnection[] getSecondaryConnections() {
+        return secondaryConnections;
+    }
+
+    @Override
+    public Counter getInFlightInvocations() {
+        return inFlightInvocations;
+    }
+
+    int getSecondaryConnectionCount() {
+        TcpClientConnection[] connections = secondaryConnections;
+        return connections == null ? 0 : connections.length;
+    }
+
+    /**
+     * Attaches an authenticated connection to the same member as a secondary
+     * connection of this one. Returns {@code false} without attaching it if
+     * this connection is already closed.
+     */
+    boolean addSecondaryConnection(TcpClientConnection connection) {
+        synchronized (secondaryConnectionsMutex) {
+            if (!isAlive()) {
+                return false;
+            }
+
+            TcpClientConnection[] current = secondaryConnections;
+            int length = current == null ? 0 : current.length;
+            TcpClientConnection[] updated = new TcpClientConnection[length + 1];
+            if (current != null) {
+                System.arraycopy(current, 0, updated, 0, length);
+            }
+            updated[length] = connection;
+            connection.primaryConnection = this;
+            secondaryConnections = updated;
+            return true;
+        }
+    }
+
+    private void removeSecondaryConnection(TcpClientConnection connection) {
+        synchronized (secondaryConnectionsMutex) {
+            TcpClientConnection[] current = secondaryConnections;
+            if (current == null) {
+                return;
+            }
+
+            List<TcpClientConnection> remaining = new ArrayList<>(current.length);
+            for (TcpClientConnection secondary : current) {
+                if (secondary != connection) {
+                    remaining.add(secondary);
+                }
+            }
+            secondaryConnections = remaining.isEmpty() ? null : remaining.toArray(new TcpClientConnection[0]);
+        }
+    }
+
+    private void closeSecondaryConnections() {
+        TcpClientConnection[] connections;
+        synchronized (secondaryConnectionsMutex) {
+            connections = secondaryConnections;
+            secondaryConnections = null;
+        }
+
+        if (connections != null) {
+            for (TcpClientConnection connection : connections) {
+                connection.close("Primary connection " + this + " is closed", null);
+            }
+        }
+    }
 }
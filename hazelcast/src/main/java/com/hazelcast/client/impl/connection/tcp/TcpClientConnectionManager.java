@@ -56,6 +56,7 @@ import com.hazelcast.core.HazelcastException;
 import com.hazelcast.core.LifecycleEvent.LifecycleState;
 import com.hazelcast.function.BiFunctionEx;
 import com.hazelcast.instance.BuildInfoProvider;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
 import com.hazelcast.internal.networking.ChannelInitializer;
@@ -110,6 +111,7 @@ import static com.hazelcast.client.config.ConnectionRetryConfig.DEFAULT_CLUSTER_
 import static com.hazelcast.client.config.ConnectionRetryConfig.FAILOVER_CLIENT_DEFAULT_CLUSTER_CONNECT_TIMEOUT_MILLIS;
 import static com.hazelcast.client.impl.management.ManagementCenterService.MC_CLIENT_MODE_PROP;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTIONS_PER_MEMBER;
 import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
@@ -163,6 +165,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     private final LoadBalancer loadBalancer;
     private final boolean isUnisocketClient;
     private final boolean isTpcAwareClient;
+    private final SecondaryConnectionConnector secondaryConnectionConnector;
     private volatile Credentials currentCredentials;
 
     // following fields are updated inside synchronized(clientStateMutex)
@@ -241,6 +244,16 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         this.asyncStart = config.getConnectionStrategyConfig().isAsyncStart();
         this.reconnectMode = config.getConnectionStrategyConfig().getReconnectMode();
         this.connectionProcessListenerRunner = new ClientConnectionProcessListenerRunner(client);
+        this.secondaryConnectionConnector = initSecondaryConnectionConnector();
+    }
+
+    private SecondaryConnectionConnector initSecondaryConnectionConnector() {
+        int connectionsPerMember = client.getProperties().getInteger(CONNECTIONS_PER_MEMBER);
+        if (connectionsPerMember <= 1 || isUnisocketClient || isTpcAwareClient) {
+            return null;
+        }
+        return new SecondaryConnectionConnector(connectionsPerMember - 1, executor,
+                this::createSecondaryConnection, client.getLoggingService());
     }
 
     private boolean unisocketModeConfigured(ClientConfig config) {
@@ -663,7 +676,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
 
         address = translate(address);
         TcpClientConnection connection = createSocketConnection(address);
-        AuthenticationResponse response = authenticateOnCluster(connection);
+        AuthenticationResponse response = authenticateOnCluster(connection, false);
         return onAuthenticated(connection, response, switchingToNextCluster);
     }
 
@@ -676,7 +689,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
 
         Address address = translate(member);
         connection = createSocketConnection(address);
-        AuthenticationResponse response = authenticateOnCluster(connection);
+        AuthenticationResponse response = authenticateOnCluster(connection, false);
         return onAuthenticated(connection, response, switchingToNextCluster);
     }
 
@@ -977,9 +990,12 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         return firstConnection;
     }
 
-    private AuthenticationResponse authenticateOnCluster(TcpClientConnection connection) {
+    private AuthenticationResponse authenticateOnCluster(TcpClientConnection connection, boolean secondary) {
         Address memberAddress = connection.getInitAddress();
         ClientMessage request = encodeAuthenticationRequest(memberAddress);
+        if (secondary) {
+            request.getStartFrame().flags |= ClientMessage.SECONDARY_CONNECTION_FLAG;
+        }
         ClientInvocationFuture future = new ClientInvocation(client, request, null, connection).invokeUrgent();
         try {
             return AuthenticationResponse.from(future.get(authenticationTimeout, MILLISECONDS));
@@ -1096,10 +1112,50 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         // if needed.
         if (!connection.isAlive()) {
             onConnectionClose(connection);
+        } else {
+            connectSecondaryConnections(connection);
         }
         return connection;
     }
 
+    private void connectSecondaryConnections(TcpClientConnection connection) {
+        if (secondaryConnectionConnector != null && supportsSecondaryConnections(connection)) {
+            secondaryConnectionConnector.connectMissing(connection);
+        }
+    }
+
+    /**
+     * Members older than 5.3 ignore {@link ClientMessage#SECONDARY_CONNECTION_FLAG}
+     * and would authenticate a secondary connection as a primary one, so the
+     * secondary connections are opened only to the members known to be newer.
+     * A member is not known until it is in the member list, its secondary
+     * connections are opened by the next run of {@link ConnectToAllClusterMembersTask}.
+     */
+    private boolean supportsSecondaryConnections(TcpClientConnection connection) {
+        Member member = client.getClientClusterService().getMember(connection.getRemoteUuid());
+        return member != null && member.getVersion().asVersion().isGreaterOrEqual(Versions.V5_3);
+    }
+
+    /**
+     * Opens and authenticates a secondary connection to the member of the
+     * given connection.
+     */
+    private TcpClientConnection createSecondaryConnection(TcpClientConnection connection) {
+        TcpClientConnection secondary = createSocketConnection(connection.getInitAddress());
+        AuthenticationResponse response = authenticateOnCluster(secondary, true);
+        if (AuthenticationStatus.getById(response.getStatus()) != AuthenticationStatus.AUTHENTICATED
+                || !connection.getRemoteUuid().equals(response.getMemberUuid())) {
+            String message = "Secondary connection is not authenticated with the member of " + connection;
+            secondary.close(message, null);
+            throw new HazelcastException(message);
+        }
+
+        secondary.setRemoteAddress(response.getAddress());
+        secondary.setRemoteUuid(response.getMemberUuid());
+        secondary.setClusterUuid(response.getClusterId());
+        return secondary;
+    }
+
     /**
      * Checks the client state against the intend of the callee(switchingToNextCluster)
      * closes the connection and throws exception if the authentication needs to be cancelled.
@@ -1370,7 +1426,9 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                 }
 
                 UUID uuid = member.getUuid();
-                if (activeConnections.get(uuid) != null) {
+                TcpClientConnection connection = activeConnections.get(uuid);
+                if (connection != null) {
+                    connectSecondaryConnections(connection);
                     continue;
                 }
 
@@ -22,6 +22,7 @@ import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.OutboundFrame;
+import com.hazelcast.internal.util.counters.Counter;
 
 import javax.annotation.Nullable;
 import java.net.InetAddress;
@@ -30,9 +31,12 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
 public class TpcChannelClientConnectionAdapter implements ClientConnection {
 
     private final Channel channel;
+    private final Counter inFlightInvocations = newMwCounter();
 
     public TpcChannelClientConnectionAdapter(Channel channel) {
         this.channel = channel;
@@ -99,6 +103,17 @@ public class TpcChannelClientConnectionAdapter implements ClientConnection {
         throw new UnsupportedOperationException("Not supported for TPC channels");
     }
 
+    @Nullable
+    @Override
+    public ClientConnection[] getSecondaryConnections() {
+        return null;
+    }
+
+    @Override
+    public Counter getInFlightInvocations() {
+        return inFlightInvocations;
+    }
+
     @Override
     public ConcurrentMap attributeMap() {
         throw new UnsupportedOperationException("Not supported for TPC channels");
@@ -121,12 +121,18 @@ public final class ClientMessage implements OutboundFrame {
     public static final int IS_EVENT_FLAG = 1 << 9;
     public static final int BACKUP_AWARE_FLAG = 1 << 8;
     public static final int BACKUP_EVENT_FLAG = 1 << 7;
+    // The flags below are understood by members of version 5.3 and newer
+    // only, so clients set them only on the requests sent to such members.
+    public static final int HEDGED_READ_FLAG = 1 << 6;
+    public static final int SECONDARY_CONNECTION_FLAG = 1 << 5;
 
     //frame length + flags
     public static final int SIZE_OF_FRAME_LENGTH_AND_FLAGS = Bits.INT_SIZE_IN_BYTES + Bits.SHORT_SIZE_IN_BYTES;
-    public static final Frame NULL_FRAME = new Frame(new byte[0], IS_NULL_FLAG);
-    public static final Frame BEGIN_FRAME = new Frame(new byte[0], BEGIN_DATA_STRUCTURE_FLAG);
-    public static final Frame END_FRAME = new Frame(new byte[0], END_DATA_STRUCTURE_FLAG);
+    //shared by all frames without content, such as null, begin and end frames
+    public static final byte[] EMPTY_FRAME_CONTENT = new byte[0];
+    public static final Frame NULL_FRAME = new Frame(EMPTY_FRAME_CONTENT, IS_NULL_FLAG);
+    public static final Frame BEGIN_FRAME = new Frame(EMPTY_FRAME_CONTENT, BEGIN_DATA_STRUCTURE_FLAG);
+    public static final Frame END_FRAME = new Frame(EMPTY_FRAME_CONTENT, END_DATA_STRUCTURE_FLAG);
 
     private static final long serialVersionUID = 1L;
 
@@ -23,6 +23,7 @@ import static java.lang.String.format;
 
 import java.nio.ByteBuffer;
 
+import static com.hazelcast.client.impl.protocol.ClientMessage.EMPTY_FRAME_CONTENT;
 import static com.hazelcast.client.impl.protocol.ClientMessage.IS_FINAL_FLAG;
 import static com.hazelcast.client.impl.protocol.ClientMessage.SIZE_OF_FRAME_LENGTH_AND_FLAGS;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
@@ -57,9 +58,14 @@ public final class ClientMessageReader {
         return clientMessage;
     }
 
+    /**
+     * Prepares this reader for the next message, so that a single reader
+     * can be used for all messages read from a connection.
+     */
     public void reset() {
         readOffset = -1;
         clientMessage = null;
+        sumUntrustedMessageLength = 0;
     }
 
     private boolean readFrame(ByteBuffer src, boolean trusted) {
@@ -95,7 +101,8 @@ public final class ClientMessageReader {
             upcast(src).position(src.position() + Bits.SHORT_SIZE_IN_BYTES);
 
             int size = frameLength - SIZE_OF_FRAME_LENGTH_AND_FLAGS;
-            byte[] bytes = new byte[size];
+            // frames without content are frequent (null, begin and end frames), so they share an empty array
+            byte[] bytes = size == 0 ? EMPTY_FRAME_CONTENT : new byte[size];
             ClientMessage.Frame frame = new ClientMessage.Frame(bytes, flags);
             if (clientMessage == null) {
                 clientMessage = ClientMessage.createForDecode(frame);
@@ -30,6 +30,7 @@ import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.instance.BuildInfo;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -79,6 +80,7 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
     protected P parameters;
     private final ClientEndpointManager endpointManager;
     private final Node node;
+    private final long startNanos = System.nanoTime();
 
     protected AbstractMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         this.clientMessage = clientMessage;
@@ -266,6 +268,7 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
             }
             assert numberOfBackups >= 0 && numberOfBackups < Byte.MAX_VALUE;
             clientMessage.setNumberOfBackupAcks((byte) numberOfBackups);
+            recordLatency();
             sendClientMessage(clientMessage);
         } catch (Exception e) {
             handleProcessingFailure(e);
@@ -317,11 +320,34 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
         sendClientMessage(resultClientMessage);
     }
 
-    private void sendClientMessage(Throwable throwable) {
+    /**
+     * Sends an event of a user listener, such as an entry or item listener,
+     * to the client if its endpoint has a credit for it, otherwise drops the
+     * event. Events which the client relies on for its consistency, such as
+     * Near Cache invalidations, must be sent with
+     * {@link #sendClientMessage(Object, ClientMessage)}.
+     */
+    protected void sendFlowControlledClientMessage(Object key, ClientMessage resultClientMessage) {
+        if (!endpoint.tryAcquireEventCredit()) {
+            clientEngine.getEndpointManager().onEventDropped(endpoint);
+            return;
+        }
+        sendClientMessage(key, resultClientMessage);
+    }
+
+        private void sendClientMessage(Throwable throwable) {
         ClientMessage message = encodeException(throwable);
+        recordLatency();
         sendClientMessage(message);
     }
 
+    private void recordLatency() {
+        LatencyHistograms<Class> histograms = clientEngine.getMessageTaskLatencyHistograms();
+        if (histograms != null) {
+            histograms.recordNanos(getClass(), System.nanoTime() - startNanos);
+        }
+    }
+
     protected ClientMessage encodeException(Throwable throwable) {
         ClientExceptionFactory exceptionFactory = clientEngine.getExceptionFactory();
         return exceptionFactory.createExceptionMessage(peelIfNeeded(throwable));
@@ -192,6 +192,9 @@ public abstract class AuthenticationBaseMessageTask<P> extends AbstractMessageTa
         ServerConnection connection = endpoint.getConnection();
         setConnectionType();
         setTpcTokenToEndpoint();
+        if (ClientMessage.isFlagSet(clientMessage.getHeaderFlags(), ClientMessage.SECONDARY_CONNECTION_FLAG)) {
+            endpoint.setSecondary();
+        }
         endpoint.authenticated(clientUuid, credentials, clientVersion, clientMessage.getCorrelationId(), clientName, labels);
         validateNodeStart();
         final UUID clusterId = clientEngine.getClusterService().getClusterId();
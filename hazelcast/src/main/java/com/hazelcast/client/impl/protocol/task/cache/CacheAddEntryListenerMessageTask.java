@@ -113,7 +113,7 @@ public class CacheAddEntryListenerMessageTask
                 ClientMessage clientMessage =
                         CacheAddEntryListenerCodec.
                                 encodeCacheEvent(ces.getEventType().getType(), ces.getEvents(), ces.getCompletionId());
-                cacheAddEntryListenerMessageTask.sendClientMessage(partitionKey, clientMessage);
+                cacheAddEntryListenerMessageTask.sendFlowControlledClientMessage(partitionKey, clientMessage);
             }
         }
 
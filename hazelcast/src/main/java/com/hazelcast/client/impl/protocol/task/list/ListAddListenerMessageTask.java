@@ -86,7 +86,7 @@ public class ListAddListenerMessageTask
                     Data item = dataAwareItemEvent.getItemData();
                     ClientMessage clientMessage = ListAddListenerCodec
                             .encodeItemEvent(item, event.getMember().getUuid(), event.getEventType().getType());
-                    sendClientMessage(partitionKey, clientMessage);
+                    sendFlowControlledClientMessage(partitionKey, clientMessage);
                 }
             }
         };
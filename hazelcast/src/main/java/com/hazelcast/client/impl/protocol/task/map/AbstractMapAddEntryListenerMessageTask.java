@@ -99,7 +99,7 @@ public abstract class AbstractMapAddEntryListenerMessageTask<Parameter>
             Data newValueData = dataAwareEntryEvent.getNewValueData();
             Data oldValueData = dataAwareEntryEvent.getOldValueData();
             Data meringValueData = dataAwareEntryEvent.getMergingValueData();
-            sendClientMessage(keyData, encodeEvent(keyData
+            sendFlowControlledClientMessage(keyData, encodeEvent(keyData
                     , newValueData, oldValueData, meringValueData, event.getEventType().getType(),
                     event.getMember().getUuid(), 1));
 
@@ -113,7 +113,7 @@ public abstract class AbstractMapAddEntryListenerMessageTask<Parameter>
             EntryEventType type = event.getEventType();
             UUID uuid = event.getMember().getUuid();
             int numberOfEntriesAffected = event.getNumberOfEntriesAffected();
-            sendClientMessage(null, encodeEvent(null,
+            sendFlowControlledClientMessage(null, encodeEvent(null,
                     null, null, null, type.getType(), uuid, numberOfEntriesAffected));
         }
     }
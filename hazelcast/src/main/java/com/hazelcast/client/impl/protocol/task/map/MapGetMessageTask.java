@@ -18,18 +18,25 @@ package com.hazelcast.client.impl.protocol.task.map;
 
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
+import com.hazelcast.cluster.Address;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.partition.IPartition;
 import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.map.impl.operation.ReadBackupDataOperation;
 import com.hazelcast.security.permission.ActionConstants;
 import com.hazelcast.security.permission.MapPermission;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.security.Permission;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.internal.partition.InternalPartition.MAX_REPLICA_COUNT;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 public class MapGetMessageTask
         extends AbstractMapPartitionMessageTask<MapGetCodec.RequestParameters> {
@@ -50,6 +57,47 @@ public class MapGetMessageTask
         return MapGetCodec.encodeResponse(serializationService.toData(response));
     }
 
+    /**
+     * Serves a hedged read of a map with read-backup-data enabled from
+     * a backup replica. The read is sent to the partition owner as usual
+     * if the backup replica does not have the entry.
+     */
+    @Override
+    protected CompletableFuture<Object> processInternal() {
+        if (!ClientMessage.isFlagSet(clientMessage.getHeaderFlags(), ClientMessage.HEDGED_READ_FLAG)
+                || !getMapContainer().getMapConfig().isReadBackupData()) {
+            return super.processInternal();
+        }
+
+        return readBackupData().thenCompose(value -> value != null
+                ? completedFuture(value) : super.processInternal());
+    }
+
+    /**
+     * Reads the value from the local replica of the partition, or from its
+     * first backup replica if this member is not a replica of the partition.
+     */
+    private CompletableFuture<Object> readBackupData() {
+        IPartition partition = nodeEngine.getPartitionService().getPartition(getPartitionId());
+        Address thisAddress = nodeEngine.getThisAddress();
+        int replicaIndex = 1;
+        for (int i = 0; i < MAX_REPLICA_COUNT; i++) {
+            if (thisAddress.equals(partition.getReplicaAddress(i))) {
+                replicaIndex = i;
+                break;
+            }
+        }
+
+        if (partition.getReplicaAddress(replicaIndex) == null) {
+            return completedFuture(null);
+        }
+
+        Operation op = new ReadBackupDataOperation(parameters.name, parameters.key);
+        op.setCallerUuid(endpoint.getUuid());
+        return nodeEngine.getOperationService().createInvocationBuilder(getServiceName(), op, getPartitionId())
+                         .setReplicaIndex(replicaIndex).setResultDeserialized(false).invoke();
+    }
+
     @Override
     protected Operation prepareOperation() {
         MapOperationProvider operationProvider = getMapOperationProvider(parameters.name);
@@ -65,15 +113,19 @@ public class MapGetMessageTask
 
     @Override
     protected Object processResponseBeforeSending(Object response) {
-        MapService mapService = getService(MapService.SERVICE_NAME);
-        MapContainer mapContainer = mapService.getMapServiceContext().getMapContainer(parameters.name);
-        if (mapContainer.getMapConfig().isStatisticsEnabled()) {
+        if (getMapContainer().getMapConfig().isStatisticsEnabled()) {
+            MapService mapService = getService(MapService.SERVICE_NAME);
             mapService.getMapServiceContext().getLocalMapStatsProvider().getLocalMapStatsImpl(parameters.name)
                     .incrementGetLatencyNanos(Timer.nanosElapsed(startTimeNanos));
         }
         return response;
     }
 
+    private MapContainer getMapContainer() {
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getMapContainer(parameters.name);
+    }
+
 
     @Override
     public String getServiceName() {
@@ -99,7 +99,7 @@ public abstract class AbstractMultiMapAddEntryListenerMessageTask<P>
                 final EntryEventType type = event.getEventType();
                 final UUID uuid = event.getMember().getUuid();
 
-                sendClientMessage(key, encodeEvent(key, value, oldValue, type.getType(), uuid, 1));
+                sendFlowControlledClientMessage(key, encodeEvent(key, value, oldValue, type.getType(), uuid, 1));
             }
         }
 
@@ -108,7 +108,7 @@ public abstract class AbstractMultiMapAddEntryListenerMessageTask<P>
             if (endpoint.isAlive()) {
                 final EntryEventType type = event.getEventType();
                 final UUID uuid = event.getMember().getUuid();
-                sendClientMessage(null, encodeEvent(null,
+                sendFlowControlledClientMessage(null, encodeEvent(null,
                         null, null, type.getType(),
                         uuid, event.getNumberOfEntriesAffected()));
             }
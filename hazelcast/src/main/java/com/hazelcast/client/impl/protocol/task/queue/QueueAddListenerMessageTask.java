@@ -73,7 +73,7 @@ public class QueueAddListenerMessageTask
                     Data item = dataAwareItemEvent.getItemData();
                     ClientMessage clientMessage = QueueAddListenerCodec.encodeItemEvent(item,
                             event.getMember().getUuid(), event.getEventType().getType());
-                    sendClientMessage(partitionKey, clientMessage);
+                    sendFlowControlledClientMessage(partitionKey, clientMessage);
                 }
             }
         };
@@ -100,7 +100,7 @@ public abstract class AbstractReplicatedMapAddEntryListenerMessageTask<Parameter
         ClientMessage clientMessage = encodeEvent(key
                 , newValue, oldValue, mergingValue, event.getEventType().getType(),
                 event.getMember().getUuid(), 1);
-        sendClientMessage(key, clientMessage);
+        sendFlowControlledClientMessage(key, clientMessage);
 
     }
 
@@ -112,7 +112,7 @@ public abstract class AbstractReplicatedMapAddEntryListenerMessageTask<Parameter
         ClientMessage clientMessage = encodeEvent(null
                 , null, null, null, event.getEventType().getType(),
                 event.getMember().getUuid(), event.getNumberOfEntriesAffected());
-        sendClientMessage(null, clientMessage);
+        sendFlowControlledClientMessage(null, clientMessage);
     }
 
     private boolean shouldSendEvent(IMapEvent event) {
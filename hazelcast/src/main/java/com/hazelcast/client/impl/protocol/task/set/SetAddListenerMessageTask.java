@@ -90,7 +90,7 @@ public class SetAddListenerMessageTask
                     ClientMessage clientMessage =
                             SetAddListenerCodec.encodeItemEvent(item, event.getMember().getUuid()
                                     , event.getEventType().getType());
-                    sendClientMessage(partitionKey, clientMessage);
+                    sendFlowControlledClientMessage(partitionKey, clientMessage);
                 }
             }
         };
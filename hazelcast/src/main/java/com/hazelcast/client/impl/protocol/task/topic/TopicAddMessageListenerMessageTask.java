@@ -119,7 +119,7 @@ public class TopicAddMessageListenerMessageTask
             eventMessage.setPartitionId(partitionId);
             sendClientMessage(eventMessage);
         } else {
-            sendClientMessage(partitionKey, eventMessage);
+            sendFlowControlledClientMessage(partitionKey, eventMessage);
         }
     }
 }
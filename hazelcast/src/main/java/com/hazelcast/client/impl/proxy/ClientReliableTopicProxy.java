@@ -37,10 +37,10 @@ import com.hazelcast.topic.TopicOverloadPolicy;
 import com.hazelcast.topic.impl.reliable.MessageRunner;
 import com.hazelcast.topic.impl.reliable.ReliableMessageListenerAdapter;
 import com.hazelcast.topic.impl.reliable.ReliableTopicMessage;
+import com.hazelcast.topic.impl.reliable.ReliableTopicPublisher;
 
 import javax.annotation.Nonnull;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
@@ -79,6 +79,7 @@ public class ClientReliableTopicProxy<E> extends ClientProxy implements ITopic<E
     private final ClientReliableTopicConfig config;
     private final Executor executor;
     private final TopicOverloadPolicy overloadPolicy;
+    private final ReliableTopicPublisher publisher;
 
 
     public ClientReliableTopicProxy(String objectId, ClientContext context, HazelcastClientInstanceImpl client) {
@@ -88,6 +89,7 @@ public class ClientReliableTopicProxy<E> extends ClientProxy implements ITopic<E
         this.config = client.getClientConfig().getReliableTopicConfig(objectId);
         this.executor = getExecutor(config);
         this.overloadPolicy = config.getTopicOverloadPolicy();
+        this.publisher = new ReliableTopicPublisher(ringbuffer, overloadPolicy, objectId, context.getTaskScheduler());
         logger = client.getLoggingService().getLogger(getClass());
     }
 
@@ -105,22 +107,7 @@ public class ClientReliableTopicProxy<E> extends ClientProxy implements ITopic<E
         try {
             Data data = serializationService.toData(payload);
             ReliableTopicMessage message = new ReliableTopicMessage(data, null);
-            switch (overloadPolicy) {
-                case ERROR:
-                    addOrFail(message);
-                    break;
-                case DISCARD_OLDEST:
-                    addOrOverwrite(message);
-                    break;
-                case DISCARD_NEWEST:
-                    ringbuffer.addAsync(message, OverflowPolicy.FAIL).toCompletableFuture().get();
-                    break;
-                case BLOCK:
-                    addWithBackoff(Collections.singleton(message));
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unknown overloadPolicy:" + overloadPolicy);
-            }
+            publisher.publish(message).get();
         } catch (Exception e) {
             throw (RuntimeException) peel(e, null,
                     "Failed to publish message: " + payload + " to topic:" + getName());
@@ -130,19 +117,7 @@ public class ClientReliableTopicProxy<E> extends ClientProxy implements ITopic<E
     @Override
     public CompletionStage<Void> publishAsync(@Nonnull E payload) {
         checkNotNull(payload, NULL_MESSAGE_IS_NOT_ALLOWED);
-        Collection<E> messages = Collections.singleton(payload);
-        return publishAllAsync(messages);
-    }
-
-    private void addOrOverwrite(ReliableTopicMessage message) throws Exception {
-        ringbuffer.addAsync(message, OverflowPolicy.OVERWRITE).toCompletableFuture().get();
-    }
-
-    private void addOrFail(ReliableTopicMessage message) throws Exception {
-        long sequenceId = ringbuffer.addAsync(message, OverflowPolicy.FAIL).toCompletableFuture().get();
-        if (sequenceId == -1) {
-            throw new TopicOverloadException("Failed to publish message: " + message + " on topic:" + name);
-        }
+        return publisher.publish(new ReliableTopicMessage(serializationService.toData(payload), null));
     }
 
     private void addWithBackoff(Collection<ReliableTopicMessage> messages) throws Exception {
@@ -56,6 +56,7 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     private static final AtomicLongFieldUpdater<ClientInvocation> INVOKE_COUNT
             = AtomicLongFieldUpdater.newUpdater(ClientInvocation.class, "invokeCount");
     final LifecycleService lifecycleService;
+    final Object objectName;
     private final ClientInvocationFuture clientInvocationFuture;
     private final ClientInvocationServiceImpl invocationService;
     private final TaskScheduler executionService;
@@ -66,7 +67,6 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     private final ClientConnection connection;
     private final long startTimeMillis;
     private final long retryPauseMillis;
-    private final Object objectName;
     private final boolean isUnisocketClient;
     /**
      * We achieve synchronization of different threads via this field
@@ -86,6 +86,7 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     private boolean urgent;
     private boolean allowRetryOnRandom = true;
     private volatile boolean invoked;
+    private volatile long sentNanos;
 
     protected ClientInvocation(HazelcastClientInstanceImpl client,
                                ClientMessage clientMessage,
@@ -249,12 +250,22 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     void notify(ClientMessage clientMessage) {
         assert clientMessage != null : "response can't be null";
 
+        ClientConnection conn = this.sentConnection;
         if (getPermissionToNotify(clientMessage.getCorrelationId())) {
+            onResponse(conn);
             int expectedBackups = clientMessage.getNumberOfBackupAcks();
             notifyResponse(clientMessage, expectedBackups);
         }
     }
 
+    void onResponse(ClientConnection conn) {
+        if (!isBindToSingleConnection()) {
+            // connection bound invocations, such as heartbeats, may be
+            // sent over TPC channel adapters which are not members
+            invocationService.onResponse(conn, System.nanoTime() - sentNanos);
+        }
+    }
+
     boolean getPermissionToNotify(long responseCorrelationId) {
         ClientConnection conn = this.sentConnection;
         if (conn == null) {
@@ -301,7 +312,9 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     }
 
     void notifyException(long correlationId, Throwable exception) {
+        ClientConnection conn = this.sentConnection;
         if (getPermissionToNotify(correlationId)) {
+            onResponse(conn);
             notifyExceptionWithOwnedPermission(exception);
         }
     }
@@ -372,7 +385,7 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         }
     }
 
-    private boolean isBindToSingleConnection() {
+    boolean isBindToSingleConnection() {
         return connection != null;
     }
 
@@ -385,6 +398,7 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     }
 
     public void setSentConnection(ClientConnection connection) {
+        sentNanos = System.nanoTime();
         SENT_CONNECTION.set(this, connection);
     }
 
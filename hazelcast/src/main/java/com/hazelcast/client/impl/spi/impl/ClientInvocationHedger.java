@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.connection.ClientConnectionManager;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
+import com.hazelcast.client.impl.protocol.codec.ReplicatedMapGetCodec;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.counters.MwCounter;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_HEDGING_ENABLED;
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_HEDGING_PERCENTILE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_HEDGED_INVOCATIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_INVOCATIONS;
+import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Hedges idempotent reads, i.e., sends the request of a read to another
+ * member too if its response is not received within the configured latency
+ * percentile of the member it is sent to. The first response completes the
+ * invocation.
+ * <p>
+ * A hedged request is flagged with {@link ClientMessage#HEDGED_READ_FLAG}
+ * so that the receiving member serves an {@code IMap.get()} from a backup
+ * replica if the map has read-backup-data enabled. When the hedge wins, the
+ * original invocation is deregistered and the late response of its request
+ * is dropped silently.
+ */
+class ClientInvocationHedger {
+
+    @Probe(name = CLIENT_METRIC_INVOCATIONS_HEDGED_INVOCATIONS, level = MANDATORY)
+    private final MwCounter hedgedInvocations = newMwCounter();
+    private final ClientInvocationLatencyTracker latencyTracker;
+    // correlation ids of the invocations completed by their hedges, mapped to
+    // the connections the late responses of their requests are received from
+    private final ConcurrentMap<Long, ClientConnection> abandonedInvocations = new ConcurrentHashMap<>();
+    private final HazelcastClientInstanceImpl client;
+    private final ClientConnectionManager connectionManager;
+    private final ILogger logger;
+    private final boolean enabled;
+
+    ClientInvocationHedger(HazelcastClientInstanceImpl client, ILogger logger, boolean unisocketClient) {
+        HazelcastProperties properties = client.getProperties();
+        this.client = client;
+        this.connectionManager = client.getConnectionManager();
+        this.logger = logger;
+        this.enabled = !unisocketClient && properties.getBoolean(INVOCATION_HEDGING_ENABLED);
+        this.latencyTracker = new ClientInvocationLatencyTracker(connectionManager,
+                properties.getDouble(INVOCATION_HEDGING_PERCENTILE));
+        client.getMetricsRegistry().registerStaticMetrics(this, CLIENT_PREFIX_INVOCATIONS);
+        client.getMetricsRegistry().registerDynamicMetricsProvider(latencyTracker);
+    }
+
+    /**
+     * Called when the request of an invocation is sent over the given
+     * connection. Schedules the hedge of the invocation if it is a routed
+     * idempotent read.
+     */
+    void onSent(ClientInvocation invocation, ClientConnection connection) {
+        ClientMessage request = invocation.getClientMessage();
+        if (!enabled || invocation.isBindToSingleConnection() || !request.isRetryable()
+                || !isHedgeable(request.getMessageType())) {
+            return;
+        }
+
+        long delayMicros = latencyTracker.hedgeDelayMicros(connection.getRemoteUuid());
+        if (delayMicros < 0) {
+            return;
+        }
+
+        long correlationId = request.getCorrelationId();
+        client.getTaskScheduler().schedule(() -> hedge(invocation, correlationId, connection), delayMicros, MICROSECONDS);
+    }
+
+    void recordLatency(ClientConnection connection, long latencyNanos) {
+        if (connection.getRemoteUuid() != null) {
+            latencyTracker.record(connection.getRemoteUuid(), latencyNanos);
+        }
+    }
+
+    /**
+     * Returns true if the response with the given correlation id is the late
+     * response of an invocation already completed by its hedge.
+     */
+    boolean isLateResponse(long correlationId) {
+        return abandonedInvocations.remove(correlationId) != null;
+    }
+
+    /**
+     * Called when the response with the given correlation id is handed to
+     * its invocation. Forgets the invocation if it has been completed by its
+     * hedge concurrently, since its late response is already received.
+     */
+    void onResponseReceived(long correlationId) {
+        if (enabled) {
+            abandonedInvocations.remove(correlationId);
+        }
+    }
+
+    void onConnectionClose(ClientConnection connection) {
+        abandonedInvocations.values().removeIf(abandonedConnection -> abandonedConnection == connection);
+    }
+
+    private static boolean isHedgeable(int messageType) {
+        return messageType == MapGetCodec.REQUEST_MESSAGE_TYPE || messageType == ReplicatedMapGetCodec.REQUEST_MESSAGE_TYPE;
+    }
+
+    private void hedge(ClientInvocation invocation, long correlationId, ClientConnection connection) {
+        ClientMessage request = invocation.getClientMessage();
+        if (invocation.getClientInvocationFuture().isDone() || request.getCorrelationId() != correlationId) {
+            // responded or retried in the meantime
+            return;
+        }
+
+        ClientConnection hedgeConnection = getHedgeConnection(connection);
+        if (hedgeConnection == null) {
+            return;
+        }
+
+        ClientMessage hedgeRequest = request.copyWithNewCorrelationId(0);
+        hedgeRequest.getStartFrame().flags |= ClientMessage.HEDGED_READ_FLAG;
+        ClientInvocation hedgeInvocation = new ClientInvocation(client, hedgeRequest, invocation.objectName, hedgeConnection);
+        try {
+            hedgeInvocation.invoke().whenComplete((response, throwable) -> {
+                if (throwable == null) {
+                    onHedgeResponse(invocation, correlationId, connection, response);
+                }
+            });
+            hedgedInvocations.inc();
+        } catch (Exception e) {
+            // the original invocation is still in flight, so only log the failure
+            if (logger.isFinestEnabled()) {
+                logger.finest("Could not hedge " + invocation, e);
+            }
+        }
+    }
+
+    /**
+     * Completes the invocation with the response of its hedge, unless the
+     * response of its request sent with the given correlation id over the
+     * given connection is already received or the invocation is retried.
+     * The invocation is deregistered, and the late response of its request
+     * is dropped.
+     */
+    private void onHedgeResponse(ClientInvocation invocation, long correlationId, ClientConnection connection,
+                                 ClientMessage response) {
+        // recorded before taking the permission, so that a response of the
+        // request received concurrently removes it, whether or not it still
+        // finds the invocation registered
+        abandonedInvocations.put(correlationId, connection);
+        if (!invocation.getPermissionToNotify(correlationId)) {
+            abandonedInvocations.remove(correlationId);
+            return;
+        }
+
+        invocation.onResponse(connection);
+        if (!connection.isAlive()) {
+            // the late response will not be received
+            abandonedInvocations.remove(correlationId);
+        }
+        invocation.complete(response);
+    }
+
+    private ClientConnection getHedgeConnection(ClientConnection connection) {
+        List<ClientConnection> candidates = new ArrayList<>();
+        for (ClientConnection candidate : connectionManager.getActiveConnections()) {
+            if (candidate.isAlive() && !connection.getRemoteUuid().equals(candidate.getRemoteUuid())
+                    && supportsHedgedReads(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates.isEmpty() ? null : candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    /**
+     * Members older than 5.3 ignore {@link ClientMessage#HEDGED_READ_FLAG}, so
+     * a hedged read sent to them would just repeat the original read.
+     */
+    private boolean supportsHedgedReads(ClientConnection connection) {
+        Member member = client.getClientClusterService().getMember(connection.getRemoteUuid());
+        return member != null && member.getVersion().asVersion().isGreaterOrEqual(Versions.V5_3);
+    }
+
+    // package-visible for tests
+    long getHedgedInvocationCount() {
+        return hedgedInvocations.get();
+    }
+
+    // package-visible for tests
+    int getAbandonedInvocationCount() {
+        return abandonedInvocations.size();
+    }
+
+    // package-visible for tests
+    ClientInvocationLatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.connection.ClientConnectionManager;
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.LatencyHistogram;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.util.ConstructorFunction;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_DISCRIMINATOR_MEMBER;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_INVOCATIONS_LATENCY;
+import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutIfAbsent;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Tracks the latency distribution of the invocations per member, i.e.,
+ * the duration between sending a request to a member and receiving its
+ * response. The distributions are exposed as client metrics and used for
+ * deciding when to hedge an idempotent read.
+ * <p>
+ * The latencies are recorded into {@link LatencyHistogram}s, whose
+ * log-linear buckets keep the hedging delay derived from a percentile
+ * within a few percent of the actual latency.
+ */
+class ClientInvocationLatencyTracker implements DynamicMetricsProvider {
+
+    /**
+     * Minimum number of latency samples of a member before its latency
+     * percentile is used for hedging.
+     */
+    static final int MIN_SAMPLE_COUNT = 100;
+
+    private static final long HEDGE_DELAY_REFRESH_INTERVAL_NANOS = MILLISECONDS.toNanos(100);
+
+    private final ConcurrentMap<UUID, MemberLatency> latencies = new ConcurrentHashMap<>();
+    private final ConstructorFunction<UUID, MemberLatency> constructor = uuid -> new MemberLatency();
+    private final ClientConnectionManager connectionManager;
+    private final double hedgingPercentile;
+
+    ClientInvocationLatencyTracker(ClientConnectionManager connectionManager, double hedgingPercentile) {
+        this.connectionManager = connectionManager;
+        this.hedgingPercentile = hedgingPercentile;
+    }
+
+    void record(UUID memberUuid, long latencyNanos) {
+        getOrPutIfAbsent(latencies, memberUuid, constructor).histogram.recordNanos(latencyNanos);
+    }
+
+    /**
+     * Returns the hedging percentile of the latencies of the member in
+     * microseconds, or -1 if there are not enough samples for the member
+     * yet. The percentile is recomputed at most every 100 milliseconds,
+     * since reading the histogram is too costly to be done per invocation.
+     */
+    long hedgeDelayMicros(UUID memberUuid) {
+        MemberLatency latency = latencies.get(memberUuid);
+        if (latency == null) {
+            return -1;
+        }
+
+        long now = System.nanoTime();
+        if (now - latency.hedgeDelayRefreshNanos >= HEDGE_DELAY_REFRESH_INTERVAL_NANOS) {
+            // racy refreshes by concurrent invocations are harmless
+            LatencyHistogram histogram = latency.histogram;
+            latency.hedgeDelayMicros = histogram.count() < MIN_SAMPLE_COUNT
+                    ? -1 : histogram.percentileMicros(hedgingPercentile);
+            latency.hedgeDelayRefreshNanos = now;
+        }
+        return latency.hedgeDelayMicros;
+    }
+
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (Map.Entry<UUID, MemberLatency> entry : latencies.entrySet()) {
+            if (connectionManager.getConnection(entry.getKey()) == null) {
+                // the member has left, or the client is disconnected from it
+                latencies.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+
+            MetricDescriptor memberDescriptor = descriptor.copy()
+                    .withPrefix(CLIENT_PREFIX_INVOCATIONS_LATENCY)
+                    .withDiscriminator(CLIENT_DISCRIMINATOR_MEMBER, entry.getKey().toString());
+            entry.getValue().histogram.provideMetrics(memberDescriptor, context);
+        }
+    }
+
+    private static final class MemberLatency {
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        volatile long hedgeDelayMicros = -1;
+        volatile long hedgeDelayRefreshNanos = System.nanoTime() - HEDGE_DELAY_REFRESH_INTERVAL_NANOS;
+    }
+}
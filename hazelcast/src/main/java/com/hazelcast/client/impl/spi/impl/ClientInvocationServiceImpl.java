@@ -20,6 +20,7 @@ import com.hazelcast.client.HazelcastClientNotActiveException;
 import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
 import com.hazelcast.client.impl.connection.ClientConnection;
 import com.hazelcast.client.impl.connection.ClientConnectionManager;
+import com.hazelcast.client.impl.connection.ConnectionSelectionStrategy;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.ClientLocalBackupListenerCodec;
 import com.hazelcast.client.impl.spi.ClientInvocationService;
@@ -39,13 +40,17 @@ import java.io.IOException;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import static com.hazelcast.client.impl.connection.ConnectionSelectionStrategy.ROUND_ROBIN;
 import static com.hazelcast.client.properties.ClientProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTION_SELECTION_STRATEGY;
 import static com.hazelcast.client.properties.ClientProperty.FAIL_ON_INDETERMINATE_OPERATION_STATE;
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PAUSE_MILLIS;
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_TIMEOUT_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
+import static com.hazelcast.client.properties.ClientProperty.MAX_IN_FLIGHT_INVOCATIONS_PER_CONNECTION;
 import static com.hazelcast.client.properties.ClientProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_PENDING_CALLS;
@@ -97,6 +102,10 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
     private final ClientConnectionManager connectionManager;
     private final ClientPartitionService partitionService;
     private final boolean isUnisocketClient;
+    private final ClientInvocationHedger hedger;
+    private final ConnectionSelectionStrategy connectionSelectionStrategy;
+    private final int maxInFlightInvocationsPerConnection;
+    private final AtomicInteger connectionSelectionSequence = new AtomicInteger();
 
     public ClientInvocationServiceImpl(HazelcastClientInstanceImpl client) {
         this.client = client;
@@ -117,6 +126,9 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         this.partitionService = client.getClientPartitionService();
         this.isUnisocketClient = connectionManager.isUnisocketClient();
         this.isBackupAckToClientEnabled = !isUnisocketClient && client.getClientConfig().isBackupAckToClientEnabled();
+        this.hedger = new ClientInvocationHedger(client, invocationLogger, isUnisocketClient);
+        this.connectionSelectionStrategy = properties.getEnum(CONNECTION_SELECTION_STRATEGY, ConnectionSelectionStrategy.class);
+        this.maxInFlightInvocationsPerConnection = properties.getInteger(MAX_IN_FLIGHT_INVOCATIONS_PER_CONNECTION);
     }
 
     private long initInvocationRetryPauseMillis() {
@@ -187,7 +199,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
             }
             return false;
         }
-        return send(invocation, connection);
+        return send(invocation, selectConnection(connection, invocation));
     }
 
     @Override
@@ -200,7 +212,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
             }
             return false;
         }
-        return send(invocation, connection);
+        return send(invocation, selectConnection(connection, invocation));
     }
 
     @Override
@@ -221,6 +233,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
                 invocation.notifyExceptionWithOwnedPermission(ex);
             }
         }
+        hedger.onConnectionClose(connection);
     }
 
     @Override
@@ -228,6 +241,49 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         return client.getClientConfig().getNetworkConfig().isRedoOperation();
     }
 
+    /**
+     * Selects one of the connections to the member of the given connection
+     * for a routed invocation, when the client opens multiple connections
+     * per member.
+     */
+    private ClientConnection selectConnection(ClientConnection connection, ClientInvocation invocation) {
+        ClientConnection[] secondaryConnections = connection.getSecondaryConnections();
+        if (secondaryConnections == null || invocation.getEventHandler() != null) {
+            // the events of a listener are sent over the connection it is registered on
+            return connection;
+        }
+
+        int connectionCount = secondaryConnections.length + 1;
+        int index;
+        if (connectionSelectionStrategy == ROUND_ROBIN) {
+            index = (connectionSelectionSequence.getAndIncrement() & Integer.MAX_VALUE) % connectionCount;
+        } else {
+            int partitionId = invocation.getClientMessage().getPartitionId();
+            index = partitionId < 0 ? 0 : partitionId % connectionCount;
+        }
+
+        ClientConnection selected = index == 0 ? connection : secondaryConnections[index - 1];
+        if (maxInFlightInvocationsPerConnection > 0
+                && selected.getInFlightInvocations().get() >= maxInFlightInvocationsPerConnection) {
+            selected = getLeastLoadedConnection(connection, secondaryConnections);
+        }
+        return selected;
+    }
+
+    private static ClientConnection getLeastLoadedConnection(ClientConnection connection,
+                                                             ClientConnection[] secondaryConnections) {
+        ClientConnection leastLoaded = connection;
+        long minInFlight = connection.getInFlightInvocations().get();
+        for (ClientConnection secondaryConnection : secondaryConnections) {
+            long inFlight = secondaryConnection.getInFlightInvocations().get();
+            if (inFlight < minInFlight) {
+                leastLoaded = secondaryConnection;
+                minInFlight = inFlight;
+            }
+        }
+        return leastLoaded;
+    }
+
     private boolean send(ClientInvocation invocation, ClientConnection connection) {
         if (isShutdown) {
             throw new HazelcastClientNotActiveException();
@@ -240,11 +296,19 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
 
         registerInvocation(invocation, connection);
 
+        boolean countInFlight = maxInFlightInvocationsPerConnection > 0 && !invocation.isBindToSingleConnection();
+        if (countInFlight) {
+            connection.getInFlightInvocations().inc();
+        }
+
         //After this is set, a second thread can notify this invocation
         //Connection could be closed. From this point on, we need to reacquire the permission to notify if needed.
         invocation.setSentConnection(connection);
 
         if (!connection.write(clientMessage)) {
+            if (countInFlight) {
+                connection.getInFlightInvocations().inc(-1);
+            }
             if (invocation.getPermissionToNotifyForDeadConnection(connection)) {
                 IOException exception = new IOException("Packet not sent to " + connection.getRemoteAddress() + " "
                         + clientMessage);
@@ -252,11 +316,31 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
             }
         } else {
             invocation.invoked();
+            hedger.onSent(invocation, connection);
         }
 
         return true;
     }
 
+    ClientInvocationHedger getHedger() {
+        return hedger;
+    }
+
+    /**
+     * Called when the response of a routed invocation is received over
+     * the given connection.
+     */
+    void onResponse(ClientConnection connection, long latencyNanos) {
+        if (connection == null) {
+            return;
+        }
+
+        if (maxInFlightInvocationsPerConnection > 0) {
+            connection.getInFlightInvocations().inc(-1);
+        }
+        hedger.recordLatency(connection, latencyNanos);
+    }
+
     // package-visible for tests
     void registerInvocation(ClientInvocation clientInvocation, ClientConnection connection) {
         ClientMessage clientMessage = clientInvocation.getClientMessage();
@@ -156,7 +156,9 @@ public class ClientResponseHandlerSupplier implements Supplier<Consumer<ClientMe
 
         ClientInvocation invocation = invocationService.getInvocation(correlationId);
         if (invocation == null) {
-            logger.warning("No call for callId: " + correlationId + ", response: " + message);
+            if (!invocationService.getHedger().isLateResponse(correlationId)) {
+                logger.warning("No call for callId: " + correlationId + ", response: " + message);
+            }
             return;
         }
 
@@ -165,6 +167,7 @@ public class ClientResponseHandlerSupplier implements Supplier<Consumer<ClientMe
         } else {
             invocation.notify(message);
         }
+        invocationService.getHedger().onResponseReceived(correlationId);
     }
 
     private ResponseThread nextResponseThread() {
@@ -36,6 +36,7 @@ import com.hazelcast.internal.nio.ConnectionListener;
 import com.hazelcast.internal.util.EmptyStatement;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.UuidUtil;
+import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.executor.SingleExecutorThreadFactory;
 import com.hazelcast.internal.util.executor.StripedExecutor;
 import com.hazelcast.internal.util.executor.StripedRunnable;
@@ -58,11 +59,13 @@ import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_LISTENER_SERVICE_EVENTS_DROPPED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_LISTENER_SERVICE_EVENTS_PROCESSED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_LISTENER_SERVICE_EVENT_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_LISTENERS;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 
 public class ClientListenerServiceImpl
         implements ClientListenerService, StaticMetricsProvider, ConnectionListener<ClientConnection> {
@@ -73,6 +76,8 @@ public class ClientListenerServiceImpl
     private final ILogger logger;
     private final ExecutorService registrationExecutor;
     private final StripedExecutor eventExecutor;
+    @Probe(name = CLIENT_METRIC_LISTENER_SERVICE_EVENTS_DROPPED, level = MANDATORY)
+    private final Counter droppedEvents = newMwCounter();
     private final boolean isUnisocket;
 
     public ClientListenerServiceImpl(HazelcastClientInstanceImpl client) {
@@ -172,6 +177,7 @@ public class ClientListenerServiceImpl
         try {
             eventExecutor.execute(eventProcessor);
         } catch (RejectedExecutionException e) {
+            droppedEvents.inc();
             logger.warning("Event clientMessage could not be handled", e);
         }
     }
@@ -83,6 +83,35 @@ public final class ClientProperty {
     public static final HazelcastProperty INVOCATION_RETRY_PAUSE_MILLIS
             = new HazelcastProperty("hazelcast.client.invocation.retry.pause.millis", 1000, MILLISECONDS);
 
+    /**
+     * Enables hedging of the {@code IMap.get()} and {@code ReplicatedMap.get()}
+     * reads.
+     * <p>
+     * When enabled, if the response of a read is not received within the
+     * latency percentile configured with {@link #INVOCATION_HEDGING_PERCENTILE}
+     * of the member the read is sent to, the same request is sent to another
+     * member too, and the first response is used. It reduces the tail latency
+     * of reads when a member is temporarily slow, e.g., due to a GC pause, at
+     * the cost of additional requests.
+     * <p>
+     * A hedged {@code IMap.get()} is served from a backup replica of the key
+     * if the map has {@link com.hazelcast.config.MapConfig#setReadBackupData
+     * read-backup-data} enabled, and by the partition owner otherwise.
+     * <p>
+     * Hedging is used only for smart clients and only after enough latency
+     * samples are collected for the target member.
+     */
+    public static final HazelcastProperty INVOCATION_HEDGING_ENABLED
+            = new HazelcastProperty("hazelcast.client.invocation.hedging.enabled", false);
+
+    /**
+     * The latency percentile of a member after which an idempotent read sent to
+     * that member is hedged. Used only when {@link #INVOCATION_HEDGING_ENABLED}
+     * is set.
+     */
+    public static final HazelcastProperty INVOCATION_HEDGING_PERCENTILE
+            = new HazelcastProperty("hazelcast.client.invocation.hedging.percentile", 99.0d);
+
     /**
      * The maximum number of concurrent invocations allowed.
      * <p>
@@ -158,6 +187,47 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * Number of connections a smart client opens to each member.
+     * <p>
+     * With a single connection, all the traffic from the client to a member
+     * goes through one socket and is handled by one IO thread pair on each
+     * side. Using more connections spreads the invocations over more
+     * sockets and IO threads, which increases the throughput of heavily
+     * threaded clients. The additional connections are used only for the
+     * invocations which are not bound to a connection, i.e., they are not
+     * used for listener registrations, transactions or SQL cursors.
+     * <p>
+     * Ignored by the unisocket and TPC-aware clients.
+     */
+    public static final HazelcastProperty CONNECTIONS_PER_MEMBER
+            = new HazelcastProperty("hazelcast.client.connections.per.member", 1);
+
+    /**
+     * The strategy for selecting the connection to a member for an
+     * invocation when {@link #CONNECTIONS_PER_MEMBER} is greater than 1.
+     * <ul>
+     * <li>{@code PARTITION_AFFINE}: invocations of a partition always use
+     * the same connection, which preserves the ordering of the invocations
+     * of a partition. Invocations without a partition use the first
+     * connection.</li>
+     * <li>{@code ROUND_ROBIN}: invocations are spread over the connections
+     * in turns.</li>
+     * </ul>
+     */
+    public static final HazelcastProperty CONNECTION_SELECTION_STRATEGY
+            = new HazelcastProperty("hazelcast.client.connection.selection.strategy", "PARTITION_AFFINE");
+
+    /**
+     * Maximum number of in-flight invocations per connection when
+     * {@link #CONNECTIONS_PER_MEMBER} is greater than 1. When the connection
+     * selected for an invocation has reached this limit, the invocation is
+     * sent over the least loaded connection to the same member instead,
+     * even if it breaks the partition affinity. {@code 0} means no limit.
+     */
+    public static final HazelcastProperty MAX_IN_FLIGHT_INVOCATIONS_PER_CONNECTION
+            = new HazelcastProperty("hazelcast.client.connection.max.inflight.invocations", 0);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
@@ -328,6 +398,22 @@ public final class ClientProperty {
     public static final HazelcastProperty PARTITION_ARGUMENT_CACHE_SIZE
             = new HazelcastProperty("hazelcast.client.sql.partition.argument.cache.size", 1024);
 
+    /**
+     * Enables the specialized serializers for the classes serialized with the
+     * zero-config Compact serialization on the client. Such a serializer
+     * accesses the fields of its class through handles generated once per
+     * field, instead of the reflective field access on every
+     * (de)serialization. The classes it cannot access the fields of still use
+     * the reflective serializer.
+     * <p>
+     * The serialized form is the same in both cases, so it can be enabled
+     * independently on the clients and members.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty COMPACT_SPECIALIZED_SERIALIZERS_ENABLED
+            = new HazelcastProperty("hazelcast.compact.serializer.specialized.enabled", false);
+
     private ClientProperty() {
     }
 }
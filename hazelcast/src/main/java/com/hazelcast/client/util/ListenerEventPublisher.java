@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.util;
+
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.spi.annotation.Beta;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * Helper class for consuming listener events at the pace of the consumer.
+ * <p>
+ * The publisher is registered as a listener (for example
+ * {@code map.addEntryListener((EntryAddedListener<K, V>) publisher::offer, true)})
+ * and buffers the received events in a bounded buffer. The events are handed
+ * to the {@link Subscriber} on the given executor, and only as many of them as
+ * the subscriber has requested through its {@link Subscription}. Since
+ * {@link #offer(Object)} never blocks, a slow subscriber does not hold up the
+ * client event threads and the events of the other listeners. When the buffer
+ * is full, the new events are dropped and counted in
+ * {@link #getDroppedEventCount()}.
+ * <p>
+ * The {@link Subscriber} and {@link Subscription} interfaces follow the
+ * contract of {@code java.util.concurrent.Flow}, so they can be adapted to it
+ * with a trivial wrapper. The publisher supports a single subscriber.
+ *
+ * @param <E> type of the events
+ * @since 5.3
+ */
+@Beta
+public final class ListenerEventPublisher<E> {
+
+    private final Executor executor;
+    private final ArrayBlockingQueue<E> buffer;
+    private final AtomicReference<SubscriptionImpl> subscription = new AtomicReference<>();
+    private final AtomicInteger pendingSignals = new AtomicInteger();
+    private final Counter droppedEvents = newMwCounter();
+    private volatile boolean closed;
+
+    /**
+     * Creates a publisher.
+     *
+     * @param executor       the executor to deliver the events to the subscriber on
+     * @param bufferCapacity the maximum number of events which are buffered
+     *                       until the subscriber requests them
+     */
+    public ListenerEventPublisher(@Nonnull Executor executor, int bufferCapacity) {
+        this.executor = checkNotNull(executor, "executor can't be null");
+        this.buffer = new ArrayBlockingQueue<>(checkPositive("bufferCapacity", bufferCapacity));
+    }
+
+    /**
+     * Subscribes the given subscriber to the events of this publisher. If the
+     * publisher already has a subscriber, {@link Subscriber#onError(Throwable)}
+     * is called on the given subscriber with an {@link IllegalStateException}.
+     *
+     * @param subscriber the subscriber
+     */
+    public void subscribe(@Nonnull Subscriber<? super E> subscriber) {
+        checkNotNull(subscriber, "subscriber can't be null");
+        SubscriptionImpl newSubscription = new SubscriptionImpl(subscriber);
+        if (!subscription.compareAndSet(null, newSubscription)) {
+            subscriber.onError(new IllegalStateException("Publisher already has a subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(newSubscription);
+        newSubscription.subscribed = true;
+        signal();
+    }
+
+    /**
+     * Offers an event to the subscriber. The event is dropped if the
+     * publisher is closed or its buffer is full.
+     *
+     * @param event the event
+     * @return {@code true} if the event is buffered, {@code false} if it is dropped
+     */
+    public boolean offer(@Nonnull E event) {
+        checkNotNull(event, "event can't be null");
+        if (closed || !buffer.offer(event)) {
+            droppedEvents.inc();
+            return false;
+        }
+        signal();
+        return true;
+    }
+
+    /**
+     * Closes the publisher. The subscriber receives the already buffered
+     * events followed by {@link Subscriber#onComplete()}.
+     */
+    public void close() {
+        closed = true;
+        signal();
+    }
+
+    /**
+     * Returns the number of events which are buffered until they are
+     * requested by the subscriber.
+     */
+    public int getBufferedEventCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns the number of events dropped since the buffer was full or the
+     * publisher was closed.
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Schedules a delivery run unless one is already scheduled. The signals
+     * which arrive during a run are folded into it.
+     */
+    private void signal() {
+        if (pendingSignals.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            executor.execute(this::deliver);
+        } catch (RejectedExecutionException e) {
+            pendingSignals.set(0);
+            SubscriptionImpl current = subscription.get();
+            if (current != null) {
+                // no delivery run is in progress, so the subscriber is notified here
+                current.reject(e);
+            }
+        }
+    }
+
+    private void deliver() {
+        int signals = pendingSignals.get();
+        do {
+            SubscriptionImpl current = subscription.get();
+            if (current != null) {
+                current.deliver();
+            }
+            signals = pendingSignals.addAndGet(-signals);
+        } while (signals != 0);
+    }
+
+    /**
+     * Receiver of the events of a {@link ListenerEventPublisher}. The
+     * methods are never called concurrently.
+     *
+     * @param <E> type of the events
+     * @since 5.3
+     */
+    @Beta
+    public interface Subscriber<E> {
+
+        /**
+         * Called once, before any other method, with the subscription which
+         * is used to request events.
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next event. Called at most as many times as the
+         * number of requested events.
+         */
+        void onNext(E event);
+
+        /**
+         * Called when the delivery fails, either because the subscriber threw
+         * from {@link #onNext(Object)} or the executor rejected the delivery.
+         * No other method is called afterwards.
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called when the publisher is closed and all buffered events have
+         * been delivered. No other method is called afterwards.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Controls the event flow from the publisher to a {@link Subscriber}.
+     *
+     * @since 5.3
+     */
+    @Beta
+    public interface Subscription {
+
+        /**
+         * Adds the given number of events to the outstanding demand of the
+         * subscriber. Requesting {@link Long#MAX_VALUE} events turns off the
+         * flow control.
+         *
+         * @param n the number of events, must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of events. The buffered events are discarded.
+         */
+        void cancel();
+    }
+
+    private final class SubscriptionImpl implements Subscription {
+
+        private final Subscriber<? super E> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean subscribed;
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+        private volatile boolean terminated;
+
+        SubscriptionImpl(Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested event count must be positive but was " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        void fail(Throwable throwable) {
+            failure = throwable;
+            signal();
+        }
+
+        void reject(RejectedExecutionException e) {
+            if (!terminated) {
+                failure = e;
+                terminate();
+            }
+        }
+
+        void deliver() {
+            if (!subscribed) {
+                // the events are delivered once onSubscribe() returns
+                return;
+            }
+            if (terminated) {
+                buffer.clear();
+                return;
+            }
+            if (cancelled || failure != null || !deliverRequested()) {
+                terminate();
+                return;
+            }
+            if (closed && buffer.isEmpty() && !cancelled) {
+                terminated = true;
+                subscriber.onComplete();
+            }
+        }
+
+        /**
+         * Hands the buffered events to the subscriber up to its demand.
+         *
+         * @return {@code false} if the subscriber failed, {@code true} otherwise
+         */
+        private boolean deliverRequested() {
+            long delivered = 0;
+            long requested = demand.get();
+            E event;
+            while (delivered < requested && !cancelled && (event = buffer.poll()) != null) {
+                try {
+                    subscriber.onNext(event);
+                } catch (Throwable t) {
+                    failure = t;
+                    return false;
+                }
+                delivered++;
+            }
+            if (requested != Long.MAX_VALUE && delivered > 0) {
+                demand.addAndGet(-delivered);
+            }
+            return true;
+        }
+
+        private void terminate() {
+            terminated = true;
+            buffer.clear();
+            if (failure != null && !cancelled) {
+                subscriber.onError(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * The queue of the items of a non-priority {@link QueueContainer}, backed by
+ * a growable ring array.
+ * <p>
+ * Unlike a {@link java.util.LinkedList}, offering and polling an item doesn't
+ * allocate, and the array is grown at most once when adding a collection of
+ * items. The items are kept in the order of their IDs, and an item can be
+ * returned to its position with {@link #insertOrdered(QueueItem)}, e.g. when
+ * a transactional poll is rolled back. Inserting and removing an item shifts
+ * the items between it and the closer end of the queue, so returning an item
+ * to the head of the queue takes constant time.
+ * <p>
+ * The queue is not thread-safe since it is only accessed by the partition
+ * thread.
+ */
+public class ArrayItemQueue extends AbstractQueue<QueueItem> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private QueueItem[] items;
+    private int head;
+    private int size;
+
+    public ArrayItemQueue() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of items the queue can hold before
+     *                        it's grown
+     */
+    public ArrayItemQueue(int initialCapacity) {
+        this.items = new QueueItem[nextPowerOfTwo(Math.max(initialCapacity, 1))];
+    }
+
+    @Override
+    public boolean offer(QueueItem item) {
+        ensureCapacity(size + 1);
+        items[index(size)] = item;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts the given item before the first item with a larger ID.
+     *
+     * @param item the item
+     */
+    public void insertOrdered(QueueItem item) {
+        int position = upperBound(item.getItemId());
+        ensureCapacity(size + 1);
+        if (position < size - position) {
+            // shifts the preceding items towards the head
+            head = (head - 1) & (items.length - 1);
+            for (int i = 0; i < position; i++) {
+                items[index(i)] = items[index(i + 1)];
+            }
+        } else {
+            for (int i = size; i > position; i--) {
+                items[index(i)] = items[index(i - 1)];
+            }
+        }
+        items[index(position)] = item;
+        size++;
+    }
+
+    @Override
+    public QueueItem poll() {
+        if (size == 0) {
+            return null;
+        }
+        QueueItem item = items[head];
+        items[head] = null;
+        head = index(1);
+        size--;
+        return item;
+    }
+
+    @Override
+    public QueueItem peek() {
+        return size == 0 ? null : items[head];
+    }
+
+    /**
+     * Returns the item at the tail of the queue or {@code null} if the queue
+     * is empty.
+     */
+    public QueueItem peekLast() {
+        return size == 0 ? null : items[index(size - 1)];
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends QueueItem> c) {
+        ensureCapacity(size + c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            items[index(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<QueueItem> iterator() {
+        return new ItemIterator();
+    }
+
+    private int index(int position) {
+        return (head + position) & (items.length - 1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= items.length) {
+            return;
+        }
+        QueueItem[] newItems = new QueueItem[nextPowerOfTwo(capacity)];
+        int headLength = Math.min(size, items.length - head);
+        System.arraycopy(items, head, newItems, 0, headLength);
+        System.arraycopy(items, 0, newItems, headLength, size - headLength);
+        items = newItems;
+        head = 0;
+    }
+
+    /**
+     * Returns the position of the first item with an ID larger than the
+     * given one, or the size of the queue if there is no such item.
+     */
+    private int upperBound(long itemId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (items[index(middle)].getItemId() <= itemId) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Removes the item at the given position by shifting the items between
+     * it and the closer end of the queue.
+     */
+    private void removeAt(int position) {
+        if (position < size - 1 - position) {
+            for (int i = position; i > 0; i--) {
+                items[index(i)] = items[index(i - 1)];
+            }
+            items[head] = null;
+            head = index(1);
+        } else {
+            for (int i = position; i < size - 1; i++) {
+                items[index(i)] = items[index(i + 1)];
+            }
+            items[index(size - 1)] = null;
+        }
+        size--;
+    }
+
+    private final class ItemIterator implements Iterator<QueueItem> {
+
+        private int position;
+        private boolean removable;
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public QueueItem next() {
+            if (position >= size) {
+                throw new NoSuchElementException();
+            }
+            removable = true;
+            return items[index(position++)];
+        }
+
+        @Override
+        public void remove() {
+            if (!removable) {
+                throw new IllegalStateException();
+            }
+            removable = false;
+            removeAt(--position);
+        }
+    }
+}
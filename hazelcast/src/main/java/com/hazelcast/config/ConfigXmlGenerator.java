@@ -1000,6 +1000,9 @@ public class ConfigXmlGenerator {
                 .node("uncommitted-entry-count-to-reject-new-appends",
                         raftAlgorithmConfig.getUncommittedEntryCountToRejectNewAppends())
                 .node("append-request-backoff-timeout-in-millis", raftAlgorithmConfig.getAppendRequestBackoffTimeoutInMillis())
+                .node("leader-lease-enabled", raftAlgorithmConfig.isLeaderLeaseEnabled())
+                .node("leader-lease-clock-drift-in-millis", raftAlgorithmConfig.getLeaderLeaseClockDriftInMillis())
+                .node("follower-reads-enabled", raftAlgorithmConfig.isFollowerReadsEnabled())
                 .close();
 
         gen.open("semaphores");
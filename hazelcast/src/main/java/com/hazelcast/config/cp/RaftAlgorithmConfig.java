@@ -65,6 +65,12 @@ public class RaftAlgorithmConfig {
      */
     public static final long DEFAULT_APPEND_REQUEST_BACKOFF_TIMEOUT_IN_MILLIS = 100;
 
+    /**
+     * Default bound on the clock drift between CP members in millis.
+     * See {@link #leaderLeaseClockDriftInMillis}.
+     */
+    public static final long DEFAULT_LEADER_LEASE_CLOCK_DRIFT_IN_MILLIS = 500;
+
 
     /**
      * Leader election timeout in milliseconds. If a candidate cannot win
@@ -141,6 +147,38 @@ public class RaftAlgorithmConfig {
      */
     private long appendRequestBackoffTimeoutInMillis = DEFAULT_APPEND_REQUEST_BACKOFF_TIMEOUT_IN_MILLIS;
 
+    /**
+     * Enables leader leases for linearizable queries. Followers reject votes
+     * for other candidates during the leader election timeout after they hear
+     * from the current leader. Therefore, once a majority acknowledges the
+     * leader in a heartbeat round, no other leader can be elected until the
+     * leader election timeout passes from the start of that round. While this
+     * lease is valid, the leader runs linearizable queries locally without a
+     * round of communication with its followers. Otherwise, concurrent
+     * linearizable queries wait for a single heartbeat round together.
+     * Leases are not used when CP Subsystem Persistence is enabled, since a
+     * restarted follower forgets when it last heard from the leader.
+     */
+    private boolean leaderLeaseEnabled;
+
+    /**
+     * Bound in milliseconds on how much the clocks of CP members can drift
+     * apart during a leader election timeout. The leader lease is shortened by
+     * this amount, so it must be smaller than
+     * {@link #leaderElectionTimeoutInMillis}. Only used if
+     * {@link #leaderLeaseEnabled} is set.
+     */
+    private long leaderLeaseClockDriftInMillis = DEFAULT_LEADER_LEASE_CLOCK_DRIFT_IN_MILLIS;
+
+    /**
+     * Enables follower reads for linearizable queries. When enabled,
+     * linearizable queries can be sent to followers. A follower asks the
+     * leader for its current commit index, waits until it applies the log up
+     * to that index, and runs the query locally. This offloads query execution
+     * from the leader, while the leader only confirms its leadership.
+     */
+    private boolean followerReadsEnabled;
+
     public RaftAlgorithmConfig() {
     }
 
@@ -152,6 +190,9 @@ public class RaftAlgorithmConfig {
         this.uncommittedEntryCountToRejectNewAppends = config.uncommittedEntryCountToRejectNewAppends;
         this.maxMissedLeaderHeartbeatCount = config.maxMissedLeaderHeartbeatCount;
         this.appendRequestBackoffTimeoutInMillis = config.appendRequestBackoffTimeoutInMillis;
+        this.leaderLeaseEnabled = config.leaderLeaseEnabled;
+        this.leaderLeaseClockDriftInMillis = config.leaderLeaseClockDriftInMillis;
+        this.followerReadsEnabled = config.followerReadsEnabled;
     }
 
     public long getLeaderElectionTimeoutInMillis() {
@@ -227,6 +268,34 @@ public class RaftAlgorithmConfig {
         return this;
     }
 
+    public boolean isLeaderLeaseEnabled() {
+        return leaderLeaseEnabled;
+    }
+
+    public RaftAlgorithmConfig setLeaderLeaseEnabled(boolean leaderLeaseEnabled) {
+        this.leaderLeaseEnabled = leaderLeaseEnabled;
+        return this;
+    }
+
+    public long getLeaderLeaseClockDriftInMillis() {
+        return leaderLeaseClockDriftInMillis;
+    }
+
+    public RaftAlgorithmConfig setLeaderLeaseClockDriftInMillis(long leaderLeaseClockDriftInMillis) {
+        checkPositive("leaderLeaseClockDriftInMillis", leaderLeaseClockDriftInMillis);
+        this.leaderLeaseClockDriftInMillis = leaderLeaseClockDriftInMillis;
+        return this;
+    }
+
+    public boolean isFollowerReadsEnabled() {
+        return followerReadsEnabled;
+    }
+
+    public RaftAlgorithmConfig setFollowerReadsEnabled(boolean followerReadsEnabled) {
+        this.followerReadsEnabled = followerReadsEnabled;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "RaftAlgorithmConfig{" + "leaderElectionTimeoutInMillis=" + leaderElectionTimeoutInMillis
@@ -234,10 +303,14 @@ public class RaftAlgorithmConfig {
                 + maxMissedLeaderHeartbeatCount + ", appendRequestMaxEntryCount=" + appendRequestMaxEntryCount
                 + ", commitIndexAdvanceCountToSnapshot=" + commitIndexAdvanceCountToSnapshot
                 + ", uncommittedEntryCountToRejectNewAppends=" + uncommittedEntryCountToRejectNewAppends
-                + ", appendRequestBackoffTimeoutInMillis=" + appendRequestBackoffTimeoutInMillis + '}';
+                + ", appendRequestBackoffTimeoutInMillis=" + appendRequestBackoffTimeoutInMillis
+                + ", leaderLeaseEnabled=" + leaderLeaseEnabled
+                + ", leaderLeaseClockDriftInMillis=" + leaderLeaseClockDriftInMillis
+                + ", followerReadsEnabled=" + followerReadsEnabled + '}';
     }
 
     @Override
+    @SuppressWarnings("checkstyle:cyclomaticcomplexity")
     public boolean equals(Object o) {
         if (this == o) {
             return true;
@@ -252,13 +325,17 @@ public class RaftAlgorithmConfig {
                 && appendRequestMaxEntryCount == that.appendRequestMaxEntryCount
                 && commitIndexAdvanceCountToSnapshot == that.commitIndexAdvanceCountToSnapshot
                 && uncommittedEntryCountToRejectNewAppends == that.uncommittedEntryCountToRejectNewAppends
-                && appendRequestBackoffTimeoutInMillis == that.appendRequestBackoffTimeoutInMillis;
+                && appendRequestBackoffTimeoutInMillis == that.appendRequestBackoffTimeoutInMillis
+                && leaderLeaseEnabled == that.leaderLeaseEnabled
+                && leaderLeaseClockDriftInMillis == that.leaderLeaseClockDriftInMillis
+                && followerReadsEnabled == that.followerReadsEnabled;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(leaderElectionTimeoutInMillis, leaderHeartbeatPeriodInMillis, maxMissedLeaderHeartbeatCount,
                 appendRequestMaxEntryCount, commitIndexAdvanceCountToSnapshot, uncommittedEntryCountToRejectNewAppends,
-                appendRequestBackoffTimeoutInMillis);
+                appendRequestBackoffTimeoutInMillis, leaderLeaseEnabled, leaderLeaseClockDriftInMillis,
+                followerReadsEnabled);
     }
 }
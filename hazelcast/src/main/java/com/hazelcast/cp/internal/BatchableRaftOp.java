@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal;
+
+import com.hazelcast.cp.internal.raftop.BatchRaftOp;
+
+/**
+ * Implemented by {@link RaftOp}s which can be committed together with other
+ * {@link RaftOp}s of the same Raft group in a single Raft log entry via
+ * {@link BatchRaftOp}. A batchable {@link RaftOp} must produce its result
+ * while it is running, i.e., it must not postpone its response.
+ */
+public interface BatchableRaftOp {
+
+    /**
+     * Returns true if this operation can be committed in a batch with other
+     * operations of the same Raft group.
+     */
+    boolean isBatchable();
+
+}
@@ -25,6 +25,8 @@ import com.hazelcast.cp.internal.operation.integration.AsyncRaftOp;
 import com.hazelcast.cp.internal.operation.integration.InstallSnapshotOp;
 import com.hazelcast.cp.internal.operation.integration.PreVoteRequestOp;
 import com.hazelcast.cp.internal.operation.integration.PreVoteResponseOp;
+import com.hazelcast.cp.internal.operation.integration.ReadIndexRequestOp;
+import com.hazelcast.cp.internal.operation.integration.ReadIndexResponseOp;
 import com.hazelcast.cp.internal.operation.integration.TriggerLeaderElectionOp;
 import com.hazelcast.cp.internal.operation.integration.VoteRequestOp;
 import com.hazelcast.cp.internal.operation.integration.VoteResponseOp;
@@ -38,6 +40,8 @@ import com.hazelcast.cp.internal.raft.impl.dto.AppendSuccessResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.InstallSnapshot;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteResponse;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.TriggerLeaderElection;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteResponse;
@@ -69,7 +73,7 @@ import static com.hazelcast.cp.internal.raft.impl.RaftNodeStatus.TERMINATED;
  * Hazelcast system. Replicates Raft RPCs via Hazelcast operations and executes
  * committed Raft operations.
  */
-@SuppressWarnings("checkstyle:classfanoutcomplexity")
+@SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:classdataabstractioncoupling"})
 final class NodeEngineRaftIntegration implements RaftIntegration {
 
     /**
@@ -86,6 +90,7 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
     private final Address localAddress;
     private final OperationServiceImpl operationService;
     private final RaftInvocationManager invocationManager;
+    private final RaftRpcCoalescer rpcCoalescer;
     private final TaskScheduler taskScheduler;
     private final int partitionId;
     private final int threadId;
@@ -97,7 +102,9 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
         this.localCPMember = localCPMember;
         this.localAddress = nodeEngine.getThisAddress();
         this.operationService = nodeEngine.getOperationService();
-        this.invocationManager = ((RaftService) nodeEngine.getService(RaftService.SERVICE_NAME)).getInvocationManager();
+        RaftService raftService = nodeEngine.getService(RaftService.SERVICE_NAME);
+        this.invocationManager = raftService.getInvocationManager();
+        this.rpcCoalescer = raftService.getRpcCoalescer();
         this.partitionId = partitionId;
         OperationExecutor operationExecutor = operationService.getOperationExecutor();
         this.threadId = operationExecutor.toPartitionThreadIndex(partitionId);
@@ -211,6 +218,16 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
         return send(new TriggerLeaderElectionOp(groupId, request), target);
     }
 
+    @Override
+    public boolean send(ReadIndexRequest request, RaftEndpoint target) {
+        return send(new ReadIndexRequestOp(groupId, request), target);
+    }
+
+    @Override
+    public boolean send(ReadIndexResponse response, RaftEndpoint target) {
+        return send(new ReadIndexResponseOp(groupId, response), target);
+    }
+
     @Override
     public Object runOperation(Object op, long commitIndex) {
         RaftOp operation = (RaftOp) op;
@@ -265,7 +282,7 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
         }
 
         operation.setTargetEndpoint(target).setPartitionId(partitionId);
-        return operationService.send(operation, targetMember.getAddress());
+        return rpcCoalescer.send(operation, targetMember.getAddress());
     }
 
     @Override
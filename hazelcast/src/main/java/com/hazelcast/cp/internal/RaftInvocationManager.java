@@ -79,7 +79,9 @@ public class RaftInvocationManager {
     private final int invocationMaxRetryCount;
     private final long invocationRetryPauseMillis;
     private final boolean cpSubsystemEnabled;
+    private final boolean followerReadsEnabled;
     private final Executor internalAsyncExecutor;
+    private final RaftOpBatcher opBatcher;
 
     RaftInvocationManager(NodeEngine nodeEngine, RaftService raftService) {
         this.nodeEngine = (NodeEngineImpl) nodeEngine;
@@ -91,11 +93,15 @@ public class RaftInvocationManager {
         this.invocationRetryPauseMillis = nodeEngine.getProperties().getMillis(ClusterProperty.INVOCATION_RETRY_PAUSE);
         this.operationCallTimeout = nodeEngine.getProperties().getMillis(ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS);
         this.cpSubsystemEnabled = raftService.isCpSubsystemEnabled();
+        this.followerReadsEnabled = raftService.getConfig().getRaftAlgorithmConfig().isFollowerReadsEnabled();
         this.internalAsyncExecutor = nodeEngine.getExecutionService().getExecutor(ExecutionService.ASYNC_EXECUTOR);
+        this.opBatcher = new RaftOpBatcher(this, nodeEngine.getSerializationService(), internalAsyncExecutor,
+                nodeEngine.getProperties());
     }
 
     void reset() {
         raftInvocationContext.reset();
+        opBatcher.reset();
     }
 
     public InternalCompletableFuture<RaftGroupId> createRaftGroup(String groupName) {
@@ -223,15 +229,22 @@ public class RaftInvocationManager {
 
     public <T> InternalCompletableFuture<T> invoke(CPGroupId groupId, RaftOp raftOp, boolean deserializeResponse) {
         if (cpSubsystemEnabled) {
-            Operation operation = new DefaultRaftReplicateOp(groupId, raftOp);
-            Invocation invocation =
-                    new RaftInvocation(operationService.getInvocationContext(), raftInvocationContext, groupId, operation,
-                            invocationMaxRetryCount, invocationRetryPauseMillis, operationCallTimeout, deserializeResponse);
-            return invocation.invoke();
+            if (opBatcher.isBatchable(raftOp)) {
+                return opBatcher.invoke(groupId, raftOp, deserializeResponse);
+            }
+            return replicate(groupId, raftOp, deserializeResponse);
         }
         return invokeOnPartition(new UnsafeRaftReplicateOp(groupId, raftOp), deserializeResponse);
     }
 
+    <T> InternalCompletableFuture<T> replicate(CPGroupId groupId, RaftOp raftOp, boolean deserializeResponse) {
+        Operation operation = new DefaultRaftReplicateOp(groupId, raftOp);
+        Invocation invocation =
+                new RaftInvocation(operationService.getInvocationContext(), raftInvocationContext, groupId, operation,
+                        invocationMaxRetryCount, invocationRetryPauseMillis, operationCallTimeout, deserializeResponse);
+        return invocation.invoke();
+    }
+
     public <T> InternalCompletableFuture<T> invokeOnPartition(AbstractUnsafeRaftOp operation) {
         return invokeOnPartition(operation, DEFAULT_DESERIALIZE_RESULT);
     }
@@ -253,9 +266,11 @@ public class RaftInvocationManager {
             boolean deserializeResponse) {
         if (cpSubsystemEnabled) {
             RaftQueryOp operation = new RaftQueryOp(groupId, raftOp, queryPolicy);
+            // a linearizable query is first tried on the local Raft node even if it is a follower
+            boolean followerRead = followerReadsEnabled && queryPolicy == LINEARIZABLE;
             Invocation invocation = new RaftInvocation(operationService.getInvocationContext(), raftInvocationContext,
                     groupId, operation, invocationMaxRetryCount, invocationRetryPauseMillis,
-                    operationCallTimeout, deserializeResponse);
+                    operationCallTimeout, deserializeResponse, followerRead);
             return invocation.invoke();
         }
         return invokeOnPartition(new UnsafeRaftQueryOp(groupId, raftOp), deserializeResponse);
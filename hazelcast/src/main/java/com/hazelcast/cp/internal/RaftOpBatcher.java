@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal;
+
+import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.exception.CPGroupDestroyedException;
+import com.hazelcast.cp.internal.raftop.BatchRaftOp;
+import com.hazelcast.cp.internal.raftop.BatchRaftOpResults;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.ConstructorFunction;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutIfAbsent;
+
+/**
+ * Batches concurrent {@link BatchableRaftOp}s invoked on the same Raft group
+ * into a single {@link BatchRaftOp}, hence a single Raft log entry.
+ * <p>
+ * There are at most {@link #RAFT_OP_BATCH_MAX_IN_FLIGHT} in-flight
+ * invocations per Raft group. While they are being committed, new
+ * operations of the Raft group are queued and sent together once one of
+ * them completes. Therefore, an operation is sent without any delay while
+ * there are free in-flight slots, and the number of operations committed
+ * with a single Raft log entry grows with the concurrency of the callers, up
+ * to the configured maximum batch size. Results of the committed operations
+ * are delivered to their callers individually, deserialized only if their
+ * callers requested so.
+ * <p>
+ * The batch of a Raft group is removed once the Raft group is destroyed.
+ */
+class RaftOpBatcher {
+
+    /**
+     * Maximum number of {@link BatchableRaftOp}s committed in a single Raft
+     * log entry. Batching is disabled if it is less than 2.
+     */
+    public static final HazelcastProperty RAFT_OP_BATCH_MAX_SIZE
+            = new HazelcastProperty("hazelcast.raft.op.batch.max.size", 0);
+
+    /**
+     * Maximum number of batches of a Raft group being committed at the same
+     * time. Allowing more than one keeps the Raft pipeline busy while a batch
+     * waits for its commit.
+     */
+    public static final HazelcastProperty RAFT_OP_BATCH_MAX_IN_FLIGHT
+            = new HazelcastProperty("hazelcast.raft.op.batch.max.in.flight", 4);
+
+    private final RaftInvocationManager invocationManager;
+    private final SerializationService serializationService;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final int maxInFlightBatches;
+    private final ConcurrentMap<CPGroupId, GroupBatch> batches = new ConcurrentHashMap<>();
+    private final ConstructorFunction<CPGroupId, GroupBatch> batchConstructor = GroupBatch::new;
+
+    RaftOpBatcher(RaftInvocationManager invocationManager, SerializationService serializationService, Executor executor,
+                  HazelcastProperties properties) {
+        this.invocationManager = invocationManager;
+        this.serializationService = serializationService;
+        this.executor = executor;
+        this.maxBatchSize = properties.getInteger(RAFT_OP_BATCH_MAX_SIZE);
+        this.maxInFlightBatches = Math.max(1, properties.getInteger(RAFT_OP_BATCH_MAX_IN_FLIGHT));
+    }
+
+    boolean isEnabled() {
+        return maxBatchSize > 1;
+    }
+
+    boolean isBatchable(RaftOp op) {
+        return isEnabled() && op instanceof BatchableRaftOp && ((BatchableRaftOp) op).isBatchable();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> InternalCompletableFuture<T> invoke(CPGroupId groupId, RaftOp op, boolean deserializeResponse) {
+        GroupBatch batch = getOrPutIfAbsent(batches, groupId, batchConstructor);
+        return (InternalCompletableFuture<T>) batch.add(new PendingOp(op, deserializeResponse));
+    }
+
+    void reset() {
+        batches.clear();
+    }
+
+    private final class PendingOp {
+        final RaftOp op;
+        final boolean deserializeResponse;
+        final InternalCompletableFuture<Object> future = new InternalCompletableFuture<>();
+
+        PendingOp(RaftOp op, boolean deserializeResponse) {
+            this.op = op;
+            this.deserializeResponse = deserializeResponse;
+        }
+
+        void complete(Object result, Throwable throwable) {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else if (result instanceof Throwable) {
+                future.completeExceptionally((Throwable) result);
+            } else {
+                future.complete(deserializeResponse ? serializationService.toObject(result) : result);
+            }
+        }
+
+        void complete(BatchRaftOpResults results, int index) {
+            Data result = results.getResult(index);
+            if (results.isFailure(index)) {
+                future.completeExceptionally(serializationService.toObject(result));
+            } else {
+                future.complete(deserializeResponse ? serializationService.toObject(result) : result);
+            }
+        }
+    }
+
+    private final class GroupBatch {
+        final CPGroupId groupId;
+        // guarded by this
+        final Queue<PendingOp> pendingOps = new ArrayDeque<>();
+        // guarded by this
+        int inFlightBatches;
+
+        GroupBatch(CPGroupId groupId) {
+            this.groupId = groupId;
+        }
+
+        InternalCompletableFuture<Object> add(PendingOp pendingOp) {
+            boolean send;
+            synchronized (this) {
+                pendingOps.offer(pendingOp);
+                send = inFlightBatches < maxInFlightBatches;
+                if (send) {
+                    inFlightBatches++;
+                }
+            }
+
+            if (send) {
+                sendNext();
+            }
+
+            return pendingOp.future;
+        }
+
+        /**
+         * Sends the next batch in the in-flight slot held by the caller, or
+         * releases the slot if there are no pending operations.
+         */
+        void sendNext() {
+            while (true) {
+                List<PendingOp> batch = pollBatch();
+                if (batch == null) {
+                    return;
+                }
+
+                try {
+                    send(batch);
+                    return;
+                } catch (Throwable t) {
+                    for (PendingOp pendingOp : batch) {
+                        pendingOp.complete(null, t);
+                    }
+                }
+            }
+        }
+
+        private synchronized List<PendingOp> pollBatch() {
+            if (pendingOps.isEmpty()) {
+                inFlightBatches--;
+                return null;
+            }
+
+            List<PendingOp> batch = new ArrayList<>(Math.min(pendingOps.size(), maxBatchSize));
+            while (batch.size() < maxBatchSize && !pendingOps.isEmpty()) {
+                batch.add(pendingOps.poll());
+            }
+
+            return batch;
+        }
+
+        private void send(List<PendingOp> batch) {
+            if (batch.size() == 1) {
+                PendingOp pendingOp = batch.get(0);
+                invocationManager.replicate(groupId, pendingOp.op, pendingOp.deserializeResponse)
+                                 .whenCompleteAsync((result, throwable) -> {
+                                     pendingOp.complete(result, throwable);
+                                     onComplete(throwable);
+                                 }, executor);
+                return;
+            }
+
+            List<RaftOp> ops = new ArrayList<>(batch.size());
+            for (PendingOp pendingOp : batch) {
+                ops.add(pendingOp.op);
+            }
+
+            // the results are deserialized individually, as their callers requested
+            invocationManager.<BatchRaftOpResults>replicate(groupId, new BatchRaftOp(ops), true)
+                             .whenCompleteAsync((results, throwable) -> {
+                                 for (int i = 0; i < batch.size(); i++) {
+                                     if (throwable != null) {
+                                         batch.get(i).complete(null, throwable);
+                                     } else {
+                                         batch.get(i).complete(results, i);
+                                     }
+                                 }
+                                 onComplete(throwable);
+                             }, executor);
+        }
+
+        private void onComplete(Throwable throwable) {
+            if (throwable instanceof CPGroupDestroyedException) {
+                batches.remove(groupId, this);
+            }
+            sendNext();
+        }
+    }
+}
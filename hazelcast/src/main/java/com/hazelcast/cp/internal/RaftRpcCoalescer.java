@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cp.internal.operation.integration.AsyncRaftOp;
+import com.hazelcast.cp.internal.operation.integration.RaftRpcBatchOp;
+import com.hazelcast.internal.util.ConstructorFunction;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutIfAbsent;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Coalesces Raft RPCs (heartbeats, append requests and responses, votes etc.)
+ * of all Raft groups running on the local CP member that are destined for
+ * the same CP member. Instead of sending a packet per Raft group per RPC,
+ * RPCs are collected for a short period and sent as a single
+ * {@link RaftRpcBatchOp}. It reduces the number of packets when there are
+ * many CP groups sharing the same CP members.
+ * <p>
+ * The RPCs of a Raft group sent to the same member are executed in the
+ * order they are sent: the batches are sent one at a time, even a single
+ * RPC is sent in a batch, and all batches sent by this member run on the
+ * same partition thread of the target member, which hands the RPCs over to
+ * the partition threads of their groups in order. Coalescing is disabled
+ * when {@link ClusterProperty#RAFT_RPC_COALESCING_DELAY_MILLIS} is 0, which
+ * is the default.
+ */
+class RaftRpcCoalescer {
+
+    static final int MAX_BATCH_SIZE = 256;
+
+    private final NodeEngineImpl nodeEngine;
+    private final OperationServiceImpl operationService;
+    private final TaskScheduler taskScheduler;
+    private final long delayMillis;
+    private final ConcurrentMap<Address, Batch> batches = new ConcurrentHashMap<>();
+    private final ConstructorFunction<Address, Batch> batchConstructor = Batch::new;
+
+    RaftRpcCoalescer(NodeEngineImpl nodeEngine) {
+        this.nodeEngine = nodeEngine;
+        this.operationService = nodeEngine.getOperationService();
+        this.taskScheduler = nodeEngine.getExecutionService().getGlobalTaskScheduler();
+        this.delayMillis = Math.max(0, nodeEngine.getProperties().getMillis(ClusterProperty.RAFT_RPC_COALESCING_DELAY_MILLIS));
+    }
+
+    boolean isEnabled() {
+        return delayMillis > 0;
+    }
+
+    boolean send(AsyncRaftOp operation, Address target) {
+        if (!isEnabled()) {
+            return operationService.send(operation, target);
+        }
+
+        Batch batch = getOrPutIfAbsent(batches, target, batchConstructor);
+        batch.operations.offer(operation);
+        if (batch.scheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(batch, delayMillis, MILLISECONDS);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the batch of the given member, which has left the cluster.
+     * RPCs already added to the batch are still sent.
+     */
+    void memberRemoved(Address address) {
+        batches.remove(address);
+    }
+
+    private final class Batch implements Runnable {
+
+        final Address target;
+        final Queue<AsyncRaftOp> operations = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        /**
+         * The partition whose thread runs the batches on the target member.
+         * It is the partition of the local member's address, so the batches
+         * of different members are spread across the partition threads.
+         */
+        final int partitionId;
+
+        Batch(Address target) {
+            this.target = target;
+            this.partitionId = nodeEngine.getPartitionService().getPartitionId(nodeEngine.getThisAddress());
+        }
+
+        @Override
+        public void run() {
+            // the batch may be scheduled again while it's sent, the runs
+            // are serialized so that the chunks are sent in order
+            synchronized (this) {
+                scheduled.set(false);
+
+                List<AsyncRaftOp> chunk = new ArrayList<>();
+                AsyncRaftOp operation;
+                while ((operation = operations.poll()) != null) {
+                    chunk.add(operation);
+                    if (chunk.size() == MAX_BATCH_SIZE) {
+                        flush(chunk);
+                        chunk = new ArrayList<>();
+                    }
+                }
+
+                if (!chunk.isEmpty()) {
+                    flush(chunk);
+                }
+            }
+        }
+
+        private void flush(List<AsyncRaftOp> chunk) {
+            // a single RPC is batched too, sending it directly to the
+            // partition thread of its group could overtake a previous batch
+            RaftRpcBatchOp batchOp = new RaftRpcBatchOp(chunk);
+            batchOp.setPartitionId(partitionId);
+            operationService.send(batchOp, target);
+        }
+    }
+}
@@ -48,6 +48,8 @@ import com.hazelcast.cp.internal.raft.impl.dto.AppendSuccessResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.InstallSnapshot;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteResponse;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.TriggerLeaderElection;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteResponse;
@@ -185,6 +187,7 @@ public class RaftService implements ManagedService, SnapshotAwareService<Metadat
     private final Set<CPGroupId> terminatedRaftNodeGroupIds = newSetFromMap(new ConcurrentHashMap<>());
     private final CPSubsystemConfig config;
     private final RaftInvocationManager invocationManager;
+    private final RaftRpcCoalescer rpcCoalescer;
     private final MetadataRaftGroupManager metadataGroupManager;
     @Probe(name = CP_METRIC_RAFT_SERVICE_MISSING_MEMBERS)
     private final ConcurrentMap<CPMemberInfo, Long> missingMembers = new ConcurrentHashMap<>();
@@ -203,6 +206,7 @@ public class RaftService implements ManagedService, SnapshotAwareService<Metadat
         checkCPSubsystemConfig(config);
         this.cpSubsystemEnabled = config.getCPMemberCount() > 0;
         this.invocationManager = new RaftInvocationManager(nodeEngine, this);
+        this.rpcCoalescer = new RaftRpcCoalescer(this.nodeEngine);
         this.metadataGroupManager = new MetadataRaftGroupManager(this.nodeEngine, this, config);
         this.cpMemberPriority = config.getCPMemberPriority();
         this.internalAsyncExecutor = nodeEngine.getExecutionService().getExecutor(ExecutionService.ASYNC_EXECUTOR);
@@ -216,11 +220,15 @@ public class RaftService implements ManagedService, SnapshotAwareService<Metadat
             }
         }
 
-        MetricsRegistry metricsRegistry = this.nodeEngine.getMetricsRegistry();
+        registerMetrics();
+        this.metricsPeriod = nodeEngine.getProperties().getInteger(MetricsPlugin.PERIOD_SECONDS);
+    }
+
+    private void registerMetrics() {
+        MetricsRegistry metricsRegistry = nodeEngine.getMetricsRegistry();
         metricsRegistry.registerStaticMetrics(this, CP_PREFIX_RAFT);
         metricsRegistry.registerStaticMetrics(metadataGroupManager, CP_PREFIX_RAFT_METADATA);
         metricsRegistry.registerDynamicMetricsProvider(this);
-        this.metricsPeriod = nodeEngine.getProperties().getInteger(MetricsPlugin.PERIOD_SECONDS);
     }
 
     @Override
@@ -590,6 +598,7 @@ public class RaftService implements ManagedService, SnapshotAwareService<Metadat
 
     @Override
     public void memberRemoved(MembershipServiceEvent event) {
+        rpcCoalescer.memberRemoved(event.getMember().getAddress());
         publishGroupAvailabilityEvents(event.getMember());
         updateMissingMembers();
     }
@@ -679,6 +688,10 @@ public class RaftService implements ManagedService, SnapshotAwareService<Metadat
         return invocationManager;
     }
 
+    RaftRpcCoalescer getRpcCoalescer() {
+        return rpcCoalescer;
+    }
+
     public void handlePreVoteRequest(CPGroupId groupId, PreVoteRequest request, RaftEndpoint target) {
         RaftNode node = getOrInitRaftNodeIfTargetLocalCPMember(groupId, request, target);
         if (node != null) {
@@ -744,6 +757,20 @@ public class RaftService implements ManagedService, SnapshotAwareService<Metadat
         }
     }
 
+    public void handleReadIndexRequest(CPGroupId groupId, ReadIndexRequest request, RaftEndpoint target) {
+        RaftNode node = getOrInitRaftNodeIfTargetLocalCPMember(groupId, request, target);
+        if (node != null) {
+            node.handleReadIndexRequest(request);
+        }
+    }
+
+    public void handleReadIndexResponse(CPGroupId groupId, ReadIndexResponse response, RaftEndpoint target) {
+        RaftNode node = getOrInitRaftNodeIfTargetLocalCPMember(groupId, response, target);
+        if (node != null) {
+            node.handleReadIndexResponse(response);
+        }
+    }
+
     public Collection<RaftNode> getAllRaftNodes() {
         return new ArrayList<>(nodes.values());
     }
@@ -34,10 +34,15 @@ import com.hazelcast.cp.internal.operation.integration.AppendSuccessResponseOp;
 import com.hazelcast.cp.internal.operation.integration.InstallSnapshotOp;
 import com.hazelcast.cp.internal.operation.integration.PreVoteRequestOp;
 import com.hazelcast.cp.internal.operation.integration.PreVoteResponseOp;
+import com.hazelcast.cp.internal.operation.integration.RaftRpcBatchOp;
+import com.hazelcast.cp.internal.operation.integration.ReadIndexRequestOp;
+import com.hazelcast.cp.internal.operation.integration.ReadIndexResponseOp;
 import com.hazelcast.cp.internal.operation.integration.TriggerLeaderElectionOp;
 import com.hazelcast.cp.internal.operation.integration.VoteRequestOp;
 import com.hazelcast.cp.internal.operation.integration.VoteResponseOp;
 import com.hazelcast.cp.internal.operation.unsafe.UnsafeStateReplicationOp;
+import com.hazelcast.cp.internal.raftop.BatchRaftOp;
+import com.hazelcast.cp.internal.raftop.BatchRaftOpResults;
 import com.hazelcast.cp.internal.raftop.GetInitialRaftGroupMembersIfCurrentGroupMemberOp;
 import com.hazelcast.cp.internal.raftop.NotifyTermChangeOp;
 import com.hazelcast.cp.internal.raftop.metadata.AddCPMemberOp;
@@ -124,6 +129,11 @@ public final class RaftServiceDataSerializerHook implements DataSerializerHook {
     public static final int TRIGGER_LEADER_ELECTION_OP = 50;
     public static final int UNSAFE_MODE_PARTITION_STATE = 51;
     public static final int UNSAFE_STATE_REPLICATE_OP = 52;
+    public static final int READ_INDEX_REQUEST_OP = 53;
+    public static final int READ_INDEX_RESPONSE_OP = 54;
+    public static final int RAFT_RPC_BATCH_OP = 55;
+    public static final int BATCH_RAFT_OP = 56;
+    public static final int BATCH_RAFT_OP_RESULTS = 57;
 
     @Override
     public int getFactoryId() {
@@ -238,6 +248,16 @@ public final class RaftServiceDataSerializerHook implements DataSerializerHook {
                     return new UnsafeModePartitionState();
                 case UNSAFE_STATE_REPLICATE_OP:
                     return new UnsafeStateReplicationOp();
+                case READ_INDEX_REQUEST_OP:
+                    return new ReadIndexRequestOp();
+                case READ_INDEX_RESPONSE_OP:
+                    return new ReadIndexResponseOp();
+                case RAFT_RPC_BATCH_OP:
+                    return new RaftRpcBatchOp();
+                case BATCH_RAFT_OP:
+                    return new BatchRaftOp();
+                case BATCH_RAFT_OP_RESULTS:
+                    return new BatchRaftOpResults();
                 default:
                     throw new IllegalArgumentException("Undefined type: " + typeId);
             }
@@ -20,6 +20,7 @@ import com.hazelcast.cp.IAtomicLong;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.internal.BatchableRaftOp;
 import com.hazelcast.cp.internal.IndeterminateOperationStateAware;
 import com.hazelcast.cp.internal.datastructures.atomiclong.AtomicLongDataSerializerHook;
 import com.hazelcast.cp.internal.datastructures.atomiclong.AtomicLong;
@@ -29,7 +30,7 @@ import java.io.IOException;
 /**
  * Operation for {@link IAtomicLong#addAndGet(long)}
  */
-public class AddAndGetOp extends AbstractAtomicLongOp implements IndeterminateOperationStateAware {
+public class AddAndGetOp extends AbstractAtomicLongOp implements IndeterminateOperationStateAware, BatchableRaftOp {
 
     private long delta;
 
@@ -52,6 +53,11 @@ public class AddAndGetOp extends AbstractAtomicLongOp implements IndeterminateOp
         return delta == 0;
     }
 
+    @Override
+    public boolean isBatchable() {
+        return true;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         super.writeData(out);
@@ -20,6 +20,7 @@ import com.hazelcast.cp.IAtomicLong;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.internal.BatchableRaftOp;
 import com.hazelcast.cp.internal.IndeterminateOperationStateAware;
 import com.hazelcast.cp.internal.datastructures.atomiclong.AtomicLongDataSerializerHook;
 import com.hazelcast.cp.internal.datastructures.atomiclong.AtomicLong;
@@ -30,7 +31,7 @@ import java.io.IOException;
  * Operation for {@link IAtomicLong#getAndAdd(long)} (long, long)}
  * and {@link IAtomicLong#get()}
  */
-public class GetAndAddOp extends AbstractAtomicLongOp implements IndeterminateOperationStateAware {
+public class GetAndAddOp extends AbstractAtomicLongOp implements IndeterminateOperationStateAware, BatchableRaftOp {
 
     private long delta;
 
@@ -53,6 +54,11 @@ public class GetAndAddOp extends AbstractAtomicLongOp implements IndeterminateOp
         return delta == 0;
     }
 
+    @Override
+    public boolean isBatchable() {
+        return true;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         super.writeData(out);
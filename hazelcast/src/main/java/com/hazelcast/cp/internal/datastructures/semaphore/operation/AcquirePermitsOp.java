@@ -18,6 +18,7 @@ package com.hazelcast.cp.internal.datastructures.semaphore.operation;
 
 import com.hazelcast.cp.CPGroupId;
 import com.hazelcast.cp.ISemaphore;
+import com.hazelcast.cp.internal.BatchableRaftOp;
 import com.hazelcast.cp.internal.CallerAware;
 import com.hazelcast.cp.internal.IndeterminateOperationStateAware;
 import com.hazelcast.cp.internal.datastructures.semaphore.AcquireInvocationKey;
@@ -42,7 +43,8 @@ import static com.hazelcast.cp.internal.session.AbstractProxySessionManager.NO_S
  *
  * @see Semaphore#acquire(AcquireInvocationKey, boolean)
  */
-public class AcquirePermitsOp extends AbstractSemaphoreOp implements CallerAware, IndeterminateOperationStateAware {
+public class AcquirePermitsOp extends AbstractSemaphoreOp implements CallerAware, IndeterminateOperationStateAware,
+                                                                    BatchableRaftOp {
 
     private int permits;
     private long timeoutMs;
@@ -83,6 +85,15 @@ public class AcquirePermitsOp extends AbstractSemaphoreOp implements CallerAware
         return sessionId != NO_SESSION_ID;
     }
 
+    /**
+     * Only non-blocking acquires are batched because a blocking acquire
+     * may postpone its response.
+     */
+    @Override
+    public boolean isBatchable() {
+        return timeoutMs == 0;
+    }
+
     @Override
     public int getClassId() {
         return SemaphoreDataSerializerHook.ACQUIRE_PERMITS_OP;
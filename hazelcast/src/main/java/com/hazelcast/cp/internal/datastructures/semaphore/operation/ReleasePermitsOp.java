@@ -18,6 +18,7 @@ package com.hazelcast.cp.internal.datastructures.semaphore.operation;
 
 import com.hazelcast.cp.ISemaphore;
 import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.internal.BatchableRaftOp;
 import com.hazelcast.cp.internal.IndeterminateOperationStateAware;
 import com.hazelcast.cp.internal.datastructures.semaphore.Semaphore;
 import com.hazelcast.cp.internal.datastructures.semaphore.SemaphoreDataSerializerHook;
@@ -35,7 +36,7 @@ import static com.hazelcast.cp.internal.session.AbstractProxySessionManager.NO_S
  *
  * @see Semaphore#release(long, long, UUID, int)
  */
-public class ReleasePermitsOp extends AbstractSemaphoreOp implements IndeterminateOperationStateAware {
+public class ReleasePermitsOp extends AbstractSemaphoreOp implements IndeterminateOperationStateAware, BatchableRaftOp {
 
     private int permits;
 
@@ -59,6 +60,11 @@ public class ReleasePermitsOp extends AbstractSemaphoreOp implements Indetermina
         return sessionId != NO_SESSION_ID;
     }
 
+    @Override
+    public boolean isBatchable() {
+        return true;
+    }
+
     @Override
     public int getClassId() {
         return SemaphoreDataSerializerHook.RELEASE_PERMITS_OP;
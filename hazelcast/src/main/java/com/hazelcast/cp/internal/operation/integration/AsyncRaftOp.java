@@ -44,6 +44,10 @@ public abstract class AsyncRaftOp extends Operation implements IdentifiedDataSer
         this.groupId = groupId;
     }
 
+    public CPGroupId getGroupId() {
+        return groupId;
+    }
+
     public final Operation setTargetEndpoint(RaftEndpoint target) {
         this.target = target;
         return this;
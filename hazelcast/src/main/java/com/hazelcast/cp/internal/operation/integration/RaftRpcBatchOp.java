@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal.operation.integration;
+
+import com.hazelcast.cp.internal.RaftService;
+import com.hazelcast.cp.internal.RaftServiceDataSerializerHook;
+import com.hazelcast.cp.internal.RaftSystemOperation;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationAccessor;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carries Raft RPCs of multiple Raft groups from a CP member to another
+ * CP member in a single packet. All batches sent by a member carry the same
+ * partition ID, so they are executed one after the other on the same
+ * partition thread, which passes each carried {@link AsyncRaftOp} to the
+ * partition thread of its Raft group in order. It keeps the order of the
+ * RPCs of each Raft group.
+ */
+public class RaftRpcBatchOp extends Operation implements IdentifiedDataSerializable, RaftSystemOperation {
+
+    private List<AsyncRaftOp> operations;
+
+    public RaftRpcBatchOp() {
+    }
+
+    public RaftRpcBatchOp(List<AsyncRaftOp> operations) {
+        this.operations = operations;
+    }
+
+    public List<AsyncRaftOp> getOperations() {
+        return operations;
+    }
+
+    @Override
+    public void run() {
+        NodeEngine nodeEngine = getNodeEngine();
+        OperationServiceImpl operationService = (OperationServiceImpl) nodeEngine.getOperationService();
+        for (AsyncRaftOp op : operations) {
+            op.setNodeEngine(nodeEngine);
+            op.setCallerUuid(getCallerUuid());
+            OperationAccessor.setCallerAddress(op, getCallerAddress());
+            OperationAccessor.setConnection(op, getConnection());
+            operationService.execute(op);
+        }
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    public Object getResponse() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getServiceName() {
+        return RaftService.SERVICE_NAME;
+    }
+
+    @Override
+    public boolean validatesTarget() {
+        return false;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return RaftServiceDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return RaftServiceDataSerializerHook.RAFT_RPC_BATCH_OP;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeInt(operations.size());
+        for (AsyncRaftOp op : operations) {
+            out.writeObject(op);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        int size = in.readInt();
+        operations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            operations.add(in.readObject());
+        }
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        super.toString(sb);
+        sb.append(", operations=").append(operations.size());
+    }
+}
@@ -27,6 +27,8 @@ import com.hazelcast.cp.internal.raft.impl.dto.AppendSuccessResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.InstallSnapshot;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteResponse;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.TriggerLeaderElection;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteResponse;
@@ -149,6 +151,16 @@ public interface RaftNode {
 
     void handleTriggerLeaderElection(TriggerLeaderElection request);
 
+    /**
+     * Handles {@link ReadIndexRequest} sent by a follower.
+     */
+    void handleReadIndexRequest(ReadIndexRequest request);
+
+    /**
+     * Handles {@link ReadIndexResponse} sent by leader.
+     */
+    void handleReadIndexResponse(ReadIndexResponse response);
+
     /**
      * Replicates the given operation to the Raft group.
      * Only the leader can process replicate requests.
@@ -32,6 +32,8 @@ import com.hazelcast.cp.internal.raft.impl.dto.AppendSuccessResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.InstallSnapshot;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteResponse;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.TriggerLeaderElection;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteResponse;
@@ -41,6 +43,8 @@ import com.hazelcast.cp.internal.raft.impl.handler.AppendSuccessResponseHandlerT
 import com.hazelcast.cp.internal.raft.impl.handler.InstallSnapshotHandlerTask;
 import com.hazelcast.cp.internal.raft.impl.handler.PreVoteRequestHandlerTask;
 import com.hazelcast.cp.internal.raft.impl.handler.PreVoteResponseHandlerTask;
+import com.hazelcast.cp.internal.raft.impl.handler.ReadIndexRequestHandlerTask;
+import com.hazelcast.cp.internal.raft.impl.handler.ReadIndexResponseHandlerTask;
 import com.hazelcast.cp.internal.raft.impl.handler.TriggerLeaderElectionHandlerTask;
 import com.hazelcast.cp.internal.raft.impl.handler.VoteRequestHandlerTask;
 import com.hazelcast.cp.internal.raft.impl.handler.VoteResponseHandlerTask;
@@ -90,6 +94,7 @@ import static com.hazelcast.cp.internal.raft.impl.log.SnapshotEntry.isNonInitial
 import static com.hazelcast.cp.internal.raft.impl.state.RaftState.newRaftState;
 import static com.hazelcast.cp.internal.raft.impl.state.RaftState.restoreRaftState;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.Arrays.sort;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -117,6 +122,8 @@ public final class RaftNodeImpl implements RaftNode {
     private final int commitIndexAdvanceCountToSnapshot;
     private final int maxMissedLeaderHeartbeatCount;
     private final long appendRequestBackoffTimeoutInMillis;
+    private final long leaderLeaseDurationInMillis;
+    private final ReadIndexSupport readIndexSupport;
     private final int maxNumberOfLogsToKeepAfterSnapshot;
     private final Runnable appendRequestBackoffResetTask;
     private final Runnable flushTask;
@@ -145,9 +152,14 @@ public final class RaftNodeImpl implements RaftNode {
         this.maxMissedLeaderHeartbeatCount = raftAlgorithmConfig.getMaxMissedLeaderHeartbeatCount();
         this.maxNumberOfLogsToKeepAfterSnapshot = (int) (commitIndexAdvanceCountToSnapshot * RATIO_TO_KEEP_LOGS_AFTER_SNAPSHOT);
         this.appendRequestBackoffTimeoutInMillis = raftAlgorithmConfig.getAppendRequestBackoffTimeoutInMillis();
+        // leader stickiness of followers relies on the last append entries timestamp, which is not persisted
+        this.leaderLeaseDurationInMillis = raftAlgorithmConfig.isLeaderLeaseEnabled() && stateStore instanceof NopRaftStateStore
+                ? max(0, leaderElectionTimeout - raftAlgorithmConfig.getLeaderLeaseClockDriftInMillis()) : 0;
         int logCapacity = commitIndexAdvanceCountToSnapshot + maxUncommittedEntryCount + maxNumberOfLogsToKeepAfterSnapshot;
         this.state = newRaftState(groupId, localMember, members, logCapacity, stateStore);
         this.logger = getLogger(RaftNode.class);
+        this.readIndexSupport = new ReadIndexSupport(this, maxUncommittedEntryCount,
+                raftAlgorithmConfig.isFollowerReadsEnabled());
         this.appendRequestBackoffResetTask = new AppendRequestBackoffResetTask();
         if (stateStore instanceof NopRaftStateStore) {
            this.flushTask = null;
@@ -174,9 +186,12 @@ public final class RaftNodeImpl implements RaftNode {
         this.maxMissedLeaderHeartbeatCount = config.getMaxMissedLeaderHeartbeatCount();
         this.maxNumberOfLogsToKeepAfterSnapshot = (int) (commitIndexAdvanceCountToSnapshot * RATIO_TO_KEEP_LOGS_AFTER_SNAPSHOT);
         this.appendRequestBackoffTimeoutInMillis = config.getAppendRequestBackoffTimeoutInMillis();
+        // followers restored from persistence forget when they last heard from the leader
+        this.leaderLeaseDurationInMillis = 0;
         int logCapacity = commitIndexAdvanceCountToSnapshot + maxUncommittedEntryCount + maxNumberOfLogsToKeepAfterSnapshot;
         this.state = restoreRaftState(groupId, restoredState, logCapacity, stateStore);
         this.logger = getLogger(RaftNode.class);
+        this.readIndexSupport = new ReadIndexSupport(this, maxUncommittedEntryCount, config.isFollowerReadsEnabled());
         this.appendRequestBackoffResetTask = new AppendRequestBackoffResetTask();
         if (stateStore instanceof NopRaftStateStore) {
             this.flushTask = null;
@@ -289,11 +304,12 @@ public final class RaftNodeImpl implements RaftNode {
                 invalidateFuturesFrom(state.commitIndex() + 1);
                 LeaderState leaderState = state.leaderState();
                 if (leaderState != null) {
-                    for (BiTuple<Object, InternalCompletableFuture> t : leaderState.queryState().operations()) {
+                    for (BiTuple<Runnable, InternalCompletableFuture> t : leaderState.queryState().queries()) {
                         t.element2.completeExceptionally(new LeaderDemotedException(state.localEndpoint(), null));
                     }
                 }
                 state.completeLeadershipTransfer(new LeaderDemotedException(state.localEndpoint(), null));
+                state.failReadIndexQueries();
                 setStatus(TERMINATED);
             } catch (Throwable t) {
                 failure = t;
@@ -418,6 +434,16 @@ public final class RaftNodeImpl implements RaftNode {
         execute(new TriggerLeaderElectionHandlerTask(this, request));
     }
 
+    @Override
+    public void handleReadIndexRequest(ReadIndexRequest request) {
+        execute(new ReadIndexRequestHandlerTask(this, request));
+    }
+
+    @Override
+    public void handleReadIndexResponse(ReadIndexResponse response) {
+        execute(new ReadIndexResponseHandlerTask(this, response));
+    }
+
     @Override
     public InternalCompletableFuture replicate(Object operation) {
         InternalCompletableFuture resultFuture = raftIntegration.newCompletableFuture();
@@ -550,43 +576,11 @@ public final class RaftNodeImpl implements RaftNode {
     }
 
     /**
-     * Returns true if a new query is currently allowed to be executed without
-     * appending to the Raft log. This method can be invoked only when
-     * the local Raft node is the leader.
-     * <p>
-     * A new linearizable query execution is not allowed, when;
-     * <ul>
-     * <li>Node is terminating, terminated or stepped down.
-     * See {@link RaftNodeStatus}.</li>
-     * <li>If the leader has not yet marked an entry from its current term
-     * committed. See Section 6.4 of Raft Dissertation.</li>
-     * <li>There are already
-     * {@link RaftAlgorithmConfig#getUncommittedEntryCountToRejectNewAppends()}
-     * queries waiting to be executed.</li>
-     * </ul>
+     * Returns the leader lease duration, or 0 if the leader lease is disabled.
+     * See {@link QueryState#isLeaseValid(long)}.
      */
-    public boolean canQueryLinearizable() {
-        if (isTerminatedOrSteppedDown()) {
-            return false;
-        }
-
-        long commitIndex = state.commitIndex();
-        RaftLog log = state.log();
-
-        // If the leader has not yet marked an entry from its current term committed, it waits until it has done so. (§6.4)
-        // last committed entry is either in the last snapshot or still in the log
-        LogEntry lastCommittedEntry = commitIndex == log.snapshotIndex() ? log.snapshot() : log.getLogEntry(commitIndex);
-        assert lastCommittedEntry != null;
-
-        if (lastCommittedEntry.term() != state.term()) {
-            return false;
-        }
-
-        // We can execute multiple queries at one-shot without appending to the Raft log,
-        // and we use the maxUncommittedEntryCount configuration parameter to upper-bound
-        // the number of queries that are collected until the heartbeat round is done.
-        QueryState queryState = state.leaderState().queryState();
-        return queryState.queryCount() < maxUncommittedEntryCount;
+    public long getLeaderLeaseDurationInMillis() {
+        return leaderLeaseDurationInMillis;
     }
 
     /**
@@ -639,6 +633,14 @@ public final class RaftNodeImpl implements RaftNode {
         raftIntegration.send(request, target);
     }
 
+    public void send(ReadIndexRequest request, RaftEndpoint target) {
+        raftIntegration.send(request, target);
+    }
+
+    public void send(ReadIndexResponse response, RaftEndpoint target) {
+        raftIntegration.send(response, target);
+    }
+
     /**
      * Broadcasts append-entries request to all group members according to their nextIndex parameters.
      */
@@ -801,6 +803,8 @@ public final class RaftNodeImpl implements RaftNode {
         if (state.role() == LEADER || state.role() == FOLLOWER) {
             takeSnapshotIfCommitIndexAdvanced();
         }
+
+        readIndexSupport.runReadIndexQueries();
     }
 
     /**
@@ -868,6 +872,10 @@ public final class RaftNodeImpl implements RaftNode {
         return state;
     }
 
+    public ReadIndexSupport readIndexSupport() {
+        return readIndexSupport;
+    }
+
     /**
      * Executes query operation sets execution result to the future.
      */
@@ -1063,6 +1071,7 @@ public final class RaftNodeImpl implements RaftNode {
 
         state.lastApplied(snapshot.index());
         invalidateFuturesUntil(snapshot.index(), new StaleAppendRequestException(state.leader()));
+        readIndexSupport.runReadIndexQueries();
         logger.info(snapshot + " is installed.");
 
         return true;
@@ -1203,7 +1212,7 @@ public final class RaftNodeImpl implements RaftNode {
     public void toFollower(int term) {
         LeaderState leaderState = state.leaderState();
         if (leaderState != null) {
-            for (BiTuple<Object, InternalCompletableFuture> t : leaderState.queryState().operations()) {
+            for (BiTuple<Runnable, InternalCompletableFuture> t : leaderState.queryState().queries()) {
                 t.element2.completeExceptionally(new LeaderDemotedException(state.localEndpoint(), null));
             }
         }
@@ -1297,41 +1306,15 @@ public final class RaftNodeImpl implements RaftNode {
 
         if (status == ACTIVE) {
             applyLogEntries();
-            tryRunQueries();
+            readIndexSupport.tryRunQueries();
         } else {
-            tryRunQueries();
+            readIndexSupport.tryRunQueries();
             applyLogEntries();
         }
 
         broadcastAppendRequest();
     }
 
-    public boolean tryRunQueries() {
-        QueryState queryState = state.leaderState().queryState();
-        if (queryState.queryCount() == 0) {
-            return false;
-        }
-
-        long commitIndex = state.commitIndex();
-        if (!queryState.isMajorityAcked(commitIndex, state.majority())) {
-            return true;
-        }
-
-        Collection<BiTuple<Object, InternalCompletableFuture>> operations = queryState.operations();
-
-        if (logger.isFineEnabled()) {
-            logger.fine("Running " + operations.size() + " queries at commit index: " + commitIndex
-                    + ", query round: " + queryState.queryRound());
-        }
-
-        for (BiTuple<Object, InternalCompletableFuture> t : operations) {
-            runQuery(t.element1, t.element2);
-        }
-
-        queryState.reset();
-        return false;
-    }
-
     private void appendEntryAfterLeaderElection() {
         Object entry = raftIntegration.getAppendedEntryOnLeaderElection();
         if (entry != null) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.raft.impl;
+
+import com.hazelcast.config.cp.RaftAlgorithmConfig;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.log.LogEntry;
+import com.hazelcast.cp.internal.raft.impl.log.RaftLog;
+import com.hazelcast.cp.internal.raft.impl.state.QueryState;
+import com.hazelcast.cp.internal.raft.impl.state.RaftState;
+import com.hazelcast.cp.internal.raft.impl.task.ReadIndexTimeoutTask;
+import com.hazelcast.internal.util.BiTuple;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.Collection;
+
+import static com.hazelcast.cp.internal.raft.impl.RaftNodeStatus.ACTIVE;
+import static com.hazelcast.cp.internal.raft.impl.RaftRole.FOLLOWER;
+import static com.hazelcast.cp.internal.raft.impl.RaftRole.LEADER;
+
+/**
+ * Runs the linearizable queries of a {@link RaftNodeImpl} without appending
+ * them to the Raft log. The leader runs them once a heartbeat round
+ * acknowledged by the majority, or its lease, confirms its commit index as
+ * the read index. If follower reads are enabled, a follower asks the leader
+ * for the read index with a {@link ReadIndexRequest} and runs the queries
+ * once it applies the log up to the read index.
+ * <p>
+ * Accessed only by the Raft node thread.
+ */
+public final class ReadIndexSupport {
+
+    private final RaftNodeImpl raftNode;
+    private final ILogger logger;
+    private final int maxQueryCount;
+    private final boolean followerReadsEnabled;
+
+    ReadIndexSupport(RaftNodeImpl raftNode, int maxQueryCount, boolean followerReadsEnabled) {
+        this.raftNode = raftNode;
+        this.logger = raftNode.getLogger(getClass());
+        this.maxQueryCount = maxQueryCount;
+        this.followerReadsEnabled = followerReadsEnabled;
+    }
+
+    /**
+     * Returns true if a new query is currently allowed to be executed without
+     * appending to the Raft log. This method can be invoked only when
+     * the local Raft node is the leader.
+     * <p>
+     * A new linearizable query execution is not allowed, when;
+     * <ul>
+     * <li>Node is terminating, terminated or stepped down.
+     * See {@link RaftNodeStatus}.</li>
+     * <li>If the leader has not yet marked an entry from its current term
+     * committed. See Section 6.4 of Raft Dissertation.</li>
+     * <li>There are already
+     * {@link RaftAlgorithmConfig#getUncommittedEntryCountToRejectNewAppends()}
+     * queries waiting to be executed.</li>
+     * </ul>
+     */
+    public boolean canQueryLinearizable() {
+        if (raftNode.isTerminatedOrSteppedDown()) {
+            return false;
+        }
+
+        RaftState state = raftNode.state();
+        long commitIndex = state.commitIndex();
+        RaftLog log = state.log();
+
+        // If the leader has not yet marked an entry from its current term committed, it waits until it has done so. (§6.4)
+        // last committed entry is either in the last snapshot or still in the log
+        LogEntry lastCommittedEntry = commitIndex == log.snapshotIndex() ? log.snapshot() : log.getLogEntry(commitIndex);
+        assert lastCommittedEntry != null;
+
+        if (lastCommittedEntry.term() != state.term()) {
+            return false;
+        }
+
+        // We can execute multiple queries at one-shot without appending to the Raft log,
+        // and we use the maxUncommittedEntryCount configuration parameter to upper-bound
+        // the number of queries that are collected until the heartbeat round is done.
+        QueryState queryState = state.leaderState().queryState();
+        return queryState.queryCount() < maxQueryCount;
+    }
+
+    /**
+     * Returns true if this node is the leader and it can run linearizable
+     * queries locally with its lease. The lease is not used while the group
+     * members are being updated or a leadership transfer is in progress,
+     * since a new follower or the transfer target can vote for another
+     * candidate.
+     */
+    public boolean isLeaderLeaseValid() {
+        long leaseDuration = raftNode.getLeaderLeaseDurationInMillis();
+        RaftState state = raftNode.state();
+        return leaseDuration > 0 && state.role() == LEADER && raftNode.getStatus() == ACTIVE
+                && state.leadershipTransferState() == null
+                && state.leaderState().queryState().isLeaseValid(leaseDuration);
+    }
+
+    /**
+     * Runs the queries waiting on the leader if the majority has
+     * acknowledged the current heartbeat round. Returns true if there are
+     * queries still waiting for the acknowledgements.
+     */
+    public boolean tryRunQueries() {
+        RaftState state = raftNode.state();
+        QueryState queryState = state.leaderState().queryState();
+        if (queryState.queryCount() == 0) {
+            return false;
+        }
+
+        long commitIndex = state.commitIndex();
+        if (!queryState.isMajorityAcked(commitIndex, state.majority())) {
+            return true;
+        }
+
+        Collection<BiTuple<Runnable, InternalCompletableFuture>> queries = queryState.queries();
+
+        if (logger.isFineEnabled()) {
+            logger.fine("Running " + queries.size() + " queries at commit index: " + commitIndex
+                    + ", query round: " + queryState.queryRound());
+        }
+
+        for (BiTuple<Runnable, InternalCompletableFuture> t : queries) {
+            t.element1.run();
+        }
+
+        queryState.reset();
+        return false;
+    }
+
+    /**
+     * Returns true if a linearizable query can be added to the queries
+     * waiting on this follower for a read index from the leader.
+     */
+    public boolean canQueryLinearizableOnFollower() {
+        RaftState state = raftNode.state();
+        return followerReadsEnabled && !raftNode.isTerminatedOrSteppedDown() && state.role() == FOLLOWER
+                && state.leader() != null && state.readIndexState().queryCount() < maxQueryCount;
+    }
+
+    /**
+     * Sends a {@link ReadIndexRequest} to the leader for the linearizable
+     * queries waiting on this follower, unless there is already a request
+     * in flight. If the leader does not respond in time, the queries fail
+     * so that they are retried on the leader.
+     */
+    public void trySendReadIndexRequest() {
+        RaftState state = raftNode.state();
+        RaftEndpoint leader = state.leader();
+        if (state.role() != FOLLOWER || leader == null) {
+            return;
+        }
+
+        long requestId = state.readIndexState().startRequest();
+        if (requestId == 0) {
+            return;
+        }
+
+        raftNode.send(new ReadIndexRequest(raftNode.getLocalMember(), state.term(), requestId), leader);
+        raftNode.schedule(new ReadIndexTimeoutTask(raftNode, requestId), raftNode.getLeaderElectionTimeoutInMillis());
+    }
+
+    /**
+     * Runs the linearizable queries waiting on this follower whose
+     * read indices are applied to the local state machine.
+     */
+    public void runReadIndexQueries() {
+        RaftState state = raftNode.state();
+        for (BiTuple<Object, InternalCompletableFuture> t : state.readIndexState().pollAppliedQueries(state.lastApplied())) {
+            raftNode.runQuery(t.element1, t.element2);
+        }
+    }
+}
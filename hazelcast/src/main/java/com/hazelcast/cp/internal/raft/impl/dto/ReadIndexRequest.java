@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal.raft.impl.dto;
+
+import com.hazelcast.cp.internal.raft.impl.RaftDataSerializerHook;
+import com.hazelcast.cp.internal.raft.impl.RaftEndpoint;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * Struct for the follower read logic. A follower sends this request
+ * to the leader to learn the commit index it must apply before running
+ * linearizable queries locally.
+ * <p>
+ * See <i>6.4 Processing read-only queries more efficiently</i> section
+ * of the Raft dissertation.
+ */
+public class ReadIndexRequest implements IdentifiedDataSerializable {
+
+    private RaftEndpoint follower;
+    private int term;
+    private long requestId;
+
+    public ReadIndexRequest() {
+    }
+
+    public ReadIndexRequest(RaftEndpoint follower, int term, long requestId) {
+        this.follower = follower;
+        this.term = term;
+        this.requestId = requestId;
+    }
+
+    public RaftEndpoint follower() {
+        return follower;
+    }
+
+    public int term() {
+        return term;
+    }
+
+    public long requestId() {
+        return requestId;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return RaftDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return RaftDataSerializerHook.READ_INDEX_REQUEST;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(follower);
+        out.writeInt(term);
+        out.writeLong(requestId);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        follower = in.readObject();
+        term = in.readInt();
+        requestId = in.readLong();
+    }
+
+    @Override
+    public String toString() {
+        return "ReadIndexRequest{" + "follower=" + follower + ", term=" + term + ", requestId=" + requestId + '}';
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal.raft.impl.dto;
+
+import com.hazelcast.cp.internal.raft.impl.RaftDataSerializerHook;
+import com.hazelcast.cp.internal.raft.impl.RaftEndpoint;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * Struct for the response to {@link ReadIndexRequest}. A negative
+ * {@code readIndex} means the leader could not confirm its leadership.
+ * <p>
+ * See <i>6.4 Processing read-only queries more efficiently</i> section
+ * of the Raft dissertation.
+ */
+public class ReadIndexResponse implements IdentifiedDataSerializable {
+
+    private RaftEndpoint leader;
+    private int term;
+    private long requestId;
+    private long readIndex;
+
+    public ReadIndexResponse() {
+    }
+
+    public ReadIndexResponse(RaftEndpoint leader, int term, long requestId, long readIndex) {
+        this.leader = leader;
+        this.term = term;
+        this.requestId = requestId;
+        this.readIndex = readIndex;
+    }
+
+    public RaftEndpoint leader() {
+        return leader;
+    }
+
+    public int term() {
+        return term;
+    }
+
+    public long requestId() {
+        return requestId;
+    }
+
+    public long readIndex() {
+        return readIndex;
+    }
+
+    public boolean rejected() {
+        return readIndex < 0;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return RaftDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return RaftDataSerializerHook.READ_INDEX_RESPONSE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(leader);
+        out.writeInt(term);
+        out.writeLong(requestId);
+        out.writeLong(readIndex);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        leader = in.readObject();
+        term = in.readInt();
+        requestId = in.readLong();
+        readIndex = in.readLong();
+    }
+
+    @Override
+    public String toString() {
+        return "ReadIndexResponse{" + "leader=" + leader + ", term=" + term + ", requestId=" + requestId
+                + ", readIndex=" + readIndex + '}';
+    }
+
+}
@@ -72,7 +72,7 @@ public class AppendSuccessResponseHandlerTask extends AbstractResponseHandlerTas
                 trySendAppendRequest(state);
             }
         } else {
-            raftNode.tryRunQueries();
+            raftNode.readIndexSupport().tryRunQueries();
         }
 
         checkIfQueryAckNeeded(state);
@@ -92,6 +92,13 @@ public class AppendSuccessResponseHandlerTask extends AbstractResponseHandlerTas
             }
         }
 
+        if (raftNode.getLeaderLeaseDurationInMillis() > 0
+                && queryState.tryAckLease(resp.queryRound(), follower, state.majority())) {
+            if (logger.isFineEnabled()) {
+                logger.fine("Leader lease is extended with query round: " + resp.queryRound());
+            }
+        }
+
         long matchIndex = followerState.matchIndex();
         long followerLastLogIndex = resp.lastLogIndex();
 
@@ -122,7 +129,8 @@ public class AppendSuccessResponseHandlerTask extends AbstractResponseHandlerTas
 
     private void checkIfQueryAckNeeded(RaftState state) {
         QueryState queryState = state.leaderState().queryState();
-        if (queryState.isAckNeeded(resp.follower(), state.majority())) {
+        if (queryState.isAckNeeded(resp.follower(), state.majority())
+                || (raftNode.getLeaderLeaseDurationInMillis() > 0 && queryState.isLeaseAckNeeded(resp.follower()))) {
             raftNode.sendAppendRequest(resp.follower());
         }
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal.raft.impl.handler;
+
+import com.hazelcast.cp.internal.raft.impl.RaftNodeImpl;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
+import com.hazelcast.cp.internal.raft.impl.state.QueryState;
+import com.hazelcast.cp.internal.raft.impl.state.RaftState;
+import com.hazelcast.cp.internal.raft.impl.task.RaftNodeStatusAwareTask;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import static com.hazelcast.cp.internal.raft.impl.RaftRole.LEADER;
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+
+/**
+ * Handles {@link ReadIndexRequest} sent by a follower.
+ * <p>
+ * The leader confirms its leadership just like it does for a local
+ * linearizable query, either with its lease or with a heartbeat round,
+ * and responds with its commit index as the read index. The request is
+ * rejected with a negative read index if this node is not the leader of
+ * the request's term, or it cannot run linearizable queries at the moment.
+ *
+ * @see ReadIndexRequest
+ * @see ReadIndexResponse
+ */
+public class ReadIndexRequestHandlerTask extends RaftNodeStatusAwareTask implements Runnable {
+
+    private final ReadIndexRequest req;
+
+    public ReadIndexRequestHandlerTask(RaftNodeImpl raftNode, ReadIndexRequest req) {
+        super(raftNode);
+        this.req = req;
+    }
+
+    @Override
+    protected void innerRun() {
+        if (logger.isFineEnabled()) {
+            logger.fine("Received " + req);
+        }
+
+        RaftState state = raftNode.state();
+        int term = state.term();
+        if (state.role() != LEADER || req.term() != term || !raftNode.isLinearizableReadOptimizationEnabled()
+                || !raftNode.readIndexSupport().canQueryLinearizable()) {
+            if (logger.isFineEnabled()) {
+                logger.fine("Rejecting " + req + " since role: " + state.role() + ", term: " + term);
+            }
+
+            sendResponse(term, -1);
+            return;
+        }
+
+        long commitIndex = state.commitIndex();
+        QueryState queryState = state.leaderState().queryState();
+
+        if (raftNode.readIndexSupport().isLeaderLeaseValid()) {
+            sendResponse(term, commitIndex);
+            if (queryState.tryStartLeaseRound(raftNode.getLeaderLeaseDurationInMillis())) {
+                raftNode.broadcastAppendRequest();
+            }
+            return;
+        }
+
+        // The read index is sent once the current heartbeat round is acknowledged by the majority.
+        InternalCompletableFuture<Long> future = new InternalCompletableFuture<>();
+        future.whenCompleteAsync((readIndex, t) -> sendResponse(term, t == null ? readIndex : -1), CALLER_RUNS);
+
+        if (queryState.addQuery(commitIndex, () -> future.complete(state.commitIndex()), future) == 1) {
+            raftNode.broadcastAppendRequest();
+        }
+    }
+
+    private void sendResponse(int term, long readIndex) {
+        raftNode.send(new ReadIndexResponse(localMember(), term, req.requestId(), readIndex), req.follower());
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal.raft.impl.handler;
+
+import com.hazelcast.cp.exception.NotLeaderException;
+import com.hazelcast.cp.internal.raft.impl.RaftEndpoint;
+import com.hazelcast.cp.internal.raft.impl.RaftNodeImpl;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
+import com.hazelcast.cp.internal.raft.impl.state.RaftState;
+import com.hazelcast.cp.internal.raft.impl.state.ReadIndexState;
+import com.hazelcast.internal.util.BiTuple;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.List;
+
+import static com.hazelcast.cp.internal.raft.impl.RaftRole.FOLLOWER;
+
+/**
+ * Handles {@link ReadIndexResponse} sent by the leader for a
+ * {@link ReadIndexRequest}.
+ * <p>
+ * If the leader has confirmed the read index, the queries of the request
+ * run once the local state machine applies the read index. Otherwise,
+ * they fail with {@link NotLeaderException} to be retried on the leader.
+ * Then, the queries that arrived in the meantime are sent with
+ * a new request.
+ *
+ * @see ReadIndexRequest
+ * @see ReadIndexResponse
+ */
+public class ReadIndexResponseHandlerTask extends AbstractResponseHandlerTask {
+
+    private final ReadIndexResponse resp;
+
+    public ReadIndexResponseHandlerTask(RaftNodeImpl raftNode, ReadIndexResponse response) {
+        super(raftNode);
+        this.resp = response;
+    }
+
+    @Override
+    protected void handleResponse() {
+        RaftState state = raftNode.state();
+        if (state.role() != FOLLOWER || resp.term() != state.term() || !resp.leader().equals(state.leader())) {
+            if (logger.isFineEnabled()) {
+                logger.fine("Ignored " + resp + ". Role: " + state.role() + ", term: " + state.term() + ", leader: "
+                        + state.leader());
+            }
+            return;
+        }
+
+        ReadIndexState readIndexState = state.readIndexState();
+        List<BiTuple<Object, InternalCompletableFuture>> queries = readIndexState.completeRequest(resp.requestId());
+        if (queries == null) {
+            if (logger.isFineEnabled()) {
+                logger.fine("Ignored " + resp + " since it is not for the current request. " + readIndexState);
+            }
+            return;
+        }
+
+        if (logger.isFineEnabled()) {
+            logger.fine("Received " + resp + " for " + queries.size() + " queries, last applied: " + state.lastApplied());
+        }
+
+        if (resp.rejected()) {
+            for (BiTuple<Object, InternalCompletableFuture> t : queries) {
+                t.element2.completeExceptionally(new NotLeaderException(raftNode.getGroupId(), localMember(), resp.leader()));
+            }
+        } else {
+            readIndexState.awaitApply(resp.readIndex(), queries);
+            raftNode.readIndexSupport().runReadIndexQueries();
+        }
+
+        raftNode.readIndexSupport().trySendReadIndexRequest();
+    }
+
+    @Override
+    protected RaftEndpoint sender() {
+        return resp.leader();
+    }
+
+}
@@ -51,6 +51,8 @@ public class LeaderState {
     public void add(RaftEndpoint follower, long lastLogIndex) {
         assert !followerStates.containsKey(follower) : "Already known follower " + follower;
         followerStates.put(follower, new FollowerState(0L, lastLogIndex + 1));
+        // the new follower does not know the leader yet, so it can vote for another candidate
+        queryState.resetLease();
     }
 
     /**
@@ -59,6 +61,7 @@ public class LeaderState {
     public void remove(RaftEndpoint follower) {
         FollowerState removed = followerStates.remove(follower);
         queryState.removeAck(follower);
+        queryState.resetLease();
         assert removed != null : "Unknown follower " + follower;
     }
 
@@ -18,6 +18,7 @@ package com.hazelcast.cp.internal.raft.impl.state;
 
 import com.hazelcast.internal.util.BiTuple;
 import com.hazelcast.cp.internal.raft.impl.RaftEndpoint;
+import com.hazelcast.internal.util.Clock;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 
 import java.util.ArrayList;
@@ -41,6 +42,11 @@ import static com.hazelcast.internal.util.Preconditions.checkTrue;
  * ...
  * Fortunately, it is possible to bypass the Raft log for read-only queries and
  * still preserve linearizability.
+ * <p>
+ * This class also tracks the leader lease. Heartbeat rounds are started
+ * either for waiting queries or for renewing the lease. When the majority
+ * acknowledges a heartbeat round, the lease is extended to start from
+ * the time that round was started. See Section 6.4.1 of Raft Dissertation.
  */
 public class QueryState {
 
@@ -64,7 +70,7 @@ public class QueryState {
     /**
      * Queries waiting to be executed.
      */
-    private final List<BiTuple<Object, InternalCompletableFuture>> operations = new ArrayList<>();
+    private final List<BiTuple<Runnable, InternalCompletableFuture>> queries = new ArrayList<>();
 
     /**
      * The set of followers acknowledged the leader in the current heartbeat
@@ -72,14 +78,39 @@ public class QueryState {
      */
     private final Set<RaftEndpoint> acks = new HashSet<>();
 
+    /**
+     * The local timestamp at which the current {@link #queryRound} started.
+     */
+    private long queryRoundStartTimestamp;
+
+    /**
+     * The set of followers acknowledged the leader in the current heartbeat
+     * round for the leader lease. Unlike {@link #acks}, it is maintained
+     * even if there is no waiting query.
+     */
+    private final Set<RaftEndpoint> leaseAcks = new HashSet<>();
+
+    /**
+     * Denotes whether the current heartbeat round is acknowledged
+     * by the majority.
+     */
+    private boolean leaseRoundAcked;
+
+    /**
+     * The start timestamp of the last heartbeat round acknowledged by
+     * the majority. The leader lease is valid for a duration from this
+     * timestamp.
+     */
+    private long leaseStartTimestamp;
+
     /**
      * Adds the given query to the collection of queries and returns the number
      * of queries waiting to be executed. Also updates the minimum commit index
      * that is expected on the leader to execute the queries.
      */
-    public int addQuery(long commitIndex, Object operation, InternalCompletableFuture resultFuture) {
+    public int addQuery(long commitIndex, Runnable query, InternalCompletableFuture resultFuture) {
         if (commitIndex < queryCommitIndex) {
-            throw new IllegalArgumentException("Cannot execute query: " + operation + " at commit index because of the current "
+            throw new IllegalArgumentException("Cannot execute query at commit index: " + commitIndex + " because of the current "
                     + this);
         }
 
@@ -87,15 +118,43 @@ public class QueryState {
             queryCommitIndex = commitIndex;
         }
 
-        operations.add(BiTuple.of(operation, resultFuture));
-        int size = operations.size();
+        queries.add(BiTuple.of(query, resultFuture));
+        int size = queries.size();
         if (size == 1) {
-            queryRound++;
+            startRound();
         }
 
         return size;
     }
 
+    /**
+     * Starts a new heartbeat round only for renewing the leader lease, if less
+     * than half of the given lease duration remains and there is no other
+     * heartbeat round in progress. Returns {@code false} if there are waiting
+     * queries, because their heartbeat round renews the lease as well.
+     */
+    public boolean tryStartLeaseRound(long leaseDurationInMillis) {
+        long now = Clock.currentTimeMillis();
+        if (queryCount() > 0 || leaseStartTimestamp + leaseDurationInMillis / 2 > now) {
+            return false;
+        }
+
+        // a heartbeat round that has not completed in a lease duration is abandoned
+        if (!leaseRoundAcked && queryRoundStartTimestamp + leaseDurationInMillis > now) {
+            return false;
+        }
+
+        startRound();
+        return true;
+    }
+
+    private void startRound() {
+        queryRound++;
+        queryRoundStartTimestamp = Clock.currentTimeMillis();
+        leaseAcks.clear();
+        leaseRoundAcked = false;
+    }
+
     /**
      * Returns {@code true} if the given follower is accepted as an acker
      * for the current query round. It is accepted only if there are
@@ -115,10 +174,62 @@ public class QueryState {
         return acks.add(follower);
     }
 
+    /**
+     * Returns {@code true} if the current heartbeat round is acknowledged by
+     * the majority with the given follower's ack and the leader lease is
+     * extended. Acks of earlier heartbeat rounds are ignored.
+     */
+    public boolean tryAckLease(long queryRound, RaftEndpoint follower, int majority) {
+        if (leaseRoundAcked || this.queryRound != queryRound || !leaseAcks.add(follower)) {
+            return false;
+        }
+
+        if (leaseAcks.size() + 1 < majority) {
+            return false;
+        }
+
+        leaseRoundAcked = true;
+        leaseStartTimestamp = Math.max(leaseStartTimestamp, queryRoundStartTimestamp);
+        return true;
+    }
+
+    public boolean isLeaseAckNeeded(RaftEndpoint follower) {
+        return !leaseRoundAcked && queryRoundStartTimestamp > 0 && !leaseAcks.contains(follower);
+    }
+
+    /**
+     * Returns {@code true} if the leader lease of the given duration has not
+     * expired yet. A valid lease guarantees that no other leader has been
+     * elected, hence linearizable queries can be executed locally without
+     * a heartbeat round.
+     * <p>
+     * Followers do not vote for another candidate for a leader election
+     * timeout after they receive an append request from the leader. Hence,
+     * once the majority acknowledges a heartbeat round, no other leader can
+     * be elected until a leader election timeout passes from the start of
+     * that round. The lease duration is shortened by
+     * {@link com.hazelcast.config.cp.RaftAlgorithmConfig#getLeaderLeaseClockDriftInMillis()}
+     * against clock drift.
+     */
+    public boolean isLeaseValid(long leaseDurationInMillis) {
+        return leaseStartTimestamp > 0 && leaseStartTimestamp + leaseDurationInMillis > Clock.currentTimeMillis();
+    }
+
+    /**
+     * Invalidates the leader lease. The lease can be acquired again with
+     * a new heartbeat round. Called when the majority changes.
+     */
+    public void resetLease() {
+        leaseStartTimestamp = 0;
+        leaseRoundAcked = false;
+        leaseAcks.clear();
+    }
+
     /**
      * Returns {@code true} if the given follower is removed from the ack list.
      */
     public boolean removeAck(RaftEndpoint follower) {
+        leaseAcks.remove(follower);
         return acks.remove(follower);
     }
 
@@ -126,7 +237,7 @@ public class QueryState {
      * Returns the number of queries waiting for execution.
      */
     public int queryCount() {
-        return operations.size();
+        return queries.size();
     }
 
     /**
@@ -161,21 +272,21 @@ public class QueryState {
     /**
      * Returns the queries waiting to be executed.
      */
-    public Collection<BiTuple<Object, InternalCompletableFuture>> operations() {
-        return operations;
+    public Collection<BiTuple<Runnable, InternalCompletableFuture>> queries() {
+        return queries;
     }
 
     /**
      * Resets the collection of waiting queries and acknowledged followers.
      */
     public void reset() {
-        operations.clear();
+        queries.clear();
         acks.clear();
     }
 
     @Override
     public String toString() {
         return "QueryState{" + "queryCommitIndex=" + queryCommitIndex + ", queryRound=" + queryRound + ", queryCount="
-                + queryCount() + ", acks=" + acks + '}';
+                + queryCount() + ", acks=" + acks + ", leaseStartTimestamp=" + leaseStartTimestamp + '}';
     }
 }
@@ -18,6 +18,7 @@ package com.hazelcast.cp.internal.raft.impl.state;
 
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.exception.NotLeaderException;
 import com.hazelcast.cp.internal.raft.impl.RaftEndpoint;
 import com.hazelcast.cp.internal.raft.impl.RaftRole;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteRequest;
@@ -27,6 +28,7 @@ import com.hazelcast.cp.internal.raft.impl.persistence.NopRaftStateStore;
 import com.hazelcast.cp.internal.raft.impl.persistence.RaftStateStore;
 import com.hazelcast.cp.internal.raft.impl.persistence.RestoredRaftState;
 import com.hazelcast.cp.internal.raft.impl.task.InitLeadershipTransferTask;
+import com.hazelcast.internal.util.BiTuple;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 
 import java.io.IOException;
@@ -150,6 +152,13 @@ public final class RaftState {
      */
     private LeadershipTransferState leadershipTransferState;
 
+    /**
+     * State maintained by a follower for the linearizable queries it runs
+     * locally with the read index learnt from the leader. Its queries fail
+     * when the local Raft node switches to another role or leader.
+     */
+    private final ReadIndexState readIndexState = new ReadIndexState();
+
     private RaftState(CPGroupId groupId, RaftEndpoint localEndpoint, Collection<RaftEndpoint> endpoints, int logCapacity,
                       RaftStateStore store) {
         this.groupId = groupId;
@@ -326,7 +335,11 @@ public final class RaftState {
      * Updates the known leader
      */
     public void leader(RaftEndpoint endpoint) {
+        RaftEndpoint prevLeader = leader;
         leader = endpoint;
+        if (prevLeader != null && !prevLeader.equals(endpoint)) {
+            failReadIndexQueries();
+        }
         if (endpoint != null) {
             // Since we have a new leader, preCandidateState becomes obsolete.
             preCandidateState = null;
@@ -410,6 +423,7 @@ public final class RaftState {
         leaderState = null;
         candidateState = null;
         completeLeadershipTransfer(null);
+        failReadIndexQueries();
         setTerm(term);
         persistTerm();
     }
@@ -424,6 +438,7 @@ public final class RaftState {
         role = RaftRole.CANDIDATE;
         preCandidateState = null;
         leaderState = null;
+        failReadIndexQueries();
         candidateState = new CandidateState(majority());
         candidateState.grantVote(localEndpoint);
         setTerm(term + 1);
@@ -598,6 +613,23 @@ public final class RaftState {
         leadershipTransferState = null;
     }
 
+    /**
+     * Returns the state of the linearizable queries waiting on this follower
+     */
+    public ReadIndexState readIndexState() {
+        return readIndexState;
+    }
+
+    /**
+     * Fails the linearizable queries waiting on this follower with
+     * {@link NotLeaderException}, so that they are retried on the leader
+     */
+    public void failReadIndexQueries() {
+        for (BiTuple<Object, InternalCompletableFuture> t : readIndexState.reset()) {
+            t.element2.completeExceptionally(new NotLeaderException(groupId, localEndpoint, leader));
+        }
+    }
+
     /**
      * Returns the leadership transfer state
      */
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.raft.impl.state;
+
+import com.hazelcast.internal.util.BiTuple;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * This class is used by a follower to keep the linearizable queries it runs
+ * locally with the read index obtained from the leader.
+ * <p>
+ * Section 6.4 of Raft Dissertation:
+ * ...
+ * Read-only queries can also be offloaded to followers. The follower issues
+ * a request to the leader just to learn the current commit index; the leader
+ * then executes its usual read-only query protocol and returns the commit
+ * index as the read index. The follower then waits until its state machine
+ * has advanced at least as far as the read index, and runs the query.
+ * <p>
+ * Queries arriving while a request is in flight are batched into the next
+ * request, so there is at most one outstanding request to the leader.
+ */
+public class ReadIndexState {
+
+    /**
+     * Queries waiting for the next request to the leader.
+     */
+    private List<BiTuple<Object, InternalCompletableFuture>> queries = new ArrayList<>();
+
+    /**
+     * Queries of the request in flight, or null if there is no request
+     * in flight.
+     */
+    private List<BiTuple<Object, InternalCompletableFuture>> requestedQueries;
+
+    /**
+     * Id of the last request sent to the leader.
+     */
+    private long requestId;
+
+    /**
+     * Queries whose read indices are learnt from the leader but not applied
+     * to the local state machine yet, grouped by their read indices.
+     */
+    private final NavigableMap<Long, List<BiTuple<Object, InternalCompletableFuture>>> queriesWaitingForApply
+            = new TreeMap<>();
+
+    /**
+     * Number of all queries kept in this state.
+     */
+    private int queryCount;
+
+    /**
+     * Adds the given query to the queries waiting for the next request
+     * to the leader.
+     */
+    public void addQuery(Object operation, InternalCompletableFuture resultFuture) {
+        queries.add(BiTuple.of(operation, resultFuture));
+        queryCount++;
+    }
+
+    /**
+     * Returns the number of all queries kept in this state.
+     */
+    public int queryCount() {
+        return queryCount;
+    }
+
+    /**
+     * Starts a new request for the waiting queries and returns its id.
+     * Returns 0 if there is already a request in flight, or there is no
+     * waiting query.
+     */
+    public long startRequest() {
+        if (requestedQueries != null || queries.isEmpty()) {
+            return 0;
+        }
+
+        requestedQueries = queries;
+        queries = new ArrayList<>();
+        return ++requestId;
+    }
+
+    /**
+     * Completes the request with the given id and returns its queries.
+     * Returns null if the given id does not belong to the request in flight.
+     * The returned queries must be either passed to
+     * {@link #awaitApply(long, List)} or completed by the caller.
+     */
+    public List<BiTuple<Object, InternalCompletableFuture>> completeRequest(long id) {
+        if (requestedQueries == null || id != requestId) {
+            return null;
+        }
+
+        List<BiTuple<Object, InternalCompletableFuture>> completed = requestedQueries;
+        requestedQueries = null;
+        queryCount -= completed.size();
+        return completed;
+    }
+
+    /**
+     * Keeps the given queries until the local state machine applies
+     * the given read index.
+     */
+    public void awaitApply(long readIndex, List<BiTuple<Object, InternalCompletableFuture>> completed) {
+        queriesWaitingForApply.computeIfAbsent(readIndex, k -> new ArrayList<>()).addAll(completed);
+        queryCount += completed.size();
+    }
+
+    /**
+     * Removes and returns the queries whose read indices are applied
+     * to the local state machine.
+     */
+    public Collection<BiTuple<Object, InternalCompletableFuture>> pollAppliedQueries(long lastApplied) {
+        if (queriesWaitingForApply.isEmpty() || queriesWaitingForApply.firstKey() > lastApplied) {
+            return Collections.emptyList();
+        }
+
+        List<BiTuple<Object, InternalCompletableFuture>> applied = new ArrayList<>();
+        Map<Long, List<BiTuple<Object, InternalCompletableFuture>>> head = queriesWaitingForApply.headMap(lastApplied, true);
+        for (List<BiTuple<Object, InternalCompletableFuture>> q : head.values()) {
+            applied.addAll(q);
+        }
+        head.clear();
+        queryCount -= applied.size();
+        return applied;
+    }
+
+    /**
+     * Removes and returns all queries kept in this state. A response to
+     * the request in flight is ignored after this call.
+     */
+    public Collection<BiTuple<Object, InternalCompletableFuture>> reset() {
+        if (queryCount == 0) {
+            return Collections.emptyList();
+        }
+
+        List<BiTuple<Object, InternalCompletableFuture>> all = new ArrayList<>(queries);
+        if (requestedQueries != null) {
+            all.addAll(requestedQueries);
+        }
+        for (List<BiTuple<Object, InternalCompletableFuture>> q : queriesWaitingForApply.values()) {
+            all.addAll(q);
+        }
+        queries.clear();
+        requestedQueries = null;
+        queriesWaitingForApply.clear();
+        queryCount = 0;
+        return all;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadIndexState{" + "requestId=" + requestId + ", requestInFlight=" + (requestedQueries != null)
+                + ", queryCount=" + queryCount + '}';
+    }
+
+}
@@ -117,12 +117,17 @@ public class QueryTask implements Runnable {
 
         RaftState state = raftNode.state();
         if (state.role() != LEADER) {
+            if (raftNode.readIndexSupport().canQueryLinearizableOnFollower()) {
+                handleLinearizableReadOnFollower();
+                return;
+            }
+
             resultFuture.completeExceptionally(
                     new NotLeaderException(raftNode.getGroupId(), raftNode.getLocalMember(), state.leader()));
             return;
         }
 
-        if (!raftNode.canQueryLinearizable()) {
+        if (!raftNode.readIndexSupport().canQueryLinearizable()) {
             resultFuture.completeExceptionally(new CannotReplicateException(state.leader()));
             return;
         }
@@ -130,15 +135,43 @@ public class QueryTask implements Runnable {
         long commitIndex = state.commitIndex();
         QueryState queryState = state.leaderState().queryState();
 
+        if (raftNode.readIndexSupport().isLeaderLeaseValid()) {
+            // No other leader can be elected while the lease is valid,
+            // hence our commit index is up to date and all committed entries are applied.
+            if (logger.isFineEnabled()) {
+                logger.fine("Querying: " + operation + " with leader lease at commit index: " + commitIndex);
+            }
+
+            raftNode.runQuery(operation, resultFuture);
+            if (queryState.tryStartLeaseRound(raftNode.getLeaderLeaseDurationInMillis())) {
+                raftNode.broadcastAppendRequest();
+            }
+            return;
+        }
+
         if (logger.isFineEnabled()) {
             logger.fine("Adding query at commit index: " + commitIndex + ", query round: " + queryState.queryRound());
         }
 
-        if (queryState.addQuery(commitIndex, operation, resultFuture) == 1) {
+        if (queryState.addQuery(commitIndex, () -> raftNode.runQuery(operation, resultFuture), resultFuture) == 1) {
             raftNode.broadcastAppendRequest();
         }
     }
 
+    /**
+     * The query waits until the leader confirms its commit index
+     * as the read index and the local state machine applies it.
+     */
+    private void handleLinearizableReadOnFollower() {
+        if (logger.isFineEnabled()) {
+            logger.fine("Adding query: " + operation + " to wait for the read index from leader: "
+                    + raftNode.state().leader());
+        }
+
+        raftNode.state().readIndexState().addQuery(operation, resultFuture);
+        raftNode.readIndexSupport().trySendReadIndexRequest();
+    }
+
     private boolean verifyOperation() {
         if (operation instanceof RaftGroupCmd) {
             resultFuture.completeExceptionally(new IllegalArgumentException("cannot run query: " + operation));
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal.raft.impl.task;
+
+import com.hazelcast.cp.exception.NotLeaderException;
+import com.hazelcast.cp.internal.raft.impl.RaftNodeImpl;
+import com.hazelcast.cp.internal.raft.impl.ReadIndexSupport;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.state.RaftState;
+import com.hazelcast.internal.util.BiTuple;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.List;
+
+/**
+ * ReadIndexTimeoutTask is scheduled by
+ * {@link ReadIndexSupport#trySendReadIndexRequest()} to fail the queries of
+ * a {@link ReadIndexRequest} if the leader does not respond until leader
+ * election timeout. The queries fail with {@link NotLeaderException}
+ * so that they are retried on the leader.
+ */
+public class ReadIndexTimeoutTask extends RaftNodeStatusAwareTask implements Runnable {
+
+    private final long requestId;
+
+    public ReadIndexTimeoutTask(RaftNodeImpl raftNode, long requestId) {
+        super(raftNode);
+        this.requestId = requestId;
+    }
+
+    @Override
+    protected void innerRun() {
+        RaftState state = raftNode.state();
+        List<BiTuple<Object, InternalCompletableFuture>> queries = state.readIndexState().completeRequest(requestId);
+        if (queries == null) {
+            return;
+        }
+
+        logger.fine("Read index request: " + requestId + " to leader: " + state.leader() + " has timed out!");
+        for (BiTuple<Object, InternalCompletableFuture> t : queries) {
+            t.element2.completeExceptionally(new NotLeaderException(raftNode.getGroupId(), localMember(), state.leader()));
+        }
+
+        raftNode.readIndexSupport().trySendReadIndexRequest();
+    }
+}
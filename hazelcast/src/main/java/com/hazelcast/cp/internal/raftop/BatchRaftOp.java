@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.cp.internal.raftop;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.internal.BatchableRaftOp;
+import com.hazelcast.cp.internal.CallerAware;
+import com.hazelcast.cp.internal.IndeterminateOperationStateAware;
+import com.hazelcast.cp.internal.RaftOp;
+import com.hazelcast.cp.internal.RaftService;
+import com.hazelcast.cp.internal.RaftServiceDataSerializerHook;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Commits multiple {@link BatchableRaftOp}s of a Raft group in a single
+ * Raft log entry. The operations are executed in the given order and
+ * the serialized result of each operation, or the exception it throws, is
+ * returned at the same index of the {@link BatchRaftOpResults}.
+ */
+public class BatchRaftOp extends RaftOp implements CallerAware, IndeterminateOperationStateAware,
+                                                   IdentifiedDataSerializable {
+
+    private List<RaftOp> ops;
+
+    public BatchRaftOp() {
+    }
+
+    public BatchRaftOp(List<RaftOp> ops) {
+        this.ops = ops;
+    }
+
+    @Override
+    public Object run(CPGroupId groupId, long commitIndex) {
+        SerializationService serializationService = getNodeEngine().getSerializationService();
+        Data[] results = new Data[ops.size()];
+        boolean[] failures = new boolean[ops.size()];
+        for (int i = 0; i < results.length; i++) {
+            RaftOp op = ops.get(i);
+            op.setNodeEngine(getNodeEngine());
+            Object result;
+            try {
+                result = op.run(groupId, commitIndex);
+            } catch (Throwable t) {
+                op.logFailure(t);
+                result = t;
+            }
+            results[i] = serializationService.toData(result);
+            failures[i] = result instanceof Throwable;
+        }
+
+        return new BatchRaftOpResults(results, failures);
+    }
+
+    @Override
+    public void setCaller(Address callerAddress, long callId) {
+        for (RaftOp op : ops) {
+            if (op instanceof CallerAware) {
+                ((CallerAware) op).setCaller(callerAddress, callId);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRetryableOnIndeterminateOperationState() {
+        for (RaftOp op : ops) {
+            if (!(op instanceof IndeterminateOperationStateAware
+                    && ((IndeterminateOperationStateAware) op).isRetryableOnIndeterminateOperationState())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    protected String getServiceName() {
+        return RaftService.SERVICE_NAME;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return RaftServiceDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return RaftServiceDataSerializerHook.BATCH_RAFT_OP;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(ops.size());
+        for (RaftOp op : ops) {
+            out.writeObject(op);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        ops = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ops.add(in.readObject());
+        }
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        sb.append(", ops=").append(ops);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.raftop;
+
+import com.hazelcast.cp.internal.RaftServiceDataSerializerHook;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * The results of the operations committed by a {@link BatchRaftOp}. Each
+ * result is kept serialized, so that it's deserialized only if the caller
+ * of its operation requested so, and a result which is an exception is
+ * marked as a failure, so that it can be told apart without deserializing
+ * it.
+ */
+public class BatchRaftOpResults implements IdentifiedDataSerializable {
+
+    private Data[] results;
+    private boolean[] failures;
+
+    public BatchRaftOpResults() {
+    }
+
+    public BatchRaftOpResults(Data[] results, boolean[] failures) {
+        this.results = results;
+        this.failures = failures;
+    }
+
+    public int size() {
+        return results.length;
+    }
+
+    public Data getResult(int index) {
+        return results[index];
+    }
+
+    public boolean isFailure(int index) {
+        return failures[index];
+    }
+
+    @Override
+    public int getFactoryId() {
+        return RaftServiceDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return RaftServiceDataSerializerHook.BATCH_RAFT_OP_RESULTS;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(results.length);
+        for (int i = 0; i < results.length; i++) {
+            IOUtil.writeData(out, results[i]);
+            out.writeBoolean(failures[i]);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        results = new Data[size];
+        failures = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = IOUtil.readData(in);
+            failures[i] = in.readBoolean();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRaftOpResults{size=" + results.length + '}';
+    }
+}
@@ -63,6 +63,7 @@ import com.hazelcast.internal.diagnostics.OperationThreadSamplerPlugin;
 import com.hazelcast.internal.diagnostics.OverloadedConnectionsPlugin;
 import com.hazelcast.internal.diagnostics.PendingInvocationsPlugin;
 import com.hazelcast.internal.diagnostics.SlowOperationPlugin;
+import com.hazelcast.internal.diagnostics.StackSamplerPlugin;
 import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
 import com.hazelcast.internal.diagnostics.SystemLogPlugin;
 import com.hazelcast.internal.diagnostics.SystemPropertiesPlugin;
@@ -392,6 +393,8 @@ public class DefaultNodeExtension implements NodeExtension {
                     .setSchemaService(node.getSchemaService())
                     .setNotActiveExceptionSupplier(HazelcastInstanceNotActiveException::new)
                     .isCompatibility(isCompatibility)
+                    .setSpecializedCompactSerializersEnabled(
+                            node.getProperties().getBoolean(ClusterProperty.COMPACT_SPECIALIZED_SERIALIZERS_ENABLED))
                     .build();
         } catch (Exception e) {
             throw rethrow(e);
@@ -647,6 +650,7 @@ public class DefaultNodeExtension implements NodeExtension {
         diagnostics.register(new NetworkingImbalancePlugin(nodeEngine));
         diagnostics.register(new OperationHeartbeatPlugin(nodeEngine));
         diagnostics.register(new OperationThreadSamplerPlugin(nodeEngine));
+        diagnostics.register(new StackSamplerPlugin(nodeEngine));
     }
 
     @Override
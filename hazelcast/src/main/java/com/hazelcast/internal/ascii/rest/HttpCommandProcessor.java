@@ -92,6 +92,9 @@ public abstract class HttpCommandProcessor<T extends HttpCommand> extends Abstra
     // License info
     public static final String URI_LICENSE_INFO = "/hazelcast/rest/license";
 
+    // Metrics
+    public static final String URI_METRICS = "/hazelcast/rest/metrics";
+
     // CP Subsystem
     public static final String URI_CP_SUBSYSTEM_BASE_URL = "/hazelcast/rest/cp-subsystem";
     public static final String URI_RESET_CP_SUBSYSTEM_URL = URI_CP_SUBSYSTEM_BASE_URL + "/reset";
@@ -34,6 +34,8 @@ import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
 import com.hazelcast.internal.json.Json;
 import com.hazelcast.internal.json.JsonArray;
 import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.metrics.impl.MetricsService;
+import com.hazelcast.internal.metrics.openmetrics.OpenMetricsPublisher;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.server.Server;
 import com.hazelcast.internal.server.ServerConnection;
@@ -48,7 +50,9 @@ import java.util.logging.Level;
 
 import static com.hazelcast.config.ConfigAccessor.getActiveMemberNetworkConfig;
 import static com.hazelcast.instance.EndpointQualifier.CLIENT;
+import static com.hazelcast.internal.ascii.rest.HttpCommand.CONTENT_TYPE_OPENMETRICS;
 import static com.hazelcast.internal.ascii.rest.HttpCommandProcessor.ResponseType.FAIL;
+import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_200;
 import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_500;
 import static com.hazelcast.internal.ascii.rest.RestCallExecution.ObjectType.MAP;
 import static com.hazelcast.internal.ascii.rest.RestCallExecution.ObjectType.QUEUE;
@@ -92,6 +96,8 @@ public class HttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCommand
                 handleGetClusterVersion(command);
             } else if (uri.startsWith(URI_LICENSE_INFO)) {
                 handleLicense(command);
+            } else if (uri.startsWith(URI_METRICS)) {
+                handleMetrics(command);
             } else if (uri.startsWith(URI_CP_GROUPS_URL)) {
                 handleCPGroupRequest(command);
                 sendResponse = false;
@@ -425,6 +431,20 @@ public class HttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCommand
         prepareResponse(command, new JsonObject().add("logLevel", level == null ? null : level.getName()));
     }
 
+    private void handleMetrics(HttpGetCommand command) {
+        MetricsService metricsService = getNode().getNodeEngine().getService(MetricsService.SERVICE_NAME);
+        OpenMetricsPublisher publisher = metricsService.getOpenMetricsPublisher();
+        byte[] snapshot = publisher != null ? publisher.snapshot() : null;
+        if (publisher == null) {
+            command.send404();
+        } else if (snapshot == null) {
+            // the first metrics collection has not completed yet
+            command.send503();
+        } else {
+            command.setResponse(SC_200, CONTENT_TYPE_OPENMETRICS, snapshot);
+        }
+    }
+
     private void handleTcpIpMemberList(HttpGetCommand command) {
         Config config = getNode().getConfig();
         TcpIpConfig tcpIpConfig = getActiveMemberNetworkConfig(config).getJoin().getTcpIpConfig();
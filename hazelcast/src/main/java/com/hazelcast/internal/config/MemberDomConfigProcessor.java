@@ -3058,6 +3058,12 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 raftAlgorithmConfig.setUncommittedEntryCountToRejectNewAppends(Integer.parseInt(getTextContent(child)));
             } else if (matches("append-request-backoff-timeout-in-millis", nodeName)) {
                 raftAlgorithmConfig.setAppendRequestBackoffTimeoutInMillis(Long.parseLong(getTextContent(child)));
+            } else if (matches("leader-lease-enabled", nodeName)) {
+                raftAlgorithmConfig.setLeaderLeaseEnabled(getBooleanValue(getTextContent(child)));
+            } else if (matches("leader-lease-clock-drift-in-millis", nodeName)) {
+                raftAlgorithmConfig.setLeaderLeaseClockDriftInMillis(Long.parseLong(getTextContent(child)));
+            } else if (matches("follower-reads-enabled", nodeName)) {
+                raftAlgorithmConfig.setFollowerReadsEnabled(getBooleanValue(getTextContent(child)));
             }
         }
     }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.internal.util.concurrent.ConcurrentItemCounter;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
+import static java.lang.Math.max;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The StackSamplerPlugin is a {@link DiagnosticsPlugin} that periodically
+ * samples the stack traces of the threads owned by this member, e.g. the
+ * partition and generic operation threads, the IO threads, the event threads
+ * and the Jet cooperative threads.
+ * <p>
+ * The samples taken in a period are aggregated and written in the folded
+ * stack format, one {@code thread;frame;...;frame count} line per distinct
+ * stack with the frames from the root to the leaf, so the section can be
+ * turned into a flame graph after an incident without reproducing it. The
+ * thread index is removed from the thread names, so e.g. all partition
+ * threads are aggregated together.
+ * <p>
+ * Taking a sample requires a safepoint, so the sampler measures the time it
+ * spends on taking the samples and backs off if it exceeds
+ * {@value #MAX_OVERHEAD_PERCENT}% of the elapsed time.
+ */
+public class StackSamplerPlugin extends DiagnosticsPlugin {
+
+    /**
+     * The period in seconds the samples are aggregated for and written to
+     * the diagnostics log.
+     * <p>
+     * If set to 0, the plugin is disabled.
+     */
+    public static final HazelcastProperty PERIOD_SECONDS
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.period.seconds", 0, SECONDS);
+
+    /**
+     * The period in milliseconds between taking samples.
+     * <p>
+     * The lower the period, the higher the overhead, but also the higher the
+     * precision.
+     */
+    public static final HazelcastProperty SAMPLER_PERIOD_MILLIS
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.sampler.period.millis", 100, MILLISECONDS);
+
+    /**
+     * The maximum number of frames sampled from the top of a stack.
+     */
+    public static final HazelcastProperty MAX_DEPTH
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.max.depth", 64);
+
+    /**
+     * If only the threads in the {@link Thread.State#RUNNABLE} state should be
+     * sampled. If disabled, the idle threads waiting for work are sampled too,
+     * which turns the output into a wall-clock profile.
+     */
+    public static final HazelcastProperty RUNNABLE_ONLY
+            = new HazelcastProperty("hazelcast.diagnostics.stacksamples.runnable.only", true);
+
+    static final int MAX_OVERHEAD_PERCENT = 1;
+    static final int MAX_STACK_COUNT = 10_000;
+    static final String TRUNCATED_STACK = "[truncated]";
+
+    private static final int HUNDRED_PERCENT = 100;
+    private static final long THREAD_REFRESH_PERIOD_NANOS = SECONDS.toNanos(10);
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final NodeEngineImpl nodeEngine;
+    private final String threadNamePrefix;
+    private final long periodMillis;
+    private final long samplerPeriodMillis;
+    private final int maxDepth;
+    private final boolean runnableOnly;
+
+    private volatile ConcurrentItemCounter<String> samples = new ConcurrentItemCounter<>();
+
+    public StackSamplerPlugin(NodeEngineImpl nodeEngine) {
+        super(nodeEngine.getLogger(StackSamplerPlugin.class));
+        this.nodeEngine = nodeEngine;
+        this.threadNamePrefix = createThreadName(nodeEngine.getHazelcastInstance().getName(), "");
+        HazelcastProperties props = nodeEngine.getProperties();
+        this.periodMillis = props.getMillis(PERIOD_SECONDS);
+        this.samplerPeriodMillis = props.getMillis(SAMPLER_PERIOD_MILLIS);
+        this.maxDepth = props.getInteger(MAX_DEPTH);
+        this.runnableOnly = props.getBoolean(RUNNABLE_ONLY);
+    }
+
+    @Override
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    @Override
+    public void onStart() {
+        logger.info("Plugin:active: period-millis:" + periodMillis + " sampler-period-millis:" + samplerPeriodMillis
+                + " max-depth:" + maxDepth + " runnable-only:" + runnableOnly);
+
+        new SampleThread().start();
+    }
+
+    @Override
+    public void run(DiagnosticsLogWriter writer) {
+        ConcurrentItemCounter<String> windowSamples = samples;
+        samples = new ConcurrentItemCounter<>();
+
+        writer.startSection("StackSamples");
+        for (String stack : windowSamples.keySet()) {
+            writer.writeEntry(stack + " " + windowSamples.get(stack));
+        }
+        writer.endSection();
+    }
+
+    /**
+     * Samples the stack traces of the given threads and adds them to the
+     * samples of the current period.
+     */
+    void sample(long[] threadIds) {
+        ConcurrentItemCounter<String> windowSamples = samples;
+        StringBuilder sb = new StringBuilder();
+        for (ThreadInfo info : threadMXBean.getThreadInfo(threadIds, maxDepth)) {
+            // the thread has terminated since the thread ids were taken
+            if (info == null || runnableOnly && info.getThreadState() != Thread.State.RUNNABLE) {
+                continue;
+            }
+            sb.setLength(0);
+            appendThreadGroup(sb, info.getThreadName());
+            StackTraceElement[] frames = info.getStackTrace();
+            for (int i = frames.length - 1; i >= 0; i--) {
+                sb.append(';').append(frames[i].getClassName()).append('.').append(frames[i].getMethodName());
+            }
+            String stack = sb.toString();
+            if (windowSamples.get(stack) == 0 && windowSamples.keySet().size() >= MAX_STACK_COUNT) {
+                stack = TRUNCATED_STACK;
+            }
+            windowSamples.inc(stack);
+        }
+    }
+
+    /**
+     * Returns the ids of the live threads owned by this member, except the
+     * calling thread.
+     */
+    long[] memberThreadIds() {
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        long currentThreadId = Thread.currentThread().getId();
+        int count = 0;
+        for (ThreadInfo info : threadMXBean.getThreadInfo(threadIds, 0)) {
+            if (info != null && info.getThreadId() != currentThreadId && info.getThreadName().startsWith(threadNamePrefix)) {
+                threadIds[count++] = info.getThreadId();
+            }
+        }
+        long[] memberThreadIds = new long[count];
+        System.arraycopy(threadIds, 0, memberThreadIds, 0, count);
+        return memberThreadIds;
+    }
+
+    /**
+     * Appends the name of the thread without the instance name prefix and
+     * the thread index suffix, e.g. {@code partition-operation.thread} for
+     * {@code hz.instance.partition-operation.thread-3}.
+     */
+    private void appendThreadGroup(StringBuilder sb, String threadName) {
+        int end = threadName.length();
+        while (end > threadNamePrefix.length() && Character.isDigit(threadName.charAt(end - 1))) {
+            end--;
+        }
+        if (end < threadName.length() && threadName.charAt(end - 1) == '-') {
+            end--;
+        }
+        sb.append(threadName, threadNamePrefix.length(), end);
+    }
+
+    private class SampleThread extends Thread {
+
+        SampleThread() {
+            super(createThreadName(nodeEngine.getHazelcastInstance().getName(), "StackSampler"));
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long samplerPeriodNanos = MILLISECONDS.toNanos(samplerPeriodMillis);
+            long[] threadIds = new long[0];
+            long nextThreadRefreshNanos = System.nanoTime();
+            while (nodeEngine.isRunning()) {
+                long startNanos = System.nanoTime();
+                if (startNanos >= nextThreadRefreshNanos) {
+                    threadIds = memberThreadIds();
+                    nextThreadRefreshNanos = startNanos + THREAD_REFRESH_PERIOD_NANOS;
+                }
+                sample(threadIds);
+                long samplingNanos = System.nanoTime() - startNanos;
+                // keeps the time spent on sampling below the overhead limit
+                LockSupport.parkNanos(max(samplerPeriodNanos, samplingNanos * HUNDRED_PERCENT / MAX_OVERHEAD_PERCENT));
+            }
+        }
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.journal;
+
+import com.hazelcast.internal.partition.IPartition;
+import com.hazelcast.internal.services.DistributedObjectNamespace;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
+import com.hazelcast.spi.exception.RetryableException;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationexecutor.OperationExecutor;
+import com.hazelcast.spi.impl.operationservice.AbstractLocalOperation;
+import com.hazelcast.spi.impl.operationservice.BlockingOperation;
+import com.hazelcast.spi.impl.operationservice.CallStatus;
+import com.hazelcast.spi.impl.operationservice.Offload;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationResponseHandler;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Reads from the event journals of many partitions owned by the target
+ * member in a single call. You may specify the start sequence of each
+ * partition, the maximum number of items read from each partition, a
+ * predicate that the events should pass and a projection to apply to the
+ * events in the journal.
+ * <p>
+ * The response is sent as soon as at least one journal has new events or
+ * the maximum wait time elapses. The journals are read by a task per
+ * partition thread. If none of them has new events, a local {@link
+ * BlockingOperation} is parked on the wait-notify key of each journal, like
+ * the per-partition {@link EventJournalReadOperation} is. The first of them
+ * to be notified or to expire triggers another read of all the journals.
+ * Hence a caller waiting for the events of many partitions occupies a single
+ * remote call and doesn't poll the journals. The waiters left on the other
+ * journals are dropped when their journal gets an event or when they expire
+ * at the maximum wait time.
+ * <p>
+ * The response is a list of result sets in the order of the requested
+ * partitions. The result set of a partition which is not owned by the
+ * member, e.g. because it's migrating, is {@code null} and the partition
+ * has to be read by an {@link EventJournalReadOperation}.
+ *
+ * @param <T> the return type of the projection. It is equal to the journal event type
+ *            if the projection is {@code null} or it is the identity projection
+ * @param <J> journal event type
+ * @see EventJournalReader#readFromEventJournals
+ * @since 5.3
+ */
+public abstract class EventJournalBatchReadOperation<T, J> extends Operation
+        implements IdentifiedDataSerializable, ReadonlyOperation {
+
+    protected String name;
+    protected int[] partitionIds;
+    protected long[] startSequences;
+    protected int maxSize;
+    protected long maxWaitMillis;
+
+    public EventJournalBatchReadOperation() {
+    }
+
+    public EventJournalBatchReadOperation(String name, int[] partitionIds, long[] startSequences,
+                                          int maxSize, long maxWaitMillis) {
+        this.name = name;
+        this.partitionIds = partitionIds;
+        this.startSequences = startSequences;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public CallStatus call() {
+        return new BatchRead();
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(name);
+        out.writeIntArray(partitionIds);
+        out.writeLongArray(startSequences);
+        out.writeInt(maxSize);
+        out.writeLong(maxWaitMillis);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        name = in.readString();
+        partitionIds = in.readIntArray();
+        startSequences = in.readLongArray();
+        maxSize = in.readInt();
+        maxWaitMillis = in.readLong();
+    }
+
+    public abstract String getServiceName();
+
+    /**
+     * Creates the result set of a partition. The minimum size of the result
+     * set is irrelevant since the partitions are never waited for.
+     */
+    protected abstract ReadResultSetImpl<J, T> createResultSet();
+
+    protected abstract EventJournal<J> getJournal();
+
+    private final class BatchRead extends Offload {
+
+        private final DistributedObjectNamespace namespace = new DistributedObjectNamespace(getServiceName(), name);
+        private final long deadlineNanos = System.nanoTime() + MILLISECONDS.toNanos(maxWaitMillis);
+        private final ReadResultSetImpl<J, T>[] resultSets;
+        private final AtomicInteger pendingReads = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final AtomicBoolean responded = new AtomicBoolean();
+        /**
+         * Incremented when the journals are read again, so that only the first
+         * waiter of the current round triggers the next read.
+         */
+        private final AtomicInteger round = new AtomicInteger();
+        private List<int[]> indexesByThread;
+
+        @SuppressWarnings("unchecked")
+        BatchRead() {
+            super(EventJournalBatchReadOperation.this);
+            resultSets = new ReadResultSetImpl[partitionIds.length];
+        }
+
+        @Override
+        public void start() {
+            indexesByThread = groupByPartitionThread();
+            readAll();
+        }
+
+        private List<int[]> groupByPartitionThread() {
+            OperationExecutor operationExecutor = operationService.getOperationExecutor();
+            Map<Integer, List<Integer>> indexesByThreadIndex = new LinkedHashMap<>();
+            for (int i = 0; i < partitionIds.length; i++) {
+                int threadIndex = operationExecutor.toPartitionThreadIndex(partitionIds[i]);
+                indexesByThreadIndex.computeIfAbsent(threadIndex, k -> new ArrayList<>()).add(i);
+            }
+
+            List<int[]> result = new ArrayList<>(indexesByThreadIndex.size());
+            for (List<Integer> indexes : indexesByThreadIndex.values()) {
+                result.add(indexes.stream().mapToInt(Integer::intValue).toArray());
+            }
+            return result;
+        }
+
+        private void readAll() {
+            pendingReads.set(indexesByThread.size());
+            for (int[] indexes : indexesByThread) {
+                operationService.execute(new PartitionThreadRead(indexes));
+            }
+        }
+
+        private void onRead() {
+            if (pendingReads.decrementAndGet() > 0) {
+                return;
+            }
+
+            Throwable throwable = failure.get();
+            if (throwable != null) {
+                respond(throwable);
+            } else if (isReadyToRespond()) {
+                respond(new ArrayList<>(Arrays.asList(resultSets)));
+            } else {
+                int currentRound = round.get();
+                for (int[] indexes : indexesByThread) {
+                    operationService.execute(new PartitionThreadPark(indexes, currentRound));
+                }
+            }
+        }
+
+        /**
+         * Reads all the journals again, unless the given round was already
+         * woken up, or the response was sent.
+         */
+        private void wakeUp(int wokenRound) {
+            if (!responded.get() && round.compareAndSet(wokenRound, wokenRound + 1)) {
+                readAll();
+            }
+        }
+
+        private void respond(Object response) {
+            if (responded.compareAndSet(false, true)) {
+                sendResponse(response);
+            }
+        }
+
+        private boolean isReadyToRespond() {
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                return true;
+            }
+            for (ReadResultSetImpl<J, T> resultSet : resultSets) {
+                if (resultSet == null || resultSet.readCount() > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isReadable(int partitionId) {
+            IPartition partition = nodeEngine.getPartitionService().getPartition(partitionId, false);
+            return partition.isLocal() && !partition.isMigrating();
+        }
+
+        /**
+         * Reads the partitions of the given indexes, which are all handled by
+         * the same partition thread.
+         */
+        private final class PartitionThreadRead implements PartitionSpecificRunnable {
+
+            private final int[] indexes;
+
+            PartitionThreadRead(int[] indexes) {
+                this.indexes = indexes;
+            }
+
+            @Override
+            public int getPartitionId() {
+                return partitionIds[indexes[0]];
+            }
+
+            @Override
+            public void run() {
+                try {
+                    EventJournal<J> journal = getJournal();
+                    for (int index : indexes) {
+                        resultSets[index] = readPartition(journal, index);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    onRead();
+                }
+            }
+
+            private ReadResultSetImpl<J, T> readPartition(EventJournal<J> journal, int index) {
+                int partitionId = partitionIds[index];
+                if (!isReadable(partitionId)) {
+                    return null;
+                }
+                if (!journal.hasEventJournal(namespace)) {
+                    throw new UnsupportedOperationException(
+                            "Cannot subscribe to event journal because it is either not configured or disabled for "
+                                    + namespace);
+                }
+
+                journal.cleanup(namespace, partitionId);
+                long sequence = EventJournalReadOperation.clampToBounds(journal, namespace, partitionId,
+                        startSequences[index]);
+                journal.isAvailableOrNextSequence(namespace, partitionId, sequence);
+
+                ReadResultSetImpl<J, T> resultSet = createResultSet();
+                if (!journal.isNextAvailableSequence(namespace, partitionId, sequence)) {
+                    sequence = journal.readMany(namespace, partitionId, sequence, resultSet);
+                }
+                resultSet.setNextSequenceToReadFrom(sequence);
+                return resultSet;
+            }
+        }
+
+        /**
+         * Parks a {@link JournalWaiter} on the journal of each partition of the
+         * given indexes which has no new events. Runs on the partition thread
+         * of the partitions, so no event can be added between the check and
+         * the parking.
+         */
+        private final class PartitionThreadPark implements PartitionSpecificRunnable {
+
+            private final int[] indexes;
+            private final int parkedRound;
+
+            PartitionThreadPark(int[] indexes, int parkedRound) {
+                this.indexes = indexes;
+                this.parkedRound = parkedRound;
+            }
+
+            @Override
+            public int getPartitionId() {
+                return partitionIds[indexes[0]];
+            }
+
+            @Override
+            public void run() {
+                long waitTimeoutMillis = Math.max(1, NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+                try {
+                    EventJournal<J> journal = getJournal();
+                    for (int index : indexes) {
+                        int partitionId = partitionIds[index];
+                        long sequence = resultSets[index].getNextSequenceToReadFrom();
+                        if (!isReadable(partitionId) || !journal.isNextAvailableSequence(namespace, partitionId, sequence)) {
+                            wakeUp(parkedRound);
+                            return;
+                        }
+                        JournalWaiter waiter = new JournalWaiter(journal, partitionId, sequence, parkedRound,
+                                waitTimeoutMillis);
+                        ((NodeEngineImpl) nodeEngine).getOperationParker().park(waiter);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                    wakeUp(parkedRound);
+                }
+            }
+        }
+
+        /**
+         * Waits for a new event in the journal of a single partition, then
+         * wakes up the batch read.
+         */
+        private final class JournalWaiter extends AbstractLocalOperation
+                implements BlockingOperation, PartitionAwareOperation, OperationResponseHandler<JournalWaiter> {
+
+            private final EventJournal<J> journal;
+            private final int journalPartitionId;
+            private final long sequence;
+            private final int parkedRound;
+
+            JournalWaiter(EventJournal<J> journal, int journalPartitionId, long sequence, int parkedRound,
+                          long waitTimeoutMillis) {
+                this.journal = journal;
+                this.journalPartitionId = journalPartitionId;
+                this.sequence = sequence;
+                this.parkedRound = parkedRound;
+                setPartitionId(journalPartitionId);
+                setWaitTimeout(waitTimeoutMillis);
+                setNodeEngine(BatchRead.this.nodeEngine);
+                setServiceName(EventJournalBatchReadOperation.this.getServiceName());
+                setCallerUuid(EventJournalBatchReadOperation.this.getCallerUuid());
+                setOperationResponseHandler(this);
+            }
+
+            @Override
+            public WaitNotifyKey getWaitKey() {
+                return journal.getWaitNotifyKey(namespace, journalPartitionId);
+            }
+
+            @Override
+            public boolean shouldWait() {
+                // stop waiting once another journal woke the batch read up
+                if (responded.get() || round.get() != parkedRound) {
+                    return false;
+                }
+                try {
+                    return journal.isNextAvailableSequence(namespace, journalPartitionId, sequence);
+                } catch (Exception e) {
+                    // the journal was destroyed, let the next read report it
+                    return false;
+                }
+            }
+
+            @Override
+            public void run() {
+                wakeUp(parkedRound);
+            }
+
+            @Override
+            public boolean returnsResponse() {
+                return false;
+            }
+
+            @Override
+            public void onWaitExpire() {
+                wakeUp(parkedRound);
+            }
+
+            @Override
+            public void sendResponse(JournalWaiter op, Object response) {
+                // called with the error if the waiter is cancelled, e.g. when
+                // the journal is destroyed, or if the partition migrates
+                if (response instanceof Throwable && !(response instanceof RetryableException)) {
+                    failure.compareAndSet(null, (Throwable) response);
+                }
+                wakeUp(parkedRound);
+            }
+        }
+    }
+}
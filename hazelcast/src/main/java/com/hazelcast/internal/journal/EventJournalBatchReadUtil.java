@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.journal;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.ringbuffer.ReadResultSet;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static com.hazelcast.internal.cluster.Versions.V5_3;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+
+/**
+ * Invokes the {@link EventJournalBatchReadOperation}s of an
+ * {@link EventJournalBatchReader}.
+ */
+public final class EventJournalBatchReadUtil {
+
+    private EventJournalBatchReadUtil() {
+    }
+
+    /**
+     * Reads from the event journals of the given partitions by sending a
+     * batch read operation to each member owning some of the partitions. The
+     * partitions which have no owner or which the member didn't read, e.g.
+     * because they migrated in the meantime, are read one by one without
+     * waiting for new events.
+     * <p>
+     * The returned future completes when the operations sent to all members
+     * complete, so the partitions should be owned by few members, preferably
+     * by a single one, to not wait for the slowest of them.
+     *
+     * @param nodeEngine       the node engine
+     * @param serviceName      the name of the service of the data structure
+     * @param partitionIds     the IDs of the partitions to read
+     * @param startSequences   the sequence of the first item to read from each partition
+     * @param operationFactory creates the batch read operations
+     * @param partitionReader  reads a single partition without waiting
+     * @param <T>              the type of the items in the result sets
+     * @return the future result sets of the partitions in the same order as {@code partitionIds}
+     * @throws UnsupportedOperationException if the cluster version is lower than 5.3
+     */
+    public static <T> CompletableFuture<List<ReadResultSet<T>>> readFromEventJournals(
+            NodeEngine nodeEngine,
+            String serviceName,
+            int[] partitionIds,
+            long[] startSequences,
+            BatchReadOperationFactory operationFactory,
+            PartitionReader<T> partitionReader
+    ) {
+        checkTrue(partitionIds.length == startSequences.length,
+                "the number of partition IDs and start sequences must be equal");
+        if (nodeEngine.getClusterService().getClusterVersion().isLessThan(V5_3)) {
+            throw new UnsupportedOperationException("Reading from many event journals at once "
+                    + "requires the cluster version 5.3 or greater");
+        }
+
+        IPartitionService partitionService = nodeEngine.getPartitionService();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<ReadResultSet<T>>[] futures = new CompletableFuture[partitionIds.length];
+        Map<Address, List<Integer>> indexesByOwner = new HashMap<>();
+        for (int i = 0; i < partitionIds.length; i++) {
+            Address owner = partitionService.getPartitionOwner(partitionIds[i]);
+            if (owner == null) {
+                futures[i] = partitionReader.read(partitionIds[i], startSequences[i]).toCompletableFuture();
+            } else {
+                indexesByOwner.computeIfAbsent(owner, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (Map.Entry<Address, List<Integer>> entry : indexesByOwner.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            int[] ownedPartitionIds = new int[indexes.size()];
+            long[] ownedStartSequences = new long[indexes.size()];
+            for (int j = 0; j < ownedPartitionIds.length; j++) {
+                ownedPartitionIds[j] = partitionIds[indexes.get(j)];
+                ownedStartSequences[j] = startSequences[indexes.get(j)];
+            }
+            Operation op = operationFactory.create(ownedPartitionIds, ownedStartSequences);
+            // a failed batch read is retried partition by partition, which also
+            // reports the failures which are not related to the target member
+            CompletableFuture<List<ReadResultSet<T>>> batchFuture = nodeEngine.getOperationService()
+                    .<List<ReadResultSet<T>>>invokeOnTarget(serviceName, op, entry.getKey())
+                    .handle((resultSets, t) -> resultSets);
+            for (int j = 0; j < ownedPartitionIds.length; j++) {
+                int partitionId = ownedPartitionIds[j];
+                long startSequence = ownedStartSequences[j];
+                int resultIndex = j;
+                futures[indexes.get(j)] = batchFuture.thenCompose(resultSets -> {
+                    ReadResultSet<T> resultSet = resultSets != null ? resultSets.get(resultIndex) : null;
+                    return resultSet != null
+                            ? CompletableFuture.completedFuture(resultSet)
+                            : partitionReader.read(partitionId, startSequence);
+                });
+            }
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(v -> {
+            List<ReadResultSet<T>> resultSets = new ArrayList<>(futures.length);
+            for (CompletableFuture<ReadResultSet<T>> future : futures) {
+                resultSets.add(future.join());
+            }
+            return resultSets;
+        });
+    }
+
+    /**
+     * Creates the operation reading from the event journals of the given
+     * partitions, which are all owned by the same member.
+     */
+    @FunctionalInterface
+    public interface BatchReadOperationFactory {
+        Operation create(int[] partitionIds, long[] startSequences);
+    }
+
+    /**
+     * Reads from the event journal of a single partition without waiting
+     * for new events.
+     *
+     * @param <T> the type of the items in the result set
+     */
+    @FunctionalInterface
+    public interface PartitionReader<T> {
+        CompletionStage<ReadResultSet<T>> read(int partitionId, long startSequence);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.journal;
+
+import com.hazelcast.ringbuffer.ReadResultSet;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An {@link EventJournalReader} which can read from the event journals of
+ * many partitions at once. The partitions owned by the same member are read
+ * by a single operation which waits on the member until any of them has
+ * new events, so a reader polling many partitions doesn't need an
+ * operation per partition.
+ *
+ * @param <E> journal event type
+ * @since 5.3
+ */
+public interface EventJournalBatchReader<E> extends EventJournalReader<E> {
+
+    /**
+     * Reads from the event journals of the given partitions. The returned
+     * future completes as soon as the journal of any of the partitions has
+     * events which haven't been read yet or after {@code maxWaitMillis}
+     * elapse, whichever happens first. The result sets of the partitions
+     * without new events are empty.
+     * <p>
+     * The returned future may throw {@link UnsupportedOperationException} if
+     * the cluster version is lower than 5.3 or there is no event journal
+     * configured for this data structure.
+     *
+     * @param partitionIds   the IDs of the partitions to read
+     * @param startSequences the sequence of the first item to read from each partition,
+     *                       in the same order as {@code partitionIds}
+     * @param maxSize        the maximum number of items to read from each partition
+     * @param maxWaitMillis  the maximum time to wait for new events
+     * @param predicate      the predicate which the events must pass to be included in the response.
+     *                       May be {@code null} in which case all events pass the predicate
+     * @param projection     the projection which is applied to the events before returning.
+     *                       May be {@code null} in which case the event is returned without being projected
+     * @param <T>            the return type of the projection. It is equal to the journal event type
+     *                       if the projection is {@code null} or it is the identity projection
+     * @return {@link CompletionStage} with the result sets of the partitions, in the same
+     * order as {@code partitionIds}
+     * @throws IllegalArgumentException if the lengths of {@code partitionIds} and
+     *                                  {@code startSequences} differ
+     */
+    <T> CompletionStage<List<ReadResultSet<T>>> readFromEventJournals(
+            int[] partitionIds,
+            long[] startSequences,
+            int maxSize,
+            long maxWaitMillis,
+            Predicate<? super E> predicate,
+            Function<? super E, ? extends T> projection
+    );
+}
@@ -85,7 +85,7 @@ public abstract class EventJournalReadOperation<T, J> extends Operation
         final int partitionId = getPartitionId();
         journal.cleanup(namespace, partitionId);
 
-        startSequence = clampToBounds(journal, partitionId, startSequence);
+        startSequence = clampToBounds(journal, namespace, partitionId, startSequence);
 
         journal.isAvailableOrNextSequence(namespace, partitionId, startSequence);
         // we'll store the wait notify key because ICache destroys the record store
@@ -114,7 +114,7 @@ public abstract class EventJournalReadOperation<T, J> extends Operation
         final EventJournal<J> journal = getJournal();
         final int partitionId = getPartitionId();
         journal.cleanup(namespace, partitionId);
-        sequence = clampToBounds(journal, partitionId, sequence);
+        sequence = clampToBounds(journal, namespace, partitionId, sequence);
 
         if (minSize == 0) {
             if (!journal.isNextAvailableSequence(namespace, partitionId, sequence)) {
@@ -194,11 +194,13 @@ public abstract class EventJournalReadOperation<T, J> extends Operation
      * {@link com.hazelcast.ringbuffer.StaleSequenceException}.
      *
      * @param journal           the event journal
+     * @param namespace         the namespace of the journal
      * @param partitionId       the partition ID to read
      * @param requestedSequence the requested sequence to read
      * @return the bounded journal sequence
      */
-    private long clampToBounds(EventJournal<J> journal, int partitionId, long requestedSequence) {
+    static long clampToBounds(EventJournal<?> journal, DistributedObjectNamespace namespace, int partitionId,
+                              long requestedSequence) {
         final long oldestSequence = journal.oldestSequence(namespace, partitionId);
         final long newestSequence = journal.newestSequence(namespace, partitionId);
 
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics;
+
+import com.hazelcast.internal.util.QuickMath;
+import com.hazelcast.internal.util.RuntimeAvailableProcessors;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_MAX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_P90;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_P999;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, in the spirit of
+ * HdrHistogram.
+ * <p>
+ * Values are recorded in microseconds. Every power-of-two range is split into
+ * {@value #SUB_BUCKET_HALF_COUNT} linear sub-buckets, so a reported value is
+ * at most ~6% higher than the recorded one. Values above ~19 hours are
+ * recorded as the maximum trackable value.
+ * <p>
+ * The recording threads are spread over a few striped recorders which are
+ * allocated on first use and merged when the histogram is read, so recording
+ * is a single uncontended atomic increment.
+ * <p>
+ * When collected as a metric, the histogram publishes the total number of
+ * recorded values and the percentiles and the maximum of the values recorded
+ * since the previous collection.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    static final int MAX_VALUE_BITS = 36;
+    static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private static final int MAX_STRIPE_COUNT = 8;
+    private static final double HUNDRED_PERCENT = 100;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_METRICS = {
+            LATENCY_HISTOGRAM_METRIC_P50, LATENCY_HISTOGRAM_METRIC_P90,
+            LATENCY_HISTOGRAM_METRIC_P99, LATENCY_HISTOGRAM_METRIC_P999,
+    };
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int stripeMask;
+    // bucket counts at the previous collection, guarded by this
+    private long[] collectedCounts = new long[BUCKET_COUNT];
+
+    public LatencyHistogram() {
+        int stripeCount = QuickMath.nextPowerOfTwo(min(RuntimeAvailableProcessors.get(), MAX_STRIPE_COUNT));
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    public void recordNanos(long latencyNanos) {
+        recordMicros(NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param latencyMicros the latency in microseconds
+     */
+    public void recordMicros(long latencyMicros) {
+        stripe().incrementAndGet(bucketIndex(latencyMicros));
+    }
+
+    /**
+     * Returns the total number of recorded values.
+     */
+    public long count() {
+        return sum(counts());
+    }
+
+    /**
+     * Returns the value at the given percentile of all recorded values, or
+     * {@code -1} if nothing is recorded.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value in microseconds
+     */
+    public long percentileMicros(double percentile) {
+        long[] counts = counts();
+        return valueAtPercentile(counts, sum(counts), percentile);
+    }
+
+    /**
+     * Collects the histogram into the given context.
+     *
+     * @param descriptor the descriptor of the histogram
+     * @param context    the context to collect into
+     */
+    public void provideMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        long[] counts = counts();
+        long[] intervalCounts = new long[BUCKET_COUNT];
+        synchronized (this) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                intervalCounts[i] = counts[i] - collectedCounts[i];
+            }
+            collectedCounts = counts;
+        }
+
+        long intervalCount = sum(intervalCounts);
+        context.collect(descriptor.copy(), LATENCY_HISTOGRAM_METRIC_COUNT, INFO, COUNT, sum(counts));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            long value = intervalCount == 0 ? 0 : valueAtPercentile(intervalCounts, intervalCount, PERCENTILES[i]);
+            context.collect(descriptor.copy(), PERCENTILE_METRICS[i], INFO, US, value);
+        }
+        context.collect(descriptor.copy(), LATENCY_HISTOGRAM_METRIC_MAX, INFO, US, maxValue(intervalCounts));
+    }
+
+    private AtomicLongArray stripe() {
+        int index = (int) Thread.currentThread().getId() & stripeMask;
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    private long[] counts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < stripes.length(); i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                counts[bucket] += stripe.get(bucket);
+            }
+        }
+        return counts;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        long clamped = min(value, MAX_VALUE);
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(clamped) - SUB_BUCKET_BITS;
+        int subBucket = (int) (clamped >>> shift) - SUB_BUCKET_HALF_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest value which is recorded in the given bucket.
+     */
+    static long highestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (bucketIndex - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static long valueAtPercentile(long[] counts, long total, double percentile) {
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / HUNDRED_PERCENT * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValue(i);
+            }
+        }
+        return highestValue(counts.length - 1);
+    }
+
+    private static long maxValue(long[] counts) {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return highestValue(i);
+            }
+        }
+        return 0;
+    }
+
+    private static long sum(long[] counts) {
+        long sum = 0;
+        for (long count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * A group of {@link LatencyHistogram}s keyed by e.g. an operation class or a
+ * data structure name. It is registered to the {@link MetricsRegistry} as a
+ * {@link DynamicMetricsProvider} and collects each histogram with the given
+ * prefix and the tags produced by the given function for its key.
+ *
+ * @param <K> type of the keys
+ */
+public final class LatencyHistograms<K> implements DynamicMetricsProvider {
+
+    private final ConcurrentMap<K, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final String prefix;
+    private final BiFunction<MetricDescriptor, K, MetricDescriptor> tagger;
+
+    /**
+     * @param prefix the prefix of the metrics
+     * @param tagger the function which adds the discriminator and the tags
+     *               of a key to the descriptor
+     */
+    public LatencyHistograms(String prefix, BiFunction<MetricDescriptor, K, MetricDescriptor> tagger) {
+        this.prefix = prefix;
+        this.tagger = tagger;
+    }
+
+    /**
+     * Returns the histogram of the given key, creating it if needed.
+     */
+    public LatencyHistogram get(K key) {
+        LatencyHistogram histogram = histograms.get(key);
+        // prevents the lock of computeIfAbsent() on the fast path
+        return histogram != null ? histogram : histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Records a latency in the histogram of the given key.
+     *
+     * @param key          the key
+     * @param latencyNanos the latency in nanoseconds
+     */
+    public void recordNanos(K key, long latencyNanos) {
+        get(key).recordNanos(latencyNanos);
+    }
+
+    /**
+     * Removes the histogram of the given key, e.g. when the data structure
+     * is destroyed.
+     */
+    public void remove(K key) {
+        histograms.remove(key);
+    }
+
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (Map.Entry<K, LatencyHistogram> entry : histograms.entrySet()) {
+            MetricDescriptor histogramDescriptor = tagger.apply(descriptor.copy().withPrefix(prefix), entry.getKey());
+            entry.getValue().provideMetrics(histogramDescriptor, context);
+        }
+    }
+}
@@ -57,20 +57,27 @@ public final class MetricDescriptorConstants {
     // ===[CLIENT]======================================================
     public static final String CLIENT_PREFIX_ENDPOINT = "client.endpoint";
     public static final String CLIENT_PREFIX_INVOCATIONS = "invocations";
+    public static final String CLIENT_PREFIX_INVOCATIONS_LATENCY = "invocations.latency";
     public static final String CLIENT_PREFIX_LISTENERS = "listeners";
     public static final String CLIENT_PREFIX_MEMORY = "memory";
     public static final String CLIENT_PREFIX_MEMORY_MANAGER = "memorymanager";
     public static final String CLIENT_PREFIX_EXECUTION_SERVICE = "executionService";
+    public static final String CLIENT_PREFIX_MESSAGE_TASK_LATENCY = "client.messageTask.latency";
+    public static final String CLIENT_DISCRIMINATOR_MESSAGE_TASK_TYPE = "type";
     public static final String CLIENT_METRIC_ENDPOINT_MANAGER_COUNT = "count";
     public static final String CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS = "totalRegistrations";
+    public static final String CLIENT_METRIC_ENDPOINT_MANAGER_EVENTS_DROPPED = "eventsDropped";
     public static final String CLIENT_METRIC_CONNECTION_CONNECTIONID = "connectionId";
     public static final String CLIENT_METRIC_CONNECTION_EVENT_HANDLER_COUNT = "eventHandlerCount";
     public static final String CLIENT_METRIC_CONNECTION_CLOSED_TIME = "closedTime";
     public static final String CLIENT_METRIC_INVOCATIONS_PENDING_CALLS = "pendingCalls";
     public static final String CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS = "startedInvocations";
     public static final String CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS = "maxCurrentInvocations";
+    public static final String CLIENT_METRIC_INVOCATIONS_HEDGED_INVOCATIONS = "hedgedInvocations";
+    public static final String CLIENT_DISCRIMINATOR_MEMBER = "member";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENT_QUEUE_SIZE = "eventQueueSize";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENTS_PROCESSED = "eventsProcessed";
+    public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENTS_DROPPED = "eventsDropped";
     // ===[/CLIENT]=====================================================
 
     // ===[CLUSTER]=====================================================
@@ -186,6 +193,15 @@ public final class MetricDescriptorConstants {
     public static final String HD_METRIC_ENTRY_COUNT = "entryCount";
     // ===[/HD]=========================================================
 
+    // ===[LATENCY HISTOGRAM]===========================================
+    public static final String LATENCY_HISTOGRAM_METRIC_COUNT = "count";
+    public static final String LATENCY_HISTOGRAM_METRIC_P50 = "p50Micros";
+    public static final String LATENCY_HISTOGRAM_METRIC_P90 = "p90Micros";
+    public static final String LATENCY_HISTOGRAM_METRIC_P99 = "p99Micros";
+    public static final String LATENCY_HISTOGRAM_METRIC_P999 = "p999Micros";
+    public static final String LATENCY_HISTOGRAM_METRIC_MAX = "maxMicros";
+    // ===[/LATENCY HISTOGRAM]==========================================
+
     // ===[LIST]=======================================================
     public static final String LIST_PREFIX = "list";
     public static final String LIST_METRIC_LAST_ACCESS_TIME = "lastAccessTime";
@@ -252,6 +268,8 @@ public final class MetricDescriptorConstants {
             = "differentialPartitionReplicationRecordsCount";
     public static final String MAP_PREFIX_MAP_STORE_OFFLOADED_OPERATIONS
             = "map.store.offloaded.operations";
+    public static final String MAP_PREFIX_MAP_STORE_LATENCY = "map.store.latency";
+    public static final String MAP_TAG_METHOD = "method";
     public static final String MAP_METRIC_MAP_STORE_WAITING_TO_BE_PROCESSED_COUNT
             = "waitingToBeProcessedCount";
     // ===[/MAP]========================================================
@@ -289,6 +307,8 @@ public final class MetricDescriptorConstants {
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME = "totalElapsedMigrationOperationTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME = "totalElapsedDestinationCommitTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME = "totalElapsedMigrationTime";
+    public static final String MIGRATION_METRIC_RATE_LIMIT = "migrationRateLimit";
+    public static final String MIGRATION_METRIC_THROTTLED_TIME = "migrationThrottledTime";
     // ===[/MIGRATION]==================================================
 
     // ===[MULTIMAP]====================================================
@@ -362,6 +382,9 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_PREFIX_PARKER = "operation.parker";
     public static final String OPERATION_PREFIX_PARTITION = "operation.partition";
     public static final String OPERATION_PREFIX_THREAD = "operation.thread";
+    public static final String OPERATION_PREFIX_EXECUTION_LATENCY = "operation.execution.latency";
+    public static final String OPERATION_PREFIX_INVOCATION_LATENCY = "operation.invocation.latency";
+    public static final String OPERATION_DISCRIMINATOR_TYPE = "type";
     public static final String OPERATION_DISCRIMINATOR_THREAD = "thread";
     public static final String OPERATION_DISCRIMINATOR_PARTITIONID = "partitionId";
     public static final String OPERATION_DISCRIMINATOR_GENERICID = "genericId";
@@ -434,6 +457,8 @@ public final class MetricDescriptorConstants {
     public static final String PARTITIONS_METRIC_PARTITION_SERVICE_MIGRATION_QUEUE_SIZE = "migrationQueueSize";
     public static final String PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_REPLICA_SYNC_SEMAPHORE = "replicaSyncSemaphore";
     public static final String PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_SYNC_REQUEST_COUNTER = "replicaSyncRequestsCounter";
+    public static final String PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_MERKLE_TREE_SYNC_FALLBACKS_COUNTER =
+            "merkleTreeSyncFallbacksCounter";
     public static final String PARTITIONS_METRIC_PARTITION_REPLICA_STATE_MANAGER_PARTITION_COUNT = "partitionCount";
     public static final String PARTITIONS_METRIC_PARTITION_REPLICA_STATE_MANAGER_LOCAL_PARTITION_COUNT = "localPartitionCount";
     public static final String PARTITIONS_METRIC_PARTITION_REPLICA_STATE_MANAGER_ACTIVE_PARTITION_COUNT = "activePartitionCount";
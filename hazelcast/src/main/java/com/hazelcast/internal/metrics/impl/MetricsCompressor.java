@@ -36,6 +36,7 @@ import java.util.zip.DeflaterOutputStream;
 import java.util.zip.InflaterInputStream;
 
 import static com.hazelcast.internal.metrics.impl.DefaultMetricDescriptorSupplier.DEFAULT_DESCRIPTOR_SUPPLIER;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
 import static java.lang.Math.multiplyExact;
 
 /**
@@ -78,6 +79,11 @@ import static java.lang.Math.multiplyExact;
  * +--------------------------------+--------------------+
  * | Metrics blob                   |   variable size    |
  * +--------------------------------+--------------------+
+ * <p>
+ * The compressor is meant to be reused for the consecutive collection
+ * cycles by calling {@link #getBlobAndReset()}, which keeps the
+ * dictionary, the deflaters and the buffers of the previous cycle, so a
+ * cycle allocates little more than the returned blob.
  */
 public class MetricsCompressor {
 
@@ -114,20 +120,18 @@ public class MetricsCompressor {
     private static final int SIZE_DICTIONARY_BLOB = 4;
     private static final int SIZE_COUNT_METRICS = 4;
 
-    private MetricsDictionary dictionary;
+    private final MetricsDictionary dictionary = new MetricsDictionary();
 
     // output streams for the blob containing the dictionary
     @Nonnull
     private DataOutputStream dictionaryDos;
-    @Nonnull
-    private Deflater dictionaryCompressor;
+    private final Deflater dictionaryCompressor = new Deflater(Deflater.BEST_SPEED);
     private MorePublicByteArrayOutputStream dictionaryBaos = new MorePublicByteArrayOutputStream(INITIAL_BUFFER_SIZE_DICTIONARY);
 
     // output streams for the blob containing the metrics
     @Nonnull
     private DataOutputStream metricDos;
-    @Nonnull
-    private Deflater metricsCompressor;
+    private final Deflater metricsCompressor = new Deflater(Deflater.BEST_SPEED);
     private MorePublicByteArrayOutputStream metricBaos = new MorePublicByteArrayOutputStream(INITIAL_BUFFER_SIZE_METRICS);
 
     // temporary buffer to avoid DeflaterOutputStream's extra byte[] allocations
@@ -281,7 +285,9 @@ public class MetricsCompressor {
      * Gets data without preparing for next compression cycle.
      */
     public byte[] getBlobAndClose() {
-        return getRenderedBlob();
+        byte[] blob = getRenderedBlob();
+        close();
+        return blob;
     }
 
     private void writeDictionary() throws IOException {
@@ -320,9 +326,7 @@ public class MetricsCompressor {
     }
 
     private void reset(int estimatedBytesDictionary, int estimatedBytesMetrics) {
-        dictionaryCompressor = new Deflater();
-        dictionaryCompressor.setLevel(Deflater.BEST_SPEED);
-
+        dictionaryCompressor.reset();
         // shrink the `dictionaryBaos` if capacity is more than 50% larger than the estimated size
         if (dictionaryBaos.capacity() > multiplyExact(estimatedBytesDictionary, 3) / 2) {
             dictionaryBaos = new MorePublicByteArrayOutputStream(estimatedBytesDictionary);
@@ -330,8 +334,7 @@ public class MetricsCompressor {
         dictionaryBaos.reset();
         dictionaryDos = new DataOutputStream(new DeflaterOutputStream(dictionaryBaos, dictionaryCompressor));
 
-        metricsCompressor = new Deflater();
-        metricsCompressor.setLevel(Deflater.BEST_SPEED);
+        metricsCompressor.reset();
         // shrink the `metricsBaos` if capacity is more than 50% larger than the estimated size
         if (metricBaos.capacity() > multiplyExact(estimatedBytesMetrics, 3) / 2) {
             metricBaos = new MorePublicByteArrayOutputStream(estimatedBytesMetrics);
@@ -339,7 +342,7 @@ public class MetricsCompressor {
         metricBaos.reset();
         metricDos = new DataOutputStream(new DeflaterOutputStream(metricBaos, metricsCompressor));
 
-        dictionary = new MetricsDictionary();
+        dictionary.reset();
         count = 0;
         lastDescriptor = null;
     }
@@ -363,33 +366,30 @@ public class MetricsCompressor {
     private byte[] getRenderedBlob() {
         try {
             writeDictionary();
-            close();
+            // closing the streams finishes the deflaters, but doesn't end them
+            dictionaryDos.close();
+            metricDos.close();
         } catch (IOException e) {
             // should never be thrown
             throw new RuntimeException(e);
         }
-        byte[] dictionaryBytes = dictionaryBaos.toByteArray();
-        byte[] metricsBytes = metricBaos.toByteArray();
+        int dictionarySize = dictionaryBaos.size();
+        int metricsSize = metricBaos.size();
 
         // version info + dictionary length + dictionary blob + number of metrics + metrics blob
-        int completeSize =
-                SIZE_VERSION + SIZE_DICTIONARY_BLOB + dictionaryBytes.length + SIZE_COUNT_METRICS + metricsBytes.length;
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(completeSize);
-        DataOutputStream dos = new DataOutputStream(baos);
-        try {
-            dos.write((BINARY_FORMAT_VERSION >>> BITS_IN_BYTE) & BYTE_MASK);
-            dos.write(BINARY_FORMAT_VERSION & BYTE_MASK);
-            dos.writeInt(dictionaryBytes.length);
-            dos.write(dictionaryBytes);
-            dos.writeInt(count);
-            dos.write(metricsBytes);
-            dos.close();
-        } catch (IOException e) {
-            // should never be thrown
-            throw new RuntimeException(e);
-        }
-
-        return baos.toByteArray();
+        int completeSize = SIZE_VERSION + SIZE_DICTIONARY_BLOB + dictionarySize + SIZE_COUNT_METRICS + metricsSize;
+        byte[] blob = new byte[completeSize];
+        int position = 0;
+        blob[position++] = (byte) ((BINARY_FORMAT_VERSION >>> BITS_IN_BYTE) & BYTE_MASK);
+        blob[position++] = (byte) (BINARY_FORMAT_VERSION & BYTE_MASK);
+        writeIntB(blob, position, dictionarySize);
+        position += SIZE_DICTIONARY_BLOB;
+        System.arraycopy(dictionaryBaos.internalBuffer(), 0, blob, position, dictionarySize);
+        position += dictionarySize;
+        writeIntB(blob, position, count);
+        position += SIZE_COUNT_METRICS;
+        System.arraycopy(metricBaos.internalBuffer(), 0, blob, position, metricsSize);
+        return blob;
     }
 
     public static void extractMetrics(byte[] blob, MetricConsumer consumer) {
@@ -16,15 +16,23 @@
 
 package com.hazelcast.internal.metrics.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.TreeMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Metrics dictionary storing word -> id mapping. Used by {@link
  * MetricsCompressor}'s dictionary-based algorithm.
+ * <p>
+ * The dictionary is kept between the metrics collection cycles, so the
+ * words of the metrics collected in every cycle are stored only once. The
+ * ids are assigned per cycle in the order of the first use of the words,
+ * hence the ids in every blob are still dense, starting from 0.
  */
 class MetricsDictionary {
     /**
@@ -34,7 +42,17 @@ class MetricsDictionary {
      */
     static final int MAX_WORD_LENGTH = MetricsCompressor.UNSIGNED_BYTE_MAX_VALUE;
 
-    private TreeMap<String, Word> orderedDictionary = new TreeMap<>(Comparator.naturalOrder());
+    /**
+     * The words not used in the last cycle are dropped from the dictionary
+     * when it stores this many times more words than were used.
+     */
+    private static final int MAX_UNUSED_WORDS_FACTOR = 2;
+
+    private static final Comparator<Word> WORD_COMPARATOR = Comparator.comparing(Word::word);
+
+    private final Map<String, Word> dictionary = new HashMap<>();
+    private final List<Word> cycleWords = new ArrayList<>();
+    private int cycle;
 
     /**
      * Returns the dictionary id for the given word. If the word is not yet
@@ -51,28 +69,50 @@ class MetricsDictionary {
                     + MAX_WORD_LENGTH + ": " + word);
         }
 
-        int nextWordId = orderedDictionary.size();
-        return orderedDictionary
-                .computeIfAbsent(word, key -> new Word(word, nextWordId))
-                .id;
+        Word dictionaryWord = dictionary.get(word);
+        if (dictionaryWord == null) {
+            dictionaryWord = new Word(word);
+            dictionary.put(word, dictionaryWord);
+        }
+        if (dictionaryWord.cycle != cycle || dictionaryWord.id < 0) {
+            dictionaryWord.cycle = cycle;
+            dictionaryWord.id = cycleWords.size();
+            cycleWords.add(dictionaryWord);
+        }
+        return dictionaryWord.id;
     }
 
     /**
-     * Returns all stored word<->id mappings ordered by word.
+     * Returns all word<->id mappings used in the current cycle ordered by
+     * word.
      *
      * @return the word<->mappings
      */
     public Collection<Word> words() {
-        return orderedDictionary.values();
+        cycleWords.sort(WORD_COMPARATOR);
+        return cycleWords;
+    }
+
+    /**
+     * Starts a new cycle. The ids assigned in the previous cycle are
+     * discarded, but the words are kept for the next cycles.
+     */
+    void reset() {
+        if (dictionary.size() > MAX_UNUSED_WORDS_FACTOR * cycleWords.size()) {
+            int lastCycle = cycle;
+            dictionary.values().removeIf(word -> word.cycle != lastCycle);
+        }
+        cycleWords.clear();
+        cycle++;
     }
 
     static final class Word {
-        private String word;
-        private int id;
+        private final String word;
+        private int id = -1;
+        private int cycle;
 
-        private Word(String word, int id) {
+        private Word(String word) {
             this.word = word;
-            this.id = id;
         }
 
         String word() {
@@ -327,6 +327,10 @@ public class MetricsRegistryImpl implements MetricsRegistry {
     }
 
     private MetricValueCatcher lookupMetricValueCatcher(MetricDescriptor descriptor) {
+        if (gauges.isEmpty()) {
+            // avoids hashing the descriptor of every collected metric
+            return null;
+        }
         AbstractGauge gauge = gauges.get(((MetricDescriptorImpl) descriptor).lookupView());
         return gauge != null ? gauge.getCatcherOrNull() : null;
     }
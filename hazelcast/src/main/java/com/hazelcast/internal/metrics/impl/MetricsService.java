@@ -24,6 +24,7 @@ import com.hazelcast.internal.metrics.jmx.JmxPublisher;
 import com.hazelcast.internal.metrics.managementcenter.ConcurrentArrayRingbuffer;
 import com.hazelcast.internal.metrics.managementcenter.ConcurrentArrayRingbuffer.RingbufferSlice;
 import com.hazelcast.internal.metrics.managementcenter.ManagementCenterPublisher;
+import com.hazelcast.internal.metrics.openmetrics.OpenMetricsPublisher;
 import com.hazelcast.internal.services.ManagedService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -32,6 +33,7 @@ import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.operationservice.LiveOperations;
 import com.hazelcast.spi.impl.operationservice.LiveOperationsTracker;
 
+import javax.annotation.Nullable;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
@@ -46,6 +48,7 @@ import java.util.function.Supplier;
 import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.internal.util.MapUtil.entry;
+import static com.hazelcast.spi.properties.ClusterProperty.METRICS_OPENMETRICS_ENABLED;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -73,6 +76,7 @@ public class MetricsService implements ManagedService, LiveOperationsTracker {
      * with the format (timestamp, byte[])
      */
     private ConcurrentArrayRingbuffer<Map.Entry<Long, byte[]>> metricsJournal;
+    private volatile OpenMetricsPublisher openMetricsPublisher;
     private volatile ScheduledFuture<?> scheduledFuture;
 
     private final Supplier<MetricsRegistry> metricsRegistrySupplier;
@@ -101,6 +105,11 @@ public class MetricsService implements ManagedService, LiveOperationsTracker {
                 publishers.add(createJmxPublisher());
             }
 
+            if (nodeEngine.getProperties().getBoolean(METRICS_OPENMETRICS_ENABLED)) {
+                openMetricsPublisher = new OpenMetricsPublisher();
+                publishers.add(openMetricsPublisher);
+            }
+
             if (!publishers.isEmpty()) {
                 scheduleMetricsCollectorIfNeeded();
             }
@@ -160,6 +169,15 @@ public class MetricsService implements ManagedService, LiveOperationsTracker {
         metricsRegistrySupplier.get().collect(metricsCollector);
     }
 
+    /**
+     * Returns the publisher rendering the metrics for the OpenMetrics REST
+     * endpoint, or {@code null} if the endpoint is disabled.
+     */
+    @Nullable
+    public OpenMetricsPublisher getOpenMetricsPublisher() {
+        return openMetricsPublisher;
+    }
+
     public LiveOperationRegistry getLiveOperationRegistry() {
         return liveOperationRegistry;
     }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics.openmetrics;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsPublisher;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.hazelcast.internal.metrics.MetricTarget.JMX;
+import static com.hazelcast.internal.util.StringUtil.stringToBytes;
+
+/**
+ * Publisher rendering the collected metrics into the
+ * <a href="https://openmetrics.io">OpenMetrics</a> text format, which can be
+ * scraped by Prometheus through the REST API.
+ * <p>
+ * The metrics are rendered once per collection round and the result is kept
+ * until the next round, so serving a scrape costs nothing more than writing
+ * the last rendered text. Each metric becomes a gauge named after its prefix
+ * and its metric name, the discriminator and the tags of the descriptor
+ * become the labels of the sample. The metrics excluded from JMX are not
+ * rendered either, since both are meant for external monitoring tools.
+ * <p>
+ * The publish methods are called by the single metrics collector thread only.
+ */
+public class OpenMetricsPublisher implements MetricsPublisher {
+
+    static final String NAME_PREFIX = "hazelcast_";
+
+    private static final boolean[] ALLOWED_CHARS = new boolean['z' + 1];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ALLOWED_CHARS[c] = true;
+            ALLOWED_CHARS[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ALLOWED_CHARS[c] = true;
+        }
+        ALLOWED_CHARS['_'] = true;
+    }
+
+    /**
+     * key: metric family name, value: the rendered samples of the family
+     * in the current collection round
+     */
+    private final Map<String, StringBuilder> families = new LinkedHashMap<>();
+    private final StringBuilder nameBuilder = new StringBuilder();
+
+    private volatile byte[] snapshot;
+
+    @Override
+    public String name() {
+        return "OpenMetrics Publisher";
+    }
+
+    @Override
+    public void publishLong(MetricDescriptor descriptor, long value) {
+        StringBuilder samples = samplesOf(descriptor);
+        if (samples != null) {
+            samples.append(value).append('\n');
+        }
+    }
+
+    @Override
+    public void publishDouble(MetricDescriptor descriptor, double value) {
+        StringBuilder samples = samplesOf(descriptor);
+        if (samples == null) {
+            return;
+        }
+        if (Double.isNaN(value)) {
+            samples.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            samples.append(value > 0 ? "+Inf" : "-Inf");
+        } else {
+            samples.append(value);
+        }
+        samples.append('\n');
+    }
+
+    @Override
+    public void whenComplete() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, StringBuilder> family : families.entrySet()) {
+            text.append("# TYPE ").append(family.getKey()).append(" gauge\n")
+                .append(family.getValue());
+        }
+        text.append("# EOF\n");
+        families.clear();
+        snapshot = stringToBytes(text.toString());
+    }
+
+    /**
+     * Returns the UTF-8 encoded text rendered in the last collection round,
+     * or {@code null} if no round has been completed yet.
+     */
+    @Nullable
+    public byte[] snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Appends the name and the labels of the sample to the samples of its
+     * family and returns the samples, or returns {@code null} if the metric
+     * is not rendered.
+     */
+    private StringBuilder samplesOf(MetricDescriptor descriptor) {
+        if (descriptor.isTargetExcluded(JMX) || descriptor.metric() == null) {
+            return null;
+        }
+        nameBuilder.setLength(0);
+        nameBuilder.append(NAME_PREFIX);
+        if (descriptor.prefix() != null) {
+            appendSanitized(nameBuilder, descriptor.prefix()).append('_');
+        }
+        appendSanitized(nameBuilder, descriptor.metric());
+        String name = nameBuilder.toString();
+        StringBuilder samples = families.computeIfAbsent(name, k -> new StringBuilder());
+
+        samples.append(name);
+        int labelCount = 0;
+        if (descriptor.discriminator() != null) {
+            appendLabel(samples, labelCount++, descriptor.discriminator(), descriptor.discriminatorValue());
+        }
+        for (int i = 0; i < descriptor.tagCount(); i++) {
+            appendLabel(samples, labelCount++, descriptor.tag(i), descriptor.tagValue(i));
+        }
+        if (labelCount > 0) {
+            samples.append('}');
+        }
+        return samples.append(' ');
+    }
+
+    private static void appendLabel(StringBuilder samples, int index, String label, String value) {
+        samples.append(index == 0 ? '{' : ',');
+        appendSanitized(samples, label).append("=\"");
+        for (int i = 0; value != null && i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                samples.append('\\').append(c);
+            } else if (c == '\n') {
+                samples.append("\\n");
+            } else {
+                samples.append(c);
+            }
+        }
+        samples.append('"');
+    }
+
+    /**
+     * Appends the given name replacing the characters which are not allowed
+     * in metric and label names with underscores.
+     */
+    static StringBuilder appendSanitized(StringBuilder sb, String name) {
+        if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+            sb.append('_');
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            sb.append(isAllowed(c) ? c : '_');
+        }
+        return sb;
+    }
+
+    private static boolean isAllowed(char c) {
+        return c < ALLOWED_CHARS.length && ALLOWED_CHARS[c];
+    }
+}
@@ -115,6 +115,7 @@ public class RestApiFilter implements TextProtocolFilter {
                 || requestUri.startsWith(HttpCommandProcessor.URI_INSTANCE)
                 || ("GET".equals(operation) && requestUri.startsWith(HttpCommandProcessor.URI_LOG_LEVEL))
                 || ("GET".equals(operation) && requestUri.startsWith(HttpCommandProcessor.URI_TCP_IP_MEMBER_LIST))
+                || ("GET".equals(operation) && requestUri.startsWith(HttpCommandProcessor.URI_METRICS))
         ) {
             return RestEndpointGroup.CLUSTER_READ;
         }
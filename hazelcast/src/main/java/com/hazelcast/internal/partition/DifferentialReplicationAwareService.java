@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition;
+
+import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link FragmentedMigrationAwareService} which can synchronize a backup
+ * replica by transferring only the data which differs from the primary
+ * replica.
+ * <p>
+ * The data of a namespace in a partition is summarized by the leaves of a
+ * Merkle tree: the entries are assigned to the leaves by the hash of their
+ * keys, and each leaf holds an order-independent hash of its entries. The
+ * backup replica sends the leaves of its tree with the replica sync request,
+ * the primary replica compares them with the leaves of its own tree and
+ * replicates only the entries of the leaves which differ.
+ * <p>
+ * The trees are large to build, so {@link #getMerkleTreeLeaves} is called
+ * off the partition thread whenever possible and has to read the data in a
+ * thread-safe manner, or return {@code null} if it can't, in which case the
+ * namespace is replicated fully. {@link #prepareDifferentialReplicationOperation} is
+ * called on the same threads as {@link
+ * #prepareReplicationOperation(PartitionReplicationEvent, java.util.Collection)},
+ * see {@link OffloadedReplicationPreparation}.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED
+ * @since 5.3
+ */
+public interface DifferentialReplicationAwareService extends FragmentedMigrationAwareService {
+
+    /**
+     * Returns the hashes of the leaves of the Merkle tree of the data of
+     * the given namespace in the given partition, ordered from the leftmost
+     * leaf.
+     *
+     * @param partitionId the ID of the partition
+     * @param namespace   the namespace
+     * @return the hashes of the leaves or {@code null} if the namespace
+     * doesn't support differential replication
+     */
+    @Nullable
+    int[] getMerkleTreeLeaves(int partitionId, ServiceNamespace namespace);
+
+    /**
+     * Returns an operation which replicates the entries of the given leaves
+     * of the Merkle tree of the given namespace. When run on the replica, the
+     * operation replaces the entries of these leaves with the replicated ones
+     * and keeps the entries of the other leaves.
+     *
+     * @param event               the replication event
+     * @param namespace           the namespace
+     * @param leafOrderHashPairs  the pairs of the orders and the hashes of
+     *                            the leaves which differ on the replica
+     * @return the replication operation
+     */
+    Operation prepareDifferentialReplicationOperation(PartitionReplicationEvent event, ServiceNamespace namespace,
+                                                      int[] leafOrderHashPairs);
+}
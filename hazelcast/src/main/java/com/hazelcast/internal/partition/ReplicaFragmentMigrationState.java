@@ -17,6 +17,7 @@
 package com.hazelcast.internal.partition;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.logging.ILogger;
@@ -48,6 +49,7 @@ public class ReplicaFragmentMigrationState
     private Collection<Operation> migrationOperations;
 
     private transient ChunkSerDeHelper chunkSerDeHelper;
+    private transient volatile int serializedSize;
 
     public ReplicaFragmentMigrationState() {
     }
@@ -72,6 +74,14 @@ public class ReplicaFragmentMigrationState
         return migrationOperations;
     }
 
+    /**
+     * Returns the number of bytes this state was serialized to when it was
+     * last written or {@code 0} if it hasn't been written yet.
+     */
+    public int getSerializedSize() {
+        return serializedSize;
+    }
+
     @Override
     public int getFactoryId() {
         return PartitionDataSerializerHook.F_ID;
@@ -84,6 +94,7 @@ public class ReplicaFragmentMigrationState
 
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
+        int positionStart = ((BufferObjectDataOutput) out).position();
         out.writeInt(namespaces.size());
         for (Map.Entry<ServiceNamespace, long[]> e : namespaces.entrySet()) {
             out.writeObject(e.getKey());
@@ -96,6 +107,7 @@ public class ReplicaFragmentMigrationState
         }
 
         chunkSerDeHelper.writeChunkedOperations(out);
+        serializedSize = ((BufferObjectDataOutput) out).position() - positionStart;
     }
 
     @Override
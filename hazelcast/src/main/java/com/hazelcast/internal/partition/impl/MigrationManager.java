@@ -114,6 +114,8 @@ import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MAX
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_FRAGMENTED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_INTERVAL;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_LATENCY_THRESHOLD_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_MAX_MB_PER_SECOND;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_TIMEOUT;
 
 /**
@@ -148,6 +150,7 @@ public class MigrationManager {
     private final LinkedHashSet<MigrationInfo> completedMigrations = new LinkedHashSet<>();
     private final AtomicBoolean promotionPermit = new AtomicBoolean(false);
     private final MigrationStats stats = new MigrationStats();
+    private final MigrationThrottle migrationThrottle;
     private volatile MigrationInterceptor migrationInterceptor = new MigrationInterceptor.NopMigrationInterceptor();
     private final Lock partitionServiceLock;
     private final MigrationPlanner migrationPlanner;
@@ -193,7 +196,10 @@ public class MigrationManager {
         delayedResumeMigrationTrigger = new CoalescingDelayedTrigger(
                 executionService, migrationPauseDelayMs, 2 * migrationPauseDelayMs, this::resumeMigration);
         this.memberHeartbeatTimeoutMillis = properties.getMillis(ClusterProperty.MAX_NO_HEARTBEAT_SECONDS);
+        migrationThrottle = new MigrationThrottle(MEGABYTES.toBytes(properties.getInteger(PARTITION_MIGRATION_MAX_MB_PER_SECOND)),
+                properties.getNanos(PARTITION_MIGRATION_LATENCY_THRESHOLD_MILLIS));
         nodeEngine.getMetricsRegistry().registerStaticMetrics(stats, PARTITIONS_PREFIX);
+        nodeEngine.getMetricsRegistry().registerStaticMetrics(migrationThrottle, PARTITIONS_PREFIX);
         this.autoRebalanceDelaySeconds =
                 node.getConfig().getPersistenceConfig().isEnabled()
                         ? node.getConfig().getPersistenceConfig().getRebalanceDelaySeconds()
@@ -818,6 +824,10 @@ public class MigrationManager {
         return stats;
     }
 
+    public MigrationThrottle getMigrationThrottle() {
+        return migrationThrottle;
+    }
+
     /**
      * Invoked on the master node. Rearranges the partition table if there is no recent activity in the cluster after
      * this task has been scheduled, schedules migrations and syncs the partition state.
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_RATE_LIMIT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_THROTTLED_TIME;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Limits the rate of the migration data sent by this member to a
+ * bytes-per-second budget shared by all migrations this member is the
+ * source of.
+ * <p>
+ * The budget is consumed after a replica fragment is sent, and the next
+ * fragment of a migration is delayed until the budget allows it, so a burst
+ * of up to one fragment per migration is possible.
+ * <p>
+ * The rate adapts to the latency of the partition threads: if an operation
+ * waits longer than the latency threshold to be executed on the partition
+ * thread the fragment was prepared on, the rate is halved, otherwise it's
+ * increased by a fraction of the maximum rate, so the migrations yield to the
+ * foreground operations when the partition threads are busy.
+ */
+public class MigrationThrottle {
+
+    /**
+     * The minimum rate is the maximum rate divided by this value,
+     * which is also the number of steps in which the rate recovers.
+     */
+    static final int RATE_STEPS = 16;
+
+    private final long maxBytesPerSecond;
+    private final long latencyThresholdNanos;
+    private final long minBytesPerSecond;
+
+    @Probe(name = MIGRATION_METRIC_RATE_LIMIT, unit = BYTES)
+    private volatile long bytesPerSecond;
+    @Probe(name = MIGRATION_METRIC_THROTTLED_TIME, unit = MS)
+    private final AtomicLong throttledTime = new AtomicLong();
+    private long nextFreeNanos = Long.MIN_VALUE;
+
+    /**
+     * @param maxBytesPerSecond     the maximum rate or {@code 0} if the rate
+     *                              is not limited
+     * @param latencyThresholdNanos the partition thread latency above which
+     *                              the rate is decreased or {@code 0} if the
+     *                              rate doesn't adapt to the latency
+     */
+    public MigrationThrottle(long maxBytesPerSecond, long latencyThresholdNanos) {
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.minBytesPerSecond = Math.max(1, maxBytesPerSecond / RATE_STEPS);
+        this.bytesPerSecond = maxBytesPerSecond;
+    }
+
+    /**
+     * Returns {@code true} if the rate is limited.
+     */
+    public boolean isEnabled() {
+        return maxBytesPerSecond > 0;
+    }
+
+    /**
+     * Consumes the budget for the given number of bytes sent.
+     *
+     * @param bytes the number of bytes sent
+     * @return the delay in nanoseconds before the next fragment can be sent
+     */
+    public long acquire(long bytes) {
+        return acquire(bytes, System.nanoTime());
+    }
+
+    synchronized long acquire(long bytes, long nowNanos) {
+        if (!isEnabled() || bytes <= 0) {
+            return 0;
+        }
+        long costNanos = (long) ((double) bytes * SECONDS.toNanos(1) / bytesPerSecond);
+        nextFreeNanos = Math.max(nextFreeNanos, nowNanos) + costNanos;
+        long delayNanos = nextFreeNanos - nowNanos;
+        throttledTime.addAndGet(NANOSECONDS.toMillis(delayNanos));
+        return delayNanos;
+    }
+
+    /**
+     * Adapts the rate to the observed latency of a partition thread.
+     *
+     * @param latencyNanos the time an operation waited to be executed
+     */
+    public synchronized void onPartitionThreadLatency(long latencyNanos) {
+        if (!isEnabled() || latencyThresholdNanos <= 0) {
+            return;
+        }
+        if (latencyNanos > latencyThresholdNanos) {
+            bytesPerSecond = Math.max(minBytesPerSecond, bytesPerSecond / 2);
+        } else {
+            bytesPerSecond = Math.min(maxBytesPerSecond, bytesPerSecond + minBytesPerSecond);
+        }
+    }
+
+    /**
+     * Returns the current rate limit in bytes per second.
+     */
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Returns the total time in milliseconds the migration fragments have
+     * been delayed by this throttle.
+     */
+    long getThrottledTimeMillis() {
+        return throttledTime.get();
+    }
+
+    /**
+     * Creates a task measuring the time it waits to be executed on the
+     * partition thread of the given partition and adapting the rate to it.
+     * The task is meant to be submitted as a regular, non-urgent operation
+     * so it waits behind the foreground operations.
+     *
+     * @param partitionId the ID of the partition
+     * @return the task
+     */
+    public PartitionSpecificRunnable newLatencyProbe(int partitionId) {
+        return new LatencyProbe(partitionId, System.nanoTime());
+    }
+
+    private final class LatencyProbe implements PartitionSpecificRunnable {
+
+        private final int partitionId;
+        private final long createdNanos;
+
+        LatencyProbe(int partitionId, long createdNanos) {
+            this.partitionId = partitionId;
+            this.createdNanos = createdNanos;
+        }
+
+        @Override
+        public int getPartitionId() {
+            return partitionId;
+        }
+
+        @Override
+        public void run() {
+            onPartitionThreadLatency(System.nanoTime() - createdNanos);
+        }
+    }
+}
@@ -50,15 +50,19 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_MERKLE_TREE_SYNC_FALLBACKS_COUNTER;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_REPLICA_SYNC_SEMAPHORE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_SYNC_REQUEST_COUNTER;
+import static com.hazelcast.internal.partition.operation.PartitionReplicaSyncRequest.collectMerkleTreeLeaves;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static java.lang.String.format;
 import static java.util.Collections.newSetFromMap;
@@ -99,9 +103,13 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
     private final Semaphore replicaSyncSemaphore;
     @Probe(name = PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_SYNC_REQUEST_COUNTER)
     private final MwCounter replicaSyncRequestsCounter = newMwCounter();
+    @Probe(name = PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_MERKLE_TREE_SYNC_FALLBACKS_COUNTER)
+    private final MwCounter merkleTreeSyncFallbacksCounter = newMwCounter();
 
     private final long partitionMigrationTimeout;
     private final int maxParallelReplications;
+    private final boolean merkleTreeSyncEnabled;
+    private final int merkleTreeSyncMaxDiffPercentage;
 
     PartitionReplicaManager(Node node, InternalPartitionServiceImpl partitionService) {
         this.node = node;
@@ -116,6 +124,9 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         partitionMigrationTimeout = properties.getMillis(ClusterProperty.PARTITION_MIGRATION_TIMEOUT);
         maxParallelReplications = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_REPLICATIONS);
         replicaSyncSemaphore = new Semaphore(maxParallelReplications);
+        merkleTreeSyncEnabled = properties.getBoolean(ClusterProperty.PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED);
+        merkleTreeSyncMaxDiffPercentage = properties.getInteger(
+                ClusterProperty.PARTITION_REPLICA_SYNC_MERKLE_TREE_MAX_DIFF_PERCENTAGE);
 
         replicaVersions = new PartitionReplicaVersions[partitionCount];
         for (int i = 0; i < replicaVersions.length; i++) {
@@ -179,6 +190,19 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         sendSyncReplicaRequest(partitionId, namespaces, replicaIndex, target);
     }
 
+    /**
+     * Called when a replica which has sent the leaves of its Merkle tree has
+     * to be synchronized fully, because too many leaves differ or the
+     * namespace doesn't support differential replication on this member.
+     */
+    public void onMerkleTreeSyncFallback(int partitionId, ServiceNamespace namespace) {
+        merkleTreeSyncFallbacksCounter.inc();
+        if (logger.isFinestEnabled()) {
+            logger.finest("Synchronizing replica of partitionId=" + partitionId + ", namespace=" + namespace
+                    + " fully instead of differentially");
+        }
+    }
+
     /**
      * Checks preconditions for replica sync - if we don't know the owner yet, if this node is the owner or not a replica
      */
@@ -252,11 +276,20 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         }
         replicaSyncRequestsCounter.inc();
 
-        Operation syncRequest = ALLOW_OFFLOAD
-                ? new PartitionReplicaSyncRequestOffloadable(namespaces, partitionId, replicaIndex)
-                : new PartitionReplicaSyncRequest(namespaces, partitionId, replicaIndex);
-
-        nodeEngine.getOperationService().send(syncRequest, target.address());
+        Consumer<Map<ServiceNamespace, int[]>> sender = merkleTreeLeaves -> {
+            Operation syncRequest = ALLOW_OFFLOAD
+                    ? new PartitionReplicaSyncRequestOffloadable(namespaces, partitionId, replicaIndex, merkleTreeLeaves)
+                    : new PartitionReplicaSyncRequest(namespaces, partitionId, replicaIndex, merkleTreeLeaves);
+            nodeEngine.getOperationService().send(syncRequest, target.address());
+        };
+        if (merkleTreeSyncEnabled) {
+            // the Merkle trees are built off the partition thread, the sync
+            // is retried by the timeout task if the request is not sent
+            nodeEngine.getExecutionService().execute(ExecutionService.ASYNC_EXECUTOR,
+                    () -> sender.accept(collectMerkleTreeLeaves(nodeEngine, partitionId, namespaces)));
+        } else {
+            sender.accept(Collections.emptyMap());
+        }
     }
 
     private Collection<ServiceNamespace> registerSyncInfoForNamespaces(int partitionId,
@@ -487,6 +520,14 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         return replicaSyncSemaphore.availablePermits();
     }
 
+    /**
+     * Returns the maximum percentage of the Merkle tree leaves of a replica
+     * which may differ for the differential replica sync to be used.
+     */
+    public int getMerkleTreeSyncMaxDiffPercentage() {
+        return merkleTreeSyncMaxDiffPercentage;
+    }
+
     /**
      * @return copy of ongoing replica-sync operations
      */
@@ -18,6 +18,7 @@ package com.hazelcast.internal.partition.operation;
 
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkedMigrationAwareService;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.FragmentedMigrationAwareService;
 import com.hazelcast.internal.partition.MigrationAwareService;
 import com.hazelcast.internal.partition.NonFragmentedServiceNamespace;
@@ -25,6 +26,7 @@ import com.hazelcast.internal.partition.OffloadedReplicationPreparation;
 import com.hazelcast.internal.partition.PartitionReplicationEvent;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
 import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.internal.util.QuickMath;
 import com.hazelcast.internal.util.ThreadUtil;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -36,6 +38,7 @@ import com.hazelcast.spi.impl.servicemanager.ServiceInfo;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
@@ -44,6 +47,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
 import static com.hazelcast.internal.util.ThreadUtil.assertRunningOnPartitionThread;
 import static com.hazelcast.internal.util.ThreadUtil.isRunningOnPartitionThread;
+import static com.hazelcast.wan.impl.merkletree.MerkleTreeUtil.getLeftMostNodeOrderOnLevel;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.newSetFromMap;
@@ -51,6 +55,8 @@ import static java.util.Collections.singleton;
 
 abstract class AbstractPartitionOperation extends Operation implements IdentifiedDataSerializable {
 
+    private static final int PERCENT = 100;
+
     final Collection<MigrationAwareService> getMigrationAwareServices() {
         NodeEngineImpl nodeEngine = (NodeEngineImpl) getNodeEngine();
         return nodeEngine.getServices(MigrationAwareService.class);
@@ -290,6 +296,116 @@ abstract class AbstractPartitionOperation extends Operation implements Identifie
         return appendNewElement(operations, op);
     }
 
+    /**
+     * Creates the operations replicating only the data of the given namespace
+     * which differs from the replica, by comparing the leaves of the Merkle
+     * tree of the replica with the local ones. The local tree is built on the
+     * current thread, which is not the partition thread when the replica sync
+     * is offloaded. The operations are prepared on the same threads as the
+     * ones of the full replication, see {@link
+     * #collectReplicationOperations}.
+     *
+     * @param event             the replication event
+     * @param ns                the namespace
+     * @param replicaLeaves     the leaves of the Merkle tree of the replica
+     * @param maxDiffPercentage the maximum percentage of differing leaves
+     * @return the operations or {@code null} if the namespace doesn't support
+     * differential replication or too many leaves differ, in which case the
+     * replica has to be synchronized fully
+     */
+    @Nullable
+    final Collection<Operation> createDifferentialReplicationOperations(PartitionReplicationEvent event,
+                                                                        ServiceNamespace ns,
+                                                                        int[] replicaLeaves,
+                                                                        int maxDiffPercentage) {
+        assert !(ns instanceof NonFragmentedServiceNamespace) : ns + " should be used only for fragmented services!";
+
+        boolean currentThreadIsPartitionThread = isRunningOnPartitionThread();
+        Collection<Operation> operations = emptySet();
+        boolean differential = false;
+        NodeEngineImpl nodeEngine = (NodeEngineImpl) getNodeEngine();
+        Collection<ServiceInfo> services = nodeEngine.getServiceInfos(FragmentedMigrationAwareService.class);
+
+        for (ServiceInfo serviceInfo : services) {
+            FragmentedMigrationAwareService service = serviceInfo.getService();
+            if (!service.isKnownServiceNamespace(ns)) {
+                continue;
+            }
+            if (!(service instanceof DifferentialReplicationAwareService)) {
+                // the other services sharing the namespace, e.g. the locks
+                // and the event journal of a map, are replicated fully
+                operations = collectReplicationOperations(event, ns, currentThreadIsPartitionThread, operations,
+                        serviceInfo.getName(), service);
+                continue;
+            }
+
+            DifferentialReplicationAwareService differentialService = (DifferentialReplicationAwareService) service;
+            int[] leafOrderHashPairs = diffLeaves(differentialService.getMerkleTreeLeaves(event.getPartitionId(), ns),
+                    replicaLeaves, maxDiffPercentage);
+            if (leafOrderHashPairs == null) {
+                return null;
+            }
+            Operation op = prepareDifferentialReplicationOperation(event, ns, differentialService,
+                    leafOrderHashPairs, currentThreadIsPartitionThread);
+            if (op == null) {
+                return null;
+            }
+            op.setServiceName(serviceInfo.getName());
+            operations = appendNewElement(operations, op);
+            differential = true;
+        }
+        return differential ? operations : null;
+    }
+
+    private Operation prepareDifferentialReplicationOperation(PartitionReplicationEvent event,
+                                                              ServiceNamespace ns,
+                                                              DifferentialReplicationAwareService service,
+                                                              int[] leafOrderHashPairs,
+                                                              boolean currentThreadIsPartitionThread) {
+        if (currentThreadIsPartitionThread
+                || (service instanceof OffloadedReplicationPreparation
+                && ((OffloadedReplicationPreparation) service).shouldOffload())) {
+            return service.prepareDifferentialReplicationOperation(event, ns, leafOrderHashPairs);
+        }
+
+        // like the full replication operation, it must be prepared on
+        // the partition thread unless the service requested offload
+        UrgentPartitionRunnable<Operation> partitionThreadRunnable = new UrgentPartitionRunnable<>(
+                event.getPartitionId(),
+                () -> service.prepareDifferentialReplicationOperation(event, ns, leafOrderHashPairs));
+        getNodeEngine().getOperationService().execute(partitionThreadRunnable);
+        return partitionThreadRunnable.future.joinInternal();
+    }
+
+    /**
+     * Returns the pairs of the orders and the local hashes of the leaves
+     * which differ, or {@code null} if the trees can't be compared or more
+     * than {@code maxDiffPercentage} percent of the leaves differ.
+     */
+    @Nullable
+    private static int[] diffLeaves(@Nullable int[] localLeaves, int[] replicaLeaves, int maxDiffPercentage) {
+        if (localLeaves == null || localLeaves.length != replicaLeaves.length) {
+            return null;
+        }
+
+        int maxDiffLeaves = (int) ((long) localLeaves.length * maxDiffPercentage / PERCENT);
+        int leftMostLeaf = getLeftMostNodeOrderOnLevel(QuickMath.log2(localLeaves.length));
+        int[] leafOrderHashPairs = new int[2 * localLeaves.length];
+        int diffCount = 0;
+        for (int i = 0; i < localLeaves.length; i++) {
+            if (localLeaves[i] == replicaLeaves[i]) {
+                continue;
+            }
+            if (diffCount == maxDiffLeaves) {
+                return null;
+            }
+            leafOrderHashPairs[2 * diffCount] = leftMostLeaf + i;
+            leafOrderHashPairs[2 * diffCount + 1] = localLeaves[i];
+            diffCount++;
+        }
+        return Arrays.copyOf(leafOrderHashPairs, 2 * diffCount);
+    }
+
     private Collection<ChunkSupplier> prepareAndAppendNewChunkSupplier(PartitionReplicationEvent event,
                                                                        ServiceNamespace ns,
                                                                        ChunkedMigrationAwareService service,
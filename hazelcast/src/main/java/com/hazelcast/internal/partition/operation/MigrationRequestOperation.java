@@ -31,6 +31,7 @@ import com.hazelcast.internal.partition.ReplicaFragmentMigrationState;
 import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
 import com.hazelcast.internal.partition.impl.MigrationInterceptor.MigrationParticipant;
 import com.hazelcast.internal.partition.impl.MigrationManager;
+import com.hazelcast.internal.partition.impl.MigrationThrottle;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.ThreadUtil;
@@ -65,6 +66,7 @@ import static com.hazelcast.internal.util.CollectionUtil.isNotEmpty;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Sent from the master node to the partition owner.
@@ -82,6 +84,8 @@ import static java.util.Collections.singleton;
  *
  * @since 5.1 If chunked migration is enabled,
  * it also subdivides fragments into chunks.
+ * @since 5.3 The shots are paced by the {@link MigrationThrottle}
+ * of the member if the migration rate is limited.
  */
 public class MigrationRequestOperation extends BaseMigrationOperation {
 
@@ -171,7 +175,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 .setResultDeserialized(true)
                 .setCallTimeout(partitionService.getPartitionMigrationTimeout())
                 .invoke()
-                .whenCompleteAsync(new MigrationCallback(), asyncExecutor);
+                .whenCompleteAsync(new MigrationCallback(migrationState), asyncExecutor);
     }
 
     private void trySendNewFragment() {
@@ -192,6 +196,11 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
 
             // migration invocation must always happen on partition thread
             if (migrationState != null) {
+                MigrationThrottle throttle = migrationManager.getMigrationThrottle();
+                if (throttle.isEnabled()) {
+                    // samples the latency of the regular operations on the partition thread
+                    getNodeEngine().getOperationService().execute(throttle.newLatencyProbe(getPartitionId()));
+                }
                 // migration ops must be serialized and invoked from partition threads
                 getNodeEngine().getOperationService().execute(new InvokeMigrationOps(migrationState, getPartitionId()));
             } else {
@@ -426,7 +435,10 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
      */
     private final class MigrationCallback implements BiConsumer<Object, Throwable> {
 
-        private MigrationCallback() {
+        private final ReplicaFragmentMigrationState migrationState;
+
+        private MigrationCallback(ReplicaFragmentMigrationState migrationState) {
+            this.migrationState = migrationState;
         }
 
         @Override
@@ -435,10 +447,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 logThrowable(throwable);
                 completeMigration(false);
             } else if (Boolean.TRUE.equals(result)) {
-                // ASYNC executor is of CONCRETE type (does not share threads with other executors)
-                // and is never used for user-supplied code.
-                getNodeEngine().getExecutionService().submit(ExecutionService.ASYNC_EXECUTOR,
-                        () -> trySendNewFragment());
+                sendNextFragment();
             } else {
                 ILogger logger = getLogger();
                 if (logger.isFineEnabled()) {
@@ -447,5 +456,20 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 completeMigration(false);
             }
         }
+
+        private void sendNextFragment() {
+            InternalPartitionServiceImpl partitionService = getService();
+            MigrationThrottle throttle = partitionService.getMigrationManager().getMigrationThrottle();
+            long delayNanos = migrationState != null ? throttle.acquire(migrationState.getSerializedSize()) : 0;
+            // ASYNC executor is of CONCRETE type (does not share threads with other executors)
+            // and is never used for user-supplied code.
+            ExecutionService executionService = getNodeEngine().getExecutionService();
+            if (delayNanos > 0) {
+                executionService.schedule(ExecutionService.ASYNC_EXECUTOR, () -> trySendNewFragment(),
+                        delayNanos, NANOSECONDS);
+            } else {
+                executionService.submit(ExecutionService.ASYNC_EXECUTOR, () -> trySendNewFragment());
+            }
+        }
     }
 }
@@ -17,7 +17,9 @@
 package com.hazelcast.internal.partition.operation;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.partition.ChunkSupplier;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.partition.MigrationCycleOperation;
@@ -30,11 +32,13 @@ import com.hazelcast.internal.partition.impl.InternalPartitionImpl;
 import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
 import com.hazelcast.internal.partition.impl.MigrationManager;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
+import com.hazelcast.internal.partition.impl.PartitionReplicaManager;
 import com.hazelcast.internal.partition.impl.PartitionStateManager;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationService;
@@ -44,11 +48,14 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.readCollection;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.writeCollection;
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
 
 /**
  * The request sent from a replica to the partition owner to
@@ -60,11 +67,18 @@ import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
  * <li>the maximum number of parallel synchronizations has already been reached</li>
  * </ul>
  * An empty response can be sent if the current replica version is 0.
+ * <p>
+ * The request can carry the leaves of the Merkle trees of the replica data,
+ * in which case only the data which differs from the partition owner is
+ * replicated for the namespaces supporting differential replication.
+ *
+ * @see DifferentialReplicationAwareService
  */
 public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
-        implements PartitionAwareOperation, MigrationCycleOperation {
+        implements PartitionAwareOperation, MigrationCycleOperation, Versioned {
 
     protected volatile Collection<ServiceNamespace> namespaces;
+    protected volatile Map<ServiceNamespace, int[]> merkleTreeLeaves = Collections.emptyMap();
 
     public PartitionReplicaSyncRequest() {
         namespaces = Collections.emptyList();
@@ -72,11 +86,42 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
 
     public PartitionReplicaSyncRequest(Collection<ServiceNamespace> namespaces,
                                        int partitionId, int replicaIndex) {
+        this(namespaces, partitionId, replicaIndex, Collections.emptyMap());
+    }
+
+    public PartitionReplicaSyncRequest(Collection<ServiceNamespace> namespaces,
+                                       int partitionId, int replicaIndex,
+                                       Map<ServiceNamespace, int[]> merkleTreeLeaves) {
         this.namespaces = namespaces;
+        this.merkleTreeLeaves = merkleTreeLeaves;
         setPartitionId(partitionId);
         setReplicaIndex(replicaIndex);
     }
 
+    /**
+     * Collects the leaves of the Merkle trees of the given namespaces for the
+     * differential replica sync. The trees are built from the replica data,
+     * concurrently with its updates. The namespaces not supporting
+     * differential replication are synchronized fully.
+     */
+    public static Map<ServiceNamespace, int[]> collectMerkleTreeLeaves(NodeEngine nodeEngine, int partitionId,
+                                                                       Collection<ServiceNamespace> namespaces) {
+        Map<ServiceNamespace, int[]> merkleTreeLeaves = new HashMap<>();
+        for (ServiceNamespace namespace : namespaces) {
+            if (NonFragmentedServiceNamespace.INSTANCE.equals(namespace)) {
+                continue;
+            }
+            Object service = nodeEngine.getServiceOrNull(namespace.getServiceName());
+            if (service instanceof DifferentialReplicationAwareService) {
+                int[] leaves = ((DifferentialReplicationAwareService) service).getMerkleTreeLeaves(partitionId, namespace);
+                if (leaves != null) {
+                    merkleTreeLeaves.put(namespace, leaves);
+                }
+            }
+        }
+        return merkleTreeLeaves;
+    }
+
     @Override
     public void beforeRun() {
         int syncReplicaIndex = getReplicaIndex();
@@ -160,10 +205,15 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
                 if (NonFragmentedServiceNamespace.INSTANCE.equals(namespace)) {
                     operations = createNonFragmentedReplicationOperations(event);
                 } else {
-                    chunkSuppliers = isChunkedMigrationEnabled()
-                            ? collectChunkSuppliers(event, namespace) : chunkSuppliers;
-                    if (isEmpty(chunkSuppliers)) {
-                        operations = createFragmentReplicationOperations(event, namespace);
+                    Collection<Operation> differentialOperations = createDifferentialReplicationOperations(event, namespace);
+                    if (differentialOperations != null) {
+                        operations = differentialOperations;
+                    } else {
+                        chunkSuppliers = isChunkedMigrationEnabled()
+                                ? collectChunkSuppliers(event, namespace) : chunkSuppliers;
+                        if (isEmpty(chunkSuppliers)) {
+                            operations = createFragmentReplicationOperations(event, namespace);
+                        }
                     }
                 }
 
@@ -181,6 +231,31 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
         }
     }
 
+    /**
+     * Creates the operations replicating only the data of the given namespace
+     * which differs from the replica, if the replica has sent the leaves of
+     * its Merkle tree.
+     *
+     * @return the operations or {@code null} if the replica has to be
+     * synchronized fully
+     */
+    @Nullable
+    protected Collection<Operation> createDifferentialReplicationOperations(PartitionReplicationEvent event,
+                                                                            ServiceNamespace namespace) {
+        int[] replicaLeaves = merkleTreeLeaves.get(namespace);
+        if (replicaLeaves == null) {
+            return null;
+        }
+        InternalPartitionServiceImpl partitionService = getService();
+        PartitionReplicaManager replicaManager = partitionService.getReplicaManager();
+        Collection<Operation> operations = createDifferentialReplicationOperations(event, namespace, replicaLeaves,
+                replicaManager.getMerkleTreeSyncMaxDiffPercentage());
+        if (operations == null) {
+            replicaManager.onMerkleTreeSyncFallback(partitionId(), namespace);
+        }
+        return operations;
+    }
+
     protected boolean hasRemainingChunksToSend(Collection<ChunkSupplier> chunkSuppliers) {
         if (!isChunkedMigrationEnabled()) {
             return false;
@@ -333,11 +408,37 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         writeCollection(namespaces, out);
+        writeMerkleTreeLeaves(out);
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
         namespaces = readCollection(in);
+        readMerkleTreeLeaves(in);
+    }
+
+    protected final void writeMerkleTreeLeaves(ObjectDataOutput out) throws IOException {
+        // RU_COMPAT 5.2
+        if (out.getVersion().isGreaterOrEqual(Versions.V5_3)) {
+            out.writeInt(merkleTreeLeaves.size());
+            for (Map.Entry<ServiceNamespace, int[]> entry : merkleTreeLeaves.entrySet()) {
+                out.writeObject(entry.getKey());
+                out.writeIntArray(entry.getValue());
+            }
+        }
+    }
+
+    protected final void readMerkleTreeLeaves(ObjectDataInput in) throws IOException {
+        // RU_COMPAT 5.2
+        if (in.getVersion().isGreaterOrEqual(Versions.V5_3)) {
+            int size = in.readInt();
+            Map<ServiceNamespace, int[]> leaves = createHashMap(size);
+            for (int i = 0; i < size; i++) {
+                ServiceNamespace namespace = in.readObject();
+                leaves.put(namespace, in.readIntArray());
+            }
+            merkleTreeLeaves = leaves;
+        }
     }
 
     @Override
@@ -39,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -75,8 +76,15 @@ public final class PartitionReplicaSyncRequestOffloadable
 
     public PartitionReplicaSyncRequestOffloadable(Collection<ServiceNamespace> namespaces,
                                                   int partitionId, int replicaIndex) {
+        this(namespaces, partitionId, replicaIndex, Collections.emptyMap());
+    }
+
+    public PartitionReplicaSyncRequestOffloadable(Collection<ServiceNamespace> namespaces,
+                                                  int partitionId, int replicaIndex,
+                                                  Map<ServiceNamespace, int[]> merkleTreeLeaves) {
         this.namespaces = Collections.newSetFromMap(new ConcurrentHashMap<>());
         this.namespaces.addAll(namespaces);
+        this.merkleTreeLeaves = merkleTreeLeaves;
         this.partitionId = partitionId;
         setPartitionId(-1);
         setReplicaIndex(replicaIndex);
@@ -115,10 +123,15 @@ public final class PartitionReplicaSyncRequestOffloadable
                 if (NonFragmentedServiceNamespace.INSTANCE.equals(namespace)) {
                     operations = createNonFragmentedReplicationOperations(event);
                 } else {
-                    chunkSuppliers = isChunkedMigrationEnabled()
-                            ? collectChunkSuppliers(event, namespace) : chunkSuppliers;
-                    if (isEmpty(chunkSuppliers)) {
-                        operations = createFragmentReplicationOperationsOffload(event, namespace);
+                    Collection<Operation> differentialOperations = createDifferentialReplicationOperations(event, namespace);
+                    if (differentialOperations != null) {
+                        operations = differentialOperations;
+                    } else {
+                        chunkSuppliers = isChunkedMigrationEnabled()
+                                ? collectChunkSuppliers(event, namespace) : chunkSuppliers;
+                        if (isEmpty(chunkSuppliers)) {
+                            operations = createFragmentReplicationOperationsOffload(event, namespace);
+                        }
                     }
                 }
                 // operations can be null if await-ing
@@ -254,6 +267,7 @@ public final class PartitionReplicaSyncRequestOffloadable
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         writeCollection(namespaces, out);
         out.writeInt(partitionId);
+        writeMerkleTreeLeaves(out);
     }
 
     @Override
@@ -261,6 +275,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         namespaces = Collections.newSetFromMap(new ConcurrentHashMap<>());
         namespaces.addAll(readCollection(in));
         partitionId = in.readInt();
+        readMerkleTreeLeaves(in);
     }
 
     private boolean trySetMigratingFlag() {
@@ -21,6 +21,7 @@ import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.nio.Disposable;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactMutableGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
 import com.hazelcast.jet.impl.ExplodeSnapshotP;
@@ -129,6 +130,18 @@ public interface InternalSerializationService extends SerializationService, Disp
      */
     InternalGenericRecord readAsInternalGenericRecord(Data data) throws IOException;
 
+    /**
+     * The returned MutableGenericRecord is not thread safe. It reads the fields
+     * of the given Compact data on demand and keeps its writes to itself until
+     * they are taken with {@link CompactMutableGenericRecord#toData()}.
+     *
+     * @param data the Compact serialized data
+     * @return a mutable view over the given data
+     * @throws IOException
+     * @throws IllegalArgumentException if given data is not in the Compact format
+     */
+    CompactMutableGenericRecord readAsMutableGenericRecord(@Nonnull Data data) throws IOException;
+
     /**
      * @param data to extract the schema from
      * @return schema of the given Compact Data
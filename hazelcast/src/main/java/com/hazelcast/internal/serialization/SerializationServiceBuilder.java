@@ -70,5 +70,7 @@ public interface SerializationServiceBuilder {
 
     SerializationServiceBuilder isCompatibility(boolean isCompatibility);
 
+    SerializationServiceBuilder setSpecializedCompactSerializersEnabled(boolean specializedCompactSerializersEnabled);
+
     <T extends SerializationService> T build();
 }
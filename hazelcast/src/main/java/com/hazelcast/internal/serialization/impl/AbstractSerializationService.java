@@ -126,7 +126,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
         CompactSerializationConfig compactSerializationCfg = builder.compactSerializationConfig == null
                 ? new CompactSerializationConfig() : builder.compactSerializationConfig;
         compactStreamSerializer = new CompactStreamSerializer(this, compactSerializationCfg,
-                managedContext, builder.schemaService, classLoader);
+                managedContext, builder.schemaService, classLoader, builder.specializedCompactSerializersEnabled);
         this.compactWithSchemaSerializerAdapter = new CompactWithSchemaStreamSerializerAdapter(compactStreamSerializer);
         this.compactSerializerAdapter = new CompactStreamSerializerAdapter(compactStreamSerializer);
     }
@@ -732,6 +732,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
         private boolean allowOverrideDefaultSerializers;
         private CompactSerializationConfig compactSerializationConfig;
         private SchemaService schemaService;
+        private boolean specializedCompactSerializersEnabled;
 
         protected Builder() {
         }
@@ -819,6 +820,11 @@ public abstract class AbstractSerializationService implements InternalSerializat
             this.schemaService = schemaService;
             return self();
         }
+
+        public final T withSpecializedCompactSerializersEnabled(boolean specializedCompactSerializersEnabled) {
+            this.specializedCompactSerializersEnabled = specializedCompactSerializersEnabled;
+            return self();
+        }
     }
 
 }
@@ -83,6 +83,8 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
     protected ClassNameFilter classNameFilter;
     protected SchemaService schemaService;
     protected boolean isCompatibility;
+    protected boolean specializedCompactSerializersEnabled = Boolean.parseBoolean(
+            ClusterProperty.COMPACT_SPECIALIZED_SERIALIZERS_ENABLED.getSystemProperty());
 
     @Override
     public SerializationServiceBuilder setVersion(byte version) {
@@ -228,6 +230,12 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
         return this;
     }
 
+    @Override
+    public SerializationServiceBuilder setSpecializedCompactSerializersEnabled(boolean specializedCompactSerializersEnabled) {
+        this.specializedCompactSerializersEnabled = specializedCompactSerializersEnabled;
+        return this;
+    }
+
     @Override
     public InternalSerializationService build() {
         initVersions();
@@ -306,6 +314,7 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
                     .withCompactSerializationConfig(compactSerializationConfig)
                     .withSchemaService(schemaService)
                     .withCompatibility(isCompatibility)
+                    .withSpecializedCompactSerializersEnabled(specializedCompactSerializersEnabled)
                     .build();
                 serializationServiceV1.registerClassDefinitions(classDefinitions);
                 return serializationServiceV1;
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads and writes a field of an object. The subclasses are generated per
+ * field by {@link CompactFieldHandleGenerator}; they hold the getter and
+ * setter method handles of the field in {@code static final} fields, so
+ * that the JIT compiler treats the handles as constants and inlines the
+ * field access.
+ * <p>
+ * Each subclass overrides the getter and setter methods of the type of its
+ * field only. The class is public because the subclasses are defined by
+ * their own class loader.
+ */
+public abstract class CompactFieldHandle {
+
+    /**
+     * The method handles waiting to be taken by the static initializers of
+     * the generated subclasses, by their keys.
+     */
+    private static final ConcurrentMap<Integer, MethodHandle> PENDING_HANDLES = new ConcurrentHashMap<>();
+
+    protected CompactFieldHandle() {
+    }
+
+    /**
+     * Removes and returns the method handle registered with the given key.
+     * Called by the static initializers of the generated subclasses.
+     *
+     * @param key the key of the handle
+     * @return the handle
+     */
+    public static MethodHandle takeHandle(int key) {
+        return PENDING_HANDLES.remove(key);
+    }
+
+    static void putHandle(int key, MethodHandle handle) {
+        PENDING_HANDLES.put(key, handle);
+    }
+
+    static void removeHandle(int key) {
+        PENDING_HANDLES.remove(key);
+    }
+
+    public byte getInt8(Object o) {
+        throw unsupported();
+    }
+
+    public void setInt8(Object o, byte value) {
+        throw unsupported();
+    }
+
+    public char getChar(Object o) {
+        throw unsupported();
+    }
+
+    public void setChar(Object o, char value) {
+        throw unsupported();
+    }
+
+    public short getInt16(Object o) {
+        throw unsupported();
+    }
+
+    public void setInt16(Object o, short value) {
+        throw unsupported();
+    }
+
+    public int getInt32(Object o) {
+        throw unsupported();
+    }
+
+    public void setInt32(Object o, int value) {
+        throw unsupported();
+    }
+
+    public long getInt64(Object o) {
+        throw unsupported();
+    }
+
+    public void setInt64(Object o, long value) {
+        throw unsupported();
+    }
+
+    public float getFloat32(Object o) {
+        throw unsupported();
+    }
+
+    public void setFloat32(Object o, float value) {
+        throw unsupported();
+    }
+
+    public double getFloat64(Object o) {
+        throw unsupported();
+    }
+
+    public void setFloat64(Object o, double value) {
+        throw unsupported();
+    }
+
+    public boolean getBoolean(Object o) {
+        throw unsupported();
+    }
+
+    public void setBoolean(Object o, boolean value) {
+        throw unsupported();
+    }
+
+    public Object getObject(Object o) {
+        throw unsupported();
+    }
+
+    public void setObject(Object o, Object value) {
+        throw unsupported();
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException(getClass().getName() + " doesn't handle a field of this type");
+    }
+}
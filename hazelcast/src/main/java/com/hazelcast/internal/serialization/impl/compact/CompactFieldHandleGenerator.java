@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Generates a {@link CompactFieldHandle} subclass per field, which holds the
+ * getter and setter method handles of the field in {@code static final}
+ * fields and invokes them exactly. Unlike handles held in instance fields,
+ * such handles are constants for the JIT compiler, so the field access is
+ * inlined as if the field was accessed directly.
+ * <p>
+ * The core module has no bytecode library, so the class files are written
+ * here. They consist of straight-line code only, so they don't need stack
+ * map frames. The handles are passed to the static initializers of the
+ * generated classes through {@link CompactFieldHandle#takeHandle(int)}.
+ * <p>
+ * The classes generated for the fields of a serialized class are defined by
+ * a class loader of their own, so they can be unloaded together with the
+ * serializer.
+ */
+final class CompactFieldHandleGenerator {
+
+    private static final AtomicInteger NEXT_KEY = new AtomicInteger();
+
+    private static final String CLASS_NAME_PREFIX = CompactFieldHandle.class.getName() + "$Generated";
+    private static final String SUPER_CLASS = internalName(CompactFieldHandle.class);
+    private static final String METHOD_HANDLE_CLASS = internalName(MethodHandle.class);
+    private static final String METHOD_HANDLE_DESCRIPTOR = "L" + METHOD_HANDLE_CLASS + ";";
+    private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int JAVA_8_MAJOR_VERSION = 52;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ILOAD_2 = 0x1c;
+    private static final int LLOAD_2 = 0x20;
+    private static final int FLOAD_2 = 0x24;
+    private static final int DLOAD_2 = 0x28;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int LDC_W = 0x13;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+
+    private static final Map<Class<?>, String> METHOD_SUFFIXES = new HashMap<>();
+    private static final Map<Class<?>, String> DESCRIPTORS = new HashMap<>();
+
+    static {
+        addType(byte.class, "Int8", "B");
+        addType(char.class, "Char", "C");
+        addType(short.class, "Int16", "S");
+        addType(int.class, "Int32", "I");
+        addType(long.class, "Int64", "J");
+        addType(float.class, "Float32", "F");
+        addType(double.class, "Float64", "D");
+        addType(boolean.class, "Boolean", "Z");
+    }
+
+    private final GeneratedClassLoader classLoader = new GeneratedClassLoader(CompactFieldHandle.class.getClassLoader());
+
+    /**
+     * Generates the handle of a field of the given type.
+     *
+     * @param type   the type of the field
+     * @param getter the getter handle of the field
+     * @param setter the setter handle of the field
+     * @return the handle
+     * @throws ReflectiveOperationException if the generated class can't be
+     *                                      instantiated
+     */
+    CompactFieldHandle generate(Class<?> type, MethodHandle getter, MethodHandle setter)
+            throws ReflectiveOperationException {
+        Class<?> erasedType = type.isPrimitive() ? type : Object.class;
+        int key = NEXT_KEY.getAndAdd(2);
+        String className = CLASS_NAME_PREFIX + key;
+        CompactFieldHandle.putHandle(key, getter.asType(methodType(erasedType, Object.class)));
+        CompactFieldHandle.putHandle(key + 1, setter.asType(methodType(void.class, Object.class, erasedType)));
+        try {
+            Class<?> clazz = classLoader.define(className, classFile(className, key, erasedType));
+            // the static initializer takes the handles
+            return (CompactFieldHandle) clazz.getDeclaredConstructor().newInstance();
+        } finally {
+            CompactFieldHandle.removeHandle(key);
+            CompactFieldHandle.removeHandle(key + 1);
+        }
+    }
+
+    private static byte[] classFile(String className, int key, Class<?> type) {
+        ConstantPool pool = new ConstantPool();
+        String thisClass = className.replace('.', '/');
+        String descriptor = descriptor(type);
+        int slots = type == long.class || type == double.class ? 2 : 1;
+        int getterField = pool.fieldRef(thisClass, "GETTER", METHOD_HANDLE_DESCRIPTOR);
+        int setterField = pool.fieldRef(thisClass, "SETTER", METHOD_HANDLE_DESCRIPTOR);
+        int takeHandle = pool.methodRef(SUPER_CLASS, "takeHandle", "(I)" + METHOD_HANDLE_DESCRIPTOR);
+
+        List<Method> methods = new ArrayList<>();
+        methods.add(new Method(ACC_PUBLIC, "<init>", "()V", 1, 1, new Code()
+                .op(ALOAD_0).op(INVOKESPECIAL, pool.methodRef(SUPER_CLASS, "<init>", "()V")).op(RETURN)));
+        methods.add(new Method(ACC_STATIC, "<clinit>", "()V", 1, 0, new Code()
+                .op(LDC_W, pool.integer(key)).op(INVOKESTATIC, takeHandle).op(PUTSTATIC, getterField)
+                .op(LDC_W, pool.integer(key + 1)).op(INVOKESTATIC, takeHandle).op(PUTSTATIC, setterField)
+                .op(RETURN)));
+        methods.add(new Method(ACC_PUBLIC, "get" + methodSuffix(type), "(" + OBJECT_DESCRIPTOR + ")" + descriptor,
+                2, 2, new Code()
+                .op(GETSTATIC, getterField).op(ALOAD_1)
+                .op(INVOKEVIRTUAL, pool.methodRef(METHOD_HANDLE_CLASS, "invokeExact",
+                        "(" + OBJECT_DESCRIPTOR + ")" + descriptor))
+                .op(returnOpcode(type))));
+        methods.add(new Method(ACC_PUBLIC, "set" + methodSuffix(type), "(" + OBJECT_DESCRIPTOR + descriptor + ")V",
+                2 + slots, 2 + slots, new Code()
+                .op(GETSTATIC, setterField).op(ALOAD_1).op(loadOpcode(type))
+                .op(INVOKEVIRTUAL, pool.methodRef(METHOD_HANDLE_CLASS, "invokeExact",
+                        "(" + OBJECT_DESCRIPTOR + descriptor + ")V"))
+                .op(RETURN)));
+
+        // all constants are added to the pool before it's written
+        int thisClassIndex = pool.classRef(thisClass);
+        int superClassIndex = pool.classRef(SUPER_CLASS);
+        int codeName = pool.utf8("Code");
+        int getterName = pool.utf8("GETTER");
+        int setterName = pool.utf8("SETTER");
+        int fieldDescriptor = pool.utf8(METHOD_HANDLE_DESCRIPTOR);
+        for (Method method : methods) {
+            method.nameIndex = pool.utf8(method.name);
+            method.descriptorIndex = pool.utf8(method.descriptor);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(0);
+            out.writeShort(JAVA_8_MAJOR_VERSION);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClassIndex);
+            out.writeShort(superClassIndex);
+            // interfaces
+            out.writeShort(0);
+            out.writeShort(2);
+            writeField(out, getterName, fieldDescriptor);
+            writeField(out, setterName, fieldDescriptor);
+            out.writeShort(methods.size());
+            for (Method method : methods) {
+                method.writeTo(out, codeName);
+            }
+            // class attributes
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void addType(Class<?> type, String methodSuffix, String descriptor) {
+        METHOD_SUFFIXES.put(type, methodSuffix);
+        DESCRIPTORS.put(type, descriptor);
+    }
+
+    private static void writeField(DataOutputStream out, int nameIndex, int descriptorIndex) throws IOException {
+        out.writeShort(ACC_PRIVATE | ACC_STATIC | ACC_FINAL);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+        // attributes
+        out.writeShort(0);
+    }
+
+    private static String internalName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private static String methodSuffix(Class<?> type) {
+        return type.isPrimitive() ? METHOD_SUFFIXES.get(type) : "Object";
+    }
+
+    private static String descriptor(Class<?> type) {
+        return type.isPrimitive() ? DESCRIPTORS.get(type) : OBJECT_DESCRIPTOR;
+    }
+
+    private static int loadOpcode(Class<?> type) {
+        if (type == long.class) {
+            return LLOAD_2;
+        } else if (type == float.class) {
+            return FLOAD_2;
+        } else if (type == double.class) {
+            return DLOAD_2;
+        } else if (type.isPrimitive()) {
+            return ILOAD_2;
+        } else {
+            return ALOAD_2;
+        }
+    }
+
+    private static int returnOpcode(Class<?> type) {
+        if (type == long.class) {
+            return LRETURN;
+        } else if (type == float.class) {
+            return FRETURN;
+        } else if (type == double.class) {
+            return DRETURN;
+        } else if (type.isPrimitive()) {
+            return IRETURN;
+        } else {
+            return ARETURN;
+        }
+    }
+
+    /**
+     * The constant pool of a class file, which adds each constant once.
+     */
+    private static final class ConstantPool {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int count = 1;
+
+        int utf8(String value) {
+            return add("U" + value, stream -> {
+                stream.writeByte(CONSTANT_UTF8);
+                stream.writeUTF(value);
+            });
+        }
+
+        int integer(int value) {
+            return add("I" + value, stream -> {
+                stream.writeByte(CONSTANT_INTEGER);
+                stream.writeInt(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int nameIndex = utf8(internalName);
+            return add("C" + internalName, stream -> {
+                stream.writeByte(CONSTANT_CLASS);
+                stream.writeShort(nameIndex);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(CONSTANT_METHODREF, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int classIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndTypeIndex = add("N" + name + " " + descriptor, stream -> {
+                stream.writeByte(CONSTANT_NAME_AND_TYPE);
+                stream.writeShort(nameIndex);
+                stream.writeShort(descriptorIndex);
+            });
+            return add(tag + owner + "." + name + " " + descriptor, stream -> {
+                stream.writeByte(tag);
+                stream.writeShort(classIndex);
+                stream.writeShort(nameAndTypeIndex);
+            });
+        }
+
+        private int add(String key, ConstantWriter writer) {
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                writer.write(out);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            indexes.put(key, count);
+            return count++;
+        }
+
+        void writeTo(DataOutputStream classOut) throws IOException {
+            classOut.writeShort(count);
+            bytes.writeTo(classOut);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConstantWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * The bytecode of a method.
+     */
+    private static final class Code {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        Code op(int opcode, int index) {
+            bytes.write(opcode);
+            bytes.write(index >>> Byte.SIZE);
+            bytes.write(index);
+            return this;
+        }
+    }
+
+    private static final class Method {
+
+        private final int access;
+        private final String name;
+        private final String descriptor;
+        private final int maxStack;
+        private final int maxLocals;
+        private final Code code;
+        private int nameIndex;
+        private int descriptorIndex;
+
+        Method(int access, String name, String descriptor, int maxStack, int maxLocals, Code code) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+            this.code = code;
+        }
+
+        void writeTo(DataOutputStream out, int codeNameIndex) throws IOException {
+            byte[] bytecode = code.bytes.toByteArray();
+            out.writeShort(access);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            // a single Code attribute
+            out.writeShort(1);
+            out.writeShort(codeNameIndex);
+            // max_stack, max_locals, code_length, code, exception_table_length, attributes_count
+            out.writeInt(Short.BYTES + Short.BYTES + Integer.BYTES + bytecode.length + Short.BYTES + Short.BYTES);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(bytecode.length);
+            out.write(bytecode);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -91,11 +91,11 @@ import static com.hazelcast.nio.serialization.FieldKind.TIMESTAMP_WITH_TIMEZONE;
  */
 public class CompactInternalGenericRecord extends CompactGenericRecord implements InternalGenericRecord {
 
-    private final OffsetReader offsetReader;
     private final Schema schema;
     private final BufferObjectDataInput in;
-    private final int dataStartPosition;
-    private final int variableOffsetsPosition;
+    private OffsetReader offsetReader;
+    private int dataStartPosition;
+    private int variableOffsetsPosition;
     private final CompactStreamSerializer serializer;
     private final boolean schemaIncludedInBinary;
     private final @Nullable
@@ -108,6 +108,16 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         this.schema = schema;
         this.associatedClass = associatedClass;
         this.schemaIncludedInBinary = schemaIncludedInBinary;
+        readHeader();
+    }
+
+    /**
+     * Reads the positions of the fixed-size and variable-size sections
+     * starting from the current position of the input. Called once on
+     * construction, and again by {@link CompactMutableGenericRecord}
+     * whenever its input is re-pointed to a re-encoded record.
+     */
+    final void readHeader() {
         try {
             int finalPosition;
             int numberOfVariableLengthFields = schema.getNumberOfVariableSizeFields();
@@ -850,13 +860,13 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         return getArrayOfVariableSize(fieldDefinition, constructor, reader);
     }
 
-    private int readFixedSizePosition(FieldDescriptor fd) {
+    int readFixedSizePosition(FieldDescriptor fd) {
         int primitiveOffset = fd.getOffset();
         return primitiveOffset + dataStartPosition;
     }
 
     @Nonnull
-    private FieldDescriptor getFieldDescriptor(@Nonnull String fieldName) {
+    FieldDescriptor getFieldDescriptor(@Nonnull String fieldName) {
         FieldDescriptor fd = schema.getField(fieldName);
         if (fd == null) {
             throw throwUnknownFieldException(fieldName);
@@ -1109,7 +1119,7 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         return new IllegalStateException("IOException is not expected since we get from a well known format and position", e);
     }
 
-    private HazelcastSerializationException unexpectedFieldKind(FieldKind actualFieldKind,
+    HazelcastSerializationException unexpectedFieldKind(FieldKind actualFieldKind,
                                                                 String fieldName) {
         throw new HazelcastSerializationException("Invalid field kind '" + actualFieldKind + "' for the field: " + fieldName);
     }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.nio.serialization.genericrecord.MutableGenericRecord;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+
+/**
+ * A {@link MutableGenericRecord} over the bytes of a Compact serialized
+ * object. Reads go through {@link CompactInternalGenericRecord}, so only the
+ * requested field is decoded.
+ * <p>
+ * The bytes of the given {@link Data} are shared until the first write. A
+ * write to a fixed-size field copies them once and then patches the field in
+ * place. A write to any other field re-encodes the record into new bytes and
+ * re-reads its header, since the offsets of the variable-size fields change.
+ * <p>
+ * The owner of the record detects the writes with {@link #isModified()} and
+ * takes the new serialized form with {@link #toData()}.
+ */
+public final class CompactMutableGenericRecord extends CompactInternalGenericRecord implements MutableGenericRecord {
+
+    private static final int SCHEMA_ID_END_POSITION = HeapData.DATA_OFFSET + LONG_SIZE_IN_BYTES;
+
+    private final InternalSerializationService serializationService;
+    private final boolean bigEndian;
+    private byte[] bytes;
+    // true when the bytes are also referenced by a Data that is not owned by this record
+    private boolean shared = true;
+    private boolean modified;
+
+    CompactMutableGenericRecord(CompactStreamSerializer serializer, InternalSerializationService serializationService,
+                                byte[] bytes, BufferObjectDataInput in, Schema schema) {
+        super(serializer, in, schema, null, false);
+        this.serializationService = serializationService;
+        this.bytes = bytes;
+        this.bigEndian = in.getByteOrder() == ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public void setBoolean(@Nonnull String fieldName, boolean value) {
+        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        switch (fd.getKind()) {
+            case BOOLEAN:
+                byte[] buffer = writableBytes();
+                int position = readFixedSizePosition(fd);
+                int mask = 1 << fd.getBitOffset();
+                buffer[position] = (byte) (value ? buffer[position] | mask : buffer[position] & ~mask);
+                break;
+            case NULLABLE_BOOLEAN:
+                update(builder -> builder.setNullableBoolean(fieldName, value));
+                break;
+            default:
+                throw unexpectedFieldKind(fd.getKind(), fieldName);
+        }
+    }
+
+    @Override
+    public void setInt8(@Nonnull String fieldName, byte value) {
+        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        switch (fd.getKind()) {
+            case INT8:
+                writableBytes()[readFixedSizePosition(fd)] = value;
+                break;
+            case NULLABLE_INT8:
+                update(builder -> builder.setNullableInt8(fieldName, value));
+                break;
+            default:
+                throw unexpectedFieldKind(fd.getKind(), fieldName);
+        }
+    }
+
+    @Override
+    public void setInt16(@Nonnull String fieldName, short value) {
+        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        switch (fd.getKind()) {
+            case INT16:
+                Bits.writeShort(writableBytes(), readFixedSizePosition(fd), value, bigEndian);
+                break;
+            case NULLABLE_INT16:
+                update(builder -> builder.setNullableInt16(fieldName, value));
+                break;
+            default:
+                throw unexpectedFieldKind(fd.getKind(), fieldName);
+        }
+    }
+
+    @Override
+    public void setInt32(@Nonnull String fieldName, int value) {
+        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        switch (fd.getKind()) {
+            case INT32:
+                Bits.writeInt(writableBytes(), readFixedSizePosition(fd), value, bigEndian);
+                break;
+            case NULLABLE_INT32:
+                update(builder -> builder.setNullableInt32(fieldName, value));
+                break;
+            default:
+                throw unexpectedFieldKind(fd.getKind(), fieldName);
+        }
+    }
+
+    @Override
+    public void setInt64(@Nonnull String fieldName, long value) {
+        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        switch (fd.getKind()) {
+            case INT64:
+                Bits.writeLong(writableBytes(), readFixedSizePosition(fd), value, bigEndian);
+                break;
+            case NULLABLE_INT64:
+                update(builder -> builder.setNullableInt64(fieldName, value));
+                break;
+            default:
+                throw unexpectedFieldKind(fd.getKind(), fieldName);
+        }
+    }
+
+    @Override
+    public void setFloat32(@Nonnull String fieldName, float value) {
+        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        switch (fd.getKind()) {
+            case FLOAT32:
+                Bits.writeInt(writableBytes(), readFixedSizePosition(fd), Float.floatToIntBits(value), bigEndian);
+                break;
+            case NULLABLE_FLOAT32:
+                update(builder -> builder.setNullableFloat32(fieldName, value));
+                break;
+            default:
+                throw unexpectedFieldKind(fd.getKind(), fieldName);
+        }
+    }
+
+    @Override
+    public void setFloat64(@Nonnull String fieldName, double value) {
+        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        switch (fd.getKind()) {
+            case FLOAT64:
+                Bits.writeLong(writableBytes(), readFixedSizePosition(fd), Double.doubleToLongBits(value), bigEndian);
+                break;
+            case NULLABLE_FLOAT64:
+                update(builder -> builder.setNullableFloat64(fieldName, value));
+                break;
+            default:
+                throw unexpectedFieldKind(fd.getKind(), fieldName);
+        }
+    }
+
+    @Override
+    public void update(@Nonnull Consumer<GenericRecordBuilder> updater) {
+        GenericRecordBuilder builder = newBuilderWithClone();
+        updater.accept(builder);
+        Data data = serializationService.toData(builder.build());
+        // the Data is not referenced anywhere else, so its bytes can be written in place
+        bytes = data.toByteArray();
+        shared = false;
+        modified = true;
+        getIn().init(bytes, SCHEMA_ID_END_POSITION);
+        readHeader();
+    }
+
+    /**
+     * Returns {@code true} if any field was written since this record was
+     * created or since the last call to {@link #toData()}.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Returns the current serialized form of this record and clears the
+     * modified flag. The returned {@link Data} shares the bytes of this record;
+     * the next write copies them first, so the returned Data never changes.
+     */
+    public Data toData() {
+        shared = true;
+        modified = false;
+        return new HeapData(bytes);
+    }
+
+    private byte[] writableBytes() {
+        if (shared) {
+            bytes = Arrays.copyOf(bytes, bytes.length);
+            BufferObjectDataInput in = getIn();
+            in.init(bytes, in.position());
+            shared = false;
+        }
+        modified = true;
+        return bytes;
+    }
+}
@@ -23,7 +23,9 @@ import com.hazelcast.core.ManagedContext;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.AbstractSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.record.JavaRecordSerializer;
 import com.hazelcast.internal.util.TriTuple;
@@ -59,7 +61,7 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
     private final Map<Class, CompactSerializableRegistration> classToRegistrationMap = new ConcurrentHashMap<>();
     private final Map<String, CompactSerializableRegistration> typeNameToRegistrationMap = new ConcurrentHashMap<>();
     private final Map<Class, Schema> classToSchemaMap = new ConcurrentHashMap<>();
-    private final ReflectiveCompactSerializer reflectiveSerializer = new ReflectiveCompactSerializer(this);
+    private final ReflectiveCompactSerializer reflectiveSerializer;
     private final JavaRecordSerializer javaRecordSerializer = new JavaRecordSerializer(this);
     private final SchemaService schemaService;
     private final ManagedContext managedContext;
@@ -69,8 +71,9 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
     public CompactStreamSerializer(AbstractSerializationService serializationService,
                                    CompactSerializationConfig compactSerializationConfig,
                                    ManagedContext managedContext, SchemaService schemaService,
-                                   ClassLoader classLoader) {
+                                   ClassLoader classLoader, boolean specializedSerializersEnabled) {
         this.serializationService = serializationService;
+        this.reflectiveSerializer = new ReflectiveCompactSerializer(this, specializedSerializersEnabled);
         this.managedContext = managedContext;
         this.schemaService = schemaService;
         this.classLoader = classLoader;
@@ -264,6 +267,13 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
         return new CompactInternalGenericRecord(this, input, schema, null, false);
     }
 
+    public CompactMutableGenericRecord readAsMutableGenericRecord(Data data) throws IOException {
+        byte[] bytes = data.toByteArray();
+        BufferObjectDataInput input = serializationService.createObjectDataInput(bytes, HeapData.DATA_OFFSET);
+        Schema schema = getOrReadSchema(input, false);
+        return new CompactMutableGenericRecord(this, serializationService, bytes, input, schema);
+    }
+
     private void registerSerializers(CompactSerializationConfig compactSerializationConfig) {
         Map<String, TriTuple<Class, String, CompactSerializer>> registrations
                 = CompactSerializationConfigAccessor.getRegistrations(compactSerializationConfig);
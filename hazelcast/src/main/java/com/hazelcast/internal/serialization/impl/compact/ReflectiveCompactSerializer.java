@@ -63,19 +63,34 @@ import static java.util.stream.Collectors.toList;
  * For any other class as the field type, it will work recursively and try to de/serialize a sub-class.
  * Thus, if any sub-fields does not have an accessible empty constructor, deserialization fails with
  * HazelcastSerializationException.
+ * <p>
+ * When the {@link com.hazelcast.spi.properties.ClusterProperty#COMPACT_SPECIALIZED_SERIALIZERS_ENABLED}
+ * property (or the {@link com.hazelcast.client.properties.ClientProperty#COMPACT_SPECIALIZED_SERIALIZERS_ENABLED}
+ * property on clients) is set to {@code true}, a {@link SpecializedCompactSerializer} is created for each
+ * class whose fields can be accessed directly, and the reflective field access
+ * is only used for the rest of the classes.
  */
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
     private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private final Map<Class, CompactSerializer> specializedSerializersCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
+    private final boolean specializedSerializersEnabled;
 
-    public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
+    public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer,
+                                       boolean specializedSerializersEnabled) {
         this.compactStreamSerializer = compactStreamSerializer;
+        this.specializedSerializersEnabled = specializedSerializersEnabled;
     }
 
     @Override
     public void write(@Nonnull CompactWriter writer, @Nonnull T object) {
         Class<?> clazz = object.getClass();
+        CompactSerializer<T> specializedSerializer = getSpecializedSerializer(clazz);
+        if (specializedSerializer != null) {
+            specializedSerializer.write(writer, object);
+            return;
+        }
         if (writeFast(clazz, writer, object)) {
             return;
         }
@@ -134,6 +149,10 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         DefaultCompactReader compactReader = (DefaultCompactReader) reader;
         Class associatedClass = requireNonNull(compactReader.getAssociatedClass(),
                 "AssociatedClass is required for ReflectiveCompactSerializer");
+        CompactSerializer<T> specializedSerializer = getSpecializedSerializer(associatedClass);
+        if (specializedSerializer != null) {
+            return specializedSerializer.read(reader);
+        }
 
         T object;
         object = (T) createObject(associatedClass);
@@ -145,6 +164,25 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         return object;
     }
 
+    /**
+     * Returns the specialized serializer for the class, or {@code null} if
+     * they are disabled or the class is not supported by them.
+     */
+    @SuppressWarnings("unchecked")
+    private CompactSerializer<T> getSpecializedSerializer(Class clazz) {
+        if (!specializedSerializersEnabled) {
+            return null;
+        }
+        CompactSerializer serializer = specializedSerializersCache.get(clazz);
+        if (serializer == null) {
+            serializer = SpecializedCompactSerializer.tryCreate(compactStreamSerializer, clazz);
+            // this serializer marks the classes not supported by the specialized ones
+            CompactSerializer existing = specializedSerializersCache.putIfAbsent(clazz, serializer != null ? serializer : this);
+            serializer = existing != null ? existing : serializer;
+        }
+        return serializer != this ? serializer : null;
+    }
+
     @Nonnull
     private Object createObject(Class associatedClass) {
         try {
@@ -154,7 +192,7 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         }
     }
 
-    private static List<Field> getAllFields(List<Field> fields, Class<?> type) {
+    static List<Field> getAllFields(List<Field> fields, Class<?> type) {
         fields.addAll(Arrays.stream(type.getDeclaredFields())
                 .filter(f -> !Modifier.isStatic(f.getModifiers()))
                 .filter(f -> !Modifier.isTransient(f.getModifiers()))
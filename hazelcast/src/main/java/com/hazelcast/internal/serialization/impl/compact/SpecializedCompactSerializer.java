@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriter;
+import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriters;
+import com.hazelcast.nio.serialization.FieldKind;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.hazelcast.internal.nio.InstanceCreationUtil.createNewInstance;
+import static com.hazelcast.internal.serialization.impl.compact.CompactUtil.isFieldExist;
+import static com.hazelcast.nio.serialization.FieldKind.BOOLEAN;
+import static com.hazelcast.nio.serialization.FieldKind.FLOAT32;
+import static com.hazelcast.nio.serialization.FieldKind.FLOAT64;
+import static com.hazelcast.nio.serialization.FieldKind.INT16;
+import static com.hazelcast.nio.serialization.FieldKind.INT32;
+import static com.hazelcast.nio.serialization.FieldKind.INT64;
+import static com.hazelcast.nio.serialization.FieldKind.INT8;
+import static com.hazelcast.nio.serialization.FieldKind.NULLABLE_BOOLEAN;
+import static com.hazelcast.nio.serialization.FieldKind.NULLABLE_FLOAT32;
+import static com.hazelcast.nio.serialization.FieldKind.NULLABLE_FLOAT64;
+import static com.hazelcast.nio.serialization.FieldKind.NULLABLE_INT16;
+import static com.hazelcast.nio.serialization.FieldKind.NULLABLE_INT32;
+import static com.hazelcast.nio.serialization.FieldKind.NULLABLE_INT64;
+import static com.hazelcast.nio.serialization.FieldKind.NULLABLE_INT8;
+
+/**
+ * Zero-config Compact serializer specialized for a single class.
+ * <p>
+ * It writes the same fields as the {@link ReflectiveCompactSerializer}, and
+ * hence produces the same schema, but accesses the fields through a {@link
+ * CompactFieldHandle} generated once per field instead of {@link Field}
+ * get/set calls. The handles invoke the getter and setter method handles of
+ * the fields from {@code static final} fields with their exact types, so
+ * primitive fields are read and written without boxing or access checks and
+ * the access is inlined by the JIT compiler. Whether a primitive field
+ * exists in the schema of the data being read is resolved once per schema
+ * instead of once per field and object.
+ * <p>
+ * Instances are created with {@link #tryCreate} by the {@link
+ * ReflectiveCompactSerializer} when enabled with the {@link
+ * com.hazelcast.spi.properties.ClusterProperty#COMPACT_SPECIALIZED_SERIALIZERS_ENABLED}
+ * property on members and the {@link
+ * com.hazelcast.client.properties.ClientProperty#COMPACT_SPECIALIZED_SERIALIZERS_ENABLED}
+ * property on clients.
+ *
+ * @param <T> the serialized class
+ */
+final class SpecializedCompactSerializer<T> implements CompactSerializer<T> {
+
+    private final Class<T> clazz;
+    private final FieldAccessor[] accessors;
+
+    /**
+     * The schema seen by the last read and whether each field exists in it.
+     * Usually there is a single schema per class, so a single slot suffices.
+     */
+    private volatile SchemaFields lastSchemaFields;
+
+    private SpecializedCompactSerializer(Class<T> clazz, FieldAccessor[] accessors) {
+        this.clazz = clazz;
+        this.accessors = accessors;
+    }
+
+    /**
+     * Creates a specialized serializer for the given class, or returns {@code
+     * null} if field handles can't be created for some of its fields.
+     */
+    @Nullable
+    static <T> SpecializedCompactSerializer<T> tryCreate(CompactStreamSerializer compactStreamSerializer, Class<T> clazz) {
+        // The top level class might not be Compact serializable
+        CompactUtil.verifyClassIsCompactSerializable(clazz);
+
+        List<Field> fields = ReflectiveCompactSerializer.getAllFields(new LinkedList<>(), clazz);
+        FieldAccessor[] accessors = new FieldAccessor[fields.size()];
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        CompactFieldHandleGenerator generator = new CompactFieldHandleGenerator();
+        int index = 0;
+        for (Field field : fields) {
+            CompactFieldHandle handle;
+            try {
+                field.setAccessible(true);
+                handle = generator.generate(field.getType(), lookup.unreflectGetter(field), lookup.unreflectSetter(field));
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                // final fields on some JDKs, classes in modules which are not
+                // open to us or failed class generation, leave them to the
+                // reflective serializer
+                return null;
+            }
+            accessors[index++] = createAccessor(compactStreamSerializer, clazz, field, handle);
+        }
+        return new SpecializedCompactSerializer<>(clazz, accessors);
+    }
+
+    private static FieldAccessor createAccessor(CompactStreamSerializer compactStreamSerializer, Class<?> clazz,
+                                                Field field, CompactFieldHandle handle) {
+        Class<?> type = field.getType();
+        String name = field.getName();
+        FieldAccessor accessor;
+        if (Byte.TYPE.equals(type)) {
+            accessor = new Int8Accessor(name, handle);
+        } else if (Character.TYPE.equals(type)) {
+            accessor = new CharAccessor(name, handle);
+        } else if (Short.TYPE.equals(type)) {
+            accessor = new Int16Accessor(name, handle);
+        } else if (Integer.TYPE.equals(type)) {
+            accessor = new Int32Accessor(name, handle);
+        } else if (Long.TYPE.equals(type)) {
+            accessor = new Int64Accessor(name, handle);
+        } else if (Float.TYPE.equals(type)) {
+            accessor = new Float32Accessor(name, handle);
+        } else if (Double.TYPE.equals(type)) {
+            accessor = new Float64Accessor(name, handle);
+        } else if (Boolean.TYPE.equals(type)) {
+            accessor = new BooleanAccessor(name, handle);
+        } else {
+            // For anything else, rely on value reader writers to re-use the code we have
+            ValueReaderWriter readerWriter = ValueReaderWriters.readerWriterFor(compactStreamSerializer, clazz, type,
+                    field.getGenericType(), name);
+            accessor = new ValueAccessor(name, handle, readerWriter);
+        }
+        return accessor;
+    }
+
+    @Override
+    public void write(@Nonnull CompactWriter writer, @Nonnull T object) {
+        for (FieldAccessor accessor : accessors) {
+            try {
+                accessor.write(writer, object);
+            } catch (Exception e) {
+                throw new HazelcastSerializationException(e);
+            }
+        }
+    }
+
+    @Nonnull
+    @Override
+    public T read(@Nonnull CompactReader reader) {
+        // We always fed DefaultCompactReader to this serializer.
+        Schema schema = ((DefaultCompactReader) reader).getSchema();
+        boolean[] existing = existingFields(schema);
+
+        T object;
+        try {
+            object = createNewInstance(clazz);
+        } catch (Exception e) {
+            throw new HazelcastSerializationException("Could not construct the class " + clazz, e);
+        }
+        for (int i = 0; i < accessors.length; i++) {
+            if (!existing[i]) {
+                continue;
+            }
+            try {
+                accessors[i].read(reader, schema, object);
+            } catch (Exception e) {
+                throw new HazelcastSerializationException(e);
+            }
+        }
+        return object;
+    }
+
+    private boolean[] existingFields(Schema schema) {
+        SchemaFields schemaFields = lastSchemaFields;
+        if (schemaFields != null && schemaFields.schemaId == schema.getSchemaId()) {
+            return schemaFields.existing;
+        }
+        boolean[] existing = new boolean[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            existing[i] = accessors[i].existsIn(schema);
+        }
+        lastSchemaFields = new SchemaFields(schema.getSchemaId(), existing);
+        return existing;
+    }
+
+    @Nonnull
+    @Override
+    public String getTypeName() {
+        return clazz.getName();
+    }
+
+    @Nonnull
+    @Override
+    public Class<T> getCompactClass() {
+        return clazz;
+    }
+
+    private static final class SchemaFields {
+
+        private final long schemaId;
+        private final boolean[] existing;
+
+        SchemaFields(long schemaId, boolean[] existing) {
+            this.schemaId = schemaId;
+            this.existing = existing;
+        }
+    }
+
+    /**
+     * Reads and writes a field through its generated field handle.
+     */
+    private abstract static class FieldAccessor {
+
+        protected final String name;
+        protected final CompactFieldHandle handle;
+        private final FieldKind kind;
+        private final FieldKind compatibleKind;
+
+        FieldAccessor(String name, CompactFieldHandle handle, FieldKind kind, FieldKind compatibleKind) {
+            this.name = name;
+            this.handle = handle;
+            this.kind = kind;
+            this.compatibleKind = compatibleKind;
+        }
+
+        boolean existsIn(Schema schema) {
+            return isFieldExist(schema, name, kind, compatibleKind);
+        }
+
+        abstract void read(CompactReader reader, Schema schema, Object o);
+
+        abstract void write(CompactWriter writer, Object o);
+    }
+
+    private static final class Int8Accessor extends FieldAccessor {
+
+        Int8Accessor(String name, CompactFieldHandle handle) {
+            super(name, handle, INT8, NULLABLE_INT8);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setInt8(o, reader.readInt8(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeInt8(name, handle.getInt8(o));
+        }
+    }
+
+    private static final class CharAccessor extends FieldAccessor {
+
+        CharAccessor(String name, CompactFieldHandle handle) {
+            super(name, handle, INT16, NULLABLE_INT16);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setChar(o, (char) reader.readInt16(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeInt16(name, (short) handle.getChar(o));
+        }
+    }
+
+    private static final class Int16Accessor extends FieldAccessor {
+
+        Int16Accessor(String name, CompactFieldHandle handle) {
+            super(name, handle, INT16, NULLABLE_INT16);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setInt16(o, reader.readInt16(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeInt16(name, handle.getInt16(o));
+        }
+    }
+
+    private static final class Int32Accessor extends FieldAccessor {
+
+        Int32Accessor(String name, CompactFieldHandle handle) {
+            super(name, handle, INT32, NULLABLE_INT32);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setInt32(o, reader.readInt32(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeInt32(name, handle.getInt32(o));
+        }
+    }
+
+    private static final class Int64Accessor extends FieldAccessor {
+
+        Int64Accessor(String name, CompactFieldHandle handle) {
+            super(name, handle, INT64, NULLABLE_INT64);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setInt64(o, reader.readInt64(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeInt64(name, handle.getInt64(o));
+        }
+    }
+
+    private static final class Float32Accessor extends FieldAccessor {
+
+        Float32Accessor(String name, CompactFieldHandle handle) {
+            super(name, handle, FLOAT32, NULLABLE_FLOAT32);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setFloat32(o, reader.readFloat32(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeFloat32(name, handle.getFloat32(o));
+        }
+    }
+
+    private static final class Float64Accessor extends FieldAccessor {
+
+        Float64Accessor(String name, CompactFieldHandle handle) {
+            super(name, handle, FLOAT64, NULLABLE_FLOAT64);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setFloat64(o, reader.readFloat64(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeFloat64(name, handle.getFloat64(o));
+        }
+    }
+
+    private static final class BooleanAccessor extends FieldAccessor {
+
+        BooleanAccessor(String name, CompactFieldHandle handle) {
+            super(name, handle, BOOLEAN, NULLABLE_BOOLEAN);
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setBoolean(o, reader.readBoolean(name));
+        }
+
+        @Override
+        void write(CompactWriter writer, Object o) {
+            writer.writeBoolean(name, handle.getBoolean(o));
+        }
+    }
+
+    private static final class ValueAccessor extends FieldAccessor {
+
+        private final ValueReaderWriter readerWriter;
+
+        ValueAccessor(String name, CompactFieldHandle handle, ValueReaderWriter readerWriter) {
+            super(name, handle, null, null);
+            this.readerWriter = readerWriter;
+        }
+
+        @Override
+        boolean existsIn(Schema schema) {
+            // the value reader writers check the schema themselves and
+            // read missing fields as null
+            return true;
+        }
+
+        @Override
+        void read(CompactReader reader, Schema schema, Object o) {
+            handle.setObject(o, readerWriter.read(reader, schema));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void write(CompactWriter writer, Object o) {
+            readerWriter.write(writer, handle.getObject(o));
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.processor.SourceProcessors;
+import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.pipeline.file.impl.FileProcessorMetaSupplier;
 import com.hazelcast.jet.pipeline.file.impl.FileTraverser;
 import com.hazelcast.logging.ILogger;
@@ -31,6 +32,7 @@ import com.hazelcast.logging.Logger;
 import com.hazelcast.security.permission.ConnectorPermission;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
@@ -40,10 +42,12 @@ import java.nio.file.Paths;
 import java.security.Permission;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static com.hazelcast.jet.Traversers.empty;
 import static com.hazelcast.jet.Traversers.traverseIterator;
 import static com.hazelcast.jet.Traversers.traverseStream;
 import static com.hazelcast.jet.impl.util.Util.checkSerializable;
@@ -58,19 +62,26 @@ import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
  * should be set according to the performance characteristics of the
  * underlying storage system. Modern high-end devices peak with 4-8 reading
  * threads, so if running a single Jet job with a single file-reading
- * vertex, the optimal value would be in the range of 4-8. Note that any
- * one file is only read by one thread, so extra parallelism won't improve
- * performance if there aren't enough files to read.
+ * vertex, the optimal value would be in the range of 4-8.
+ * <p>
+ * If a function to read a byte range of a file is given, the files larger
+ * than the split size are split to ranges which are read by different
+ * processors, so even a single large file is read in parallel. Otherwise
+ * any one file is only read by one thread, so extra parallelism won't
+ * improve performance if there aren't enough files to read.
  */
 public final class ReadFilesP<T> extends AbstractProcessor {
 
     private static final int DEFAULT_LOCAL_PARALLELISM = 4;
+    private static final long DEFAULT_SPLIT_SIZE = 128L << 20;
 
     private final String directory;
     private final String glob;
     private final boolean sharedFileSystem;
     private final boolean ignoreFileNotFound;
     private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
+    private final TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn;
+    private final long splitSize;
 
     private LocalFileTraverser<T> traverser;
 
@@ -79,13 +90,17 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             @Nonnull String glob,
             boolean sharedFileSystem,
             boolean ignoreFileNotFound,
-            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn
+            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+            @Nullable TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn,
+            long splitSize
     ) {
         this.directory = directory;
         this.glob = glob;
         this.sharedFileSystem = sharedFileSystem;
         this.ignoreFileNotFound = ignoreFileNotFound;
         this.readFileFn = readFileFn;
+        this.readFileRangeFn = readFileRangeFn;
+        this.splitSize = splitSize;
     }
 
     @Override
@@ -99,14 +114,17 @@ public final class ReadFilesP<T> extends AbstractProcessor {
                 directory,
                 glob,
                 ignoreFileNotFound,
-                path -> shouldProcessEvent(path, parallelism, processorIndex),
-                readFileFn
+                (path, split) -> shouldProcessEvent(path, split, parallelism, processorIndex),
+                readFileFn,
+                readFileRangeFn,
+                splitSize
         );
     }
 
-    private static boolean shouldProcessEvent(Path path, int parallelism, int processorIndex) {
+    private static boolean shouldProcessEvent(Path path, int split, int parallelism, int processorIndex) {
         int hashCode = path.hashCode();
-        return ((hashCode & Integer.MAX_VALUE) % parallelism) == processorIndex;
+        // the splits of a file are assigned to consecutive processors
+        return ((hashCode & Integer.MAX_VALUE) % parallelism + split) % parallelism == processorIndex;
     }
 
     @Override
@@ -135,11 +153,43 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             boolean sharedFileSystem,
             boolean ignoreFileNotFound,
             @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn
+    ) {
+        return metaSupplier(directory, glob, sharedFileSystem, ignoreFileNotFound, readFileFn, null);
+    }
+
+    /**
+     * Private API. Use {@link SourceProcessors#readFilesP} instead.
+     *
+     * @param readFileRangeFn the function to read the items which start in
+     *                        the given byte range of a file, or {@code null}
+     *                        if the files can only be read as a whole
+     */
+    public static <T> ProcessorMetaSupplier metaSupplier(
+            @Nonnull String directory,
+            @Nonnull String glob,
+            boolean sharedFileSystem,
+            boolean ignoreFileNotFound,
+            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+            @Nullable TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn
+    ) {
+        return metaSupplier(directory, glob, sharedFileSystem, ignoreFileNotFound, readFileFn, readFileRangeFn,
+                DEFAULT_SPLIT_SIZE);
+    }
+
+    static <T> ProcessorMetaSupplier metaSupplier(
+            @Nonnull String directory,
+            @Nonnull String glob,
+            boolean sharedFileSystem,
+            boolean ignoreFileNotFound,
+            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+            @Nullable TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn,
+            long splitSize
     ) {
         checkSerializable(readFileFn, "readFileFn");
+        checkSerializable(readFileRangeFn, "readFileRangeFn");
 
         return new MetaSupplier<>(DEFAULT_LOCAL_PARALLELISM, directory, glob, sharedFileSystem,
-                ignoreFileNotFound, readFileFn);
+                ignoreFileNotFound, readFileFn, readFileRangeFn, splitSize);
     }
 
     private static final class MetaSupplier<T> implements FileProcessorMetaSupplier<T> {
@@ -154,14 +204,19 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         private final boolean sharedFileSystem;
         private final boolean ignoreFileNotFound;
         private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
+        private final TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn;
+        private final long splitSize;
 
+        @SuppressWarnings("checkstyle:ParameterNumber")
         private MetaSupplier(
                 int localParallelism,
                 String directory,
                 String glob,
                 boolean sharedFileSystem,
                 boolean ignoreFileNotFound,
-                FunctionEx<? super Path, ? extends Stream<T>> readFileFn
+                FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+                TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn,
+                long splitSize
         ) {
             this.localParallelism = localParallelism;
             this.directory = directory;
@@ -169,13 +224,15 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             this.sharedFileSystem = sharedFileSystem;
             this.ignoreFileNotFound = ignoreFileNotFound;
             this.readFileFn = readFileFn;
+            this.readFileRangeFn = readFileRangeFn;
+            this.splitSize = splitSize;
         }
 
         @Nonnull
         @Override
         public Function<? super Address, ? extends ProcessorSupplier> get(@Nonnull List<Address> addresses) {
             return address -> ProcessorSupplier.of(() -> new ReadFilesP<>(directory, glob, sharedFileSystem,
-                    ignoreFileNotFound, readFileFn));
+                    ignoreFileNotFound, readFileFn, readFileRangeFn, splitSize));
         }
 
         @Override
@@ -185,7 +242,8 @@ public final class ReadFilesP<T> extends AbstractProcessor {
 
         @Override
         public FileTraverser<T> traverser() {
-            return new LocalFileTraverser<>(LOGGER, directory, glob, ignoreFileNotFound, path -> true, readFileFn);
+            return new LocalFileTraverser<>(LOGGER, directory, glob, ignoreFileNotFound, (path, split) -> true,
+                    readFileFn, null, 0);
         }
 
         @Override
@@ -200,7 +258,10 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         private final Path directory;
         private final String glob;
         private final boolean ignoreFileNotFound;
+        private final BiPredicate<Path, Integer> splitFilterFn;
         private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
+        private final TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn;
+        private final long splitSize;
         private final Traverser<T> delegate;
 
         private DirectoryStream<Path> directoryStream;
@@ -212,18 +273,22 @@ public final class ReadFilesP<T> extends AbstractProcessor {
                 String directory,
                 String glob,
                 boolean ignoreFileNotFound,
-                Predicate<Path> pathFilterFn,
-                FunctionEx<? super Path, ? extends Stream<T>> readFileFn
+                BiPredicate<Path, Integer> splitFilterFn,
+                FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+                TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn,
+                long splitSize
         ) {
             this.logger = logger;
             this.directory = Paths.get(directory);
             this.glob = glob;
             this.ignoreFileNotFound = ignoreFileNotFound;
+            this.splitFilterFn = splitFilterFn;
             this.readFileFn = readFileFn;
+            this.readFileRangeFn = readFileRangeFn;
+            this.splitSize = splitSize;
             this.delegate = traverseIterator(uncheckCall(this::paths))
                     .filter(path -> !Files.isDirectory(path))
                     .peek(path -> hasResults = true)
-                    .filter(path -> pathFilterFn.test(path))
                     .flatMap(this::processFile);
         }
 
@@ -241,10 +306,30 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         }
 
         private Traverser<T> processFile(Path file) {
+            long size = readFileRangeFn == null ? 0 : uncheckCall(() -> Files.size(file));
+            if (size <= splitSize) {
+                return splitFilterFn.test(file, 0) ? readFile(file) : empty();
+            }
+
+            int splitCount = (int) ((size - 1) / splitSize + 1);
+            return traverseStream(IntStream.range(0, splitCount).boxed())
+                    .filter(split -> splitFilterFn.test(file, split))
+                    .flatMap(split -> readFileRange(file, split * splitSize, Math.min(size, (split + 1) * splitSize)));
+        }
+
+        private Traverser<T> readFile(Path file) {
             logger.finest("Processing file " + file);
+            return traverseFileStream(readFileFn.apply(file));
+        }
+
+        private Traverser<T> readFileRange(Path file, long start, long end) {
+            logger.finest("Processing file " + file + ", bytes " + start + "-" + end);
+            return traverseFileStream(readFileRangeFn.apply(file, start, end));
+        }
 
+        private Traverser<T> traverseFileStream(Stream<T> stream) {
             assert fileStream == null : "fileStream != null";
-            fileStream = readFileFn.apply(file);
+            fileStream = stream;
             return traverseStream(fileStream)
                     .onFirstNull(() -> {
                         fileStream.close();
@@ -26,6 +26,7 @@ import com.hazelcast.function.FunctionEx;
 import com.hazelcast.function.PredicateEx;
 import com.hazelcast.function.SupplierEx;
 import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.internal.journal.EventJournalBatchReader;
 import com.hazelcast.internal.journal.EventJournalInitialSubscriberState;
 import com.hazelcast.internal.journal.EventJournalReader;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -67,6 +68,7 @@ import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
 import static com.hazelcast.client.HazelcastClient.newHazelcastClient;
+import static com.hazelcast.internal.cluster.Versions.V5_3;
 import static com.hazelcast.jet.Traversers.traverseStream;
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
@@ -94,6 +96,7 @@ import static java.util.stream.IntStream.range;
 public final class StreamEventJournalP<E, T> extends AbstractProcessor {
 
     private static final int MAX_FETCH_SIZE = 128;
+    private static final long BATCH_READ_MAX_WAIT_MILLIS = 500;
 
     @Nonnull
     private final EventJournalReader<? extends E> eventJournalReader;
@@ -120,6 +123,12 @@ public final class StreamEventJournalP<E, T> extends AbstractProcessor {
 
     private CompletableFuture<? extends ReadResultSet<? extends T>>[] readFutures;
 
+    // when reading from a member, all partitions are read at once
+    private boolean isBatchReader;
+    private CompletableFuture<List<ReadResultSet<T>>> batchReadFuture;
+    @Nullable
+    private List<ReadResultSet<T>> batchResultSets;
+
     // currently processed resultSet, it's partitionId and iterating position
     @Nullable
     private ReadResultSet<? extends T> resultSet;
@@ -183,12 +192,14 @@ public final class StreamEventJournalP<E, T> extends AbstractProcessor {
                 throw new JetException("The projection or predicate classes are not known to IMDG. It's not enough to " +
                         "add them to the job class path, they must be deployed using User code deployment: " + e, e);
             }
+            isBatchReader = eventJournalReader instanceof EventJournalBatchReader
+                    && hzInstance.node.getClusterService().getClusterVersion().isGreaterOrEqual(V5_3);
         }
     }
 
     @Override
     public boolean complete() {
-        if (readFutures == null) {
+        if (readFutures == null && batchReadFuture == null) {
             initialRead();
         }
         if (!emitFromTraverser(traverser)) {
@@ -278,6 +289,10 @@ public final class StreamEventJournalP<E, T> extends AbstractProcessor {
 
     @SuppressWarnings("unchecked")
     private void initialRead() {
+        if (isBatchReader) {
+            batchReadFuture = readFromJournals();
+            return;
+        }
         readFutures = new CompletableFuture[partitionIds.length];
         for (int i = 0; i < readFutures.length; i++) {
             readFutures[i] = readFromJournal(partitionIds[i], readOffsets[i]);
@@ -289,6 +304,10 @@ public final class StreamEventJournalP<E, T> extends AbstractProcessor {
     }
 
     private void tryGetNextResultSet() {
+        if (isBatchReader) {
+            tryGetNextBatchResultSet();
+            return;
+        }
         while (resultSet == null && ++currentPartitionIndex < partitionIds.length) {
             CompletableFuture<? extends ReadResultSet<? extends T>> future = readFutures[currentPartitionIndex];
             if (!future.isDone()) {
@@ -298,16 +317,7 @@ public final class StreamEventJournalP<E, T> extends AbstractProcessor {
             int partitionId = partitionIds[currentPartitionIndex];
             if (resultSet != null) {
                 assert resultSet.size() > 0 : "empty resultSet";
-                long prevSequence = readOffsets[currentPartitionIndex];
-                long lostCount = resultSet.getNextSequenceToReadFrom() - resultSet.readCount() - prevSequence;
-                if (lostCount > 0) {
-                    getLogger().warning(lostCount + " events lost for partition "
-                            + partitionId + " due to journal overflow when reading from event journal."
-                            + " Increase journal size to avoid this error. nextSequenceToReadFrom="
-                            + resultSet.getNextSequenceToReadFrom() + ", readCount=" + resultSet.readCount()
-                            + ", prevSeq=" + prevSequence);
-                }
-                readOffsets[currentPartitionIndex] = resultSet.getNextSequenceToReadFrom();
+                updateReadOffset(resultSet);
             }
             // make another read on the same partition
             readFutures[currentPartitionIndex] = readFromJournal(partitionId, readOffsets[currentPartitionIndex]);
@@ -319,7 +329,49 @@ public final class StreamEventJournalP<E, T> extends AbstractProcessor {
         }
     }
 
-    private ReadResultSet<? extends T> toResultSet(CompletableFuture<? extends ReadResultSet<? extends T>> future) {
+    private void tryGetNextBatchResultSet() {
+        if (batchResultSets == null) {
+            if (!batchReadFuture.isDone()) {
+                traverser = eventTimeMapper.flatMapIdle();
+                return;
+            }
+            batchResultSets = toResultSet(batchReadFuture);
+            if (batchResultSets == null) {
+                batchReadFuture = readFromJournals();
+                return;
+            }
+        }
+        while (resultSet == null && ++currentPartitionIndex < partitionIds.length) {
+            ReadResultSet<T> partitionResultSet = batchResultSets.get(currentPartitionIndex);
+            updateReadOffset(partitionResultSet);
+            if (partitionResultSet.size() > 0) {
+                resultSet = partitionResultSet;
+            }
+        }
+
+        if (currentPartitionIndex == partitionIds.length) {
+            // make another read on all partitions
+            currentPartitionIndex = -1;
+            batchResultSets = null;
+            batchReadFuture = readFromJournals();
+            traverser = eventTimeMapper.flatMapIdle();
+        }
+    }
+
+    private void updateReadOffset(ReadResultSet<? extends T> resultSet) {
+        long prevSequence = readOffsets[currentPartitionIndex];
+        long lostCount = resultSet.getNextSequenceToReadFrom() - resultSet.readCount() - prevSequence;
+        if (lostCount > 0) {
+            getLogger().warning(lostCount + " events lost for partition "
+                    + partitionIds[currentPartitionIndex] + " due to journal overflow when reading from event journal."
+                    + " Increase journal size to avoid this error. nextSequenceToReadFrom="
+                    + resultSet.getNextSequenceToReadFrom() + ", readCount=" + resultSet.readCount()
+                    + ", prevSeq=" + prevSequence);
+        }
+        readOffsets[currentPartitionIndex] = resultSet.getNextSequenceToReadFrom();
+    }
+
+    private <R> R toResultSet(CompletableFuture<R> future) {
         try {
             return future.get();
         } catch (ExecutionException e) {
@@ -345,6 +397,12 @@ public final class StreamEventJournalP<E, T> extends AbstractProcessor {
                                  .toCompletableFuture();
     }
 
+    private CompletableFuture<List<ReadResultSet<T>>> readFromJournals() {
+        EventJournalBatchReader<? extends E> batchReader = (EventJournalBatchReader<? extends E>) eventJournalReader;
+        return batchReader.<T>readFromEventJournals(partitionIds, readOffsets, MAX_FETCH_SIZE, BATCH_READ_MAX_WAIT_MILLIS,
+                predicate, projection).toCompletableFuture();
+    }
+
     private static class ClusterMetaSupplier<E, T> implements ProcessorMetaSupplier {
 
         static final long serialVersionUID = 1L;
@@ -24,6 +24,7 @@ import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.impl.AbstractSerializationService;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.SerializerAdapter;
+import com.hazelcast.internal.serialization.impl.compact.CompactMutableGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
 import com.hazelcast.jet.JetException;
@@ -112,6 +113,11 @@ public class DelegatingSerializationService extends AbstractSerializationService
         return delegate.readAsInternalGenericRecord(data);
     }
 
+    @Override
+    public CompactMutableGenericRecord readAsMutableGenericRecord(@Nonnull Data data) throws IOException {
+        return delegate.readAsMutableGenericRecord(data);
+    }
+
     @Override
     public Schema extractSchemaFromData(@Nonnull Data data) throws IOException {
         return delegate.extractSchemaFromData(data);
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.hazelcast.internal.util.JVMUtil.upcast;
+import static com.hazelcast.jet.impl.util.ExceptionUtil.sneakyThrow;
+import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * Reads the lines of a byte range of a file, so that many threads can read
+ * disjoint ranges of a single large file.
+ * <p>
+ * A line belongs to the range which contains its first byte: the reader
+ * skips the line that started before the range and reads past the end of
+ * the range to finish its last line. Hence if a file is split to adjacent
+ * ranges, each line is read exactly once. Like {@link
+ * java.io.BufferedReader#readLine()}, a line is terminated by {@code '\n'},
+ * {@code '\r'} or {@code "\r\n"}.
+ * <p>
+ * The bytes are scanned for the line terminators before decoding, so only
+ * the charsets which encode them as single bytes not used by any other
+ * character are supported, see {@link #isSupported(Charset)}.
+ */
+public final class LineRangeReader implements Iterator<String>, Closeable {
+
+    static final int BUFFER_SIZE = 1 << 20;
+
+    private static final int INITIAL_LINE_CAPACITY = 256;
+    private static final int BYTE_MASK = 0xff;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final long end;
+    private final byte[] buffer;
+    private final ByteBuffer byteBuffer;
+
+    // the file position of buffer[bufferPosition]
+    private long position;
+    private int bufferPosition;
+    private int bufferLimit;
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+    private String next;
+
+    private LineRangeReader(FileChannel channel, long start, long end, Charset charset) {
+        this.channel = channel;
+        this.charset = charset;
+        this.end = end;
+        buffer = new byte[(int) Math.max(INITIAL_LINE_CAPACITY, Math.min(BUFFER_SIZE, end - start + 1))];
+        byteBuffer = ByteBuffer.wrap(buffer);
+
+        if (start > 0) {
+            position = start - 1;
+            skipPartialLine();
+        }
+    }
+
+    /**
+     * Returns a stream of the lines which start in the given range of the
+     * file. The stream must be closed to close the file.
+     *
+     * @param path    the file to read
+     * @param start   the offset of the first byte of the range
+     * @param end     the offset after the last byte of the range
+     * @param charset the charset of the file, it must be {@linkplain
+     *                #isSupported(Charset) supported}
+     */
+    @Nonnull
+    public static Stream<String> lines(@Nonnull Path path, long start, long end, @Nonnull Charset charset)
+            throws IOException {
+        FileChannel channel = FileChannel.open(path, READ);
+        LineRangeReader reader;
+        try {
+            reader = new LineRangeReader(channel, start, end, charset);
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader, ORDERED | NONNULL), false)
+                            .onClose(() -> uncheckRun(reader::close));
+    }
+
+    /**
+     * Returns if files encoded with the given charset can be read in ranges.
+     */
+    public static boolean isSupported(@Nonnull Charset charset) {
+        return charset.equals(UTF_8) || charset.equals(US_ASCII) || charset.equals(ISO_8859_1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && position < end) {
+            next = readLine();
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void skipPartialLine() {
+        // the range starts with a line if the byte before it terminates a line
+        int previous = read();
+        if (previous == '\r') {
+            skipLineFeed();
+        } else if (previous != '\n' && previous != -1) {
+            // skip the rest of the line
+            boolean terminated;
+            do {
+                terminated = readLineChunk(true);
+            } while (!terminated && peek() != -1);
+        }
+    }
+
+    private String readLine() {
+        if (peek() == -1) {
+            return null;
+        }
+        int lineLength = 0;
+        for (;;) {
+            int chunkStart = bufferPosition;
+            boolean terminated = readLineChunk(false);
+            int chunkLength = (terminated ? bufferPosition - 1 : bufferPosition) - chunkStart;
+            if (terminated && lineLength == 0) {
+                // the whole line is in the buffer, no need to copy it
+                String result = new String(buffer, chunkStart, chunkLength, charset);
+                skipLineFeedAfter(buffer[bufferPosition - 1]);
+                return result;
+            }
+            if (lineLength + chunkLength > line.length) {
+                line = Arrays.copyOf(line, Math.max(2 * line.length, lineLength + chunkLength));
+            }
+            System.arraycopy(buffer, chunkStart, line, lineLength, chunkLength);
+            lineLength += chunkLength;
+            if (terminated) {
+                skipLineFeedAfter(buffer[bufferPosition - 1]);
+                return new String(line, 0, lineLength, charset);
+            } else if (peek() == -1) {
+                return new String(line, 0, lineLength, charset);
+            }
+        }
+    }
+
+    /**
+     * Consumes the bytes in the buffer up to and including the next line
+     * terminator. Fills the buffer first if it's empty.
+     *
+     * @param skipLineFeed whether to consume the {@code '\n'} following a
+     *                     {@code '\r'} terminator
+     * @return {@code true} if a line terminator was consumed, {@code false}
+     * if the end of the buffer or the file was reached
+     */
+    private boolean readLineChunk(boolean skipLineFeed) {
+        if (peek() == -1) {
+            return false;
+        }
+        int i = bufferPosition;
+        while (i < bufferLimit && buffer[i] != '\n' && buffer[i] != '\r') {
+            i++;
+        }
+        boolean terminated = i < bufferLimit;
+        int consumed = (terminated ? i + 1 : i) - bufferPosition;
+        bufferPosition += consumed;
+        position += consumed;
+        if (terminated && skipLineFeed && buffer[i] == '\r') {
+            skipLineFeed();
+        }
+        return terminated;
+    }
+
+    private void skipLineFeedAfter(byte terminator) {
+        if (terminator == '\r') {
+            skipLineFeed();
+        }
+    }
+
+    private void skipLineFeed() {
+        if (peek() == '\n') {
+            read();
+        }
+    }
+
+    private int read() {
+        int b = peek();
+        if (b != -1) {
+            bufferPosition++;
+            position++;
+        }
+        return b;
+    }
+
+    private int peek() {
+        if (bufferPosition == bufferLimit && !fill()) {
+            return -1;
+        }
+        return buffer[bufferPosition] & BYTE_MASK;
+    }
+
+    private boolean fill() {
+        try {
+            upcast(byteBuffer).clear();
+            int read;
+            do {
+                read = channel.read(byteBuffer, position);
+            } while (read == 0);
+            bufferPosition = 0;
+            bufferLimit = Math.max(read, 0);
+            return read > 0;
+        } catch (IOException e) {
+            throw sneakyThrow(e);
+        }
+    }
+}
@@ -19,7 +19,8 @@ package com.hazelcast.jet.pipeline.file.impl;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
-import com.hazelcast.jet.core.processor.SourceProcessors;
+import com.hazelcast.jet.function.TriFunction;
+import com.hazelcast.jet.impl.connector.ReadFilesP;
 import com.hazelcast.jet.impl.util.IOUtil;
 import com.hazelcast.jet.json.JsonUtil;
 import com.hazelcast.jet.pipeline.file.FileFormat;
@@ -83,8 +84,9 @@ public class LocalFileSourceFactory implements FileSourceFactory {
                     "Did you provide correct modules on classpath?");
         }
         FunctionEx<Path, Stream<T>> mapFn = readFileFnProvider.createReadFileFn(format);
-        return SourceProcessors.readFilesP(fsc.getPath(), fsc.getGlob(), fsc.isSharedFileSystem(),
-                fsc.isIgnoreFileNotFound(), mapFn);
+        TriFunction<Path, Long, Long, Stream<T>> readRangeFn = readFileFnProvider.createReadFileRangeFn(format);
+        return ReadFilesP.metaSupplier(fsc.getPath(), fsc.getGlob(), fsc.isSharedFileSystem(),
+                fsc.isIgnoreFileNotFound(), mapFn, readRangeFn);
     }
 
     @SuppressFBWarnings("OBL_UNSATISFIED_OBLIGATION")
@@ -146,6 +148,17 @@ public class LocalFileSourceFactory implements FileSourceFactory {
             };
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TriFunction<Path, Long, Long, Stream<T>> createReadFileRangeFn(@Nonnull FileFormat<T> format) {
+            LinesTextFileFormat linesTextFileFormat = (LinesTextFileFormat) format;
+            if (!LineRangeReader.isSupported(linesTextFileFormat.charset())) {
+                return null;
+            }
+            String thisCharset = linesTextFileFormat.charset().name();
+            return (path, start, end) -> (Stream<T>) LineRangeReader.lines(path, start, end, Charset.forName(thisCharset));
+        }
+
         @Nonnull @Override
         public String format() {
             return LinesTextFileFormat.FORMAT_LINES;
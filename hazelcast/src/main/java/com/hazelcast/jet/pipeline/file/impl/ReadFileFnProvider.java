@@ -17,9 +17,11 @@
 package com.hazelcast.jet.pipeline.file.impl;
 
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.pipeline.file.FileFormat;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.util.stream.Stream;
 
@@ -39,6 +41,20 @@ public interface ReadFileFnProvider {
     @Nonnull
     <T> FunctionEx<Path, Stream<T>> createReadFileFn(@Nonnull FileFormat<T> format);
 
+    /**
+     * Takes a {@link FileFormat} and returns a function that maps a {@code
+     * Path} on the local filesystem and a byte range of the file to a stream
+     * of the items which start in the range, so that a large file can be
+     * read by many processors in parallel. Returns {@code null} if the files
+     * of the format can only be read as a whole, which is the default.
+     *
+     * @since 5.3
+     */
+    @Nullable
+    default <T> TriFunction<Path, Long, Long, Stream<T>> createReadFileRangeFn(@Nonnull FileFormat<T> format) {
+        return null;
+    }
+
     /**
      * Returns a string that identifies the {@link FileFormat} supported by
      * this function provider.
@@ -16,6 +16,10 @@
 
 package com.hazelcast.map;
 
+import com.hazelcast.nio.serialization.genericrecord.MutableGenericRecord;
+import com.hazelcast.spi.annotation.Beta;
+
+import javax.annotation.Nullable;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
@@ -47,4 +51,24 @@ public interface ExtendedMapEntry<K, V> extends Entry<K, V> {
      */
     V setValueWithoutChangingExpiryTime(V value);
 
+    /**
+     * Returns a mutable view over the serialized value of this entry if the
+     * value is Compact serialized, without deserializing it. Fields read
+     * through the view are decoded one at a time and fixed-size fields are
+     * updated in place. Writes made through the view become the new value of
+     * the entry, unless {@link #setValue} is called afterwards.
+     * <p>
+     * The view is only valid within the entry processor it was obtained in.
+     *
+     * @return the view, or {@code null} if the entry has no value, the value
+     * is not Compact serialized, or this entry does not support such views
+     * @see MutableGenericRecord
+     * @since 5.3
+     */
+    @Beta
+    @Nullable
+    default MutableGenericRecord getValueAsMutableGenericRecord() {
+        return null;
+    }
+
 }
@@ -23,6 +23,7 @@ import com.hazelcast.internal.diagnostics.StoreLatencyPlugin.LatencyProbe;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Function;
 
 public class LatencyTrackingMapLoader<K, V> implements MapLoader<K, V> {
 
@@ -34,10 +35,18 @@ public class LatencyTrackingMapLoader<K, V> implements MapLoader<K, V> {
     private final MapLoader<K, V> delegate;
 
     public LatencyTrackingMapLoader(MapLoader<K, V> delegate, StoreLatencyPlugin plugin, String mapName) {
+        this(delegate, methodName -> plugin.newProbe(KEY, mapName, methodName));
+    }
+
+    /**
+     * @param probeFactory the function which creates the probe of a method
+     *                     from the method name
+     */
+    public LatencyTrackingMapLoader(MapLoader<K, V> delegate, Function<String, LatencyProbe> probeFactory) {
         this.delegate = delegate;
-        this.loadProbe = plugin.newProbe(KEY, mapName, "load");
-        this.loadAllProbe = plugin.newProbe(KEY, mapName, "loadAll");
-        this.loadAllKeysProbe = plugin.newProbe(KEY, mapName, "loadAllKeys");
+        this.loadProbe = probeFactory.apply("load");
+        this.loadAllProbe = probeFactory.apply("loadAll");
+        this.loadAllKeysProbe = probeFactory.apply("loadAllKeys");
     }
 
     @Override
@@ -23,6 +23,7 @@ import com.hazelcast.internal.diagnostics.StoreLatencyPlugin.LatencyProbe;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Function;
 
 public class LatencyTrackingMapStore<K, V> implements MapStore<K, V> {
     static final String KEY = "MapStoreLatency";
@@ -34,11 +35,19 @@ public class LatencyTrackingMapStore<K, V> implements MapStore<K, V> {
     private final MapStore<K, V> delegate;
 
     public LatencyTrackingMapStore(MapStore<K, V> delegate, StoreLatencyPlugin plugin, String mapName) {
+        this(delegate, methodName -> plugin.newProbe(KEY, mapName, methodName));
+    }
+
+    /**
+     * @param probeFactory the function which creates the probe of a method
+     *                     from the method name
+     */
+    public LatencyTrackingMapStore(MapStore<K, V> delegate, Function<String, LatencyProbe> probeFactory) {
         this.delegate = delegate;
-        this.deleteProbe = plugin.newProbe(KEY, mapName, "delete");
-        this.deleteAllProbe = plugin.newProbe(KEY, mapName, "deleteAll");
-        this.storeProbe = plugin.newProbe(KEY, mapName, "store");
-        this.storeAllProbe = plugin.newProbe(KEY, mapName, "storeAll");
+        this.deleteProbe = probeFactory.apply("delete");
+        this.deleteAllProbe = probeFactory.apply("deleteAll");
+        this.storeProbe = probeFactory.apply("store");
+        this.storeAllProbe = probeFactory.apply("storeAll");
     }
 
     @Override
@@ -19,19 +19,23 @@ package com.hazelcast.map.impl;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.compact.CompactMutableGenericRecord;
 import com.hazelcast.map.ExtendedMapEntry;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.genericrecord.MutableGenericRecord;
 import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.getters.Extractors;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.map.impl.record.Record.UNSET;
 
 /**
@@ -66,6 +70,7 @@ public class LazyMapEntry<K, V> extends CachedQueryEntry<K, V>
     private transient long newTtl = UNSET;
     private transient boolean modified;
     private transient boolean changeExpiryOnUpdate = true;
+    private transient CompactMutableGenericRecord mutableValue;
 
     public LazyMapEntry() {
     }
@@ -85,10 +90,12 @@ public class LazyMapEntry<K, V> extends CachedQueryEntry<K, V>
         this.modified = false;
         this.newTtl = ttl;
         this.changeExpiryOnUpdate = changeExpiryOnUpdate;
+        this.mutableValue = null;
         return this;
     }
 
     public void setValueByInMemoryFormat(InMemoryFormat inMemoryFormat, Object value) {
+        mutableValue = null;
         if (inMemoryFormat == InMemoryFormat.OBJECT) {
             valueObject = (V) value;
             valueData = null;
@@ -104,6 +111,7 @@ public class LazyMapEntry<K, V> extends CachedQueryEntry<K, V>
         V oldValue = getValue();
         this.valueObject = value;
         this.valueData = null;
+        this.mutableValue = null;
         this.changeExpiryOnUpdate = true;
         this.newTtl = UNSET;
         return oldValue;
@@ -130,6 +138,63 @@ public class LazyMapEntry<K, V> extends CachedQueryEntry<K, V>
         modified = true;
         valueObject = null;
         valueData = null;
+        mutableValue = null;
+    }
+
+    @Nullable
+    @Override
+    public MutableGenericRecord getValueAsMutableGenericRecord() {
+        if (mutableValue != null) {
+            return mutableValue;
+        }
+        Data data = getValueData();
+        if (data == null || !data.isCompact()) {
+            return null;
+        }
+        try {
+            mutableValue = serializationService.readAsMutableGenericRecord(data);
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+        return mutableValue;
+    }
+
+    @Override
+    public V getValue() {
+        applyMutableValue();
+        return super.getValue();
+    }
+
+    @Override
+    public Data getValueData() {
+        applyMutableValue();
+        return super.getValueData();
+    }
+
+    @Override
+    public Object getByPrioritizingDataValue() {
+        applyMutableValue();
+        return super.getByPrioritizingDataValue();
+    }
+
+    @Override
+    protected Object getTargetObject(boolean key) {
+        if (!key) {
+            applyMutableValue();
+        }
+        return super.getTargetObject(key);
+    }
+
+    /**
+     * Makes the writes done through the view returned from {@link
+     * #getValueAsMutableGenericRecord()} the new value of this entry.
+     */
+    private void applyMutableValue() {
+        if (mutableValue != null && mutableValue.isModified()) {
+            modified = true;
+            valueData = mutableValue.toData();
+            valueObject = null;
+        }
     }
 
     /**
@@ -142,6 +207,7 @@ public class LazyMapEntry<K, V> extends CachedQueryEntry<K, V>
     }
 
     public boolean isModified() {
+        applyMutableValue();
         return modified;
     }
 
@@ -30,8 +30,11 @@ import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
 import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
 import com.hazelcast.map.impl.journal.DeserializingEventJournalMapEvent;
 import com.hazelcast.map.impl.journal.InternalEventJournalMapEvent;
+import com.hazelcast.map.impl.journal.MapEventJournalBatchReadOperation;
+import com.hazelcast.map.impl.journal.MapEventJournalFetchSnapshotOperation;
 import com.hazelcast.map.impl.journal.MapEventJournalReadOperation;
 import com.hazelcast.map.impl.journal.MapEventJournalReadResultSetImpl;
+import com.hazelcast.map.impl.journal.MapEventJournalSnapshot;
 import com.hazelcast.map.impl.journal.MapEventJournalSubscribeOperation;
 import com.hazelcast.map.impl.nearcache.invalidation.UuidFilter;
 import com.hazelcast.map.impl.operation.AddIndexBackupOperation;
@@ -111,6 +114,7 @@ import com.hazelcast.map.impl.operation.PutTransientBackupOperation;
 import com.hazelcast.map.impl.operation.PutTransientOperation;
 import com.hazelcast.map.impl.operation.PutTransientWithExpiryOperation;
 import com.hazelcast.map.impl.operation.PutWithExpiryOperation;
+import com.hazelcast.map.impl.operation.ReadBackupDataOperation;
 import com.hazelcast.map.impl.operation.RemoveBackupOperation;
 import com.hazelcast.map.impl.operation.RemoveFromLoadAllOperation;
 import com.hazelcast.map.impl.operation.RemoveIfSameOperation;
@@ -324,8 +328,12 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int INDEX_ITERATION_POINTER = 156;
     public static final int MAP_FETCH_INDEX_OPERATION_RESULT = 157;
     public static final int MAP_CHUNK = 158;
+    public static final int EVENT_JOURNAL_BATCH_READ = 159;
+    public static final int READ_BACKUP_DATA = 160;
+    public static final int EVENT_JOURNAL_SNAPSHOT_OPERATION = 161;
+    public static final int EVENT_JOURNAL_SNAPSHOT = 162;
 
-    private static final int LEN = MAP_CHUNK + 1;
+    private static final int LEN = EVENT_JOURNAL_SNAPSHOT + 1;
 
     @Override
     public int getFactoryId() {
@@ -491,6 +499,10 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[INDEX_ITERATION_POINTER] = arg -> new IndexIterationPointer();
         constructors[MAP_FETCH_INDEX_OPERATION_RESULT] = arg -> new MapFetchIndexOperationResult();
         constructors[MAP_CHUNK] = arg -> new MapChunk();
+        constructors[EVENT_JOURNAL_BATCH_READ] = arg -> new MapEventJournalBatchReadOperation<>();
+        constructors[READ_BACKUP_DATA] = arg -> new ReadBackupDataOperation();
+        constructors[EVENT_JOURNAL_SNAPSHOT_OPERATION] = arg -> new MapEventJournalFetchSnapshotOperation();
+        constructors[EVENT_JOURNAL_SNAPSHOT] = arg -> new MapEventJournalSnapshot();
 
         return new ArrayDataSerializableFactory(constructors);
     }
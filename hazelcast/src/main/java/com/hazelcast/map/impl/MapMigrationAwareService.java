@@ -21,6 +21,7 @@ import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataGenerator;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkSuppliers;
 import com.hazelcast.internal.partition.ChunkedMigrationAwareService;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.MigrationEndpoint;
 import com.hazelcast.internal.partition.OffloadedReplicationPreparation;
 import com.hazelcast.internal.partition.PartitionMigrationEvent;
@@ -31,6 +32,7 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.operation.MapReplicationOperation;
+import com.hazelcast.map.impl.operation.RecordStoreMerkleTree;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.querycache.publisher.PublisherContext;
 import com.hazelcast.map.impl.record.Record;
@@ -49,11 +51,14 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import static com.hazelcast.config.CacheDeserializedValues.NEVER;
+import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.internal.partition.MigrationEndpoint.DESTINATION;
 import static com.hazelcast.internal.partition.MigrationEndpoint.SOURCE;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.flushAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.removeAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.sendEndOfSequenceEvents;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
 
 /**
  * Defines migration behavior of map service.
@@ -61,7 +66,8 @@ import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.sen
  * @see MapService
  */
 class MapMigrationAwareService
-        implements ChunkedMigrationAwareService, OffloadedReplicationPreparation {
+        implements ChunkedMigrationAwareService, DifferentialReplicationAwareService,
+        OffloadedReplicationPreparation {
 
     protected final PartitionContainer[] containers;
     protected final MapServiceContext mapServiceContext;
@@ -146,6 +152,31 @@ class MapMigrationAwareService
         return operation;
     }
 
+    @Override
+    public int[] getMerkleTreeLeaves(int partitionId, ServiceNamespace namespace) {
+        assert isKnownServiceNamespace(namespace) : namespace + " is not a MapService namespace!";
+
+        String mapName = ((ObjectNamespace) namespace).getObjectName();
+        RecordStore<Record> recordStore = containers[partitionId].getExistingRecordStore(mapName);
+        if (recordStore != null && recordStore.getInMemoryFormat() == NATIVE) {
+            // the trees are built off the partition thread, which must not
+            // access the native memory of the record store, so NATIVE maps
+            // are replicated fully
+            return null;
+        }
+        return RecordStoreMerkleTree.leaves(recordStore, serializationService);
+    }
+
+    @Override
+    public Operation prepareDifferentialReplicationOperation(PartitionReplicationEvent event, ServiceNamespace namespace,
+                                                             int[] leafOrderHashPairs) {
+        MapReplicationOperation operation = (MapReplicationOperation) prepareReplicationOperation(event,
+                singleton(namespace));
+        String mapName = ((ObjectNamespace) namespace).getObjectName();
+        operation.setMerkleTreeDiffByMapName(singletonMap(mapName, leafOrderHashPairs));
+        return operation;
+    }
+
     @Override
     public ChunkSupplier newChunkSupplier(PartitionReplicationEvent event,
                                           Collection<ServiceNamespace> namespaces) {
@@ -25,6 +25,7 @@ import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkedMigrationAwareService;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.IPartitionLostEvent;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.partition.OffloadedReplicationPreparation;
@@ -99,7 +100,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_TAG_I
  * @see MapServiceContext
  */
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:MethodCount"})
-public class MapService implements ManagedService, ChunkedMigrationAwareService,
+public class MapService implements ManagedService, ChunkedMigrationAwareService, DifferentialReplicationAwareService,
         TransactionalService, RemoteService,
         EventPublishingService<Object, ListenerAdapter>,
         PostJoinAwareService, SplitBrainHandlerService,
@@ -175,6 +176,17 @@ public class MapService implements ManagedService, ChunkedMigrationAwareService,
         return migrationAwareService.prepareReplicationOperation(event, namespaces);
     }
 
+    @Override
+    public int[] getMerkleTreeLeaves(int partitionId, ServiceNamespace namespace) {
+        return migrationAwareService.getMerkleTreeLeaves(partitionId, namespace);
+    }
+
+    @Override
+    public Operation prepareDifferentialReplicationOperation(PartitionReplicationEvent event, ServiceNamespace namespace,
+                                                             int[] leafOrderHashPairs) {
+        return migrationAwareService.prepareDifferentialReplicationOperation(event, namespace, leafOrderHashPairs);
+    }
+
     @Override
     public void beforeMigration(PartitionMigrationEvent event) {
         migrationAwareService.beforeMigration(event);
@@ -45,6 +45,7 @@ import com.hazelcast.query.impl.predicates.QueryOptimizer;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.eventservice.EventFilter;
 import com.hazelcast.spi.properties.HazelcastProperty;
+import com.hazelcast.sql.impl.schema.map.MapStatisticsCache;
 
 import java.util.List;
 import java.util.Map;
@@ -188,6 +189,11 @@ public interface MapServiceContext extends MapServiceContextInterceptorSupport,
 
     LocalMapStatsProvider getLocalMapStatsProvider();
 
+    /**
+     * @return the column statistics of the maps used by the SQL cost model
+     */
+    MapStatisticsCache getMapStatisticsCache();
+
     MapClearExpiredRecordsTask getClearExpiredRecordsTask();
 
     MapOperationProvider getMapOperationProvider(String mapName);
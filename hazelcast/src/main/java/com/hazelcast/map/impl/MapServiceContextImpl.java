@@ -80,6 +80,7 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.eventservice.EventFilter;
 import com.hazelcast.spi.impl.eventservice.EventRegistration;
 import com.hazelcast.spi.impl.eventservice.EventService;
+import com.hazelcast.sql.impl.schema.map.MapStatisticsCache;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -136,6 +137,7 @@ class MapServiceContextImpl implements MapServiceContext {
     private final MapOperationProviders operationProviders;
     private final PartitionContainer[] partitionContainers;
     private final LocalMapStatsProvider localMapStatsProvider;
+    private final MapStatisticsCache mapStatisticsCache;
     private final ResultProcessorRegistry resultProcessorRegistry;
     private final InternalSerializationService serializationService;
     private final MapClearExpiredRecordsTask clearExpiredRecordsTask;
@@ -169,6 +171,7 @@ class MapServiceContextImpl implements MapServiceContext {
         this.expirationManager = new ExpirationManager(clearExpiredRecordsTask, nodeEngine);
         this.mapNearCacheManager = createMapNearCacheManager();
         this.localMapStatsProvider = createLocalMapStatsProvider();
+        this.mapStatisticsCache = new MapStatisticsCache(nodeEngine);
         this.mapEventPublisher = createMapEventPublisherSupport();
         this.eventJournal = createEventJournal();
         this.queryOptimizer = newOptimizer(nodeEngine.getProperties());
@@ -458,6 +461,7 @@ class MapServiceContextImpl implements MapServiceContext {
         // Statistics are destroyed after container to prevent their leak.
         destroyPartitionsAndMapContainer(mapContainer);
         localMapStatsProvider.destroyLocalMapStatsImpl(mapContainer.getName());
+        mapStatisticsCache.destroy(mapName);
         getEventListenerCounter()
                 .removeCounter(mapName, mapContainer.getInvalidationListenerCounter());
     }
@@ -494,6 +498,7 @@ class MapServiceContextImpl implements MapServiceContext {
         removeAllRecordStoresOfAllMaps(false, false);
         mapNearCacheManager.reset();
         offloadedExecutorStats.clear();
+        mapStatisticsCache.clear();
     }
 
     @Override
@@ -503,6 +508,7 @@ class MapServiceContextImpl implements MapServiceContext {
         mapContainers.clear();
         expirationManager.onShutdown();
         offloadedExecutorStats.clear();
+        mapStatisticsCache.clear();
     }
 
     @Override
@@ -587,6 +593,11 @@ class MapServiceContextImpl implements MapServiceContext {
         return localMapStatsProvider;
     }
 
+    @Override
+    public MapStatisticsCache getMapStatisticsCache() {
+        return mapStatisticsCache;
+    }
+
     @Override
     public Object toObject(Object data) {
         return serializationService.toObject(data);
@@ -19,6 +19,10 @@ package com.hazelcast.map.impl;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.diagnostics.Diagnostics;
 import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
+import com.hazelcast.internal.diagnostics.StoreLatencyPlugin.LatencyProbe;
+import com.hazelcast.internal.metrics.LatencyHistogram;
+import com.hazelcast.internal.metrics.LatencyHistograms;
+import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.map.EntryLoader;
 import com.hazelcast.map.MapLoader;
 import com.hazelcast.map.MapLoaderLifecycleSupport;
@@ -31,6 +35,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.function.Function;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_DISCRIMINATOR_NAME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_MAP_STORE_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_TAG_METHOD;
+import static com.hazelcast.spi.properties.ClusterProperty.METRICS_LATENCY_HISTOGRAMS;
 
 @SuppressWarnings("unchecked")
 public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
@@ -47,6 +57,10 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
 
     private boolean withExpirationTime;
 
+    private LatencyHistograms<String> latencyHistograms;
+
+    private MetricsRegistry metricsRegistry;
+
     private final String mapName;
 
     private final Object impl;
@@ -76,6 +90,9 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
 
     @Override
     public void destroy() {
+        if (latencyHistograms != null) {
+            metricsRegistry.deregisterDynamicMetricsProvider(latencyHistograms);
+        }
         if (impl instanceof MapLoaderLifecycleSupport) {
             ((MapLoaderLifecycleSupport) impl).destroy();
         }
@@ -100,21 +117,51 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
     }
 
     public void instrument(NodeEngine nodeEngine) {
-        Diagnostics diagnostics = ((NodeEngineImpl) nodeEngine).getDiagnostics();
+        NodeEngineImpl nodeEngineImpl = (NodeEngineImpl) nodeEngine;
+        Diagnostics diagnostics = nodeEngineImpl.getDiagnostics();
         StoreLatencyPlugin storeLatencyPlugin = diagnostics.getPlugin(StoreLatencyPlugin.class);
-        if (storeLatencyPlugin == null) {
+        if (nodeEngine.getProperties().getBoolean(METRICS_LATENCY_HISTOGRAMS)) {
+            latencyHistograms = new LatencyHistograms<>(MAP_PREFIX_MAP_STORE_LATENCY,
+                    (descriptor, methodName) -> descriptor.withDiscriminator(MAP_DISCRIMINATOR_NAME, mapName)
+                            .withTag(MAP_TAG_METHOD, methodName));
+            metricsRegistry = nodeEngineImpl.getMetricsRegistry();
+            metricsRegistry.registerDynamicMetricsProvider(latencyHistograms);
+        }
+        if (storeLatencyPlugin == null && latencyHistograms == null) {
             return;
         }
 
+        Function<String, LatencyProbe> probeFactory = methodName -> newLatencyProbe(storeLatencyPlugin, methodName);
         if (mapLoader != null) {
-            this.mapLoader = new LatencyTrackingMapLoader(mapLoader, storeLatencyPlugin, mapName);
+            this.mapLoader = new LatencyTrackingMapLoader(mapLoader, probeFactory);
         }
 
         if (mapStore != null) {
-            this.mapStore = new LatencyTrackingMapStore(mapStore, storeLatencyPlugin, mapName);
+            this.mapStore = new LatencyTrackingMapStore(mapStore, probeFactory);
         }
     }
 
+    /**
+     * Creates a probe which records the latencies of the given method in the
+     * store latency plugin and in the latency histogram, whichever is enabled.
+     */
+    private LatencyProbe newLatencyProbe(StoreLatencyPlugin storeLatencyPlugin, String methodName) {
+        LatencyProbe pluginProbe = storeLatencyPlugin == null
+                ? null
+                : storeLatencyPlugin.newProbe(LatencyTrackingMapStore.KEY, mapName, methodName);
+        if (latencyHistograms == null) {
+            return pluginProbe;
+        }
+        LatencyHistogram histogram = latencyHistograms.get(methodName);
+        if (pluginProbe == null) {
+            return histogram::recordNanos;
+        }
+        return latencyNanos -> {
+            pluginProbe.recordValue(latencyNanos);
+            histogram.recordNanos(latencyNanos);
+        };
+    }
+
     @Override
     public void delete(Object key) {
         if (isMapStore()) {
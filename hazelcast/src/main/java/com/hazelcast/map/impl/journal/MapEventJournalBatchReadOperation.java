@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.journal;
+
+import com.hazelcast.internal.journal.EventJournal;
+import com.hazelcast.internal.journal.EventJournalBatchReadOperation;
+import com.hazelcast.map.EventJournalMapEvent;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reads from the map event journals of many partitions owned by the target
+ * member, waiting until any of them has new events.
+ *
+ * @param <T> the return type of the projection. It is equal to an implementation of
+ *            {@link EventJournalMapEvent} if the projection is {@code null} or it is
+ *            the identity projection
+ * @see EventJournalBatchReadOperation
+ * @since 5.3
+ */
+public class MapEventJournalBatchReadOperation<K, V, T>
+        extends EventJournalBatchReadOperation<T, InternalEventJournalMapEvent> {
+
+    protected Predicate<? super EventJournalMapEvent<K, V>> predicate;
+    protected Function<? super EventJournalMapEvent<K, V>, ? extends T> projection;
+
+    public MapEventJournalBatchReadOperation() {
+    }
+
+    public MapEventJournalBatchReadOperation(
+            String mapName, int[] partitionIds, long[] startSequences, int maxSize, long maxWaitMillis,
+            Predicate<? super EventJournalMapEvent<K, V>> predicate,
+            Function<? super EventJournalMapEvent<K, V>, ? extends T> projection
+    ) {
+        super(mapName, partitionIds, startSequences, maxSize, maxWaitMillis);
+        this.predicate = predicate;
+        this.projection = projection;
+    }
+
+    @Override
+    protected ReadResultSetImpl<InternalEventJournalMapEvent, T> createResultSet() {
+        return new MapEventJournalReadResultSetImpl<>(
+                0, maxSize, getNodeEngine().getSerializationService(), predicate, projection);
+    }
+
+    @Override
+    protected EventJournal<InternalEventJournalMapEvent> getJournal() {
+        final MapService service = getService();
+        return service.getMapServiceContext().getEventJournal();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.EVENT_JOURNAL_BATCH_READ;
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeObject(predicate);
+        out.writeObject(projection);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        predicate = in.readObject();
+        projection = in.readObject();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.journal;
+
+import com.hazelcast.internal.services.ObjectNamespace;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.map.impl.operation.MapOperation;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+
+/**
+ * Reads all entries of a partition of the map together with the sequence
+ * of the next event in the event journal of the partition. The operation
+ * runs on the partition thread, so no change can happen in between: the
+ * events read from the returned sequence are exactly the changes not
+ * reflected in the returned entries.
+ * <p>
+ * All entries of the partition are returned in a single response.
+ *
+ * @since 5.3
+ */
+public class MapEventJournalFetchSnapshotOperation extends MapOperation
+        implements PartitionAwareOperation, ReadonlyOperation {
+
+    private MapEventJournalSnapshot response;
+    private ObjectNamespace namespace;
+
+    public MapEventJournalFetchSnapshotOperation() {
+    }
+
+    public MapEventJournalFetchSnapshotOperation(String name) {
+        super(name);
+    }
+
+    @Override
+    protected void innerBeforeRun() throws Exception {
+        super.innerBeforeRun();
+
+        namespace = getServiceNamespace();
+        if (!mapServiceContext.getEventJournal().hasEventJournal(namespace)) {
+            throw new UnsupportedOperationException(
+                    "Cannot read the event journal because it is either not configured or disabled for map '" + name + '\'');
+        }
+    }
+
+    @Override
+    protected void runInternal() {
+        long nextSequence = mapServiceContext.getEventJournal().newestSequence(namespace, getPartitionId()) + 1;
+        MapEntries entries = new MapEntries(recordStore.size());
+        recordStore.forEach((key, record) -> entries.add(key, mapServiceContext.toData(record.getValue())), false);
+        response = new MapEventJournalSnapshot(nextSequence, entries);
+    }
+
+    @Override
+    public MapEventJournalSnapshot getResponse() {
+        return response;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.EVENT_JOURNAL_SNAPSHOT_OPERATION;
+    }
+}
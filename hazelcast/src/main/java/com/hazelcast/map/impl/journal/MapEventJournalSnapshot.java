@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.journal;
+
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * The entries of a partition of a map and the sequence of the event journal
+ * event following them, see {@link MapEventJournalFetchSnapshotOperation}.
+ *
+ * @since 5.3
+ */
+public class MapEventJournalSnapshot implements IdentifiedDataSerializable {
+
+    private long nextSequence;
+    private MapEntries entries;
+
+    public MapEventJournalSnapshot() {
+    }
+
+    public MapEventJournalSnapshot(long nextSequence, MapEntries entries) {
+        this.nextSequence = nextSequence;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the sequence of the first event journal event not reflected in
+     * the {@linkplain #getEntries() entries}.
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    public MapEntries getEntries() {
+        return entries;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeLong(nextSequence);
+        out.writeObject(entries);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        nextSequence = in.readLong();
+        entries = in.readObject();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.EVENT_JOURNAL_SNAPSHOT;
+    }
+}
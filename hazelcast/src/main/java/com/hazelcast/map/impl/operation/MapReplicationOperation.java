@@ -30,6 +30,7 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Replicates all IMap-states of this partition to a replica partition.
@@ -142,6 +143,17 @@ public class MapReplicationOperation extends Operation
         mapNearCacheStateHolder.setMapReplicationOperation(this);
     }
 
+    /**
+     * Makes the operation replicate only the entries of the given Merkle
+     * tree leaves of the given maps, see {@link RecordStoreMerkleTree}.
+     *
+     * @param merkleTreeDiffByMapName the pairs of the orders and the hashes
+     *                                of the differing leaves by map name
+     */
+    public void setMerkleTreeDiffByMapName(Map<String, int[]> merkleTreeDiffByMapName) {
+        mapReplicationStateHolder.setMerkleTreeDiffByMapName(merkleTreeDiffByMapName);
+    }
+
     public RecordStore getRecordStore(String mapName) {
         final boolean skipLoadingOnRecordStoreCreate = true;
         MapService mapService = getService();
@@ -31,6 +31,7 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.ThreadUtil;
+import com.hazelcast.internal.util.collection.IntHashSet;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
@@ -50,6 +51,7 @@ import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.Indexes;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.MapIndexInfo;
+import com.hazelcast.wan.impl.CallerProvenance;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -61,10 +63,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import static com.hazelcast.config.MaxSizePolicy.PER_NODE;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.MapUtil.isNullOrEmpty;
+import static com.hazelcast.wan.impl.merkletree.MerkleTreeUtil.setOfNodeOrders;
 
 /**
  * Holder for raw IMap key-value pairs and their metadata.
@@ -260,8 +264,22 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
     }
 
     protected void initializeRecordStore(String mapName, RecordStore recordStore) {
-        if (!merkleTreeDiffByMapName.containsKey(mapName)) {
+        int[] leafOrderHashPairs = merkleTreeDiffByMapName.get(mapName);
+        if (leafOrderHashPairs == null) {
             recordStore.reset();
+            return;
+        }
+
+        // differential replication replaces only the entries of the differing leaves
+        IntHashSet leafOrders = setOfNodeOrders(leafOrderHashPairs);
+        List<Data> keysToRemove = new ArrayList<>();
+        recordStore.forEach((BiConsumer<Data, Record>) (dataKey, record) -> {
+            if (leafOrders.contains(RecordStoreMerkleTree.leafOrder(dataKey))) {
+                keysToRemove.add(dataKey);
+            }
+        }, true, true);
+        for (Data dataKey : keysToRemove) {
+            recordStore.removeBackup(dataKey, CallerProvenance.NOT_WAN);
         }
     }
 
@@ -361,7 +379,32 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
 
     protected void writeDifferentialData(String mapName,
                                          RecordStore<Record> recordStore, ObjectDataOutput out) throws IOException {
-        throw new UnsupportedOperationException();
+        int[] leafOrderHashPairs = merkleTreeDiffByMapName.get(mapName);
+        out.writeIntArray(leafOrderHashPairs);
+
+        IntHashSet leafOrders = setOfNodeOrders(leafOrderHashPairs);
+        List<Data> dataKeys = new ArrayList<>();
+        List<Record> records = new ArrayList<>();
+        recordStore.beforeOperation();
+        try {
+            recordStore.forEach((dataKey, record) -> {
+                if (leafOrders.contains(RecordStoreMerkleTree.leafOrder(dataKey))) {
+                    dataKeys.add(dataKey);
+                    records.add(record);
+                }
+            }, operation.getReplicaIndex() != 0, true);
+        } finally {
+            recordStore.afterOperation();
+        }
+
+        SerializationService ss = getSerializationService(recordStore.getMapContainer());
+        out.writeInt(dataKeys.size());
+        for (int i = 0; i < dataKeys.size(); i++) {
+            writeRecord(dataKeys.get(i), records.get(i), recordStore, ss, out);
+        }
+        LocalReplicationStatsImpl replicationStats = statsByMapName.get(recordStore.getName());
+        replicationStats.incrementDiffPartitionReplicationCount();
+        replicationStats.incrementDiffPartitionReplicationRecordsCount(dataKeys.size());
     }
 
     private void writeRecordStoreData(RecordStore<Record> recordStore, ObjectDataOutput out)
@@ -373,10 +416,7 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         try {
             recordStore.forEach((dataKey, record) -> {
                 try {
-                    IOUtil.writeData(out, dataKey);
-                    Records.writeRecord(out, record, ss.toData(record.getValue()));
-                    Records.writeExpiry(out, recordStore.getExpirySystem()
-                        .getExpiryMetadata(dataKey));
+                    writeRecord(dataKey, record, recordStore, ss, out);
                 } catch (IOException e) {
                     throw ExceptionUtil.rethrow(e);
                 }
@@ -389,6 +429,13 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         replicationStats.incrementFullPartitionReplicationRecordsCount(recordStore.size());
     }
 
+    private static void writeRecord(Data dataKey, Record record, RecordStore<Record> recordStore,
+                                    SerializationService ss, ObjectDataOutput out) throws IOException {
+        IOUtil.writeData(out, dataKey);
+        Records.writeRecord(out, record, ss.toData(record.getValue()));
+        Records.writeExpiry(out, recordStore.getExpirySystem().getExpiryMetadata(dataKey));
+    }
+
     protected static SerializationService getSerializationService(MapContainer mapContainer) {
         return mapContainer.getMapServiceContext()
                 .getNodeEngine().getSerializationService();
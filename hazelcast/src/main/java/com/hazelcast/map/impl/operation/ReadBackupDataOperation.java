@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+
+import java.io.IOException;
+
+/**
+ * Reads the value of a key from the replica of its partition the operation
+ * is sent to, which can be a backup replica, as it is done for a map with
+ * {@link com.hazelcast.config.MapConfig#isReadBackupData()} enabled.
+ * Responds {@code null} if the key or the map does not exist on the replica.
+ *
+ * @see RecordStore#readBackupData(Data)
+ * @since 5.3
+ */
+public class ReadBackupDataOperation extends Operation
+        implements PartitionAwareOperation, ReadonlyOperation, IdentifiedDataSerializable {
+
+    private String name;
+    private Data dataKey;
+    private transient Data result;
+
+    public ReadBackupDataOperation() {
+    }
+
+    public ReadBackupDataOperation(String name, Data dataKey) {
+        this.name = name;
+        this.dataKey = dataKey;
+    }
+
+    @Override
+    public void run() {
+        MapService mapService = getService();
+        RecordStore recordStore = mapService.getMapServiceContext().getPartitionContainer(getPartitionId())
+                                            .getExistingRecordStore(name);
+        result = recordStore != null ? recordStore.readBackupData(dataKey) : null;
+    }
+
+    @Override
+    public Object getResponse() {
+        return result;
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.READ_BACKUP_DATA;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(name);
+        IOUtil.writeData(out, dataKey);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        name = in.readString();
+        dataKey = IOUtil.readData(in);
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        super.toString(sb);
+        sb.append(", name=").append(name);
+    }
+}
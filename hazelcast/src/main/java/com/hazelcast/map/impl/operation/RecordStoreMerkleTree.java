@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.wan.impl.merkletree.ArrayMerkleTree;
+
+import javax.annotation.Nullable;
+
+import static com.hazelcast.wan.impl.merkletree.MerkleTreeUtil.getLeafOrderForHash;
+import static com.hazelcast.wan.impl.merkletree.MerkleTreeUtil.getLeftMostNodeOrderOnLevel;
+import static com.hazelcast.wan.impl.merkletree.MerkleTreeUtil.getNodesOnLevel;
+
+/**
+ * Builds the Merkle trees of the record stores compared during the
+ * differential replica sync.
+ * <p>
+ * The trees are built on demand by iterating the record store, so unlike the
+ * Merkle trees maintained for WAN synchronization they don't cost anything
+ * until a replica sync is needed. An entry is assigned to a leaf by the hash
+ * of its key, and the hash of the entry combines the hashes of the serialized
+ * key and value with the version, the TTL and the max idle of the entry, so
+ * the trees of two replicas holding the same entries are equal regardless of
+ * the insertion order, while an entry whose TTL or max idle was not
+ * replicated makes its leaf differ. The expiration time is not hashed: reads
+ * of an entry with max idle move its expiration time on the replica
+ * serving the read, so it would make the leaves of idle entries differ after
+ * every read.
+ * <p>
+ * The record store is iterated with its mutation tolerant iterator, so a
+ * tree may be built off the partition thread, concurrently with the updates
+ * of the record store. The updates made during the iteration are replicated
+ * to the backups by the backup operations as usual. This is safe for the
+ * on-heap record stores only, NATIVE record stores are not passed here.
+ */
+public final class RecordStoreMerkleTree {
+
+    /**
+     * The depth of the trees, which must be the same on all members.
+     */
+    public static final int DEPTH = 10;
+
+    private static final int LEAF_LEVEL = DEPTH - 1;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private RecordStoreMerkleTree() {
+    }
+
+    /**
+     * Returns the hashes of the leaves of the Merkle tree of the given record
+     * store, ordered from the leftmost leaf.
+     *
+     * @param recordStore          the record store or {@code null} if the
+     *                             map has no data in the partition
+     * @param serializationService the serialization service of the member
+     * @return the hashes of the leaves
+     */
+    public static int[] leaves(@Nullable RecordStore<Record> recordStore, SerializationService serializationService) {
+        ArrayMerkleTree tree = new ArrayMerkleTree(DEPTH);
+        if (recordStore != null) {
+            ExpirySystem expirySystem = recordStore.getExpirySystem();
+            recordStore.forEach((key, record) -> {
+                Data value = serializationService.toData(record.getValue());
+                tree.updateAdd(key, entryHash(key, value, record, expirySystem.getExpiryMetadata(key)));
+            }, true, true);
+        }
+
+        int[] leaves = new int[getNodesOnLevel(LEAF_LEVEL)];
+        int leftMostLeaf = getLeftMostNodeOrderOnLevel(LEAF_LEVEL);
+        for (int i = 0; i < leaves.length; i++) {
+            leaves[i] = tree.getNodeHash(leftMostLeaf + i);
+        }
+        return leaves;
+    }
+
+    private static int entryHash(Data key, Data value, Record record, ExpiryMetadata expiryMetadata) {
+        int hash = key.hashCode();
+        hash = HASH_MULTIPLIER * hash + value.hashCode();
+        hash = HASH_MULTIPLIER * hash + record.getVersion();
+        hash = HASH_MULTIPLIER * hash + Long.hashCode(expiryMetadata.getTtl());
+        return HASH_MULTIPLIER * hash + Long.hashCode(expiryMetadata.getMaxIdle());
+    }
+
+    /**
+     * Returns the order of the leaf the entry with the given key belongs to.
+     *
+     * @param key the key of the entry
+     * @return the order of the leaf
+     */
+    public static int leafOrder(Data key) {
+        return getLeafOrderForHash(key.hashCode(), LEAF_LEVEL);
+    }
+}
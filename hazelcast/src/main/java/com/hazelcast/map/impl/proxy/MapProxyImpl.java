@@ -21,12 +21,15 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.journal.EventJournalBatchReadUtil;
+import com.hazelcast.internal.journal.EventJournalBatchReader;
 import com.hazelcast.internal.journal.EventJournalInitialSubscriberState;
-import com.hazelcast.internal.journal.EventJournalReader;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.SerializationUtil;
 import com.hazelcast.internal.util.CollectionUtil;
+import com.hazelcast.internal.util.ConcurrencyUtil;
 import com.hazelcast.internal.util.IterationType;
+import com.hazelcast.internal.util.Timer;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.EventJournalMapEvent;
@@ -37,6 +40,7 @@ import com.hazelcast.map.impl.ComputeEntryProcessor;
 import com.hazelcast.map.impl.ComputeIfAbsentEntryProcessor;
 import com.hazelcast.map.impl.ComputeIfPresentEntryProcessor;
 import com.hazelcast.map.impl.KeyValueConsumingEntryProcessor;
+import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.MapEntryReplacingEntryProcessor;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MergeEntryProcessor;
@@ -48,6 +52,7 @@ import com.hazelcast.map.impl.iterator.MapPartitionIterator;
 import com.hazelcast.map.impl.iterator.MapQueryIterable;
 import com.hazelcast.map.impl.iterator.MapQueryPartitionIterable;
 import com.hazelcast.map.impl.iterator.MapQueryPartitionIterator;
+import com.hazelcast.map.impl.journal.MapEventJournalBatchReadOperation;
 import com.hazelcast.map.impl.journal.MapEventJournalReadOperation;
 import com.hazelcast.map.impl.journal.MapEventJournalSubscribeOperation;
 import com.hazelcast.map.impl.query.AggregationResult;
@@ -67,6 +72,7 @@ import com.hazelcast.ringbuffer.ReadResultSet;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -110,7 +116,7 @@ import static java.util.Collections.emptyMap;
  * @param <V> the value type of map.
  */
 @SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:ClassDataAbstractionCoupling"})
-public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJournalReader<EventJournalMapEvent<K, V>> {
+public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJournalBatchReader<EventJournalMapEvent<K, V>> {
 
     public MapProxyImpl(String name, MapService mapService, NodeEngine nodeEngine, MapConfig mapConfig) {
         super(name, mapService, nodeEngine, mapConfig);
@@ -478,6 +484,50 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return Collections.unmodifiableMap(result);
     }
 
+    /**
+     * Asynchronously returns the entries for the given keys. Like {@link
+     * #getAll(Set)}, the keys are grouped by partition and fetched with a
+     * single operation per partition, but the calling thread is not blocked.
+     * <p>
+     * The near cache, if configured, is not consulted.
+     *
+     * @param keys keys to get
+     * @return future completed with the found entries; absent keys are
+     * not present in the result
+     */
+    public InternalCompletableFuture<Map<K, V>> getAllAsync(@Nonnull Set<K> keys) {
+        checkNotNull(keys, NULL_KEYS_ARE_NOT_ALLOWED);
+        if (keys.isEmpty()) {
+            return newCompletedFuture(Collections.emptyMap());
+        }
+
+        List<Data> dataKeys = new ArrayList<>(keys.size());
+        toDataCollectionWithNonNullKeyValidation(keys, dataKeys);
+        OperationFactory operationFactory = operationProvider.createGetAllOperationFactory(name, dataKeys);
+        long startTimeNanos = Timer.nanos();
+
+        InternalCompletableFuture<Map<K, V>> resultFuture = new InternalCompletableFuture<>();
+        operationService.invokeOnPartitionsAsync(SERVICE_NAME, operationFactory, getPartitionsForKeys(dataKeys))
+                .whenCompleteAsync((responses, throwable) -> {
+                    if (throwable != null) {
+                        resultFuture.completeExceptionally(throwable);
+                        return;
+                    }
+                    try {
+                        Map<K, V> result = createHashMap(dataKeys.size());
+                        for (Object response : responses.values()) {
+                            MapEntries entries = toObject(response);
+                            entries.putAllToMap(serializationService, result);
+                        }
+                        localMapStats.incrementGetLatencyNanos(dataKeys.size(), Timer.nanosElapsed(startTimeNanos));
+                        resultFuture.complete(result);
+                    } catch (Throwable e) {
+                        resultFuture.completeExceptionally(e);
+                    }
+                }, ConcurrencyUtil.getDefaultAsyncExecutor());
+        return resultFuture;
+    }
+
     @Override
     public boolean setTtl(@Nonnull K key, long ttl, @Nonnull TimeUnit timeunit) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -1188,6 +1238,23 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return operationService.invokeOnPartition(op);
     }
 
+    @Override
+    public <T> CompletionStage<List<ReadResultSet<T>>> readFromEventJournals(
+            int[] partitionIds, long[] startSequences, int maxSize, long maxWaitMillis,
+            java.util.function.Predicate<? super EventJournalMapEvent<K, V>> predicate,
+            java.util.function.Function<? super EventJournalMapEvent<K, V>, ? extends T> projection) {
+        final ManagedContext context = serializationService.getManagedContext();
+        final java.util.function.Predicate<? super EventJournalMapEvent<K, V>> initializedPredicate =
+                (java.util.function.Predicate<? super EventJournalMapEvent<K, V>>) context.initialize(predicate);
+        final java.util.function.Function<? super EventJournalMapEvent<K, V>, ? extends T> initializedProjection =
+                (java.util.function.Function<? super EventJournalMapEvent<K, V>, ? extends T>) context.initialize(projection);
+        return EventJournalBatchReadUtil.readFromEventJournals(getNodeEngine(), SERVICE_NAME, partitionIds, startSequences,
+                (ownedPartitionIds, ownedStartSequences) -> new MapEventJournalBatchReadOperation<>(name, ownedPartitionIds,
+                        ownedStartSequences, maxSize, maxWaitMillis, initializedPredicate, initializedProjection),
+                (partitionId, startSequence) -> readFromEventJournal(startSequence, 0, maxSize, partitionId,
+                        initializedPredicate, initializedProjection));
+    }
+
     @Override
     public String toString() {
         return "IMap{name='" + name + '\'' + '}';
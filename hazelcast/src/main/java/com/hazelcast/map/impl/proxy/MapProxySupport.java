@@ -902,7 +902,7 @@ abstract class MapProxySupport<K, V>
         }
     }
 
-    private Collection<Integer> getPartitionsForKeys(Collection<Data> keys) {
+    protected Collection<Integer> getPartitionsForKeys(Collection<Data> keys) {
         int partitions = partitionService.getPartitionCount();
         // TODO: is there better way to estimate the size?
         int capacity = min(partitions, keys.size());
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.nio.serialization.genericrecord;
+
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.spi.annotation.Beta;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * A {@link GenericRecord} that is a mutable view over the serialized form of a
+ * Compact serialized object. Reading a field decodes only that field, without
+ * deserializing the whole object.
+ * <p>
+ * Fixed-size fields ({@code boolean}, {@code int8}, {@code int16},
+ * {@code int32}, {@code int64}, {@code float32} and {@code float64}) are
+ * overwritten in place, so updating them does not re-encode the rest of the
+ * record. Changing any other field goes through {@link #update(Consumer)},
+ * which re-encodes the record once per call.
+ * <p>
+ * Instances are handed out by
+ * {@link com.hazelcast.map.ExtendedMapEntry#getValueAsMutableGenericRecord()}
+ * and are only valid inside the entry processor they were obtained in. For
+ * example, a counter can be incremented without deserializing the value:
+ * <pre>{@code
+ * map.executeOnKey(key, (EntryProcessor<Object, Object, Object>) entry -> {
+ *     MutableGenericRecord record = ((ExtendedMapEntry<Object, Object>) entry)
+ *             .getValueAsMutableGenericRecord();
+ *     record.setInt64("counter", record.getInt64("counter") + 1);
+ *     return null;
+ * });
+ * }</pre>
+ * Implementations are not thread-safe.
+ *
+ * @since 5.3
+ */
+@Beta
+public interface MutableGenericRecord extends GenericRecord {
+
+    /**
+     * Sets a boolean field.
+     *
+     * @param fieldName name of the field as it is defined in its schema.
+     * @param value     to set to the field
+     * @throws HazelcastSerializationException if the field name does not exist
+     *                                         in the schema or the type of the
+     *                                         field does not match the one in
+     *                                         the schema.
+     */
+    void setBoolean(@Nonnull String fieldName, boolean value);
+
+    /**
+     * Sets an 8-bit two's complement signed integer field.
+     *
+     * @param fieldName name of the field as it is defined in its schema.
+     * @param value     to set to the field
+     * @throws HazelcastSerializationException if the field name does not exist
+     *                                         in the schema or the type of the
+     *                                         field does not match the one in
+     *                                         the schema.
+     */
+    void setInt8(@Nonnull String fieldName, byte value);
+
+    /**
+     * Sets a 16-bit two's complement signed integer field.
+     *
+     * @param fieldName name of the field as it is defined in its schema.
+     * @param value     to set to the field
+     * @throws HazelcastSerializationException if the field name does not exist
+     *                                         in the schema or the type of the
+     *                                         field does not match the one in
+     *                                         the schema.
+     */
+    void setInt16(@Nonnull String fieldName, short value);
+
+    /**
+     * Sets a 32-bit two's complement signed integer field.
+     *
+     * @param fieldName name of the field as it is defined in its schema.
+     * @param value     to set to the field
+     * @throws HazelcastSerializationException if the field name does not exist
+     *                                         in the schema or the type of the
+     *                                         field does not match the one in
+     *                                         the schema.
+     */
+    void setInt32(@Nonnull String fieldName, int value);
+
+    /**
+     * Sets a 64-bit two's complement signed integer field.
+     *
+     * @param fieldName name of the field as it is defined in its schema.
+     * @param value     to set to the field
+     * @throws HazelcastSerializationException if the field name does not exist
+     *                                         in the schema or the type of the
+     *                                         field does not match the one in
+     *                                         the schema.
+     */
+    void setInt64(@Nonnull String fieldName, long value);
+
+    /**
+     * Sets a 32-bit IEEE 754 floating point number field.
+     *
+     * @param fieldName name of the field as it is defined in its schema.
+     * @param value     to set to the field
+     * @throws HazelcastSerializationException if the field name does not exist
+     *                                         in the schema or the type of the
+     *                                         field does not match the one in
+     *                                         the schema.
+     */
+    void setFloat32(@Nonnull String fieldName, float value);
+
+    /**
+     * Sets a 64-bit IEEE 754 floating point number field.
+     *
+     * @param fieldName name of the field as it is defined in its schema.
+     * @param value     to set to the field
+     * @throws HazelcastSerializationException if the field name does not exist
+     *                                         in the schema or the type of the
+     *                                         field does not match the one in
+     *                                         the schema.
+     */
+    void setFloat64(@Nonnull String fieldName, double value);
+
+    /**
+     * Applies the given updates to a builder cloned from this record and makes
+     * this record reflect the result. Use this method for fields that are not
+     * of a fixed size, such as strings, nullable primitives, arrays and nested
+     * records. The record is re-encoded once per call, so group the updates
+     * into a single call where possible.
+     *
+     * @param updater sets the new field values on the given builder
+     * @throws HazelcastSerializationException if the updater sets a field that
+     *                                         does not exist in the schema or
+     *                                         the type of the field does not
+     *                                         match the one in the schema.
+     */
+    void update(@Nonnull Consumer<GenericRecordBuilder> updater);
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.internal.util.JavaVersion;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.internal.util.JVMUtil.upcast;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Keeps a few released direct buffers of the {@link OffHeapRingbuffer}
+ * segments for reuse and frees the others.
+ * <p>
+ * The memory of a direct buffer is freed explicitly on Java 9 and newer
+ * and when the buffer is garbage collected on Java 8. Not thread-safe.
+ */
+final class DirectBufferPool {
+
+    private static final int MAX_FREE_BUFFERS = 2;
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final int maxBufferSize;
+    private final ArrayDeque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+
+    /**
+     * @param maxBufferSize the maximum size of the buffers kept for reuse
+     */
+    DirectBufferPool(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * Returns a free buffer with at least the given capacity or allocates
+     * a new one.
+     */
+    ByteBuffer allocate(int size) {
+        ByteBuffer buffer = freeBuffers.poll();
+        if (buffer == null || buffer.capacity() < size) {
+            free(buffer);
+            buffer = ByteBuffer.allocateDirect(size);
+        }
+        return buffer;
+    }
+
+    /**
+     * Keeps the given buffer for reuse or frees it. The buffer must not be
+     * accessed afterwards.
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer.capacity() <= maxBufferSize && freeBuffers.size() < MAX_FREE_BUFFERS) {
+            upcast(buffer).clear();
+            freeBuffers.add(buffer);
+        } else {
+            free(buffer);
+        }
+    }
+
+    /**
+     * Frees the buffers kept for reuse.
+     */
+    void clear() {
+        for (ByteBuffer buffer : freeBuffers) {
+            free(buffer);
+        }
+        freeBuffers.clear();
+    }
+
+    /**
+     * Frees the memory of the given direct or mapped buffer, which must not
+     * be accessed afterwards. Does nothing on Java 8, where the memory is
+     * freed when the buffer is garbage collected.
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static MethodHandle invokeCleaner() {
+        if (!UNSAFE_AVAILABLE || !JavaVersion.isAtLeast(JavaVersion.JAVA_9)) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup()
+                    .findVirtual(UNSAFE.getClass(), "invokeCleaner", methodType(void.class, ByteBuffer.class))
+                    .bindTo(UNSAFE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
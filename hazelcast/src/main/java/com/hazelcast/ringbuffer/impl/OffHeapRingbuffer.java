@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.hazelcast.config.InMemoryFormat.OBJECT;
+import static com.hazelcast.internal.util.JVMUtil.upcast;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A {@link Ringbuffer} which keeps the items in serialized form outside of
+ * the Java heap.
+ * <p>
+ * The items are appended to off-heap segments of a fixed size, and only the
+ * position of each item in the segments is kept on-heap. A segment is
+ * released when none of its items is referenced by the ringbuffer anymore,
+ * i.e. when all of its items have been overwritten or expired, and its
+ * memory is reused for the next segment.
+ * <p>
+ * If an overflow directory is given, at most {@code maxMemorySegments}
+ * segments are kept in memory. When the limit is exceeded, the oldest
+ * segment is written to a file in the overflow directory and memory-mapped,
+ * so the items far behind the tail can still be read, at the cost of the
+ * disk reads done by the operating system when the pages of the file are
+ * not cached. Where the platform allows it, the file is deleted as soon as
+ * it is mapped, so the disk space is reclaimed when the segment is released,
+ * also if the member crashes.
+ * <p>
+ * A segment is never larger than needed for {@code capacity} items of the
+ * size of the item it's created for, so small ringbuffers don't allocate
+ * full segments. The memory of the released segments and of the disposed
+ * ringbuffer is freed explicitly on Java 9 and newer, and when the buffers
+ * are garbage collected on Java 8.
+ * <p>
+ * Items in the {@link InMemoryFormat#OBJECT} format are serialized on
+ * {@link #add(Object)} and deserialized on every {@link #read(long)}.
+ * <p>
+ * Like the {@link ArrayRingbuffer}, the OffHeapRingbuffer is not thread-safe
+ * since a partition can only be accessed by a single thread at any given
+ * moment.
+ *
+ * @param <E> the type of the data stored in the ringbuffer
+ */
+public class OffHeapRingbuffer<E> implements Ringbuffer<E> {
+
+    private static final long NULL_POSITION = -1;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int SEGMENT_ID_SHIFT = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+    private final long[] positions;
+    private final boolean objectFormat;
+    private final SerializationService serializationService;
+    private final int segmentSize;
+    private int maxMemorySegments;
+    private File overflowDir;
+
+    /**
+     * The live segments indexed by {@code segmentId - firstSegmentId}. The
+     * released segments are {@code null} until all older segments are
+     * released too.
+     */
+    private final List<Segment> segments = new ArrayList<>();
+    private final DirectBufferPool bufferPool;
+    private int firstSegmentId;
+    private int memorySegmentCount;
+    private long tailSequence = -1;
+    private long headSequence = tailSequence + 1;
+
+    /**
+     * @param capacity             the capacity of the ringbuffer
+     * @param inMemoryFormat       the format of the items passed to and
+     *                             returned by the ringbuffer
+     * @param serializationService the service serializing the items
+     * @param segmentSize          the size of the off-heap segments in bytes
+     * @param maxMemorySegments    the maximum number of segments kept in
+     *                             memory if the overflow directory is given
+     * @param overflowDir          the directory of the overflow files or
+     *                             {@code null} if all segments are kept in memory
+     */
+    public OffHeapRingbuffer(int capacity, InMemoryFormat inMemoryFormat, SerializationService serializationService,
+                             int segmentSize, int maxMemorySegments, File overflowDir) {
+        this.positions = new long[capacity];
+        this.objectFormat = inMemoryFormat == OBJECT;
+        this.serializationService = serializationService;
+        this.segmentSize = segmentSize;
+        this.bufferPool = new DirectBufferPool(segmentSize);
+        this.maxMemorySegments = maxMemorySegments;
+        this.overflowDir = overflowDir;
+        Arrays.fill(positions, NULL_POSITION);
+    }
+
+    @Override
+    public long tailSequence() {
+        return tailSequence;
+    }
+
+    @Override
+    public long peekNextTailSequence() {
+        return tailSequence + 1;
+    }
+
+    @Override
+    public void setTailSequence(long sequence) {
+        this.tailSequence = sequence;
+    }
+
+    @Override
+    public long headSequence() {
+        return headSequence;
+    }
+
+    @Override
+    public void setHeadSequence(long sequence) {
+        this.headSequence = sequence;
+    }
+
+    @Override
+    public long getCapacity() {
+        return positions.length;
+    }
+
+    @Override
+    public long size() {
+        return tailSequence - headSequence + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public long add(E item) {
+        tailSequence++;
+
+        if (tailSequence - positions.length == headSequence) {
+            headSequence++;
+        }
+
+        set(tailSequence, item);
+        return tailSequence;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E read(long sequence) {
+        checkReadSequence(sequence);
+        long position = positions[toIndex(sequence)];
+        if (position == NULL_POSITION) {
+            return null;
+        }
+
+        // the shared read buffer is only read with absolute offsets, so
+        // concurrent reads don't interfere through its position
+        ByteBuffer buffer = segment((int) (position >>> SEGMENT_ID_SHIFT)).readBuffer;
+        int offset = (int) (position & OFFSET_MASK);
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        ByteBuffer item = buffer.duplicate();
+        upcast(item).position(offset + LENGTH_BYTES);
+        item.get(bytes);
+        Data data = new HeapData(bytes);
+        return objectFormat ? serializationService.toObject(data) : (E) data;
+    }
+
+    @Override
+    public void checkBlockableReadSequence(long readSequence) {
+        if (readSequence > tailSequence + 1) {
+            throw new IllegalArgumentException("sequence:" + readSequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (readSequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + readSequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void checkReadSequence(long sequence) {
+        if (sequence > tailSequence) {
+            throw new IllegalArgumentException("sequence:" + sequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (sequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + sequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void set(long seq, E data) {
+        int index = toIndex(seq);
+        if (positions[index] != NULL_POSITION) {
+            release(positions[index]);
+        }
+        positions[index] = data == null ? NULL_POSITION : append(serializationService.toData(data).toByteArray());
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(positions, NULL_POSITION);
+        for (Segment segment : segments) {
+            if (segment != null) {
+                segment.release(bufferPool);
+            }
+        }
+        segments.clear();
+        memorySegmentCount = 0;
+        tailSequence = -1;
+        headSequence = tailSequence + 1;
+    }
+
+    /**
+     * Frees the memory of the segments and clears the ringbuffer.
+     */
+    @Override
+    public void dispose() {
+        clear();
+        bufferPool.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ReadOnlyRingbufferIterator<E>(this);
+    }
+
+    /**
+     * Returns a copy of the items of this ringbuffer in an array indexed
+     * like the items of the {@link ArrayRingbuffer}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] getItems() {
+        E[] items = (E[]) new Object[positions.length];
+        for (long seq = headSequence; seq <= tailSequence; seq++) {
+            items[toIndex(seq)] = read(seq);
+        }
+        return items;
+    }
+
+    /**
+     * Sets the overflow of the segments to files, overflowing the oldest
+     * segments right away if there are too many in memory.
+     *
+     * @param maxMemorySegments the maximum number of segments kept in
+     *                          memory if the overflow directory is given
+     * @param overflowDir       the directory of the overflow files or
+     *                          {@code null} if all segments are kept in memory
+     */
+    void setOverflow(int maxMemorySegments, File overflowDir) {
+        this.maxMemorySegments = maxMemorySegments;
+        this.overflowDir = overflowDir;
+        boolean overflowed = true;
+        while (overflowDir != null && memorySegmentCount > maxMemorySegments && overflowed) {
+            overflowed = overflowOldestSegment();
+        }
+    }
+
+    int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns the number of segments in memory.
+     */
+    int getMemorySegmentCount() {
+        return memorySegmentCount;
+    }
+
+    /**
+     * Returns the number of segments in memory or in the overflow files.
+     */
+    int getSegmentCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            if (segment != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int toIndex(long sequence) {
+        return (int) (sequence % positions.length);
+    }
+
+    private Segment segment(int segmentId) {
+        return segments.get(segmentId - firstSegmentId);
+    }
+
+    private long append(byte[] bytes) {
+        int length = LENGTH_BYTES + bytes.length;
+        Segment segment = lastSegment();
+        if (segment == null || segment.mapped || segment.writeBuffer.remaining() < length) {
+            segment = newSegment(length);
+        }
+
+        long position = (long) segment.id << SEGMENT_ID_SHIFT | segment.writeBuffer.position();
+        segment.writeBuffer.putInt(bytes.length).put(bytes);
+        segment.itemCount++;
+        return position;
+    }
+
+    private Segment newSegment(int minSize) {
+        Segment previous = lastSegment();
+        // a segment doesn't need to hold more than the capacity of items
+        int size = (int) Math.max(minSize, Math.min(segmentSize, (long) positions.length * minSize));
+        Segment segment = new Segment(firstSegmentId + segments.size(), bufferPool.allocate(size));
+        segments.add(segment);
+        memorySegmentCount++;
+
+        if (previous != null && previous.itemCount == 0) {
+            // the items of the previous segment were released while it was still written to
+            remove(previous);
+        }
+        if (overflowDir != null && memorySegmentCount > maxMemorySegments) {
+            overflowOldestSegment();
+        }
+        return segment;
+    }
+
+    private Segment lastSegment() {
+        return segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    }
+
+    private void release(long position) {
+        Segment segment = segment((int) (position >>> SEGMENT_ID_SHIFT));
+        if (--segment.itemCount == 0 && segment != lastSegment()) {
+            remove(segment);
+        }
+    }
+
+    private void remove(Segment segment) {
+        if (!segment.mapped) {
+            memorySegmentCount--;
+        }
+        segment.release(bufferPool);
+        segments.set(segment.id - firstSegmentId, null);
+        while (!segments.isEmpty() && segments.get(0) == null) {
+            segments.remove(0);
+            firstSegmentId++;
+        }
+    }
+
+    private boolean overflowOldestSegment() {
+        Segment lastSegment = lastSegment();
+        for (Segment segment : segments) {
+            if (segment != null && segment != lastSegment && !segment.mapped) {
+                overflow(segment);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void overflow(Segment segment) {
+        ByteBuffer content = segment.writeBuffer.duplicate();
+        upcast(content).flip();
+        try {
+            Path file = Files.createTempFile(overflowDir.toPath(), "ringbuffer-", ".segment");
+            try (FileChannel channel = FileChannel.open(file, READ, WRITE)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                segment.readBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, content.limit());
+            } finally {
+                // fails on the platforms not allowing to delete mapped files
+                if (!file.toFile().delete()) {
+                    file.toFile().deleteOnExit();
+                }
+            }
+        } catch (IOException e) {
+            throw new HazelcastException("Failed to overflow ringbuffer segment to " + overflowDir, e);
+        }
+        bufferPool.release(segment.writeBuffer);
+        memorySegmentCount--;
+        segment.writeBuffer = null;
+        segment.mapped = true;
+    }
+
+    private static final class Segment {
+        final int id;
+        ByteBuffer writeBuffer;
+        ByteBuffer readBuffer;
+        int itemCount;
+        boolean mapped;
+
+        Segment(int id, ByteBuffer buffer) {
+            this.id = id;
+            this.writeBuffer = buffer;
+            this.readBuffer = buffer.duplicate();
+        }
+
+        void release(DirectBufferPool bufferPool) {
+            if (mapped) {
+                DirectBufferPool.free(readBuffer);
+            } else {
+                bufferPool.release(writeBuffer);
+            }
+        }
+    }
+}
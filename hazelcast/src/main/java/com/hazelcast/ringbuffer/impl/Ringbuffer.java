@@ -177,6 +177,13 @@ public interface Ringbuffer<E> extends Iterable<E> {
      */
     void clear();
 
+    /**
+     * Releases the resources the ringbuffer holds outside of the Java heap.
+     * The ringbuffer is cleared and must not be used afterwards.
+     */
+    default void dispose() {
+    }
+
     /**
      * Returns the array representing this ringbuffer.
      * Items at the beginning of this array may be newer than items at the end
@@ -31,12 +31,21 @@ import com.hazelcast.spi.impl.operationservice.Notifier;
 import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
 
+import java.io.File;
 import java.io.IOException;
 
 import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.config.InMemoryFormat.values;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_MAX_MEMORY_SEGMENTS;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_OVERFLOW_DIR;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_SEGMENT_SIZE_BYTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -119,11 +128,10 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         this(namespace, partitionId);
 
         this.inMemoryFormat = config.getInMemoryFormat();
-        this.ringbuffer = new ArrayRingbuffer<E>(config.getCapacity());
 
         final long ttlMs = SECONDS.toMillis(config.getTimeToLiveSeconds());
         if (ttlMs != TTL_DISABLED) {
-            this.expirationPolicy = new RingbufferExpirationPolicy(ringbuffer.getCapacity(), ttlMs);
+            this.expirationPolicy = new RingbufferExpirationPolicy(config.getCapacity(), ttlMs);
         }
         init(config, nodeEngine);
     }
@@ -141,9 +149,51 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
     public void init(RingbufferConfig config, NodeEngine nodeEngine) {
         this.config = config;
         this.serializationService = nodeEngine.getSerializationService();
+        initRingbuffer(nodeEngine.getProperties());
         initRingbufferStore(nodeEngine.getConfigClassLoader());
     }
 
+    /**
+     * Creates the ringbuffer if the container was constructed from the
+     * config. If the ringbuffer was received in a replication operation,
+     * applies the local off-heap settings to it, moving its items off-heap
+     * or back to the heap only if the sender stored them differently.
+     */
+    private void initRingbuffer(HazelcastProperties properties) {
+        if (!properties.getBoolean(RINGBUFFER_OFFHEAP_ENABLED)) {
+            if (ringbuffer == null) {
+                ringbuffer = new ArrayRingbuffer<>(config.getCapacity());
+            } else if (ringbuffer instanceof OffHeapRingbuffer) {
+                ringbuffer = moveItems(ringbuffer, new ArrayRingbuffer<>((int) ringbuffer.getCapacity()));
+            }
+            return;
+        }
+
+        String overflowDirPath = properties.getString(RINGBUFFER_OFFHEAP_OVERFLOW_DIR);
+        File overflowDir = isNullOrEmpty(overflowDirPath) ? null : new File(overflowDirPath);
+        int maxMemorySegments = properties.getInteger(RINGBUFFER_OFFHEAP_MAX_MEMORY_SEGMENTS);
+        if (ringbuffer instanceof OffHeapRingbuffer) {
+            ((OffHeapRingbuffer<E>) ringbuffer).setOverflow(maxMemorySegments, overflowDir);
+            return;
+        }
+
+        OffHeapRingbuffer<E> offHeapRingbuffer = new OffHeapRingbuffer<>(
+                ringbuffer == null ? config.getCapacity() : (int) ringbuffer.getCapacity(),
+                inMemoryFormat, serializationService,
+                properties.getInteger(RINGBUFFER_OFFHEAP_SEGMENT_SIZE_BYTES), maxMemorySegments, overflowDir);
+        ringbuffer = ringbuffer == null ? offHeapRingbuffer : moveItems(ringbuffer, offHeapRingbuffer);
+    }
+
+    private static <E> Ringbuffer<E> moveItems(Ringbuffer<E> source, Ringbuffer<E> target) {
+        target.setTailSequence(source.tailSequence());
+        target.setHeadSequence(source.headSequence());
+        for (long seq = source.headSequence(); seq <= source.tailSequence(); seq++) {
+            target.set(seq, source.read(seq));
+        }
+        source.dispose();
+        return target;
+    }
+
     private void initRingbufferStore(ClassLoader configClassLoader) {
         this.store = RingbufferStoreWrapper.create(namespace,
                 config.getRingbufferStoreConfig(),
@@ -589,6 +639,12 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         out.writeInt((int) ringbuffer.getCapacity());
         out.writeLong(ttlEnabled ? expirationPolicy.getTtlMs() : 0);
         out.writeInt(inMemoryFormat.ordinal());
+        // RU_COMPAT 5.2
+        if (out.getVersion().isGreaterOrEqual(Versions.V5_3)) {
+            // lets the replica deserialize the items straight into an off-heap ringbuffer
+            out.writeInt(ringbuffer instanceof OffHeapRingbuffer
+                    ? ((OffHeapRingbuffer<E>) ringbuffer).getSegmentSize() : 0);
+        }
 
         long now = System.currentTimeMillis();
 
@@ -620,8 +676,17 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         final int capacity = in.readInt();
         final long ttlMs = in.readLong();
         inMemoryFormat = values()[in.readInt()];
+        int offHeapSegmentSize = 0;
+        // RU_COMPAT 5.2
+        if (in.getVersion().isGreaterOrEqual(Versions.V5_3)) {
+            offHeapSegmentSize = in.readInt();
+        }
 
-        ringbuffer = new ArrayRingbuffer(capacity);
+        // the overflow settings of an off-heap ringbuffer are applied in init()
+        ringbuffer = offHeapSegmentSize > 0
+                ? new OffHeapRingbuffer<>(capacity, inMemoryFormat,
+                ((SerializationServiceSupport) in).getSerializationService(), offHeapSegmentSize, 0, null)
+                : new ArrayRingbuffer<>(capacity);
         ringbuffer.setTailSequence(tailSequence);
         ringbuffer.setHeadSequence(headSequence);
 
@@ -689,4 +754,13 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
             expirationPolicy.clear();
         }
     }
+
+    /**
+     * Releases the resources the ringbuffer holds outside of the Java heap.
+     * Must be called on the partition thread, the container must not be used
+     * afterwards.
+     */
+    public void dispose() {
+        ringbuffer.dispose();
+    }
 }
@@ -41,6 +41,7 @@ import com.hazelcast.ringbuffer.impl.operations.ReplicationOperation;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.merge.AbstractContainerMerger;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.merge.RingbufferMergeData;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
@@ -152,14 +153,40 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         if (partitionContainers == null) {
             return;
         }
-        partitionContainers.remove(namespace);
+        RingbufferContainer container = partitionContainers.remove(namespace);
+        if (container != null) {
+            dispose(partitionId, container);
+        }
     }
 
     @Override
     public void reset() {
+        for (Entry<Integer, Map<ObjectNamespace, RingbufferContainer>> entry : containers.entrySet()) {
+            for (RingbufferContainer container : entry.getValue().values()) {
+                dispose(entry.getKey(), container);
+            }
+        }
         containers.clear();
     }
 
+    /**
+     * Releases the off-heap resources of a removed container on its
+     * partition thread, after the operations which may still access it.
+     */
+    private void dispose(int partitionId, RingbufferContainer container) {
+        nodeEngine.getOperationService().execute(new PartitionSpecificRunnable() {
+            @Override
+            public void run() {
+                container.dispose();
+            }
+
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+        });
+    }
+
     @Override
     public void shutdown(boolean terminate) {
         reset();
@@ -236,7 +263,10 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         checkNotNull(ringbuffer, "ringbuffer can't be null");
         ringbuffer.init(config, nodeEngine);
         ringbuffer.getStore().instrument(nodeEngine);
-        getOrCreateRingbufferContainers(partitionId).put(ringbuffer.getNamespace(), ringbuffer);
+        RingbufferContainer previous = getOrCreateRingbufferContainers(partitionId).put(ringbuffer.getNamespace(), ringbuffer);
+        if (previous != null) {
+            dispose(partitionId, previous);
+        }
     }
 
     @Override
@@ -297,6 +327,7 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
             final RingbufferContainer container = entry.getValue();
             if (thresholdReplicaIndex < 0 || container.getConfig().getTotalBackupCount() < thresholdReplicaIndex) {
                 iterator.remove();
+                dispose(partitionId, container);
             }
         }
     }
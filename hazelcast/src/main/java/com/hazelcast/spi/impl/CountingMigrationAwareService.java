@@ -18,6 +18,7 @@ package com.hazelcast.spi.impl;
 
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkedMigrationAwareService;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.FragmentedMigrationAwareService;
 import com.hazelcast.internal.partition.MigrationAwareService;
 import com.hazelcast.internal.partition.OffloadedReplicationPreparation;
@@ -34,7 +35,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * migrations concerning the partition owner (either as current or new replica index) currently in-flight.
  */
 public class CountingMigrationAwareService
-        implements ChunkedMigrationAwareService, OffloadedReplicationPreparation {
+        implements ChunkedMigrationAwareService, DifferentialReplicationAwareService, OffloadedReplicationPreparation {
 
     static final int PRIMARY_REPLICA_INDEX = 0;
     static final int IN_FLIGHT_MIGRATION_STAMP = -1;
@@ -72,6 +73,21 @@ public class CountingMigrationAwareService
         return migrationAwareService.prepareReplicationOperation(event, namespaces);
     }
 
+    @Override
+    public int[] getMerkleTreeLeaves(int partitionId, ServiceNamespace namespace) {
+        if (!(migrationAwareService instanceof DifferentialReplicationAwareService)) {
+            return null;
+        }
+        return ((DifferentialReplicationAwareService) migrationAwareService).getMerkleTreeLeaves(partitionId, namespace);
+    }
+
+    @Override
+    public Operation prepareDifferentialReplicationOperation(PartitionReplicationEvent event, ServiceNamespace namespace,
+                                                             int[] leafOrderHashPairs) {
+        return ((DifferentialReplicationAwareService) migrationAwareService)
+                .prepareDifferentialReplicationOperation(event, namespace, leafOrderHashPairs);
+    }
+
     @Override
     public void beforeMigration(PartitionMigrationEvent event) {
         if (isPrimaryReplicaMigrationEvent(event)) {
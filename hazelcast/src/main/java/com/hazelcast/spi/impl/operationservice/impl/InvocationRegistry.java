@@ -20,6 +20,7 @@ import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.HazelcastOverloadException;
 import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.internal.diagnostics.InvocationProfilerPlugin;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
@@ -40,11 +41,14 @@ import java.util.concurrent.ConcurrentMap;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_DISCRIMINATOR_TYPE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_INVOCATION_LATENCY;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.deactivate;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.setCallId;
+import static com.hazelcast.spi.properties.ClusterProperty.METRICS_LATENCY_HISTOGRAMS;
 
 /**
  * Responsible for the registration of all pending invocations.
@@ -80,6 +84,7 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
     private final CallIdSequence callIdSequence;
     private final boolean profilerEnabled;
     private final ConcurrentMap<Class, LatencyDistribution> latencyDistributions = new ConcurrentHashMap<>();
+    private final LatencyHistograms<Class> latencyHistograms;
     private volatile boolean alive = true;
 
     public InvocationRegistry(ILogger logger, CallIdSequence callIdSequence, HazelcastProperties properties) {
@@ -92,11 +97,18 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
 
         this.invocations = new ConcurrentHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
         this.profilerEnabled = properties.getInteger(InvocationProfilerPlugin.PERIOD_SECONDS) > 0;
+        this.latencyHistograms = properties.getBoolean(METRICS_LATENCY_HISTOGRAMS)
+                ? new LatencyHistograms<>(OPERATION_PREFIX_INVOCATION_LATENCY,
+                        (descriptor, c) -> descriptor.withDiscriminator(OPERATION_DISCRIMINATOR_TYPE, c.getName()))
+                : null;
     }
 
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX);
+        if (latencyHistograms != null) {
+            registry.registerDynamicMetricsProvider(latencyHistograms);
+        }
     }
 
     @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE, unit = PERCENT)
@@ -160,7 +172,7 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
     }
 
     public void retire(Invocation invocation) {
-        if (!profilerEnabled) {
+        if (!profilerEnabled && latencyHistograms == null) {
             return;
         }
 
@@ -169,8 +181,18 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
         if (op instanceof PartitionIteratingOperation) {
             c = ((PartitionIteratingOperation) op).getOperationFactory().getClass();
         }
-        LatencyDistribution distribution = latencyDistributions.computeIfAbsent(c, k -> new LatencyDistribution());
-        distribution.done(invocation.firstInvocationTimeNanos);
+        if (profilerEnabled) {
+            LatencyDistribution distribution = latencyDistributions.computeIfAbsent(c, k -> new LatencyDistribution());
+            distribution.done(invocation.firstInvocationTimeNanos);
+        }
+        if (latencyHistograms != null) {
+            latencyHistograms.recordNanos(c, System.nanoTime() - invocation.firstInvocationTimeNanos);
+        }
+    }
+
+    // used in tests
+    LatencyHistograms<Class> latencyHistograms() {
+        return latencyHistograms;
     }
 
     public final ConcurrentMap<Class, LatencyDistribution> latencyDistributions() {
@@ -27,6 +27,7 @@ import com.hazelcast.instance.impl.NodeState;
 import com.hazelcast.instance.impl.OutOfMemoryErrorDispatcher;
 import com.hazelcast.internal.hotrestart.InternalHotRestartService;
 import com.hazelcast.internal.metrics.ExcludedMetricTargets;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
@@ -129,6 +130,7 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
     private final OutboundResponseHandler outboundResponseHandler;
 
     private final ConcurrentMap<Class, LatencyDistribution> opLatencyDistributions;
+    private final LatencyHistograms<Class> executionLatencyHistograms;
 
     // When partitionId >= 0, it is a partition specific
     // when partitionId = -1, it is generic
@@ -152,6 +154,7 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
         this.failedBackupsCounter = failedBackupsCounter;
         this.backupHandler = operationService.backupHandler;
         this.opLatencyDistributions = opLatencyDistributions;
+        this.executionLatencyHistograms = operationService.executionLatencyHistograms;
         // only a ad-hoc operation runner will be called concurrently
         this.executedOperationsCounter = partitionId == AD_HOC_PARTITION_ID ? newMwCounter() : newSwCounter();
     }
@@ -279,22 +282,31 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
                 currentTask = null;
             }
             op.popThreadContext();
-            if (opLatencyDistributions != null) {
-                Class c = op.getClass();
-                if (op instanceof PartitionIteratingOperation) {
-                    c = ((PartitionIteratingOperation) op).getOperationFactory().getClass();
-                }
-                LatencyDistribution distribution = opLatencyDistributions.get(c);
-                // Note: we want to prevent lock here, if collision happened.
-                if (distribution == null) {
-                    distribution = opLatencyDistributions.computeIfAbsent(c, k -> new LatencyDistribution());
-                }
-                distribution.recordNanos(System.nanoTime() - startNanos);
+            if (opLatencyDistributions != null || executionLatencyHistograms != null) {
+                recordLatency(op, System.nanoTime() - startNanos);
             }
         }
         return false;
     }
 
+    private void recordLatency(Operation op, long latencyNanos) {
+        Class c = op.getClass();
+        if (op instanceof PartitionIteratingOperation) {
+            c = ((PartitionIteratingOperation) op).getOperationFactory().getClass();
+        }
+        if (opLatencyDistributions != null) {
+            LatencyDistribution distribution = opLatencyDistributions.get(c);
+            // Note: we want to prevent lock here, if collision happened.
+            if (distribution == null) {
+                distribution = opLatencyDistributions.computeIfAbsent(c, k -> new LatencyDistribution());
+            }
+            distribution.recordNanos(latencyNanos);
+        }
+        if (executionLatencyHistograms != null) {
+            executionLatencyHistograms.recordNanos(c, latencyNanos);
+        }
+    }
+
     private void call(Operation op) throws Exception {
         CallStatus callStatus = op.call();
 
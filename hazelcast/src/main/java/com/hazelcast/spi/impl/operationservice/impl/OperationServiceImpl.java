@@ -24,6 +24,7 @@ import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.cluster.ClusterClock;
 import com.hazelcast.internal.diagnostics.OperationProfilerPlugin;
 import com.hazelcast.internal.management.dto.SlowOperationDTO;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
@@ -65,7 +66,9 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_SERVICE_FAILED_BACKUPS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_SERVICE_RETRY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_OPERATION_SERVICE_TIMEOUT_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_DISCRIMINATOR_TYPE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_EXECUTION_LATENCY;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.util.CollectionUtil.asIntegerList;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -80,6 +83,7 @@ import static com.hazelcast.spi.impl.operationservice.Operations.isWanReplicatio
 import static com.hazelcast.spi.properties.ClusterProperty.FAIL_ON_INDETERMINATE_OPERATION_STATE;
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_MAX_RETRY_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_RETRY_PAUSE;
+import static com.hazelcast.spi.properties.ClusterProperty.METRICS_LATENCY_HISTOGRAMS;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static java.util.Collections.newSetFromMap;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -113,6 +117,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     @Probe(name = OPERATION_METRIC_OPERATION_SERVICE_ASYNC_OPERATIONS)
     final Set<Operation> asyncOperations = newSetFromMap(new ConcurrentHashMap<>());
     final ConcurrentMap<Class, LatencyDistribution> opLatencyDistributions;
+    final LatencyHistograms<Class> executionLatencyHistograms;
 
     final InvocationRegistry invocationRegistry;
     final OperationExecutor operationExecutor;
@@ -156,6 +161,10 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         this.opLatencyDistributions = nodeEngine.getProperties().getInteger(OperationProfilerPlugin.PERIOD_SECONDS) > 0
                 ? new ConcurrentHashMap<>()
                 : null;
+        this.executionLatencyHistograms = nodeEngine.getProperties().getBoolean(METRICS_LATENCY_HISTOGRAMS)
+                ? new LatencyHistograms<>(OPERATION_PREFIX_EXECUTION_LATENCY,
+                        (descriptor, c) -> descriptor.withDiscriminator(OPERATION_DISCRIMINATOR_TYPE, c.getName()))
+                : null;
         HazelcastProperties properties = node.getProperties();
         this.invocationMaxRetryCount = properties.getInteger(INVOCATION_MAX_RETRY_COUNT);
         this.invocationRetryPauseMillis = properties.getMillis(INVOCATION_RETRY_PAUSE);
@@ -512,6 +521,9 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX);
         registry.provideMetrics(invocationRegistry, invocationMonitor, inboundResponseHandlerSupplier, operationExecutor);
+        if (executionLatencyHistograms != null) {
+            registry.registerDynamicMetricsProvider(executionLatencyHistograms);
+        }
     }
 
     public void start() {
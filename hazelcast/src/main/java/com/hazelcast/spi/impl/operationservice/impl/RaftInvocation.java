@@ -45,6 +45,8 @@ public class RaftInvocation extends Invocation<CPMember> {
 
     private final RaftInvocationContext raftInvocationContext;
     private final CPGroupId groupId;
+    private volatile CPMember followerReadTarget;
+    private volatile boolean followerReadTry;
     private volatile MemberCursor memberCursor;
     private volatile CPMember lastInvocationEndpoint;
     private volatile Throwable indeterminateException;
@@ -57,9 +59,23 @@ public class RaftInvocation extends Invocation<CPMember> {
 
     public RaftInvocation(Context context, RaftInvocationContext raftInvocationContext, CPGroupId groupId, Operation op,
             int retryCount, long retryPauseMillis, long callTimeoutMillis, boolean deserializeResponse) {
+        this(context, raftInvocationContext, groupId, op, retryCount, retryPauseMillis, callTimeoutMillis,
+                deserializeResponse, false);
+    }
+
+    /**
+     * If {@code followerRead} is true, the first try is sent to a member
+     * which may be a follower of the group, see
+     * {@link RaftInvocationContext#getFollowerReadTarget(CPGroupId)}.
+     * Retries are sent to the leader.
+     */
+    public RaftInvocation(Context context, RaftInvocationContext raftInvocationContext, CPGroupId groupId, Operation op,
+            int retryCount, long retryPauseMillis, long callTimeoutMillis, boolean deserializeResponse,
+            boolean followerRead) {
         super(context, op, null, retryCount, retryPauseMillis, callTimeoutMillis, deserializeResponse, null);
         this.raftInvocationContext = raftInvocationContext;
         this.groupId = groupId;
+        this.followerReadTarget = followerRead ? raftInvocationContext.getFollowerReadTarget(groupId) : null;
 
         int partitionId = raftInvocationContext.getCPGroupPartitionId(groupId);
         op.setPartitionId(partitionId);
@@ -89,6 +105,10 @@ public class RaftInvocation extends Invocation<CPMember> {
         assert !(value instanceof Throwable) : "Throwable value " + value + " not allowed";
 
         super.notifyNormalResponse(value, expectedBackups);
+        if (followerReadTry) {
+            // the response may come from a follower
+            return;
+        }
         // TODO [basri] maybe we should update known leader only if the result is not an exception?
         raftInvocationContext.setKnownLeader(groupId, lastInvocationEndpoint);
     }
@@ -113,7 +133,10 @@ public class RaftInvocation extends Invocation<CPMember> {
 
     @Override
     protected ExceptionAction onException(Throwable t) {
-        raftInvocationContext.updateKnownLeaderOnFailure(groupId, t);
+        if (!followerReadTry || !(t instanceof NotLeaderException) || ((NotLeaderException) t).getLeaderUuid() != null) {
+            // a member not in the group does not know the leader, which does not mean the known leader is stale
+            raftInvocationContext.updateKnownLeaderOnFailure(groupId, t);
+        }
 
         if (t instanceof IndeterminateOperationState) {
             if (isRetryableOnIndeterminateOperationState()) {
@@ -147,6 +170,14 @@ public class RaftInvocation extends Invocation<CPMember> {
     }
 
     private CPMember getTargetEndpoint() {
+        CPMember readTarget = followerReadTarget;
+        followerReadTry = readTarget != null;
+        if (readTarget != null) {
+            // only the first try is a follower read
+            followerReadTarget = null;
+            return readTarget;
+        }
+
         CPMember target = raftInvocationContext.getKnownLeader(groupId);
         if (target != null) {
             return target;
@@ -20,8 +20,10 @@ import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.cp.CPGroupId;
 import com.hazelcast.cp.CPMember;
 import com.hazelcast.cp.exception.CPSubsystemException;
+import com.hazelcast.cp.exception.NotLeaderException;
 import com.hazelcast.cp.internal.CPMemberInfo;
 import com.hazelcast.cp.internal.RaftService;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.exception.RetryableIOException;
 import com.hazelcast.spi.exception.TargetNotMemberException;
@@ -153,6 +155,23 @@ public class RaftInvocationContext {
         }
     }
 
+    /**
+     * Returns the member to send the first try of a linearizable query of
+     * the given group to when follower reads are enabled: the local CP member
+     * if it runs a Raft node of the group, a random CP member otherwise, so
+     * that the queries are spread over the followers. A CP member which is
+     * not in the group rejects the query with {@link NotLeaderException},
+     * and the query is retried on the leader.
+     */
+    CPMember getFollowerReadTarget(CPGroupId groupId) {
+        if (raftService.getRaftNode(groupId) != null) {
+            return raftService.getLocalCPMember();
+        }
+
+        CPMember[] members = membersContainer.get().members;
+        return members.length > 0 ? members[ThreadLocalRandomProvider.get().nextInt(members.length)] : null;
+    }
+
     boolean shouldFailOnIndeterminateOperationState() {
         return failOnIndeterminateOperationState;
     }
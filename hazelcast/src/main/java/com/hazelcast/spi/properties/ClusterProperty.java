@@ -532,6 +532,34 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB
             = new HazelcastProperty("hazelcast.partition.migration.chunks.max.migrating.data.in.mb", 250);
 
+    /**
+     * The maximum rate of the migration data sent by a member, in megabytes
+     * per second, shared by all migrations the member is the source of.
+     * The next replica fragment of a migration is delayed until the rate
+     * allows it.
+     * <p>
+     * Default is 0, i.e. the rate is not limited.
+     *
+     * @see ClusterProperty#PARTITION_MIGRATION_LATENCY_THRESHOLD_MILLIS
+     * @since 5.3
+     */
+    public static final HazelcastProperty PARTITION_MIGRATION_MAX_MB_PER_SECOND
+            = new HazelcastProperty("hazelcast.partition.migration.max.mb.per.second", 0);
+
+    /**
+     * The latency of the partition threads above which the migration rate
+     * limited by {@link #PARTITION_MIGRATION_MAX_MB_PER_SECOND} is halved.
+     * The latency is sampled by a regular operation submitted to the partition
+     * thread before each replica fragment is sent. While the latency stays
+     * below the threshold, the rate recovers gradually to its maximum.
+     * <p>
+     * Default is 100 milliseconds. 0 disables the adaptation.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty PARTITION_MIGRATION_LATENCY_THRESHOLD_MILLIS
+            = new HazelcastProperty("hazelcast.partition.migration.latency.threshold.millis", 100, MILLISECONDS);
+
     /**
      * The time that a newly-appointed master node waits before forming a cluster.
      * Once a cluster is being started, a newly-appointed master node may receive
@@ -684,6 +712,23 @@ public final class ClusterProperty {
     public static final HazelcastProperty CLIENT_HEARTBEAT_TIMEOUT_SECONDS
             = new HazelcastProperty("hazelcast.client.max.no.heartbeat.seconds", 300, SECONDS);
 
+    /**
+     * Maximum number of frames waiting to be written to a client connection
+     * for the member to send a listener event over it. Beyond this limit,
+     * the events to the client are dropped until the client catches up, so
+     * that a client which does not read its events fast enough cannot make
+     * the member buffer an unbounded number of them. The dropped events are
+     * counted in the {@code client.endpoint.eventsDropped} metric. Only the
+     * events of user listeners, such as entry, item and message listeners,
+     * are dropped; Near Cache invalidations and the other events the client
+     * relies on are always sent. A value less than or equal to 0 disables
+     * the limit, which is the default.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty CLIENT_EVENT_MAX_PENDING_FRAMES
+            = new HazelcastProperty("hazelcast.client.event.max.pending.frames", 0);
+
     /**
      * Once a member initiates cluster shutdown, it will either wait for all
      * members to leave the cluster before shutting itself down. This parameter
@@ -735,6 +780,35 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_MAX_PARALLEL_REPLICATIONS
             = new HazelcastProperty("hazelcast.partition.max.parallel.replications", PARTITION_MAX_PARALLEL_MIGRATIONS);
 
+    /**
+     * Enables the differential anti-entropy replica sync. When a backup
+     * replica is out of sync, it sends the leaves of the Merkle trees of its
+     * data to the primary replica, which replicates only the entries of the
+     * leaves which differ instead of the whole partition data. Supported by
+     * the IMap, the other data structures are always synchronized fully.
+     * <p>
+     * Default is false.
+     *
+     * @see #PARTITION_REPLICA_SYNC_MERKLE_TREE_MAX_DIFF_PERCENTAGE
+     * @since 5.3
+     */
+    public static final HazelcastProperty PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED
+            = new HazelcastProperty("hazelcast.partition.replica.sync.merkle.tree.enabled", false);
+
+    /**
+     * The percentage of the Merkle tree leaves of a replica which may differ
+     * from the primary replica for the differential replica sync to be used.
+     * If more leaves differ, the replica is synchronized fully since the
+     * differential sync wouldn't transfer much less data.
+     * <p>
+     * Default is 25.
+     *
+     * @see #PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED
+     * @since 5.3
+     */
+    public static final HazelcastProperty PARTITION_REPLICA_SYNC_MERKLE_TREE_MAX_DIFF_PERCENTAGE
+            = new HazelcastProperty("hazelcast.partition.replica.sync.merkle.tree.max.diff.percentage", 25);
+
     /**
      * Class name implementing {@link com.hazelcast.partition.PartitioningStrategy}, which
      * defines key to partition mapping.
@@ -834,6 +908,18 @@ public final class ClusterProperty {
     public static final HazelcastProperty METRICS_JMX_ENABLED
             = new HazelcastProperty("hazelcast.metrics.jmx.enabled");
 
+    /**
+     * Enables/disables exposing metrics in the OpenMetrics text format on the
+     * {@code /hazelcast/rest/metrics} REST endpoint, which can be scraped by
+     * Prometheus. The metrics are rendered once per metrics collection, so a
+     * scrape returns the metrics of the last collection. The endpoint belongs
+     * to the {@link com.hazelcast.config.RestEndpointGroup#CLUSTER_READ} group
+     * and requires the metrics collection to be enabled.
+     * By default, the endpoint is disabled.
+     */
+    public static final HazelcastProperty METRICS_OPENMETRICS_ENABLED
+            = new HazelcastProperty("hazelcast.metrics.openmetrics.enabled", false);
+
     /**
      * Health monitoring log level. When SILENT, logs are printed only when values
      * exceed some predefined threshold. When NOISY, logs are always printed
@@ -903,6 +989,16 @@ public final class ClusterProperty {
     public static final HazelcastProperty METRICS_DATASTRUCTURES
             = new HazelcastProperty("hazelcast.metrics.datastructures.enabled", "true");
 
+    /**
+     * Enables/disables the latency histogram metrics of the operation
+     * execution, the invocation round-trip, the client message tasks and the
+     * MapStore/MapLoader calls. The histograms publish the percentiles of the
+     * latencies recorded since the previous metrics collection.
+     * By default, the latency histograms are disabled.
+     */
+    public static final HazelcastProperty METRICS_LATENCY_HISTOGRAMS
+            = new HazelcastProperty("hazelcast.metrics.latency.histograms.enabled", false);
+
     /**
      * Sets the metrics collection frequency in seconds.
      * <p>
@@ -1884,6 +1980,80 @@ public final class ClusterProperty {
     public static final HazelcastProperty JAR_UPLOAD_DIR_PATH
             = new HazelcastProperty("hazelcast.cluster.jarupload.dirpath");
 
+    /**
+     * Enables keeping the items of the ringbuffers, including the ringbuffers
+     * backing the reliable topics and the event journals, in serialized form
+     * outside of the Java heap. Only the position of each item is kept on the
+     * heap.
+     * <p>
+     * The items in the {@link com.hazelcast.config.InMemoryFormat#OBJECT OBJECT}
+     * format are deserialized on every read.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty RINGBUFFER_OFFHEAP_ENABLED
+            = new HazelcastProperty("hazelcast.ringbuffer.offheap.enabled", false);
+
+    /**
+     * The size in bytes of the off-heap segments the items of a ringbuffer are
+     * appended to, see {@link #RINGBUFFER_OFFHEAP_ENABLED}. Larger items get
+     * a segment of their own.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty RINGBUFFER_OFFHEAP_SEGMENT_SIZE_BYTES
+            = new HazelcastProperty("hazelcast.ringbuffer.offheap.segment.size.bytes", 1024 * 1024);
+
+    /**
+     * The maximum number of off-heap segments of a ringbuffer kept in memory
+     * if the {@link #RINGBUFFER_OFFHEAP_OVERFLOW_DIR} is set.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty RINGBUFFER_OFFHEAP_MAX_MEMORY_SEGMENTS
+            = new HazelcastProperty("hazelcast.ringbuffer.offheap.max.memory.segments", 64);
+
+    /**
+     * The directory the oldest off-heap segments of the ringbuffers overflow
+     * to when there are more than
+     * {@link #RINGBUFFER_OFFHEAP_MAX_MEMORY_SEGMENTS} segments in memory. The
+     * segments are memory-mapped from the overflow files, so the old items
+     * can still be read. The directory must exist.
+     * <p>
+     * If not set, all segments are kept in memory.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty RINGBUFFER_OFFHEAP_OVERFLOW_DIR
+            = new HazelcastProperty("hazelcast.ringbuffer.offheap.overflow.dir");
+
+    /**
+     * Enables the specialized serializers for the classes serialized with the
+     * zero-config Compact serialization. Such a serializer accesses the fields
+     * of its class through handles generated once per field, instead of
+     * the reflective field access on every (de)serialization. The classes it
+     * cannot access the fields of still use the reflective serializer.
+     * <p>
+     * The serialized form is the same in both cases.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty COMPACT_SPECIALIZED_SERIALIZERS_ENABLED
+            = new HazelcastProperty("hazelcast.compact.serializer.specialized.enabled", false);
+
+    /**
+     * Duration to collect the Raft RPCs of different CP groups destined for
+     * the same CP member before sending them in a single packet. The RPCs
+     * are sent immediately if it is 0, which is the default. Coalescing
+     * reduces the number of packets when many CP groups share the same CP
+     * members, at the cost of delaying each RPC by up to this duration, so
+     * it should be well below the leader heartbeat period.
+     *
+     * @since 5.3
+     */
+    public static final HazelcastProperty RAFT_RPC_COALESCING_DELAY_MILLIS
+            = new HazelcastProperty("hazelcast.raft.rpc.coalescing.delay.millis", 0, MILLISECONDS);
+
     private ClusterProperty() {
     }
 }
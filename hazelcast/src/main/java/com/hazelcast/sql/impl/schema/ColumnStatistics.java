@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Statistics of a single table column used for selectivity estimation during planning.
+ * <p>
+ * The optional histogram is equi-depth: {@code histogramBounds[i]} and {@code histogramBounds[i + 1]} delimit a bucket
+ * which holds the same fraction of the non-null values as any other bucket. The histogram is available only for numeric
+ * columns.
+ */
+public final class ColumnStatistics {
+
+    private final long distinctCount;
+    private final double nullFraction;
+    private final double[] histogramBounds;
+
+    public ColumnStatistics(long distinctCount, double nullFraction, @Nullable double[] histogramBounds) {
+        assert distinctCount >= 0 : distinctCount;
+        assert nullFraction >= 0.0d && nullFraction <= 1.0d : nullFraction;
+        assert histogramBounds == null || histogramBounds.length >= 2 : Arrays.toString(histogramBounds);
+
+        this.distinctCount = distinctCount;
+        this.nullFraction = nullFraction;
+        this.histogramBounds = histogramBounds;
+    }
+
+    /**
+     * @return Estimated number of distinct non-null values in the column.
+     */
+    public long getDistinctCount() {
+        return distinctCount;
+    }
+
+    /**
+     * @return Estimated fraction of rows with {@code NULL} in the column.
+     */
+    public double getNullFraction() {
+        return nullFraction;
+    }
+
+    public boolean hasHistogram() {
+        return histogramBounds != null;
+    }
+
+    /**
+     * Estimates the fraction of rows which are equal to some non-null value, assuming the uniform distribution of values.
+     */
+    public double getEqualsSelectivity() {
+        return (1.0d - nullFraction) / Math.max(distinctCount, 1L);
+    }
+
+    /**
+     * Estimates the fraction of rows with a value between the given bounds using the histogram. Use infinite values
+     * for unbounded ranges.
+     *
+     * @return The selectivity or {@code null} if the histogram is not available.
+     */
+    @Nullable
+    public Double getRangeSelectivity(double from, double to) {
+        if (histogramBounds == null) {
+            return null;
+        }
+
+        if (from > to) {
+            return 0.0d;
+        }
+
+        double fraction = cumulativeFraction(to) - cumulativeFraction(from);
+
+        return Math.max(fraction * (1.0d - nullFraction), getEqualsSelectivity());
+    }
+
+    /**
+     * Gets the fraction of the non-null values which are less than or equal to the given value, interpolating linearly
+     * within the bucket.
+     */
+    private double cumulativeFraction(double value) {
+        int bucketCount = histogramBounds.length - 1;
+
+        if (value < histogramBounds[0]) {
+            return 0.0d;
+        }
+
+        if (value >= histogramBounds[bucketCount]) {
+            return 1.0d;
+        }
+
+        // Find the last bound which is less than or equal to the value.
+        int low = 0;
+        int high = bucketCount;
+
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+
+            if (histogramBounds[mid] <= value) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+
+        double bucketFraction = (value - histogramBounds[low]) / (histogramBounds[low + 1] - histogramBounds[low]);
+
+        return (low + bucketFraction) / bucketCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnStatistics{distinctCount=" + distinctCount
+                + ", nullFraction=" + nullFraction
+                + ", histogramBounds=" + Arrays.toString(histogramBounds)
+                + '}';
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema.map;
+
+import com.hazelcast.cardinality.impl.hyperloglog.HyperLogLog;
+import com.hazelcast.cardinality.impl.hyperloglog.impl.HyperLogLogImpl;
+import com.hazelcast.cluster.memberselector.MemberSelectors;
+import com.hazelcast.internal.monitor.impl.PerIndexStats;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.internal.util.HashUtil;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.query.impl.AbstractIndex;
+import com.hazelcast.query.impl.CompositeValue;
+import com.hazelcast.query.impl.IndexKeyEntries;
+import com.hazelcast.query.impl.Indexes;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Member-local cache of the column statistics of partitioned maps, used by the SQL cost model.
+ * <p>
+ * Statistics are collected from the global indexes of the map: for every indexed attribute (the leading attribute in case
+ * of composite indexes) we estimate the number of distinct values with {@link HyperLogLog}, the fraction of {@code NULL}
+ * values and, for SORTED indexes over numeric attributes, an equi-depth histogram. Only the local partitions are
+ * inspected, the cluster-wide number of distinct values is extrapolated using the number of data members.
+ * <p>
+ * The planner never waits for the collection: {@link #getStatistics} returns the last collected snapshot and schedules
+ * an asynchronous refresh if the snapshot is missing, the set of indexes has changed, or some index has changed
+ * significantly since the last collection. The refresh is incremental: only the indexes with a significant number of
+ * inserts, updates and removes since their last collection are inspected again, the statistics of the other indexes
+ * are reused.
+ * <p>
+ * The cache is owned by the {@link com.hazelcast.map.impl.MapServiceContext}, which evicts the statistics of a map
+ * when the map is destroyed.
+ */
+public final class MapStatisticsCache {
+
+    /** Number of buckets in the histogram. */
+    static final int HISTOGRAM_BUCKETS = 32;
+
+    /** Minimal interval between two collections for the same map, unless the indexes have changed. */
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 1_000L;
+
+    /** Relative number of changes of an index or of the row count which makes the statistics of an index stale. */
+    private static final double STALE_CHANGE_FRACTION = 0.1d;
+
+    private final NodeEngine nodeEngine;
+    private final ILogger logger;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public MapStatisticsCache(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+        this.logger = nodeEngine.getLogger(getClass());
+    }
+
+    /**
+     * Gets the last collected statistics of the map's indexed attributes. Never blocks on the collection.
+     *
+     * @param mapContainer Container of the map.
+     * @param rowCount     Current estimated row count of the map, used to detect stale statistics.
+     * @return Statistics keyed by the index attribute name, possibly empty.
+     */
+    @Nonnull
+    public Map<String, ColumnStatistics> getStatistics(MapContainer mapContainer, long rowCount) {
+        String mapName = mapContainer.getName();
+        Indexes indexes = mapContainer.getIndexes();
+
+        if (indexes == null || indexes.getIndexes().length == 0) {
+            snapshots.remove(mapName);
+
+            return Collections.emptyMap();
+        }
+
+        InternalIndex[] indexes0 = indexes.getIndexes();
+        Snapshot snapshot = snapshots.get(mapName);
+
+        if (snapshot == null || snapshot.isStale(indexes0, rowCount)) {
+            scheduleRefresh(mapName, indexes0, rowCount);
+        }
+
+        return snapshot != null ? snapshot.statistics : Collections.emptyMap();
+    }
+
+    /**
+     * Evicts the statistics of the given map.
+     */
+    public void destroy(String mapName) {
+        snapshots.remove(mapName);
+    }
+
+    public void clear() {
+        snapshots.clear();
+    }
+
+    /**
+     * Collects the statistics of the map synchronously. For testing only.
+     */
+    public void refresh(MapContainer mapContainer, long rowCount) {
+        Indexes indexes = mapContainer.getIndexes();
+
+        if (indexes != null) {
+            refresh0(mapContainer.getName(), indexes.getIndexes(), rowCount);
+        }
+    }
+
+    private void scheduleRefresh(String mapName, InternalIndex[] indexes, long rowCount) {
+        if (!refreshing.add(mapName)) {
+            return;
+        }
+
+        try {
+            nodeEngine.getExecutionService().execute(ExecutionService.ASYNC_EXECUTOR, () -> {
+                try {
+                    refresh0(mapName, indexes, rowCount);
+                } catch (Exception e) {
+                    logger.fine("Failed to collect SQL statistics for the map " + mapName, e);
+                } finally {
+                    refreshing.remove(mapName);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.remove(mapName);
+
+            logger.fine("Failed to schedule the collection of SQL statistics for the map " + mapName, e);
+        }
+    }
+
+    private void refresh0(String mapName, InternalIndex[] indexes, long rowCount) {
+        int memberCount = nodeEngine.getClusterService().getMembers(MemberSelectors.DATA_MEMBER_SELECTOR).size();
+        Snapshot previous = snapshots.get(mapName);
+        IndexStatistics[] indexStatistics = new IndexStatistics[indexes.length];
+
+        for (int i = 0; i < indexes.length; i++) {
+            InternalIndex index = indexes[i];
+            IndexStatistics previousStatistics = previous != null ? previous.get(index) : null;
+
+            indexStatistics[i] = previousStatistics != null && !previousStatistics.isStale(rowCount)
+                    ? previousStatistics
+                    : new IndexStatistics(index, changeCount(index), rowCount, collect(index, memberCount));
+        }
+
+        snapshots.put(mapName, new Snapshot(indexes, Clock.currentTimeMillis(), indexStatistics));
+    }
+
+    /**
+     * Merges the statistics of the indexes to the statistics keyed by the attribute name.
+     */
+    private static Map<String, ColumnStatistics> merge(IndexStatistics[] indexStatistics) {
+        Map<String, ColumnStatistics> res = new HashMap<>();
+        Map<String, Integer> resComponentCounts = new HashMap<>();
+
+        for (IndexStatistics statistics : indexStatistics) {
+            if (statistics.statistics == null) {
+                continue;
+            }
+
+            String attribute = statistics.index.getConfig().getAttributes().get(0);
+            int componentCount = statistics.index.getComponents().length;
+            Integer existingComponentCount = resComponentCounts.get(attribute);
+
+            // Prefer the statistics of non-composite indexes as they have a histogram.
+            if (existingComponentCount != null && existingComponentCount <= componentCount) {
+                continue;
+            }
+
+            res.put(attribute, statistics.statistics);
+            resComponentCounts.put(attribute, componentCount);
+        }
+
+        return res;
+    }
+
+    /**
+     * Collects the statistics of the leading attribute of the index. Returns
+     * {@code null} for a BITMAP index, since it cannot be iterated.
+     */
+    private static ColumnStatistics collect(InternalIndex index, int memberCount) {
+        String attribute = index.getConfig().getAttributes().get(0);
+
+        switch (index.getConfig().getType()) {
+            case SORTED:
+                return collectSorted(index, index.getComponents().length > 1, memberCount);
+            case HASH:
+                return collectUnordered(index, attribute, memberCount);
+            default:
+                return null;
+        }
+    }
+
+    private static ColumnStatistics collectSorted(InternalIndex index, boolean composite, int memberCount) {
+        HyperLogLog hll = new HyperLogLogImpl();
+        long nullCount = 0;
+        long nonNullCount = 0;
+        boolean numeric = true;
+
+        Iterator<IndexKeyEntries> iterator = index.getSqlRecordIteratorBatch(false);
+
+        while (iterator.hasNext()) {
+            IndexKeyEntries keyEntries = iterator.next();
+            Object value = leadingValue(keyEntries.getIndexKey(), composite);
+            long count = count(keyEntries.getEntries());
+
+            if (value == null) {
+                nullCount += count;
+            } else if (count > 0) {
+                hll.add(hash(value));
+                nonNullCount += count;
+                numeric &= value instanceof Number;
+            }
+        }
+
+        double[] histogramBounds = numeric && nonNullCount > 0 ? histogram(index, composite, nonNullCount) : null;
+
+        return statistics(hll, nullCount, nonNullCount, histogramBounds, memberCount);
+    }
+
+    private static ColumnStatistics collectUnordered(InternalIndex index, String attribute, int memberCount) {
+        HyperLogLog hll = new HyperLogLogImpl();
+        long nullCount = 0;
+        long nonNullCount = 0;
+
+        Iterator<QueryableEntry> iterator = index.getSqlRecordIterator(false);
+
+        while (iterator.hasNext()) {
+            Object value = iterator.next().getAttributeValue(attribute);
+
+            if (value == null) {
+                nullCount++;
+            } else {
+                hll.add(hash(value));
+                nonNullCount++;
+            }
+        }
+
+        return statistics(hll, nullCount, nonNullCount, null, memberCount);
+    }
+
+    /**
+     * Builds the equi-depth histogram with the second pass over the sorted index.
+     */
+    private static double[] histogram(InternalIndex index, boolean composite, long nonNullCount) {
+        double[] bounds = new double[HISTOGRAM_BUCKETS + 1];
+        int nextBound = 0;
+        long cumulativeCount = 0;
+        double lastValue = 0;
+
+        Iterator<IndexKeyEntries> iterator = index.getSqlRecordIteratorBatch(false);
+
+        while (iterator.hasNext()) {
+            IndexKeyEntries keyEntries = iterator.next();
+            Object value = leadingValue(keyEntries.getIndexKey(), composite);
+            long count = count(keyEntries.getEntries());
+
+            if (!(value instanceof Number) || count == 0) {
+                // The index has changed since the first pass.
+                continue;
+            }
+
+            lastValue = ((Number) value).doubleValue();
+            cumulativeCount += count;
+
+            if (nextBound == 0) {
+                bounds[nextBound++] = lastValue;
+            }
+
+            while (nextBound < HISTOGRAM_BUCKETS && cumulativeCount * HISTOGRAM_BUCKETS >= nextBound * nonNullCount) {
+                bounds[nextBound++] = lastValue;
+            }
+        }
+
+        if (nextBound == 0) {
+            return null;
+        }
+
+        Arrays.fill(bounds, nextBound, bounds.length, lastValue);
+
+        return bounds;
+    }
+
+    private static ColumnStatistics statistics(
+            HyperLogLog hll,
+            long nullCount,
+            long nonNullCount,
+            double[] histogramBounds,
+            int memberCount
+    ) {
+        long totalCount = nullCount + nonNullCount;
+
+        if (totalCount == 0) {
+            return null;
+        }
+
+        // The local NDV of a near-unique attribute grows linearly with the number of members, while the values of
+        // a low-cardinality attribute are likely to repeat on every member. Interpolate between the two.
+        long localDistinctCount = Math.min(hll.estimate(), nonNullCount);
+        double distinctRatio = nonNullCount == 0 ? 0.0d : (double) localDistinctCount / nonNullCount;
+        long distinctCount = Math.round(localDistinctCount * (1.0d + (Math.max(memberCount, 1) - 1) * distinctRatio));
+
+        return new ColumnStatistics(distinctCount, (double) nullCount / totalCount, histogramBounds);
+    }
+
+    private static Object leadingValue(Comparable<?> indexKey, boolean composite) {
+        Object value = indexKey;
+
+        if (composite && value instanceof CompositeValue) {
+            value = ((CompositeValue) value).getComponents()[0];
+        }
+
+        return value == AbstractIndex.NULL ? null : value;
+    }
+
+    private static long count(Iterator<?> iterator) {
+        long res = 0;
+
+        while (iterator.hasNext()) {
+            iterator.next();
+            res++;
+        }
+
+        return res;
+    }
+
+    private static long hash(Object value) {
+        return HashUtil.MurmurHash3_fmix((long) value.hashCode());
+    }
+
+    /**
+     * Number of inserts, updates and removes done by the users since the index was created. Always zero if the
+     * statistics of the map are disabled.
+     */
+    private static long changeCount(InternalIndex index) {
+        PerIndexStats stats = index.getPerIndexStats();
+
+        return stats.getInsertCount() + stats.getUpdateCount() + stats.getRemoveCount();
+    }
+
+    private static boolean isSignificantChange(long change, long rowCount) {
+        return Math.abs(change) > STALE_CHANGE_FRACTION * Math.max(rowCount, 1L);
+    }
+
+    /**
+     * The statistics of the leading attribute of a single index.
+     */
+    private static final class IndexStatistics {
+
+        private final InternalIndex index;
+        private final long changeCount;
+        private final long rowCount;
+        private final ColumnStatistics statistics;
+
+        private IndexStatistics(InternalIndex index, long changeCount, long rowCount, ColumnStatistics statistics) {
+            this.index = index;
+            this.changeCount = changeCount;
+            this.rowCount = rowCount;
+            this.statistics = statistics;
+        }
+
+        private boolean isStale(long currentRowCount) {
+            return isSignificantChange(changeCount(index) - changeCount, rowCount)
+                    || isSignificantChange(currentRowCount - rowCount, rowCount);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final InternalIndex[] indexes;
+        private final long timestamp;
+        private final IndexStatistics[] indexStatistics;
+        private final Map<String, ColumnStatistics> statistics;
+
+        private Snapshot(InternalIndex[] indexes, long timestamp, IndexStatistics[] indexStatistics) {
+            this.indexes = indexes;
+            this.timestamp = timestamp;
+            this.indexStatistics = indexStatistics;
+            this.statistics = merge(indexStatistics);
+        }
+
+        private IndexStatistics get(InternalIndex index) {
+            for (IndexStatistics statistics : indexStatistics) {
+                if (statistics.index == index) {
+                    return statistics;
+                }
+            }
+
+            return null;
+        }
+
+        private boolean isStale(InternalIndex[] currentIndexes, long currentRowCount) {
+            if (!Arrays.equals(indexes, currentIndexes)) {
+                return true;
+            }
+
+            if (Clock.currentTimeMillis() - timestamp < MIN_REFRESH_INTERVAL_MILLIS) {
+                return false;
+            }
+
+            for (IndexStatistics statistics : indexStatistics) {
+                if (statistics.isStale(currentRowCount)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link ReliableMessageListener} which receives the messages of the
+ * reliable topic in batches, as they are read from the underlying
+ * ringbuffer, instead of one by one. The size of the batches is limited by
+ * the {@link com.hazelcast.config.ReliableTopicConfig#getReadBatchSize()}.
+ * <p>
+ * The {@link #storeSequence(long)} method is called with the sequence of the
+ * last message of the batch after the batch is processed, so a listener
+ * which continues after the stored sequence on restart receives each
+ * message at least once. The {@link #isTerminal(Throwable)} method is
+ * called with the exception thrown while processing the batch.
+ * <p>
+ * If a ReliableBatchMessageListener is registered on a normal topic, the
+ * messages are delivered one by one with the {@link #onMessage(Message)}
+ * method.
+ *
+ * @param <E> topic event type
+ * @since 5.3
+ */
+public interface ReliableBatchMessageListener<E> extends ReliableMessageListener<E> {
+
+    /**
+     * Invoked when a batch of messages is received for the topic. The
+     * messages are in the order they were published.
+     *
+     * @param messages the received messages, never empty
+     */
+    void onMessages(List<Message<E>> messages);
+
+    /**
+     * Delivers the given message as a batch of a single message.
+     *
+     * @param message the message that was received
+     */
+    @Override
+    default void onMessage(Message<E> message) {
+        onMessages(Collections.singletonList(message));
+    }
+}
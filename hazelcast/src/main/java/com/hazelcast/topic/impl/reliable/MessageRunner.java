@@ -26,9 +26,13 @@ import com.hazelcast.ringbuffer.Ringbuffer;
 import com.hazelcast.spi.exception.DistributedObjectDestroyedException;
 import com.hazelcast.topic.Message;
 import com.hazelcast.topic.MessageListener;
+import com.hazelcast.topic.ReliableBatchMessageListener;
 import com.hazelcast.topic.ReliableMessageListener;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
@@ -54,6 +58,8 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
     private final Executor executor;
     private final int batchSize;
     private volatile boolean cancelled;
+    // the read of the next batch, issued before the current one is processed
+    private volatile CompletionStage<ReadResultSet<ReliableTopicMessage>> nextBatch;
 
     public MessageRunner(UUID id,
                          ReliableMessageListener<E> listener,
@@ -83,11 +89,23 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
     }
 
     public void next() {
+        CompletionStage<ReadResultSet<ReliableTopicMessage>> nextBatch = readNextBatch();
+        if (nextBatch != null) {
+            nextBatch.whenCompleteAsync(this, executor);
+        }
+    }
+
+    private CompletionStage<ReadResultSet<ReliableTopicMessage>> readNextBatch() {
         if (cancelled) {
-            return;
+            return null;
+        }
+        CompletionStage<ReadResultSet<ReliableTopicMessage>> read = ringbuffer.readManyAsync(sequence, 1, batchSize, null);
+        nextBatch = read;
+        if (cancelled) {
+            // cancelled concurrently, cancel() may not have seen the read
+            read.toCompletableFuture().cancel(false);
         }
-        ringbuffer.readManyAsync(sequence, 1, batchSize, null)
-                  .whenCompleteAsync(this, executor);
+        return read;
     }
 
     @Override
@@ -106,22 +124,18 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
                 return;
             }
 
-            for (int i = 0; i < result.size(); i++) {
-                ReliableTopicMessage message = result.get(i);
-                try {
-                    listener.storeSequence(result.getSequence(i));
-                    listener.onMessage(toMessage(message));
-                } catch (Throwable t) {
-                    if (terminate(t)) {
-                        cancel();
-                        return;
-                    }
-                }
+            // the next batch is read while this one is being processed, so the
+            // listener doesn't wait for a round trip to the ringbuffer between batches
+            sequence = result.getNextSequenceToReadFrom();
+            CompletionStage<ReadResultSet<ReliableTopicMessage>> nextBatch = readNextBatch();
 
+            if (!process(result)) {
+                cancel();
+                return;
+            }
+            if (nextBatch != null) {
+                nextBatch.whenCompleteAsync(this, executor);
             }
-
-            sequence = result.getNextSequenceToReadFrom();
-            next();
         } else {
             throwable = adjustThrowable(throwable);
             if (handleInternalException(throwable)) {
@@ -132,6 +146,54 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
         }
     }
 
+    /**
+     * Delivers the messages of the given batch to the listener.
+     *
+     * @return {@code false} if the listener should be terminated
+     */
+    private boolean process(ReadResultSet<ReliableTopicMessage> result) {
+        if (listener instanceof ReliableBatchMessageListener) {
+            return processBatch((ReliableBatchMessageListener<E>) listener, result);
+        }
+        for (int i = 0; i < result.size(); i++) {
+            ReliableTopicMessage message = result.get(i);
+            try {
+                listener.storeSequence(result.getSequence(i));
+                listener.onMessage(toMessage(message));
+            } catch (Throwable t) {
+                if (terminate(t)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean processBatch(ReliableBatchMessageListener<E> batchListener, ReadResultSet<ReliableTopicMessage> result) {
+        if (result.size() == 0) {
+            return true;
+        }
+        try {
+            List<Message<E>> messages = new ArrayList<>(result.size());
+            for (int i = 0; i < result.size(); i++) {
+                messages.add(toMessage(result.get(i)));
+            }
+            batchListener.onMessages(messages);
+        } catch (Throwable t) {
+            if (terminate(t)) {
+                return false;
+            }
+        }
+        try {
+            // stored only once the batch is processed, so that a listener
+            // restarted after the stored sequence doesn't skip the batch
+            batchListener.storeSequence(result.getSequence(result.size() - 1));
+        } catch (Throwable t) {
+            return !terminate(t);
+        }
+        return true;
+    }
+
     private Message<E> toMessage(ReliableTopicMessage m) {
         Member member = getMember(m);
         E payload = serializationService.toObject(m.getPayload());
@@ -233,6 +295,11 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
     public void cancel() {
         cancelled = true;
         runnersMap.remove(id);
+        CompletionStage<ReadResultSet<ReliableTopicMessage>> read = nextBatch;
+        if (read != null) {
+            // the prefetched batch will not be processed
+            read.toCompletableFuture().cancel(false);
+        }
     }
 
     private boolean terminate(Throwable failure) {
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.ringbuffer.OverflowPolicy;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+import com.hazelcast.topic.TopicOverloadException;
+import com.hazelcast.topic.TopicOverloadPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+import static com.hazelcast.ringbuffer.impl.RingbufferProxy.MAX_BATCH_SIZE;
+import static com.hazelcast.topic.TopicOverloadPolicy.BLOCK;
+import static com.hazelcast.topic.TopicOverloadPolicy.DISCARD_OLDEST;
+import static com.hazelcast.topic.TopicOverloadPolicy.ERROR;
+import static com.hazelcast.topic.impl.reliable.ReliableTopicProxy.INITIAL_BACKOFF_MS;
+import static com.hazelcast.topic.impl.reliable.ReliableTopicProxy.MAX_BACKOFF;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Publishes single messages to the ringbuffer of a reliable topic,
+ * coalescing the messages published concurrently into batches.
+ * <p>
+ * At most one batch is being added to the ringbuffer at any time. The
+ * messages published while a batch is in flight are queued and added with
+ * a single {@link Ringbuffer#addAllAsync} call when the batch completes, so
+ * under load the number of round trips is a fraction of the number of the
+ * published messages, while a message published on an idle topic is added
+ * immediately. The messages are added in the order they were published.
+ * <p>
+ * The {@link TopicOverloadPolicy} of the topic applies to each message as
+ * if it was published alone: if a batch of several messages doesn't fit into
+ * the ringbuffer, its messages are added one by one, so that only the
+ * messages which don't fit are failed, discarded or retried.
+ */
+public class ReliableTopicPublisher {
+
+    private final Ringbuffer<ReliableTopicMessage> ringbuffer;
+    private final TopicOverloadPolicy overloadPolicy;
+    private final String topicName;
+    private final TaskScheduler scheduler;
+    private final Queue<PendingMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean publishing = new AtomicBoolean();
+
+    /**
+     * @param ringbuffer     the ringbuffer of the topic
+     * @param overloadPolicy the overload policy of the topic
+     * @param topicName      the name of the topic
+     * @param scheduler      the scheduler of the retries with the
+     *                       {@link TopicOverloadPolicy#BLOCK} policy and
+     *                       of the batches queued during a publish
+     */
+    public ReliableTopicPublisher(Ringbuffer<ReliableTopicMessage> ringbuffer, TopicOverloadPolicy overloadPolicy,
+                                  String topicName, TaskScheduler scheduler) {
+        this.ringbuffer = ringbuffer;
+        this.overloadPolicy = overloadPolicy;
+        this.topicName = topicName;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Publishes the given message.
+     *
+     * @param message the message
+     * @return the future completed when the message is added to the
+     * ringbuffer or discarded according to the overload policy
+     */
+    public InternalCompletableFuture<Void> publish(ReliableTopicMessage message) {
+        PendingMessage pendingMessage = new PendingMessage(message);
+        pendingMessages.add(pendingMessage);
+        tryPublishBatch();
+        return pendingMessage.future;
+    }
+
+    private void tryPublishBatch() {
+        // the messages queued after the previous batch cleared the flag are
+        // published by the thread which manages to set it
+        while (!pendingMessages.isEmpty() && publishing.compareAndSet(false, true)) {
+            List<PendingMessage> batch = drainBatch();
+            if (!batch.isEmpty()) {
+                publishBatch(batch, messagesOf(batch), INITIAL_BACKOFF_MS);
+                return;
+            }
+            publishing.set(false);
+        }
+    }
+
+    private List<PendingMessage> drainBatch() {
+        List<PendingMessage> batch = new ArrayList<>();
+        PendingMessage pendingMessage;
+        while (batch.size() < MAX_BATCH_SIZE && (pendingMessage = pendingMessages.poll()) != null) {
+            batch.add(pendingMessage);
+        }
+        return batch;
+    }
+
+    private void publishBatch(List<PendingMessage> batch, List<ReliableTopicMessage> messages, long pauseMillis) {
+        OverflowPolicy overflowPolicy = overloadPolicy == DISCARD_OLDEST ? OverflowPolicy.OVERWRITE : OverflowPolicy.FAIL;
+        try {
+            ringbuffer.addAllAsync(messages, overflowPolicy).whenCompleteAsync((id, t) -> {
+                if (t == null && id == -1 && batch.size() > 1) {
+                    // the batch doesn't fit, some of its messages may
+                    scheduler.execute(() -> publishIndividually(batch, 0, INITIAL_BACKOFF_MS));
+                } else if (t == null && id == -1 && overloadPolicy == BLOCK) {
+                    scheduler.schedule(() -> publishBatch(batch, messages, min(pauseMillis * 2, MAX_BACKOFF)),
+                            pauseMillis, MILLISECONDS);
+                } else {
+                    complete(batch, id, t);
+                    onPublished();
+                }
+            }, CALLER_RUNS);
+        } catch (Throwable t) {
+            complete(batch, null, t);
+            onPublished();
+        }
+    }
+
+    /**
+     * Adds the messages of the batch from the given index one by one, in
+     * order, each according to the overload policy.
+     */
+    private void publishIndividually(List<PendingMessage> batch, int index, long pauseMillis) {
+        if (index == batch.size()) {
+            onPublished();
+            return;
+        }
+        PendingMessage pendingMessage = batch.get(index);
+        try {
+            ringbuffer.addAsync(pendingMessage.message, OverflowPolicy.FAIL).whenCompleteAsync((id, t) -> {
+                if (t == null && id == -1 && overloadPolicy == BLOCK) {
+                    scheduler.schedule(() -> publishIndividually(batch, index, min(pauseMillis * 2, MAX_BACKOFF)),
+                            pauseMillis, MILLISECONDS);
+                } else {
+                    complete(pendingMessage, id, t);
+                    // the message may have been completed on a thread not allowed to make remote calls
+                    scheduler.execute(() -> publishIndividually(batch, index + 1, INITIAL_BACKOFF_MS));
+                }
+            }, CALLER_RUNS);
+        } catch (Throwable t) {
+            complete(pendingMessage, null, t);
+            publishIndividually(batch, index + 1, INITIAL_BACKOFF_MS);
+        }
+    }
+
+    private void onPublished() {
+        publishing.set(false);
+        if (!pendingMessages.isEmpty()) {
+            // the batch may have been completed on a thread not allowed to make remote calls
+            scheduler.execute(this::tryPublishBatch);
+        }
+    }
+
+    private void complete(List<PendingMessage> batch, Long id, Throwable t) {
+        for (PendingMessage pendingMessage : batch) {
+            complete(pendingMessage, id, t);
+        }
+    }
+
+    private void complete(PendingMessage pendingMessage, Long id, Throwable t) {
+        Throwable failure = t;
+        if (failure == null && id == -1 && overloadPolicy == ERROR) {
+            failure = new TopicOverloadException("Failed to publish message: " + pendingMessage.message
+                    + " on topic:" + topicName);
+        }
+        if (failure == null) {
+            pendingMessage.future.complete(null);
+        } else {
+            pendingMessage.future.completeExceptionally(failure);
+        }
+    }
+
+    private static List<ReliableTopicMessage> messagesOf(List<PendingMessage> batch) {
+        List<ReliableTopicMessage> messages = new ArrayList<>(batch.size());
+        for (PendingMessage pendingMessage : batch) {
+            messages.add(pendingMessage.message);
+        }
+        return messages;
+    }
+
+    private static final class PendingMessage {
+        final ReliableTopicMessage message;
+        final InternalCompletableFuture<Void> future = new InternalCompletableFuture<>();
+
+        PendingMessage(ReliableTopicMessage message) {
+            this.message = message;
+        }
+    }
+}
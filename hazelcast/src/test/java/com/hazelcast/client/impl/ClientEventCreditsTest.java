@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl;
+
+import com.hazelcast.internal.networking.nio.NioChannel;
+import com.hazelcast.internal.networking.nio.NioOutboundPipeline;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.client.impl.ClientEventCredits.REFILL_INTERVAL_MILLIS;
+import static com.hazelcast.test.HazelcastTestSupport.sleepMillis;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientEventCreditsTest {
+
+    private TcpServerConnection connection;
+    private NioOutboundPipeline outboundPipeline;
+
+    @Before
+    public void setup() {
+        outboundPipeline = mock(NioOutboundPipeline.class);
+        NioChannel channel = mock(NioChannel.class);
+        when(channel.outboundPipeline()).thenReturn(outboundPipeline);
+        connection = mock(TcpServerConnection.class);
+        when(connection.getChannel()).thenReturn(channel);
+    }
+
+    @Test
+    public void testTryAcquire_whenLimitIsDisabled() {
+        ClientEventCredits credits = new ClientEventCredits(connection, 0);
+
+        assertTrue(credits.tryAcquire());
+        verifyNoInteractions(outboundPipeline);
+    }
+
+    @Test
+    public void testTryAcquire_whenConnectionIsNotTcp() {
+        ClientEventCredits credits = new ClientEventCredits(mock(ServerConnection.class), 1);
+
+        assertTrue(credits.tryAcquire());
+        assertTrue(credits.tryAcquire());
+    }
+
+    @Test
+    public void testTryAcquire_countsPendingFramesOncePerRefill() {
+        when(outboundPipeline.totalFramesPending()).thenReturn(0);
+        ClientEventCredits credits = new ClientEventCredits(connection, 3);
+
+        assertTrue(credits.tryAcquire());
+        assertTrue(credits.tryAcquire());
+        assertTrue(credits.tryAcquire());
+        verify(outboundPipeline, times(1)).totalFramesPending();
+    }
+
+    @Test
+    public void testTryAcquire_whenConnectionIsCongested() {
+        when(outboundPipeline.totalFramesPending()).thenReturn(5);
+        ClientEventCredits credits = new ClientEventCredits(connection, 3);
+
+        assertFalse(credits.tryAcquire());
+
+        when(outboundPipeline.totalFramesPending()).thenReturn(1);
+        sleepMillis((int) REFILL_INTERVAL_MILLIS * 2);
+
+        assertTrue(credits.tryAcquire());
+        assertTrue(credits.tryAcquire());
+        verify(outboundPipeline, times(2)).totalFramesPending();
+    }
+}
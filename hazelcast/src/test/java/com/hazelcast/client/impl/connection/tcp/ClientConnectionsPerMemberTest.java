@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.Client;
+import com.hazelcast.client.ClientListener;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.connection.ClientConnectionManager;
+import com.hazelcast.client.impl.connection.ConnectionSelectionStrategy;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.spi.impl.operationparker.impl.OperationParkerImpl;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientConnectionsPerMemberTest extends ClientTestSupport {
+
+    private static final int CONNECTIONS_PER_MEMBER = 3;
+    private static final int ENTRY_COUNT = 1000;
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    @Before
+    public void setup() {
+        factory.newHazelcastInstance(smallInstanceConfig());
+        factory.newHazelcastInstance(smallInstanceConfig());
+    }
+
+    @After
+    public void cleanup() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testSecondaryConnectionsAreOpened() {
+        HazelcastInstance client = newClient(ConnectionSelectionStrategy.PARTITION_AFFINE, 0);
+
+        assertSecondaryConnectionsEventually(client);
+    }
+
+    @Test
+    public void testMapOperations_whenPartitionAffine() {
+        HazelcastInstance client = newClient(ConnectionSelectionStrategy.PARTITION_AFFINE, 0);
+        assertSecondaryConnectionsEventually(client);
+
+        assertMapOperations(client);
+    }
+
+    @Test
+    public void testMapOperations_whenRoundRobin() {
+        HazelcastInstance client = newClient(ConnectionSelectionStrategy.ROUND_ROBIN, 0);
+        assertSecondaryConnectionsEventually(client);
+
+        assertMapOperations(client);
+    }
+
+    @Test
+    public void testMapOperations_whenInFlightLimitIsSet() {
+        HazelcastInstance client = newClient(ConnectionSelectionStrategy.PARTITION_AFFINE, 4);
+        assertSecondaryConnectionsEventually(client);
+
+        assertMapOperations(client);
+
+        assertTrueEventually(() -> {
+            for (ClientConnection connection : getConnectionManager(client).getActiveConnections()) {
+                assertEquals(0, connection.getInFlightInvocations().get());
+                for (ClientConnection secondary : connection.getSecondaryConnections()) {
+                    assertEquals(0, secondary.getInFlightInvocations().get());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testListenerEventsAreReceived() {
+        HazelcastInstance client = newClient(ConnectionSelectionStrategy.ROUND_ROBIN, 0);
+        assertSecondaryConnectionsEventually(client);
+
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        CountDownLatch latch = new CountDownLatch(ENTRY_COUNT);
+        map.addEntryListener((EntryAddedListener<Integer, Integer>) event -> latch.countDown(), false);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        assertOpenEventually(latch);
+    }
+
+    @Test
+    public void testSecondaryConnectionIsReopened_whenClosed() {
+        HazelcastInstance client = newClient(ConnectionSelectionStrategy.ROUND_ROBIN, 0);
+        assertSecondaryConnectionsEventually(client);
+
+        ClientConnection connection = getConnectionManager(client).getActiveConnections().iterator().next();
+        ClientConnection secondary = connection.getSecondaryConnections()[0];
+        secondary.close("Test", null);
+
+        assertMapOperations(client);
+        assertSecondaryConnectionsEventually(client);
+        assertEquals(2, getConnectionManager(client).getActiveConnections().size());
+    }
+
+    @Test
+    public void testClientResourcesAreNotReleased_whenSecondaryConnectionIsClosed() throws Exception {
+        HazelcastInstance client = newClient(ConnectionSelectionStrategy.PARTITION_AFFINE, 0);
+        assertSecondaryConnectionsEventually(client);
+
+        AtomicInteger clientEvents = new AtomicInteger();
+        for (HazelcastInstance member : factory.getAllHazelcastInstances()) {
+            member.getClientService().addClientListener(new ClientListener() {
+                @Override
+                public void clientConnected(Client client) {
+                    clientEvents.incrementAndGet();
+                }
+
+                @Override
+                public void clientDisconnected(Client client) {
+                    clientEvents.incrementAndGet();
+                }
+            });
+        }
+
+        // the invocations of the partitions which are multiples of the connection
+        // count are sent over the primary connections with the partition affinity
+        String queueName = randomName();
+        while (client.getPartitionService().getPartition(queueName).getPartitionId() % CONNECTIONS_PER_MEMBER != 0) {
+            queueName = randomName();
+        }
+        IQueue<Integer> queue = client.getQueue(queueName);
+        Future<Integer> take = spawn(queue::take);
+        assertTrueEventually(() -> assertEquals(1, getTotalParkedOperationCount()));
+
+        for (ClientConnection connection : getConnectionManager(client).getActiveConnections()) {
+            for (ClientConnection secondary : connection.getSecondaryConnections()) {
+                secondary.close("Test", null);
+            }
+        }
+        assertSecondaryConnectionsEventually(client);
+
+        assertEquals(1, getTotalParkedOperationCount());
+        queue.offer(1);
+        assertEquals(1, (int) take.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        assertTrueAllTheTime(() -> assertEquals(0, clientEvents.get()), 3);
+    }
+
+    private int getTotalParkedOperationCount() {
+        int count = 0;
+        for (HazelcastInstance member : factory.getAllHazelcastInstances()) {
+            count += ((OperationParkerImpl) getNodeEngineImpl(member).getOperationParker()).getTotalParkedOperationCount();
+        }
+        return count;
+    }
+
+    private HazelcastInstance newClient(ConnectionSelectionStrategy strategy, int maxInFlightInvocations) {
+        ClientConfig config = new ClientConfig();
+        config.setProperty(ClientProperty.CONNECTIONS_PER_MEMBER.getName(), String.valueOf(CONNECTIONS_PER_MEMBER));
+        config.setProperty(ClientProperty.CONNECTION_SELECTION_STRATEGY.getName(), strategy.name());
+        config.setProperty(ClientProperty.MAX_IN_FLIGHT_INVOCATIONS_PER_CONNECTION.getName(),
+                String.valueOf(maxInFlightInvocations));
+        HazelcastInstance client = factory.newHazelcastClient(config);
+        makeSureConnectedToServers(client, 2);
+        return client;
+    }
+
+    private static ClientConnectionManager getConnectionManager(HazelcastInstance client) {
+        HazelcastClientInstanceImpl clientImpl = getHazelcastClientInstanceImpl(client);
+        return clientImpl.getConnectionManager();
+    }
+
+    private void assertSecondaryConnectionsEventually(HazelcastInstance client) {
+        assertTrueEventually(() -> {
+            for (ClientConnection connection : getConnectionManager(client).getActiveConnections()) {
+                ClientConnection[] secondaryConnections = connection.getSecondaryConnections();
+                assertNotNull(secondaryConnections);
+                assertEquals(CONNECTIONS_PER_MEMBER - 1, secondaryConnections.length);
+                for (ClientConnection secondaryConnection : secondaryConnections) {
+                    assertEquals(connection.getRemoteUuid(), secondaryConnection.getRemoteUuid());
+                }
+            }
+        });
+    }
+
+    private void assertMapOperations(HazelcastInstance client) {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        List<CompletionStage<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map.setAsync(i, i));
+        }
+        for (CompletionStage<Void> future : futures) {
+            future.toCompletableFuture().join();
+        }
+
+        assertEquals(ENTRY_COUNT, map.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+}
@@ -32,6 +32,8 @@ import java.util.Random;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -198,6 +200,52 @@ public class ClientMessageReaderTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void testReadFramesWithoutContent_shareEmptyContent() {
+        ClientMessage message = ClientMessage.createForEncode();
+        message.add(createFrameWithRandomBytes(10));
+        message.add(ClientMessage.BEGIN_FRAME.copy());
+        message.add(ClientMessage.NULL_FRAME.copy());
+        message.add(ClientMessage.END_FRAME.copy());
+
+        ByteBuffer buffer = writeToBuffer(message);
+
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+
+        ClientMessage.ForwardFrameIterator iterator = reader.getClientMessage().frameIterator();
+        iterator.next();
+        assertTrue(iterator.next().isBeginFrame());
+        ClientMessage.Frame nullFrame = iterator.next();
+        assertTrue(nullFrame.isNullFrame());
+        assertSame(ClientMessage.EMPTY_FRAME_CONTENT, nullFrame.content);
+        assertTrue(iterator.next().isEndFrame());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testReadMultipleMessages_whenReaderIsReset() {
+        ClientMessage message = ClientMessage.createForEncode();
+        message.add(createFrameWithRandomBytes(60));
+        ByteBuffer buffer = ByteBuffer.allocate(2 * message.getFrameLength());
+        ClientMessageWriter writer = new ClientMessageWriter();
+        writer.writeTo(buffer, message);
+        writer.writeTo(buffer, message);
+        upcast(buffer).flip();
+
+        // the limit of untrusted messages applies per message, not to the sum of all messages
+        ClientMessageReader reader = new ClientMessageReader(100);
+        assertTrue(reader.readFrom(buffer, false));
+        ClientMessage first = reader.getClientMessage();
+        reader.reset();
+        assertTrue(reader.readFrom(buffer, false));
+        ClientMessage second = reader.getClientMessage();
+
+        assertNotSame(first, second);
+        assertArrayEquals(first.getStartFrame().content, second.getStartFrame().content);
+        assertFalse(buffer.hasRemaining());
+    }
+
     private ClientMessage.Frame createFrameWithRandomBytes(int contentLength) {
         byte[] content = new byte[contentLength];
         random.nextBytes(content);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.replicatedmap.ReplicatedMap;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.test.Accessors.getOperationService;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientInvocationHedgingTest extends ClientTestSupport {
+
+    private static final int ENTRY_COUNT = 500;
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private HazelcastInstance[] members;
+    private HazelcastInstance client;
+    private ClientInvocationHedger hedger;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig()
+                .addMapConfig(new MapConfig("backup-read-*").setReadBackupData(true));
+        members = new HazelcastInstance[]{hazelcastFactory.newHazelcastInstance(config),
+                hazelcastFactory.newHazelcastInstance(config)};
+
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setProperty(ClientProperty.INVOCATION_HEDGING_ENABLED.getName(), "true");
+        // hedge almost every read once enough latency samples are collected
+        clientConfig.setProperty(ClientProperty.INVOCATION_HEDGING_PERCENTILE.getName(), "1");
+        client = hazelcastFactory.newHazelcastClient(clientConfig);
+        makeSureConnectedToServers(client, 2);
+
+        HazelcastClientInstanceImpl clientImpl = getHazelcastClientInstanceImpl(client);
+        hedger = ((ClientInvocationServiceImpl) clientImpl.getInvocationService()).getHedger();
+    }
+
+    @After
+    public void cleanup() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testMapGet() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+            assertEquals(i, (int) map.getAsync(i).toCompletableFuture().join());
+        }
+
+        assertTrueEventually(() -> assertTrue(hedger.getHedgedInvocationCount() > 0));
+    }
+
+    @Test
+    public void testMapGet_whenOwnerIsBlocked_thenServedFromBackup() throws Exception {
+        IMap<Object, Object> map = client.getMap("backup-read-" + randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+        String key = generateKeyOwnedBy(members[0]);
+        map.set(key, "value");
+
+        CountDownLatch unblock = new CountDownLatch(1);
+        int partitionId = members[0].getPartitionService().getPartition(key).getPartitionId();
+        getOperationService(members[0]).execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                assertOpenEventually(unblock);
+            }
+        });
+
+        try {
+            assertEquals("value", map.getAsync(key).toCompletableFuture().get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        } finally {
+            unblock.countDown();
+        }
+
+        // the late response of the owner is dropped
+        assertTrueEventually(() -> assertEquals(0, hedger.getAbandonedInvocationCount()));
+    }
+
+    @Test
+    public void testReplicatedMapGet() {
+        ReplicatedMap<Integer, Integer> map = client.getReplicatedMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+
+        assertTrueEventually(() -> assertTrue(hedger.getHedgedInvocationCount() > 0));
+    }
+
+    @Test
+    public void testLatencyIsTrackedPerMember() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        for (HazelcastInstance member : members) {
+            UUID memberUuid = member.getCluster().getLocalMember().getUuid();
+            assertTrue(hedger.getLatencyTracker().hedgeDelayMicros(memberUuid) >= 0);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.util;
+
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.client.util.ListenerEventPublisher.Subscriber;
+import com.hazelcast.client.util.ListenerEventPublisher.Subscription;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ListenerEventPublisherTest extends ClientTestSupport {
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void cleanup() {
+        executor.shutdownNow();
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testEvents_deliveredAsRequested() {
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(publisher.offer(i));
+        }
+
+        subscriber.request(2);
+        assertTrueEventually(() -> assertEquals(asList(0, 1), subscriber.events));
+        assertTrueAllTheTime(() -> assertEquals(2, subscriber.events.size()), 1);
+        assertEquals(3, publisher.getBufferedEventCount());
+
+        subscriber.request(3);
+        assertTrueEventually(() -> assertEquals(asList(0, 1, 2, 3, 4), subscriber.events));
+        assertEquals(0, publisher.getBufferedEventCount());
+    }
+
+    @Test
+    public void testEvents_droppedWhenBufferIsFull() {
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 3);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        for (int i = 0; i < 5; i++) {
+            publisher.offer(i);
+        }
+
+        assertEquals(2, publisher.getDroppedEventCount());
+        subscriber.request(Long.MAX_VALUE);
+        assertTrueEventually(() -> assertEquals(asList(0, 1, 2), subscriber.events));
+    }
+
+    @Test
+    public void testClose_completesAfterBufferedEvents() {
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        publisher.offer(1);
+        publisher.close();
+
+        assertFalse(publisher.offer(2));
+        assertFalse(subscriber.completed.get());
+        subscriber.request(1);
+        assertTrueEventually(() -> assertTrue(subscriber.completed.get()));
+        assertEquals(asList(1), subscriber.events);
+    }
+
+    @Test
+    public void testCancel_stopsDelivery() {
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        publisher.offer(1);
+        subscriber.request(1);
+
+        assertTrueAllTheTime(() -> assertTrue(subscriber.events.isEmpty()), 1);
+        assertEquals(0, publisher.getBufferedEventCount());
+    }
+
+    @Test
+    public void testSubscriberFailure_reportedToOnError() {
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer event) {
+                throw new IllegalStateException("expected");
+            }
+        };
+        publisher.subscribe(subscriber);
+        publisher.offer(1);
+        subscriber.request(1);
+
+        assertTrueEventually(() -> assertTrue(subscriber.error.get() instanceof IllegalStateException));
+    }
+
+    @Test
+    public void testInvalidRequest_reportedToOnError() {
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(0);
+
+        assertTrueEventually(() -> assertTrue(subscriber.error.get() instanceof IllegalArgumentException));
+    }
+
+    @Test
+    public void testSecondSubscriber_rejected() {
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 10);
+        publisher.subscribe(new RecordingSubscriber<>());
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.error.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testRejectedExecution_reportedToOnError() {
+        executor.shutdown();
+        ListenerEventPublisher<Integer> publisher = new ListenerEventPublisher<>(executor, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.error.get() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void testEntryListenerEvents() {
+        hazelcastFactory.newHazelcastInstance();
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient();
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        ListenerEventPublisher<EntryEvent<Integer, Integer>> publisher = new ListenerEventPublisher<>(executor, 100);
+        RecordingSubscriber<EntryEvent<Integer, Integer>> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        map.addEntryListener((EntryAddedListener<Integer, Integer>) publisher::offer, true);
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        assertTrueEventually(() -> assertEquals(10, publisher.getBufferedEventCount()));
+        subscriber.request(10);
+
+        assertTrueEventually(() -> assertEquals(10, subscriber.events.size()));
+        assertEquals(0, publisher.getDroppedEventCount());
+    }
+
+    private static class RecordingSubscriber<E> implements Subscriber<E> {
+
+        final List<E> events = new CopyOnWriteArrayList<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final AtomicBoolean completed = new AtomicBoolean();
+        volatile Subscription subscription;
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(E event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.set(true);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ArrayItemQueueTest {
+
+    private final ArrayItemQueue queue = new ArrayItemQueue(4);
+
+    @Test
+    public void testOfferAndPoll_whenWrappingAndGrowing() {
+        for (int i = 0; i < 3; i++) {
+            queue.offer(item(i));
+        }
+        queue.poll();
+        queue.poll();
+        for (int i = 3; i < 20; i++) {
+            queue.offer(item(i));
+        }
+
+        assertEquals(18, queue.size());
+        assertEquals(19, queue.peekLast().getItemId());
+        for (int i = 2; i < 20; i++) {
+            assertEquals(i, queue.poll().getItemId());
+        }
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        assertNull(queue.peekLast());
+    }
+
+    @Test
+    public void testInsertOrdered() {
+        queue.offer(item(2));
+        queue.offer(item(4));
+        queue.offer(item(6));
+        queue.poll();
+        queue.offer(item(8));
+
+        queue.insertOrdered(item(1));
+        queue.insertOrdered(item(5));
+        queue.insertOrdered(item(9));
+
+        assertEquals(ids(1, 4, 5, 6, 8, 9), idsOf(queue));
+    }
+
+    @Test
+    public void testInsertOrdered_whenWrapping() {
+        for (int i = 1; i <= 4; i++) {
+            queue.offer(item(2 * i));
+        }
+
+        // inserted at the head, which wraps around the array
+        queue.insertOrdered(item(1));
+        // inserted closer to the head
+        queue.insertOrdered(item(3));
+        // inserted closer to the tail
+        queue.insertOrdered(item(7));
+
+        assertEquals(ids(1, 2, 3, 4, 6, 7, 8), idsOf(queue));
+        assertEquals(1, queue.poll().getItemId());
+        assertEquals(8, queue.peekLast().getItemId());
+    }
+
+    @Test
+    public void testAddAll() {
+        List<QueueItem> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(item(i));
+        }
+
+        assertTrue(queue.addAll(items));
+
+        assertEquals(100, queue.size());
+        assertEquals(0, queue.peek().getItemId());
+        assertEquals(99, queue.peekLast().getItemId());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        for (int i = 0; i < 5; i++) {
+            queue.offer(item(i));
+        }
+
+        Iterator<QueueItem> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getItemId() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(ids(0, 2, 4), idsOf(queue));
+    }
+
+    @Test
+    public void testIteratorRemove_closerToHeadAndTail() {
+        for (int i = 0; i < 8; i++) {
+            queue.offer(item(i));
+        }
+
+        Iterator<QueueItem> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            long itemId = iterator.next().getItemId();
+            if (itemId == 0 || itemId == 2 || itemId == 6) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(ids(1, 3, 4, 5, 7), idsOf(queue));
+        queue.offer(item(8));
+        assertEquals(ids(1, 3, 4, 5, 7, 8), idsOf(queue));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemove_whenNextNotCalled() {
+        queue.offer(item(0));
+
+        queue.iterator().remove();
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 5; i++) {
+            queue.offer(item(i));
+        }
+
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        queue.offer(item(7));
+        assertEquals(7, queue.poll().getItemId());
+    }
+
+    private static QueueItem item(long itemId) {
+        return new QueueItem(null, itemId, null);
+    }
+
+    private static List<Long> ids(long... itemIds) {
+        List<Long> ids = new ArrayList<>();
+        for (long itemId : itemIds) {
+            ids.add(itemId);
+        }
+        return ids;
+    }
+
+    private static List<Long> idsOf(ArrayItemQueue queue) {
+        List<Long> ids = new ArrayList<>();
+        for (QueueItem item : queue) {
+            ids.add(item.getItemId());
+        }
+        return ids;
+    }
+}
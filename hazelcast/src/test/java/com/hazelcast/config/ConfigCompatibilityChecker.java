@@ -757,6 +757,9 @@ public class ConfigCompatibilityChecker {
                             && r1.getMaxMissedLeaderHeartbeatCount() == r2.getMaxMissedLeaderHeartbeatCount()
                             && r1.getCommitIndexAdvanceCountToSnapshot() == r2.getCommitIndexAdvanceCountToSnapshot()
                             && r1.getAppendRequestBackoffTimeoutInMillis() == r2.getAppendRequestBackoffTimeoutInMillis()
+                            && r1.isLeaderLeaseEnabled() == r2.isLeaderLeaseEnabled()
+                            && r1.getLeaderLeaseClockDriftInMillis() == r2.getLeaderLeaseClockDriftInMillis()
+                            && r1.isFollowerReadsEnabled() == r2.isFollowerReadsEnabled()
                             && r1.getUncommittedEntryCountToRejectNewAppends() == r2.getUncommittedEntryCountToRejectNewAppends());
 
             if (!raftAlgorithmConfigEqual) {
@@ -1118,7 +1118,10 @@ public class ConfigXmlGeneratorTest extends HazelcastTestSupport {
                 .setAppendRequestMaxEntryCount(25)
                 .setAppendRequestMaxEntryCount(250)
                 .setUncommittedEntryCountToRejectNewAppends(75)
-                .setAppendRequestBackoffTimeoutInMillis(50);
+                .setAppendRequestBackoffTimeoutInMillis(50)
+                .setLeaderLeaseEnabled(true)
+                .setLeaderLeaseClockDriftInMillis(200)
+                .setFollowerReadsEnabled(true);
 
         config.getCPSubsystemConfig()
                 .addSemaphoreConfig(new SemaphoreConfig("sem1", true, 1))
@@ -3903,6 +3903,9 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
                 + "    <commit-index-advance-count-to-snapshot>250</commit-index-advance-count-to-snapshot>\n"
                 + "    <uncommitted-entry-count-to-reject-new-appends>75</uncommitted-entry-count-to-reject-new-appends>\n"
                 + "    <append-request-backoff-timeout-in-millis>50</append-request-backoff-timeout-in-millis>\n"
+                + "    <leader-lease-enabled>true</leader-lease-enabled>\n"
+                + "    <leader-lease-clock-drift-in-millis>200</leader-lease-clock-drift-in-millis>\n"
+                + "    <follower-reads-enabled>true</follower-reads-enabled>\n"
                 + "  </raft-algorithm>\n"
                 + "  <semaphores>\n"
                 + "    <semaphore>\n"
@@ -3948,6 +3951,9 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertEquals(250, raftAlgorithmConfig.getCommitIndexAdvanceCountToSnapshot());
         assertEquals(75, raftAlgorithmConfig.getUncommittedEntryCountToRejectNewAppends());
         assertEquals(50, raftAlgorithmConfig.getAppendRequestBackoffTimeoutInMillis());
+        assertTrue(raftAlgorithmConfig.isLeaderLeaseEnabled());
+        assertEquals(200, raftAlgorithmConfig.getLeaderLeaseClockDriftInMillis());
+        assertTrue(raftAlgorithmConfig.isFollowerReadsEnabled());
         SemaphoreConfig semaphoreConfig1 = cpSubsystemConfig.findSemaphoreConfig("sem1");
         SemaphoreConfig semaphoreConfig2 = cpSubsystemConfig.findSemaphoreConfig("sem2");
         assertNotNull(semaphoreConfig1);
@@ -4187,6 +4187,9 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
                 + "      commit-index-advance-count-to-snapshot: 250\n"
                 + "      uncommitted-entry-count-to-reject-new-appends: 75\n"
                 + "      append-request-backoff-timeout-in-millis: 50\n"
+                + "      leader-lease-enabled: true\n"
+                + "      leader-lease-clock-drift-in-millis: 200\n"
+                + "      follower-reads-enabled: true\n"
                 + "    semaphores:\n"
                 + "      sem1:\n"
                 + "        jdk-compatible: true\n"
@@ -4219,6 +4222,9 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertEquals(250, raftAlgorithmConfig.getCommitIndexAdvanceCountToSnapshot());
         assertEquals(75, raftAlgorithmConfig.getUncommittedEntryCountToRejectNewAppends());
         assertEquals(50, raftAlgorithmConfig.getAppendRequestBackoffTimeoutInMillis());
+        assertTrue(raftAlgorithmConfig.isLeaderLeaseEnabled());
+        assertEquals(200, raftAlgorithmConfig.getLeaderLeaseClockDriftInMillis());
+        assertTrue(raftAlgorithmConfig.isFollowerReadsEnabled());
         SemaphoreConfig semaphoreConfig1 = cpSubsystemConfig.findSemaphoreConfig("sem1");
         SemaphoreConfig semaphoreConfig2 = cpSubsystemConfig.findSemaphoreConfig("sem2");
         assertNotNull(semaphoreConfig1);
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.internal.raft.impl.dataservice.RaftDataService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.hazelcast.cp.internal.raft.QueryPolicy.LINEARIZABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RaftInvocationManagerFollowerReadTest extends HazelcastRaftTestSupport {
+
+    private HazelcastInstance[] instances;
+
+    @Override
+    protected Config createConfig(int cpNodeCount, int groupSize) {
+        Config config = super.createConfig(cpNodeCount, groupSize);
+        config.getCPSubsystemConfig().getRaftAlgorithmConfig().setFollowerReadsEnabled(true);
+        return config;
+    }
+
+    @Test
+    public void when_linearizableQueryFromFollower_thenReadLatestValue() throws Exception {
+        int nodeCount = 3;
+        instances = newInstances(nodeCount);
+
+        RaftInvocationManager invocationService = getRaftInvocationManager(instances[0]);
+        CPGroupId groupId = invocationService.createRaftGroup("test", nodeCount).get();
+        HazelcastInstance follower = getRandomFollowerInstance(instances, groupId);
+        RaftInvocationManager followerInvocationService = getRaftInvocationManager(follower);
+
+        for (int i = 0; i < 5; i++) {
+            String value = "value" + i;
+            invocationService.invoke(groupId, new RaftTestApplyOp(value)).get();
+            assertEquals(value, followerInvocationService.query(groupId, new RaftTestQueryOp(), LINEARIZABLE).get());
+        }
+    }
+
+    @Test
+    public void when_linearizableQueryFromNonCPMember_thenReadLatestValue() throws Exception {
+        int cpNodeCount = 3;
+        instances = newInstances(cpNodeCount, cpNodeCount, 1);
+
+        RaftInvocationManager invocationService = getRaftInvocationManager(instances[0]);
+        CPGroupId groupId = invocationService.createRaftGroup("test", cpNodeCount).get();
+
+        String value = "value";
+        invocationService.invoke(groupId, new RaftTestApplyOp(value)).get();
+
+        RaftInvocationManager nonCPInvocationService = getRaftInvocationManager(instances[cpNodeCount]);
+        assertEquals(value, nonCPInvocationService.query(groupId, new RaftTestQueryOp(), LINEARIZABLE).get());
+    }
+
+    @Test
+    public void when_linearizableQueriesFromNonCPMember_thenServedByFollowers() throws Exception {
+        int cpNodeCount = 3;
+        instances = newInstances(cpNodeCount, cpNodeCount, 1);
+
+        RaftInvocationManager invocationService = getRaftInvocationManager(instances[0]);
+        CPGroupId groupId = invocationService.createRaftGroup("test", cpNodeCount).get();
+        invocationService.invoke(groupId, new RaftTestApplyOp("value")).get();
+
+        RaftInvocationManager nonCPInvocationService = getRaftInvocationManager(instances[cpNodeCount]);
+        Set<UUID> servingMembers = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            servingMembers.add(nonCPInvocationService.<UUID>query(groupId, new LocalMemberQueryOp(), LINEARIZABLE).get());
+        }
+
+        assertTrue("members: " + servingMembers, servingMembers.size() > 1);
+    }
+
+    public static class LocalMemberQueryOp extends RaftOp {
+
+        @Override
+        public Object run(CPGroupId groupId, long commitIndex) {
+            return getNodeEngine().getLocalMember().getUuid();
+        }
+
+        @Override
+        public String getServiceName() {
+            return RaftDataService.SERVICE_NAME;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) {
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) {
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.IAtomicLong;
+import com.hazelcast.cp.ISemaphore;
+import com.hazelcast.cp.internal.datastructures.atomiclong.operation.AddAndGetOp;
+import com.hazelcast.cp.internal.datastructures.atomiclong.proxy.AtomicLongProxy;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+import static com.hazelcast.cp.internal.RaftOpBatcher.RAFT_OP_BATCH_MAX_SIZE;
+import static com.hazelcast.cp.internal.raft.impl.RaftUtil.getCommitIndex;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RaftOpBatcherTest extends HazelcastRaftTestSupport {
+
+    private HazelcastInstance[] instances;
+
+    @Before
+    public void setup() {
+        instances = newInstances(3);
+    }
+
+    @Override
+    protected Config createConfig(int cpNodeCount, int groupSize) {
+        Config config = super.createConfig(cpNodeCount, groupSize);
+        config.setProperty(RAFT_OP_BATCH_MAX_SIZE.getName(), "16");
+        return config;
+    }
+
+    @Test
+    public void when_concurrentIncrements_thenEachCallerGetsItsOwnResult() throws Exception {
+        int count = 500;
+        IAtomicLong atomicLong = instances[0].getCPSubsystem().getAtomicLong("long");
+        atomicLong.get();
+        CPGroupId groupId = ((AtomicLongProxy) atomicLong).getGroupId();
+        long initialCommitIndex = getCommitIndex(getLeaderNode(instances, groupId));
+
+        List<CompletionStage<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(atomicLong.incrementAndGetAsync());
+        }
+
+        Set<Long> results = new HashSet<>();
+        for (CompletionStage<Long> future : futures) {
+            results.add(future.toCompletableFuture().get());
+        }
+
+        assertEquals(count, results.size());
+        for (long i = 1; i <= count; i++) {
+            assertTrue(results.contains(i));
+        }
+        assertEquals(count, atomicLong.get());
+        long committedEntries = getCommitIndex(getLeaderNode(instances, groupId)) - initialCommitIndex;
+        assertTrue("Committed entries: " + committedEntries, committedEntries < count);
+    }
+
+    @Test
+    public void when_batchedOperationsWithMixedDeserialization_thenEachCallerGetsItsOwnResult() throws Exception {
+        int count = 100;
+        IAtomicLong atomicLong = instances[0].getCPSubsystem().getAtomicLong("long");
+        atomicLong.get();
+        CPGroupId groupId = ((AtomicLongProxy) atomicLong).getGroupId();
+        RaftInvocationManager invocationManager = getRaftInvocationManager(instances[0]);
+
+        SerializationService serializationService = getNodeEngineImpl(instances[0]).getSerializationService();
+
+        List<InternalCompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(invocationManager.invoke(groupId, new AddAndGetOp("long", 1), i % 2 == 0));
+        }
+
+        Set<Long> results = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            Object result = futures.get(i).get();
+            if (i % 2 == 0 || !(result instanceof Data)) {
+                // an operation sent alone and committed by the local
+                // leader returns the object as is
+                results.add(assertInstanceOf(Long.class, result));
+            } else {
+                results.add(serializationService.toObject(result));
+            }
+        }
+
+        assertEquals(count, results.size());
+        assertEquals(count, atomicLong.get());
+    }
+
+    @Test
+    public void when_concurrentSemaphoreTryAcquireAndRelease_thenPermitsPreserved() throws Exception {
+        int permits = 5;
+        ISemaphore semaphore = instances[0].getCPSubsystem().getSemaphore("semaphore");
+        semaphore.init(permits);
+
+        List<Future> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(spawn(() -> {
+                for (int j = 0; j < 25; j++) {
+                    if (semaphore.tryAcquire()) {
+                        semaphore.release();
+                    }
+                }
+            }));
+        }
+
+        for (Future future : futures) {
+            future.get();
+        }
+
+        assertEquals(permits, semaphore.availablePermits());
+    }
+
+    @Test
+    public void when_batchedOperationFails_thenOtherOperationsSucceed() throws Exception {
+        int count = 100;
+        IAtomicLong atomicLong = instances[0].getCPSubsystem().getAtomicLong("long");
+        ISemaphore semaphore = instances[0].getCPSubsystem().getSemaphore("semaphore");
+        semaphore.init(2);
+        semaphore.acquire();
+
+        List<CompletionStage<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(atomicLong.incrementAndGetAsync());
+        }
+
+        try {
+            // the caller holds only 1 permit
+            semaphore.release(2);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        for (CompletionStage<Long> future : futures) {
+            future.toCompletableFuture().get();
+        }
+
+        assertEquals(count, atomicLong.get());
+        assertEquals(1, semaphore.availablePermits());
+    }
+}
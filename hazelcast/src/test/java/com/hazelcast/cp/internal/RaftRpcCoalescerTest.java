@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.IAtomicLong;
+import com.hazelcast.cp.internal.datastructures.atomiclong.proxy.AtomicLongProxy;
+import com.hazelcast.cp.internal.operation.integration.AsyncRaftOp;
+import com.hazelcast.cp.internal.operation.integration.RaftRpcBatchOp;
+import com.hazelcast.cp.internal.operation.integration.TriggerLeaderElectionOp;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.spi.properties.ClusterProperty.RAFT_RPC_COALESCING_DELAY_MILLIS;
+import static org.junit.Assert.assertEquals;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RaftRpcCoalescerTest extends HazelcastRaftTestSupport {
+
+    private static final int BATCH_PARTITION_ID = 7;
+
+    private HazelcastInstance[] instances;
+
+    private final OperationServiceImpl operationService = mock(OperationServiceImpl.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+    @Override
+    protected Config createConfig(int cpNodeCount, int groupSize) {
+        Config config = super.createConfig(cpNodeCount, groupSize);
+        config.setProperty(RAFT_RPC_COALESCING_DELAY_MILLIS.getName(), "5");
+        return config;
+    }
+
+    @Test
+    public void when_coalescingDelaySet_thenCoalescerEnabled() {
+        instances = newInstances(3);
+
+        for (HazelcastInstance instance : instances) {
+            assertTrue(getRaftService(instance).getRpcCoalescer().isEnabled());
+        }
+    }
+
+    @Test
+    public void when_multipleGroupsShareMembers_thenOperationsCommitted() {
+        int groupCount = 5;
+        instances = newInstances(3);
+
+        List<IAtomicLong> atomicLongs = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            atomicLongs.add(instances[i % instances.length].getCPSubsystem().getAtomicLong("long@group" + i));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            for (IAtomicLong atomicLong : atomicLongs) {
+                atomicLong.incrementAndGet();
+            }
+        }
+
+        for (IAtomicLong atomicLong : atomicLongs) {
+            assertEquals(10, atomicLong.get());
+        }
+    }
+
+    @Test
+    public void when_heartbeatsCoalesced_thenLeadersRemainStable() {
+        instances = newInstances(3);
+
+        IAtomicLong atomicLong1 = instances[0].getCPSubsystem().getAtomicLong("long@group1");
+        IAtomicLong atomicLong2 = instances[0].getCPSubsystem().getAtomicLong("long@group2");
+        atomicLong1.incrementAndGet();
+        atomicLong2.incrementAndGet();
+
+        CPGroupId groupId1 = ((AtomicLongProxy) atomicLong1).getGroupId();
+        CPGroupId groupId2 = ((AtomicLongProxy) atomicLong2).getGroupId();
+        HazelcastInstance leader1 = getLeaderInstance(instances, groupId1);
+        HazelcastInstance leader2 = getLeaderInstance(instances, groupId2);
+
+        assertTrueAllTheTime(() -> {
+            assertEquals(leader1, getLeaderInstance(instances, groupId1));
+            assertEquals(leader2, getLeaderInstance(instances, groupId2));
+        }, 5);
+    }
+
+    @Test
+    public void when_rpcsSentToSameMember_thenSentInSingleBatchOp() throws Exception {
+        RaftRpcCoalescer coalescer = newCoalescer();
+        Address target = new Address("127.0.0.1", 5701);
+
+        List<AsyncRaftOp> operations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            AsyncRaftOp operation = new TriggerLeaderElectionOp(new RaftGroupId("group" + i, 0, i), null);
+            operations.add(operation);
+            assertTrue(coalescer.send(operation, target));
+        }
+
+        ArgumentCaptor<Runnable> batchTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(batchTask.capture(), eq(5L), eq(MILLISECONDS));
+        verify(operationService, never()).send(any(Operation.class), any(Address.class));
+
+        batchTask.getValue().run();
+
+        ArgumentCaptor<Operation> sent = ArgumentCaptor.forClass(Operation.class);
+        verify(operationService).send(sent.capture(), eq(target));
+        RaftRpcBatchOp batchOp = assertInstanceOf(RaftRpcBatchOp.class, sent.getValue());
+        assertEquals(operations, batchOp.getOperations());
+        assertEquals(BATCH_PARTITION_ID, batchOp.getPartitionId());
+    }
+
+    @Test
+    public void when_singleRpcSent_thenSentInBatchOpOnSamePartition() throws Exception {
+        RaftRpcCoalescer coalescer = newCoalescer();
+        Address target = new Address("127.0.0.1", 5701);
+        AsyncRaftOp operation = new TriggerLeaderElectionOp(new RaftGroupId("group", 0, 1), null);
+        operation.setPartitionId(3);
+
+        coalescer.send(operation, target);
+        ArgumentCaptor<Runnable> batchTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(batchTask.capture(), eq(5L), eq(MILLISECONDS));
+        batchTask.getValue().run();
+
+        // a single RPC sent directly would run on the partition thread of
+        // its group and could overtake the RPCs of a previous batch
+        ArgumentCaptor<Operation> sent = ArgumentCaptor.forClass(Operation.class);
+        verify(operationService).send(sent.capture(), eq(target));
+        RaftRpcBatchOp batchOp = assertInstanceOf(RaftRpcBatchOp.class, sent.getValue());
+        assertEquals(singletonList(operation), batchOp.getOperations());
+        assertEquals(BATCH_PARTITION_ID, batchOp.getPartitionId());
+    }
+
+    @Test
+    public void when_memberRemoved_thenBatchRemoved() throws Exception {
+        RaftRpcCoalescer coalescer = newCoalescer();
+        Address target = new Address("127.0.0.1", 5701);
+
+        coalescer.send(new TriggerLeaderElectionOp(new RaftGroupId("group", 0, 1), null), target);
+        coalescer.memberRemoved(target);
+        coalescer.send(new TriggerLeaderElectionOp(new RaftGroupId("group", 0, 1), null), target);
+
+        // the second RPC is added to a new batch, which is scheduled separately
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), eq(5L), eq(MILLISECONDS));
+    }
+
+    private RaftRpcCoalescer newCoalescer() {
+        Config config = new Config().setProperty(RAFT_RPC_COALESCING_DELAY_MILLIS.getName(), "5");
+        NodeEngineImpl nodeEngine = mock(NodeEngineImpl.class, RETURNS_DEEP_STUBS);
+        when(nodeEngine.getOperationService()).thenReturn(operationService);
+        when(nodeEngine.getExecutionService().getGlobalTaskScheduler()).thenReturn(taskScheduler);
+        when(nodeEngine.getProperties()).thenReturn(new HazelcastProperties(config));
+        when(nodeEngine.getPartitionService().getPartitionId(any(Object.class))).thenReturn(BATCH_PARTITION_ID);
+        return new RaftRpcCoalescer(nodeEngine);
+    }
+}
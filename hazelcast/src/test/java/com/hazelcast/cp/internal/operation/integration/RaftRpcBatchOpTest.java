@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.operation.integration;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cp.internal.CPMemberInfo;
+import com.hazelcast.cp.internal.RaftGroupId;
+import com.hazelcast.cp.internal.raft.impl.RaftEndpoint;
+import com.hazelcast.cp.internal.raft.impl.dto.AppendSuccessResponse;
+import com.hazelcast.cp.internal.raft.impl.dto.VoteRequest;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static com.hazelcast.test.HazelcastTestSupport.assertInstanceOf;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RaftRpcBatchOpTest {
+
+    private static final InternalSerializationService SERIALIZATION_SERVICE =
+            new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testSerialization() throws Exception {
+        RaftEndpoint endpoint = new CPMemberInfo(UUID.randomUUID(), new Address("127.0.0.1", 5701)).toRaftEndpoint();
+        RaftGroupId groupId1 = new RaftGroupId("group1", 0, 1);
+        RaftGroupId groupId2 = new RaftGroupId("group2", 0, 2);
+        AsyncRaftOp op1 = new AppendSuccessResponseOp(groupId1, new AppendSuccessResponse(endpoint, 1, 5, 2));
+        op1.setTargetEndpoint(endpoint).setPartitionId(11);
+        AsyncRaftOp op2 = new VoteRequestOp(groupId2, new VoteRequest(endpoint, 2, 1, 5, false));
+        op2.setTargetEndpoint(endpoint).setPartitionId(12);
+
+        Data data = SERIALIZATION_SERVICE.toData(new RaftRpcBatchOp(Arrays.asList(op1, op2)));
+        RaftRpcBatchOp batchOp = SERIALIZATION_SERVICE.toObject(data);
+
+        List<AsyncRaftOp> operations = batchOp.getOperations();
+        assertEquals(2, operations.size());
+        assertInstanceOf(AppendSuccessResponseOp.class, operations.get(0));
+        assertEquals(groupId1, operations.get(0).getGroupId());
+        assertEquals(11, operations.get(0).getPartitionId());
+        assertInstanceOf(VoteRequestOp.class, operations.get(1));
+        assertEquals(groupId2, operations.get(1).getGroupId());
+        assertEquals(12, operations.get(1).getPartitionId());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.raft.impl;
+
+import com.hazelcast.config.cp.RaftAlgorithmConfig;
+import com.hazelcast.cp.exception.NotLeaderException;
+import com.hazelcast.cp.internal.raft.impl.dataservice.ApplyRaftRunnable;
+import com.hazelcast.cp.internal.raft.impl.dataservice.QueryRaftRunnable;
+import com.hazelcast.cp.internal.raft.impl.dto.AppendRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
+import com.hazelcast.cp.internal.raft.impl.testing.LocalRaftGroup;
+import com.hazelcast.cp.internal.raft.impl.testing.LocalRaftGroup.LocalRaftGroupBuilder;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.ExecutionException;
+
+import static com.hazelcast.cp.internal.raft.QueryPolicy.LINEARIZABLE;
+import static com.hazelcast.cp.internal.raft.impl.RaftUtil.getLeaderQueryRound;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FollowerReadTest extends HazelcastTestSupport {
+
+    private LocalRaftGroup group;
+
+    @After
+    public void destroy() {
+        if (group != null) {
+            group.destroy();
+        }
+    }
+
+    @Test(timeout = 300_000)
+    public void when_linearizableQueryIsIssuedToFollower_then_itReadsLastState() throws Exception {
+        group = newGroup(new RaftAlgorithmConfig().setFollowerReadsEnabled(true));
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        RaftNodeImpl follower = group.getAnyFollowerNode();
+
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+        assertEquals("value1", follower.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        long leaderQueryRound = getLeaderQueryRound(leader);
+        assertTrue(leaderQueryRound > 0);
+
+        leader.replicate(new ApplyRaftRunnable("value2")).get();
+        assertEquals("value2", follower.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertTrue(getLeaderQueryRound(leader) > leaderQueryRound);
+    }
+
+    @Test(timeout = 300_000)
+    public void when_followerIsBehindLeader_then_queryWaitsUntilReadIndexIsApplied() throws Exception {
+        RaftAlgorithmConfig config = new RaftAlgorithmConfig().setFollowerReadsEnabled(true)
+                                                              .setLeaderHeartbeatPeriodInMillis(1000);
+        group = newGroup(config);
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        RaftNodeImpl follower = group.getAnyFollowerNode();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        group.dropMessagesToMember(leader.getLocalMember(), follower.getLocalMember(), AppendRequest.class);
+        leader.replicate(new ApplyRaftRunnable("value2")).get();
+
+        InternalCompletableFuture queryFuture = follower.query(new QueryRaftRunnable(), LINEARIZABLE);
+        assertTrueAllTheTime(() -> assertFalse(queryFuture.isDone()), 1);
+
+        group.resetAllRulesFrom(leader.getLocalMember());
+
+        assertEquals("value2", queryFuture.get());
+    }
+
+    @Test(timeout = 300_000)
+    public void when_leaderDoesNotRespondWithReadIndex_then_followerQueryFails() throws Exception {
+        group = newGroup(new RaftAlgorithmConfig().setFollowerReadsEnabled(true));
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        RaftNodeImpl follower = group.getAnyFollowerNode();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        group.dropMessagesToMember(leader.getLocalMember(), follower.getLocalMember(), ReadIndexResponse.class);
+
+        try {
+            follower.query(new QueryRaftRunnable(), LINEARIZABLE).get();
+            fail();
+        } catch (ExecutionException e) {
+            NotLeaderException cause = assertInstanceOf(NotLeaderException.class, e.getCause());
+            assertEquals(leader.getLocalMember().getUuid(), cause.getLeaderUuid());
+        }
+    }
+
+    @Test(timeout = 300_000)
+    public void when_leaderLeaseIsValid_then_followerQueryRunsWithoutHeartbeatRound() throws Exception {
+        RaftAlgorithmConfig config = new RaftAlgorithmConfig().setFollowerReadsEnabled(true)
+                                                              .setLeaderElectionTimeoutInMillis(30_000)
+                                                              .setLeaderLeaseEnabled(true);
+        group = newGroup(config);
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        RaftNodeImpl follower = group.getAnyFollowerNode();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        // the first query acquires the lease with a heartbeat round
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        long leaderQueryRound = getLeaderQueryRound(leader);
+
+        assertEquals("value1", follower.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertEquals(leaderQueryRound, getLeaderQueryRound(leader));
+    }
+
+    private LocalRaftGroup newGroup(RaftAlgorithmConfig config) {
+        return new LocalRaftGroupBuilder(5, config).setAppendNopEntryOnLeaderElection(true).build();
+    }
+
+}
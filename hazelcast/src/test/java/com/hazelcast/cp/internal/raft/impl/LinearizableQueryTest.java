@@ -42,6 +42,7 @@ import static com.hazelcast.cp.internal.raft.impl.RaftUtil.getLeaderMember;
 import static com.hazelcast.cp.internal.raft.impl.RaftUtil.getLeaderQueryRound;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
@@ -233,6 +234,50 @@ public class LinearizableQueryTest extends HazelcastTestSupport {
         }
     }
 
+    @Test(timeout = 300_000)
+    public void when_leaderLeaseIsValid_then_linearizableQueryRunsWithoutHeartbeatRound() throws Exception {
+        RaftAlgorithmConfig config = new RaftAlgorithmConfig().setLeaderElectionTimeoutInMillis(30_000)
+                                                              .setLeaderLeaseEnabled(true);
+        group = new LocalRaftGroupBuilder(5, config).setAppendNopEntryOnLeaderElection(true).build();
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        // the first query acquires the lease with a heartbeat round
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        long leaderQueryRound = getLeaderQueryRound(leader);
+
+        group.dropMessagesToAll(leader.getLocalMember(), AppendRequest.class);
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertEquals(leaderQueryRound, getLeaderQueryRound(leader));
+    }
+
+    @Test(timeout = 300_000)
+    public void when_leaderLeaseIsExpired_then_linearizableQueryWaitsForHeartbeatRound() throws Exception {
+        RaftAlgorithmConfig config = new RaftAlgorithmConfig().setLeaderElectionTimeoutInMillis(2000)
+                                                              .setLeaderLeaseEnabled(true)
+                                                              .setLeaderLeaseClockDriftInMillis(1500);
+        group = new LocalRaftGroupBuilder(5, config).setAppendNopEntryOnLeaderElection(true).build();
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+
+        group.dropMessagesToAll(leader.getLocalMember(), AppendRequest.class);
+        sleepMillis(1000);
+
+        InternalCompletableFuture queryFuture = leader.query(new QueryRaftRunnable(), LINEARIZABLE);
+        assertTrueAllTheTime(() -> assertFalse(queryFuture.isDone()), 1);
+
+        group.resetAllRulesFrom(leader.getLocalMember());
+
+        assertEquals("value1", queryFuture.get());
+    }
+
     private LocalRaftGroup newGroup() {
         return new LocalRaftGroupBuilder(5).setAppendNopEntryOnLeaderElection(true).build();
     }
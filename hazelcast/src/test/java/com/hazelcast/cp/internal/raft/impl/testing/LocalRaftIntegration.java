@@ -31,6 +31,8 @@ import com.hazelcast.cp.internal.raft.impl.dto.AppendSuccessResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.InstallSnapshot;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.PreVoteResponse;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.ReadIndexResponse;
 import com.hazelcast.cp.internal.raft.impl.dto.TriggerLeaderElection;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteRequest;
 import com.hazelcast.cp.internal.raft.impl.dto.VoteResponse;
@@ -297,6 +299,36 @@ public class LocalRaftIntegration implements RaftIntegration {
         return true;
     }
 
+    @Override
+    public boolean send(ReadIndexRequest request, RaftEndpoint target) {
+        assertNotEquals(localEndpoint, target);
+        RaftNodeImpl node = nodes.get(target);
+        if (node == null) {
+            return false;
+        }
+        if (shouldDrop(request, target)) {
+            return true;
+        }
+
+        node.handleReadIndexRequest(alterMessageIfNeeded(request, target));
+        return true;
+    }
+
+    @Override
+    public boolean send(ReadIndexResponse response, RaftEndpoint target) {
+        assertNotEquals(localEndpoint, target);
+        RaftNodeImpl node = nodes.get(target);
+        if (node == null) {
+            return false;
+        }
+        if (shouldDrop(response, target)) {
+            return true;
+        }
+
+        node.handleReadIndexResponse(alterMessageIfNeeded(response, target));
+        return true;
+    }
+
     private boolean shouldDrop(Object message, RaftEndpoint target) {
         return dropAllRules.contains(message.getClass())
                 || endpointDropRules.contains(new EndpointDropEntry(message.getClass(), target));
@@ -104,6 +104,9 @@ public class HTTPCommunicator {
     // License info
     public static final String URI_LICENSE_INFO = "license";
 
+    // Metrics
+    public static final String URI_METRICS = "metrics";
+
     // CP Subsystem
     public static final String URI_RESET_CP_SUBSYSTEM_URL = "cp-subsystem/reset";
     public static final String URI_CP_GROUPS_URL = "cp-subsystem/groups";
@@ -239,6 +242,11 @@ public class HTTPCommunicator {
         return doGet(url).response;
     }
 
+    public ConnectionResponse getMetrics() throws IOException {
+        String url = getUrl(URI_METRICS);
+        return doGet(url);
+    }
+
     public ConnectionResponse setLicense(String clusterName, String clusterPassword, String licenseKey) throws IOException {
         String url = getUrl(URI_LICENSE_INFO);
         return doPost(url, clusterName, clusterPassword, licenseKey);
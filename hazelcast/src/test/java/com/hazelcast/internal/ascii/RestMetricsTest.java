@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.ascii;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.RestApiConfig;
+import com.hazelcast.config.RestEndpointGroup;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.ascii.HTTPCommunicator.ConnectionResponse;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.TestAwareInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.ascii.rest.HttpCommand.CONTENT_TYPE_OPENMETRICS;
+import static com.hazelcast.internal.util.StringUtil.bytesToString;
+import static com.hazelcast.spi.properties.ClusterProperty.METRICS_OPENMETRICS_ENABLED;
+import static com.hazelcast.test.HazelcastTestSupport.assertContains;
+import static com.hazelcast.test.HazelcastTestSupport.assertTrueEventually;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class RestMetricsTest {
+
+    private final TestAwareInstanceFactory factory = new TestAwareInstanceFactory();
+
+    @BeforeClass
+    public static void beforeClass() {
+        Hazelcast.shutdownAll();
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testGetMetrics() {
+        Config config = createConfigWithRestEnabled().setProperty(METRICS_OPENMETRICS_ENABLED.getName(), "true");
+        config.getMetricsConfig().setCollectionFrequencySeconds(1);
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        instance.getMap("myMap").put(1, 1);
+        HTTPCommunicator communicator = new HTTPCommunicator(instance);
+
+        assertTrueEventually(() -> {
+            ConnectionResponse response = communicator.getMetrics();
+            assertEquals(HTTP_OK, response.responseCode);
+            assertEquals(bytesToString(CONTENT_TYPE_OPENMETRICS), response.responseHeaders.get("Content-Type").get(0));
+            assertContains(response.response, "# TYPE hazelcast_map_putCount gauge\n");
+            assertContains(response.response, "hazelcast_map_putCount{name=\"myMap\"} 1\n");
+            assertTrue(response.response.endsWith("# EOF\n"));
+        });
+    }
+
+    @Test
+    public void testGetMetrics_whenDisabled() throws Exception {
+        HazelcastInstance instance = factory.newHazelcastInstance(createConfigWithRestEnabled());
+        HTTPCommunicator communicator = new HTTPCommunicator(instance);
+
+        assertEquals(HTTP_NOT_FOUND, communicator.getMetrics().responseCode);
+    }
+
+    private static Config createConfigWithRestEnabled() {
+        Config config = new Config();
+        RestApiConfig restApiConfig = new RestApiConfig().setEnabled(true).enableGroups(RestEndpointGroup.CLUSTER_READ);
+        config.getNetworkConfig().setRestApiConfig(restApiConfig);
+        return config;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class StackSamplerPluginTest extends AbstractDiagnosticsPluginTest {
+
+    private HazelcastInstance hz;
+    private StackSamplerPlugin plugin;
+    private Thread busyThread;
+
+    private volatile boolean stop;
+    private long spins;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig()
+                .setProperty(StackSamplerPlugin.PERIOD_SECONDS.getName(), "1")
+                .setProperty(StackSamplerPlugin.SAMPLER_PERIOD_MILLIS.getName(), "10");
+        hz = createHazelcastInstance(config);
+        plugin = new StackSamplerPlugin(getNodeEngineImpl(hz));
+
+        busyThread = new Thread(this::busySpin, createThreadName(hz.getName(), "busy.thread-12"));
+        busyThread.start();
+    }
+
+    @After
+    public void tearDown() {
+        stop = true;
+        assertJoinable(busyThread);
+    }
+
+    @Test
+    public void testGetPeriodMillis() {
+        assertEquals(1000, plugin.getPeriodMillis());
+    }
+
+    @Test
+    public void testRun_writesFoldedStacks() {
+        long[] threadIds = plugin.memberThreadIds();
+        for (int i = 0; i < 10; i++) {
+            plugin.sample(threadIds);
+        }
+
+        plugin.run(logWriter);
+
+        assertContains("StackSamples[");
+        assertContains("busy.thread;java.lang.Thread.run;");
+        assertContains(StackSamplerPluginTest.class.getName() + ".busySpin ");
+        assertNotContains("busy.thread-12");
+    }
+
+    @Test
+    public void testRun_whenRunAgain_thenPreviousSamplesNotWritten() {
+        plugin.sample(plugin.memberThreadIds());
+        plugin.run(logWriter);
+        reset();
+
+        plugin.run(logWriter);
+
+        assertContains("StackSamples[");
+        assertNotContains("busySpin");
+    }
+
+    @Test
+    public void testOnStart_samplesInBackground() {
+        plugin.onStart();
+
+        assertTrueEventually(() -> {
+            plugin.run(logWriter);
+            assertContains(StackSamplerPluginTest.class.getName() + ".busySpin ");
+        });
+    }
+
+    private void busySpin() {
+        while (!stop) {
+            spins++;
+        }
+    }
+}
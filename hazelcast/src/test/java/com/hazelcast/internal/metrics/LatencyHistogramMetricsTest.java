@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics;
+
+import com.hazelcast.client.impl.protocol.task.map.MapPutMessageTask;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.metrics.impl.CapturingCollector;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.map.impl.operation.PutOperation;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_MESSAGE_TASK_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_PREFIX_MAP_STORE_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_TAG_METHOD;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_EXECUTION_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_INVOCATION_LATENCY;
+import static com.hazelcast.spi.properties.ClusterProperty.METRICS_LATENCY_HISTOGRAMS;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LatencyHistogramMetricsTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    @After
+    public void cleanup() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testHistograms_whenEnabled() {
+        Config config = smallInstanceConfig().setProperty(METRICS_LATENCY_HISTOGRAMS.getName(), "true");
+        String mapName = randomMapName();
+        config.getMapConfig(mapName).setMapStoreConfig(new MapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(new MapStoreAdapter<Integer, Integer>()));
+        HazelcastInstance member = factory.newHazelcastInstance(config);
+        HazelcastInstance client = factory.newHazelcastClient();
+
+        IMap<Integer, Integer> memberMap = member.getMap(mapName);
+        IMap<Integer, Integer> clientMap = client.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            memberMap.put(i, i);
+            clientMap.put(i, i);
+        }
+
+        Map<MetricDescriptor, CapturingCollector.Capture> captures = collect(member);
+        assertHistogram(captures, OPERATION_PREFIX_EXECUTION_LATENCY, PutOperation.class.getName(), 2 * ENTRY_COUNT);
+        assertHistogram(captures, OPERATION_PREFIX_INVOCATION_LATENCY, PutOperation.class.getName(), ENTRY_COUNT);
+        assertHistogram(captures, CLIENT_PREFIX_MESSAGE_TASK_LATENCY, MapPutMessageTask.class.getName(), ENTRY_COUNT);
+        assertHistogram(captures, MAP_PREFIX_MAP_STORE_LATENCY, mapName, 2 * ENTRY_COUNT);
+    }
+
+    @Test
+    public void testHistograms_whenDisabled() {
+        HazelcastInstance member = factory.newHazelcastInstance(smallInstanceConfig());
+        member.getMap(randomMapName()).put(1, 1);
+
+        for (MetricDescriptor descriptor : collect(member).keySet()) {
+            String prefix = descriptor.prefix();
+            assertFalse(prefix, prefix != null && prefix.endsWith(".latency"));
+        }
+    }
+
+    private static Map<MetricDescriptor, CapturingCollector.Capture> collect(HazelcastInstance member) {
+        CapturingCollector collector = new CapturingCollector();
+        getNodeEngineImpl(member).getMetricsRegistry().collect(collector);
+        return collector.captures();
+    }
+
+    private static void assertHistogram(Map<MetricDescriptor, CapturingCollector.Capture> captures, String prefix,
+                                        String discriminatorValue, long minCount) {
+        long count = 0;
+        boolean p99Found = false;
+        for (Map.Entry<MetricDescriptor, CapturingCollector.Capture> entry : captures.entrySet()) {
+            MetricDescriptor descriptor = entry.getKey();
+            if (!prefix.equals(descriptor.prefix()) || !discriminatorValue.equals(descriptor.discriminatorValue())) {
+                continue;
+            }
+            if (prefix.equals(MAP_PREFIX_MAP_STORE_LATENCY) && !"store".equals(descriptor.tagValue(MAP_TAG_METHOD))) {
+                continue;
+            }
+            long value = entry.getValue().singleCapturedValue().longValue();
+            if (LATENCY_HISTOGRAM_METRIC_COUNT.equals(descriptor.metric())) {
+                count = value;
+            } else if (LATENCY_HISTOGRAM_METRIC_P99.equals(descriptor.metric())) {
+                p99Found = true;
+                assertTrue(value >= 0);
+            }
+        }
+        assertTrue("no p99 metric for " + prefix + " " + discriminatorValue, p99Found);
+        assertTrue("count of " + prefix + " " + discriminatorValue + " is " + count, count >= minCount);
+    }
+}
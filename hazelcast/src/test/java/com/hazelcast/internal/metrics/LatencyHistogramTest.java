@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics;
+
+import com.hazelcast.internal.metrics.impl.CapturingCollector;
+import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.internal.metrics.LatencyHistogram.BUCKET_COUNT;
+import static com.hazelcast.internal.metrics.LatencyHistogram.MAX_VALUE;
+import static com.hazelcast.internal.metrics.LatencyHistogram.bucketIndex;
+import static com.hazelcast.internal.metrics.LatencyHistogram.highestValue;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_MAX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.LATENCY_HISTOGRAM_METRIC_P99;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LatencyHistogramTest extends HazelcastTestSupport {
+
+    private static final double MAX_RELATIVE_ERROR = 1d / 16;
+
+    @Test
+    public void testBucketIndex_isMonotonicAndWithinRange() {
+        int previousIndex = -1;
+        for (long value = 0; value < 1_000_000; value++) {
+            int index = bucketIndex(value);
+            assertTrue(index >= previousIndex);
+            previousIndex = index;
+        }
+        assertEquals(0, bucketIndex(-1));
+        assertEquals(BUCKET_COUNT - 1, bucketIndex(MAX_VALUE));
+        assertEquals(BUCKET_COUNT - 1, bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testHighestValue_isWithinRelativeError() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            long highestValue = highestValue(bucketIndex(value));
+            assertTrue(highestValue >= value);
+            assertTrue("value: " + value + ", highest value: " + highestValue,
+                    highestValue - value <= value * MAX_RELATIVE_ERROR);
+        }
+        assertEquals(MAX_VALUE, highestValue(BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void testPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(-1, histogram.percentileMicros(99));
+
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.recordMicros(i);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertWithinRelativeError(5_000, histogram.percentileMicros(50));
+        assertWithinRelativeError(9_900, histogram.percentileMicros(99));
+        assertWithinRelativeError(10_000, histogram.percentileMicros(100));
+    }
+
+    @Test
+    public void testRecordNanos() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(2));
+
+        assertWithinRelativeError(2_000, histogram.percentileMicros(50));
+    }
+
+    @Test
+    public void testConcurrentRecording() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threadCount = 4;
+        int recordCount = 100_000;
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> {
+                for (int k = 0; k < recordCount; k++) {
+                    histogram.recordMicros(k);
+                }
+            });
+            threads[i].start();
+        }
+        assertJoinable(threads);
+
+        assertEquals(threadCount * recordCount, histogram.count());
+    }
+
+    @Test
+    public void testProvideMetrics_publishesIntervalPercentiles() {
+        MetricsRegistry registry = new MetricsRegistryImpl(Logger.getLogger(MetricsRegistryImpl.class), INFO);
+        LatencyHistograms<String> histograms = new LatencyHistograms<>("test",
+                (descriptor, key) -> descriptor.withDiscriminator("name", key));
+        registry.registerDynamicMetricsProvider(histograms);
+        for (int i = 1; i <= 100; i++) {
+            histograms.recordNanos("foo", TimeUnit.MICROSECONDS.toNanos(i * 10));
+        }
+
+        CapturingCollector collector = new CapturingCollector();
+        registry.collect(collector);
+        assertEquals(100L, captured(registry, collector, LATENCY_HISTOGRAM_METRIC_COUNT, COUNT));
+        assertWithinRelativeError(990, captured(registry, collector, LATENCY_HISTOGRAM_METRIC_P99, US));
+        assertWithinRelativeError(1000, captured(registry, collector, LATENCY_HISTOGRAM_METRIC_MAX, US));
+
+        // nothing is recorded since the previous collection
+        collector = new CapturingCollector();
+        registry.collect(collector);
+        assertEquals(100L, captured(registry, collector, LATENCY_HISTOGRAM_METRIC_COUNT, COUNT));
+        assertEquals(0L, captured(registry, collector, LATENCY_HISTOGRAM_METRIC_P99, US));
+        assertEquals(0L, captured(registry, collector, LATENCY_HISTOGRAM_METRIC_MAX, US));
+    }
+
+    private static long captured(MetricsRegistry registry, CapturingCollector collector, String metric, ProbeUnit unit) {
+        MetricDescriptor descriptor = registry.newMetricDescriptor()
+                .withPrefix("test")
+                .withDiscriminator("name", "foo")
+                .withMetric(metric)
+                .withUnit(unit);
+        return collector.captures().get(descriptor).singleCapturedValue().longValue();
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue("expected: " + expected + ", actual: " + actual,
+                actual >= expected && actual - expected <= expected * MAX_RELATIVE_ERROR);
+    }
+}
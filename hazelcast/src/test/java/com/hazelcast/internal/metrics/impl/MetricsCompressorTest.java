@@ -37,6 +37,7 @@ import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
 import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.mock;
@@ -421,6 +422,42 @@ public class MetricsCompressorTest {
         verify(supplierSpy, only()).get();
     }
 
+    @Test
+    public void testConsecutiveCycles() {
+        MetricDescriptor metric1 = supplier.get()
+                                           .withPrefix("prefix")
+                                           .withMetric("metric1")
+                                           .withDiscriminator("ds", "dsName1")
+                                           .withUnit(COUNT);
+        MetricDescriptor metric2 = supplier.get()
+                                           .withPrefix("otherPrefix")
+                                           .withMetric("metric2")
+                                           .withUnit(BYTES)
+                                           .withTag("tag0", "tag0Value");
+
+        compressor.addLong(metric1, 42L);
+        compressor.addLong(metric2, 43L);
+        byte[] blob1 = compressor.getBlobAndReset();
+        compressor.addLong(metric2, 44L);
+        byte[] blob2 = compressor.getBlobAndReset();
+        compressor.addLong(metric1, 45L);
+        compressor.addLong(metric2, 46L);
+        byte[] blob3 = compressor.getBlobAndReset();
+
+        MetricConsumer metricConsumerMock = mock(MetricConsumer.class);
+        MetricsCompressor.extractMetrics(blob1, metricConsumerMock, supplierSpy);
+        verify(metricConsumerMock).consumeLong(metric1, 42L);
+        verify(metricConsumerMock).consumeLong(metric2, 43L);
+        MetricsCompressor.extractMetrics(blob2, metricConsumerMock, supplierSpy);
+        verify(metricConsumerMock).consumeLong(metric2, 44L);
+        MetricsCompressor.extractMetrics(blob3, metricConsumerMock, supplierSpy);
+        verify(metricConsumerMock).consumeLong(metric1, 45L);
+        verify(metricConsumerMock).consumeLong(metric2, 46L);
+        verifyNoMoreInteractions(metricConsumerMock);
+        // the blobs are self-contained, the second cycle doesn't carry the words of metric1
+        assertTrue(blob2.length < blob3.length);
+    }
+
     private void when_tooLongWord_then_metricIgnored(MetricDescriptor badDescriptor) {
         MetricsCompressor compressor = new MetricsCompressor();
         try {
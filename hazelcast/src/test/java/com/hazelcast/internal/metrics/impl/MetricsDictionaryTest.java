@@ -31,6 +31,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -70,6 +71,22 @@ public class MetricsDictionaryTest {
         assertEquals(word1Id, dictionary.getDictionaryId("word1"));
     }
 
+    @Test
+    public void testIdsReassignedAfterReset() {
+        dictionary.getDictionaryId("a");
+        dictionary.getDictionaryId("b");
+        dictionary.reset();
+
+        assertEquals(0, dictionary.getDictionaryId("b"));
+        assertEquals(1, dictionary.getDictionaryId("c"));
+        assertEquals(0, dictionary.getDictionaryId("b"));
+
+        Iterator<Word> iterator = dictionary.words().iterator();
+        assertEquals("b", iterator.next().word());
+        assertEquals("c", iterator.next().word());
+        assertFalse(iterator.hasNext());
+    }
+
     @Test
     public void when_tooLongWord_then_fails() {
         String longWord = Stream.generate(() -> "a")
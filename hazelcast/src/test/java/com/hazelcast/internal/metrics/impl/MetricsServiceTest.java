@@ -34,6 +34,7 @@ import com.hazelcast.logging.LoggingService;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.executionservice.impl.ExecutionServiceImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.JmxLeakHelper;
@@ -108,6 +109,7 @@ public class MetricsServiceTest extends HazelcastTestSupport {
         when(nodeMock.getLogger(any(String.class))).thenReturn(loggerMock);
         when(nodeEngineMock.getNode()).thenReturn(nodeMock);
         when(nodeEngineMock.getConfig()).thenReturn(config);
+        when(nodeEngineMock.getProperties()).thenReturn(new HazelcastProperties(config));
         when(nodeEngineMock.getLoggingService()).thenReturn(loggingServiceMock);
         when(nodeEngineMock.getLogger(any(Class.class))).thenReturn(loggerMock);
         when(nodeEngineMock.getMetricsRegistry()).thenReturn(metricsRegistry);
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics.openmetrics;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.metrics.MetricTarget.JMX;
+import static com.hazelcast.internal.metrics.impl.DefaultMetricDescriptorSupplier.DEFAULT_DESCRIPTOR_SUPPLIER;
+import static com.hazelcast.internal.util.StringUtil.bytesToString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OpenMetricsPublisherTest {
+
+    private final OpenMetricsPublisher publisher = new OpenMetricsPublisher();
+
+    @Test
+    public void when_noRoundCompleted_then_noSnapshot() {
+        assertNull(publisher.snapshot());
+    }
+
+    @Test
+    public void when_noMetrics() {
+        publisher.whenComplete();
+
+        assertEquals("# EOF\n", snapshot());
+    }
+
+    @Test
+    public void when_metricWithPrefixDiscriminatorAndTags() {
+        publisher.publishLong(newDescriptor()
+                .withPrefix("map")
+                .withMetric("getCount")
+                .withDiscriminator("name", "myMap")
+                .withTag("tag", "value"), 42);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_map_getCount gauge\n"
+                + "hazelcast_map_getCount{name=\"myMap\",tag=\"value\"} 42\n"
+                + "# EOF\n", snapshot());
+    }
+
+    @Test
+    public void when_samplesOfFamilyPublishedApart_then_grouped() {
+        publisher.publishLong(newDescriptor().withPrefix("map").withMetric("getCount").withDiscriminator("name", "a"), 1);
+        publisher.publishLong(newDescriptor().withPrefix("map").withMetric("putCount").withDiscriminator("name", "a"), 2);
+        publisher.publishLong(newDescriptor().withPrefix("map").withMetric("getCount").withDiscriminator("name", "b"), 3);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_map_getCount gauge\n"
+                + "hazelcast_map_getCount{name=\"a\"} 1\n"
+                + "hazelcast_map_getCount{name=\"b\"} 3\n"
+                + "# TYPE hazelcast_map_putCount gauge\n"
+                + "hazelcast_map_putCount{name=\"a\"} 2\n"
+                + "# EOF\n", snapshot());
+    }
+
+    @Test
+    public void when_namesAndValuesContainSpecialCharacters_then_sanitizedAndEscaped() {
+        publisher.publishLong(newDescriptor()
+                .withPrefix("operation.thread")
+                .withMetric("1st-count")
+                .withDiscriminator("thread.name", "a\"b\\c\nd"), 1);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_operation_thread__1st_count gauge\n"
+                + "hazelcast_operation_thread__1st_count{thread_name=\"a\\\"b\\\\c\\nd\"} 1\n"
+                + "# EOF\n", snapshot());
+    }
+
+    @Test
+    public void when_doubleValues() {
+        publisher.publishDouble(newDescriptor().withMetric("a"), 1.5);
+        publisher.publishDouble(newDescriptor().withMetric("b"), Double.NaN);
+        publisher.publishDouble(newDescriptor().withMetric("c"), Double.NEGATIVE_INFINITY);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_a gauge\n"
+                + "hazelcast_a 1.5\n"
+                + "# TYPE hazelcast_b gauge\n"
+                + "hazelcast_b NaN\n"
+                + "# TYPE hazelcast_c gauge\n"
+                + "hazelcast_c -Inf\n"
+                + "# EOF\n", snapshot());
+    }
+
+    @Test
+    public void when_metricExcludedFromJmx_then_notRendered() {
+        publisher.publishLong(newDescriptor().withMetric("a").withExcludedTarget(JMX), 1);
+        publisher.whenComplete();
+
+        assertEquals("# EOF\n", snapshot());
+    }
+
+    @Test
+    public void when_nextRound_then_previousMetricsNotRendered() {
+        publisher.publishLong(newDescriptor().withMetric("a"), 1);
+        publisher.whenComplete();
+        publisher.publishLong(newDescriptor().withMetric("b"), 2);
+        publisher.whenComplete();
+
+        assertEquals("# TYPE hazelcast_b gauge\n"
+                + "hazelcast_b 2\n"
+                + "# EOF\n", snapshot());
+    }
+
+    private String snapshot() {
+        return bytesToString(publisher.snapshot());
+    }
+
+    private static MetricDescriptor newDescriptor() {
+        return DEFAULT_DESCRIPTOR_SUPPLIER.get();
+    }
+}
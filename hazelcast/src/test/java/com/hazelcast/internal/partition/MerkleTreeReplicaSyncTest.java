@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.monitor.impl.LocalReplicationStatsImpl;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.spi.impl.SpiDataSerializerHook;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.function.Consumer;
+
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_BACKUP_SYNC_INTERVAL;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_REPLICA_SYNC_MERKLE_TREE_MAX_DIFF_PERCENTAGE;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.PacketFiltersUtil.dropOperationsBetween;
+import static com.hazelcast.test.PacketFiltersUtil.resetPacketFiltersFrom;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MerkleTreeReplicaSyncTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final int UPDATED_ENTRY_COUNT = 10;
+
+    @Test
+    public void testBackupSynchronizedDifferentially() {
+        HazelcastInstance[] instances = startInstancesAndLoseBackups("25");
+
+        long diffRecords = 0;
+        for (HazelcastInstance instance : instances) {
+            LocalReplicationStatsImpl stats = replicationStats(instance);
+            assertEquals(0, stats.getFullPartitionReplicationCount());
+            diffRecords += stats.getDifferentialReplicationRecordCount();
+        }
+        assertTrue("Differential replica sync expected", diffRecords > 0);
+        assertTrue("Only the differing leaves should be replicated, records: " + diffRecords,
+                diffRecords < ENTRY_COUNT / 2);
+
+        assertBackupsUpdated(instances);
+    }
+
+    @Test
+    public void testBackupSynchronizedDifferentially_whenOnlyTtlDiffers() {
+        HazelcastInstance[] instances = startInstancesAndLoseBackups("25",
+                map -> map.setTtl(0, 1, HOURS));
+
+        long diffRecords = 0;
+        for (HazelcastInstance instance : instances) {
+            diffRecords += replicationStats(instance).getDifferentialReplicationRecordCount();
+        }
+        assertTrue("Differential replica sync expected", diffRecords > 0);
+
+        instances[0].getLifecycleService().terminate();
+        IMap<Integer, Integer> map = instances[1].getMap("map");
+        assertEquals(HOURS.toMillis(1), map.getEntryView(0).getTtl());
+    }
+
+    @Test
+    public void testBackupSynchronizedFully_whenTooManyLeavesDiffer() {
+        HazelcastInstance[] instances = startInstancesAndLoseBackups("0");
+
+        long fullReplications = 0;
+        for (HazelcastInstance instance : instances) {
+            LocalReplicationStatsImpl stats = replicationStats(instance);
+            // replicas which happen to be equal may still be synchronized differentially
+            assertEquals(0, stats.getDifferentialReplicationRecordCount());
+            fullReplications += stats.getFullPartitionReplicationCount();
+        }
+        assertTrue("Full replica sync expected", fullReplications > 0);
+
+        assertBackupsUpdated(instances);
+    }
+
+    private HazelcastInstance[] startInstancesAndLoseBackups(String maxDiffPercentage) {
+        return startInstancesAndLoseBackups(maxDiffPercentage, map -> {
+            for (int i = 0; i < UPDATED_ENTRY_COUNT; i++) {
+                map.put(i, updatedValue(i));
+            }
+        });
+    }
+
+    private HazelcastInstance[] startInstancesAndLoseBackups(String maxDiffPercentage,
+                                                             Consumer<IMap<Integer, Integer>> update) {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = smallInstanceConfig()
+                .setProperty(PARTITION_BACKUP_SYNC_INTERVAL.getName(), "1")
+                .setProperty(PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED.getName(), "true")
+                .setProperty(PARTITION_REPLICA_SYNC_MERKLE_TREE_MAX_DIFF_PERCENTAGE.getName(), maxDiffPercentage);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        warmUpPartitions(hz1, hz2);
+
+        IMap<Integer, Integer> map = hz1.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        waitAllForSafeState(hz1, hz2);
+
+        dropOperationsBetween(hz1, hz2, SpiDataSerializerHook.F_ID, singletonList(SpiDataSerializerHook.BACKUP));
+        dropOperationsBetween(hz2, hz1, SpiDataSerializerHook.F_ID, singletonList(SpiDataSerializerHook.BACKUP));
+        update.accept(map);
+        resetPacketFiltersFrom(hz1);
+        resetPacketFiltersFrom(hz2);
+
+        waitAllForSafeState(hz1, hz2);
+        return new HazelcastInstance[]{hz1, hz2};
+    }
+
+    private static void assertBackupsUpdated(HazelcastInstance[] instances) {
+        // the remaining member holds the backups of the partitions owned by the terminated one
+        instances[0].getLifecycleService().terminate();
+        IMap<Integer, Integer> map = instances[1].getMap("map");
+
+        assertEquals(ENTRY_COUNT, map.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i < UPDATED_ENTRY_COUNT ? updatedValue(i) : i, (int) map.get(i));
+        }
+    }
+
+    private static int updatedValue(int i) {
+        return -i - 1;
+    }
+
+    private static LocalReplicationStatsImpl replicationStats(HazelcastInstance instance) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getLocalMapStatsProvider()
+                .getLocalMapStatsImpl("map").getReplicationStats();
+    }
+}
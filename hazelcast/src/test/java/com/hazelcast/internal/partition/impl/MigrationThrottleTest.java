@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.memory.MemoryUnit.MEGABYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_LATENCY_THRESHOLD_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_MAX_MB_PER_SECOND;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MigrationThrottleTest extends HazelcastTestSupport {
+
+    private static final long MAX_BYTES_PER_SECOND = 1000;
+    private static final long LATENCY_THRESHOLD_NANOS = MILLISECONDS.toNanos(10);
+    private static final int ENTRY_COUNT = 2000;
+    private static final int VALUE_SIZE = 1000;
+
+    @Test
+    public void testAcquire_whenDisabled() {
+        MigrationThrottle throttle = new MigrationThrottle(0, LATENCY_THRESHOLD_NANOS);
+
+        assertFalse(throttle.isEnabled());
+        assertEquals(0, throttle.acquire(1_000_000, 0));
+    }
+
+    @Test
+    public void testAcquire_delaysByRate() {
+        MigrationThrottle throttle = new MigrationThrottle(MAX_BYTES_PER_SECOND, LATENCY_THRESHOLD_NANOS);
+
+        assertEquals(SECONDS.toNanos(1), throttle.acquire(MAX_BYTES_PER_SECOND, 0));
+        // the budget is shared, so the next fragment waits for the previous one
+        assertEquals(SECONDS.toNanos(2), throttle.acquire(MAX_BYTES_PER_SECOND, 0));
+        // the unused budget isn't accumulated
+        assertEquals(SECONDS.toNanos(1), throttle.acquire(MAX_BYTES_PER_SECOND, SECONDS.toNanos(10)));
+    }
+
+    @Test
+    public void testAdaptsToLatency() {
+        MigrationThrottle throttle = new MigrationThrottle(MAX_BYTES_PER_SECOND, LATENCY_THRESHOLD_NANOS);
+
+        throttle.onPartitionThreadLatency(2 * LATENCY_THRESHOLD_NANOS);
+        assertEquals(MAX_BYTES_PER_SECOND / 2, throttle.getBytesPerSecond());
+
+        for (int i = 0; i < 10; i++) {
+            throttle.onPartitionThreadLatency(2 * LATENCY_THRESHOLD_NANOS);
+        }
+        assertEquals(MAX_BYTES_PER_SECOND / MigrationThrottle.RATE_STEPS, throttle.getBytesPerSecond());
+
+        for (int i = 0; i < MigrationThrottle.RATE_STEPS; i++) {
+            throttle.onPartitionThreadLatency(0);
+        }
+        assertEquals(MAX_BYTES_PER_SECOND, throttle.getBytesPerSecond());
+    }
+
+    @Test
+    public void testAdaptsToLatency_whenThresholdDisabled() {
+        MigrationThrottle throttle = new MigrationThrottle(MAX_BYTES_PER_SECOND, 0);
+
+        throttle.onPartitionThreadLatency(SECONDS.toNanos(1));
+
+        assertEquals(MAX_BYTES_PER_SECOND, throttle.getBytesPerSecond());
+    }
+
+    @Test
+    public void testMigration_whenRateLimited() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        // the rate does not adapt to the latency, so the migrations take the expected time
+        Config config = smallInstanceConfig()
+                .setProperty(PARTITION_COUNT.getName(), "11")
+                .setProperty(PARTITION_MIGRATION_MAX_MB_PER_SECOND.getName(), "1")
+                .setProperty(PARTITION_MIGRATION_LATENCY_THRESHOLD_MILLIS.getName(), "0");
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        IMap<Integer, byte[]> map = hz1.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new byte[VALUE_SIZE]);
+        }
+
+        long startNanos = System.nanoTime();
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2);
+        long elapsedMillis = NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // either the primary or the backup replica of each partition is
+        // migrated to the second member, so all data passes the throttle
+        long dataBytes = (long) ENTRY_COUNT * VALUE_SIZE;
+        long expectedMillis = SECONDS.toMillis(1) * dataBytes / MEGABYTES.toBytes(1);
+        InternalPartitionServiceImpl partitionService = (InternalPartitionServiceImpl) getPartitionService(hz1);
+        MigrationThrottle throttle = partitionService.getMigrationManager().getMigrationThrottle();
+        assertTrue(throttle.isEnabled());
+        assertTrue("Throttled time: " + throttle.getThrottledTimeMillis(), throttle.getThrottledTimeMillis() > 0);
+        assertTrue("Elapsed: " + elapsedMillis + " ms, expected: " + expectedMillis + " ms",
+                elapsedMillis >= expectedMillis / 2 && elapsedMillis <= expectedMillis * 5);
+        assertEquals(ENTRY_COUNT, hz2.getMap("map").size());
+    }
+}
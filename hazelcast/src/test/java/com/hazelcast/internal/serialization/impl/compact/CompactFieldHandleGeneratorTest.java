@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactFieldHandleGeneratorTest {
+
+    private final CompactFieldHandleGenerator generator = new CompactFieldHandleGenerator();
+    private final AllTypes object = new AllTypes();
+
+    @Test
+    public void testInt8() throws Exception {
+        CompactFieldHandle handle = generate("int8");
+        handle.setInt8(object, (byte) -3);
+        assertEquals(-3, object.int8);
+        assertEquals(-3, handle.getInt8(object));
+    }
+
+    @Test
+    public void testChar() throws Exception {
+        CompactFieldHandle handle = generate("character");
+        handle.setChar(object, '\u1256');
+        assertEquals('\u1256', object.character);
+        assertEquals('\u1256', handle.getChar(object));
+    }
+
+    @Test
+    public void testInt16() throws Exception {
+        CompactFieldHandle handle = generate("int16");
+        handle.setInt16(object, (short) -500);
+        assertEquals(-500, object.int16);
+        assertEquals(-500, handle.getInt16(object));
+    }
+
+    @Test
+    public void testInt32() throws Exception {
+        CompactFieldHandle handle = generate("int32");
+        handle.setInt32(object, 56789);
+        assertEquals(56789, object.int32);
+        assertEquals(56789, handle.getInt32(object));
+    }
+
+    @Test
+    public void testInt64() throws Exception {
+        CompactFieldHandle handle = generate("int64");
+        handle.setInt64(object, Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, object.int64);
+        assertEquals(Long.MIN_VALUE, handle.getInt64(object));
+    }
+
+    @Test
+    public void testFloat32() throws Exception {
+        CompactFieldHandle handle = generate("float32");
+        handle.setFloat32(object, 900.5678f);
+        assertEquals(900.5678f, object.float32, 0);
+        assertEquals(900.5678f, handle.getFloat32(object), 0);
+    }
+
+    @Test
+    public void testFloat64() throws Exception {
+        CompactFieldHandle handle = generate("float64");
+        handle.setFloat64(object, -897543.3678909d);
+        assertEquals(-897543.3678909d, object.float64, 0);
+        assertEquals(-897543.3678909d, handle.getFloat64(object), 0);
+    }
+
+    @Test
+    public void testBoolean() throws Exception {
+        CompactFieldHandle handle = generate("bool");
+        handle.setBoolean(object, true);
+        assertTrue(object.bool);
+        assertTrue(handle.getBoolean(object));
+    }
+
+    @Test
+    public void testObject() throws Exception {
+        CompactFieldHandle handle = generate("string");
+        handle.setObject(object, "value");
+        assertEquals("value", object.string);
+        assertEquals("value", handle.getObject(object));
+    }
+
+    @Test
+    public void testHandlesOfSameTypeAreIndependent() throws Exception {
+        CompactFieldHandle handle = generate("int32");
+        CompactFieldHandle otherHandle = generate("otherInt32");
+        handle.setInt32(object, 1);
+        otherHandle.setInt32(object, 2);
+        assertEquals(1, handle.getInt32(object));
+        assertEquals(2, otherHandle.getInt32(object));
+    }
+
+    @Test
+    public void testHandleClassesAreDefinedByGeneratorClassLoader() throws Exception {
+        CompactFieldHandle handle = generate("int32");
+        CompactFieldHandle otherHandle = generate("int64");
+        assertSame(handle.getClass().getClassLoader(), otherHandle.getClass().getClassLoader());
+        assertEquals(CompactFieldHandle.class.getClassLoader(), handle.getClass().getClassLoader().getParent());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testOtherTypeUnsupported() throws Exception {
+        generate("int32").getInt64(object);
+    }
+
+    private CompactFieldHandle generate(String fieldName) throws Exception {
+        Field field = AllTypes.class.getDeclaredField(fieldName);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        return generator.generate(field.getType(), lookup.unreflectGetter(field), lookup.unreflectSetter(field));
+    }
+
+    private static class AllTypes {
+        byte int8;
+        char character;
+        short int16;
+        int int32;
+        int otherInt32;
+        long int64;
+        float float32;
+        double float64;
+        boolean bool;
+        String string;
+    }
+}
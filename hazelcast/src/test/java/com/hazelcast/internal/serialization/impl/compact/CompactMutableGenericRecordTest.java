@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.MutableGenericRecord;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder.compact;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactMutableGenericRecordTest extends HazelcastTestSupport {
+
+    private InternalSerializationService serializationService;
+    private GenericRecord record;
+
+    @Before
+    public void setUp() {
+        serializationService = (InternalSerializationService) createSerializationService();
+        record = compact("counter")
+                .setBoolean("flag", false)
+                .setBoolean("otherFlag", true)
+                .setInt8("b", (byte) 1)
+                .setInt16("s", (short) 2)
+                .setInt32("i", 3)
+                .setInt64("counter", 4L)
+                .setFloat32("f", 5.5f)
+                .setFloat64("d", 6.5d)
+                .setNullableInt32("nullableInt", null)
+                .setString("name", "foo")
+                .setArrayOfInt32("ints", new int[]{1, 2, 3})
+                .build();
+    }
+
+    @Test
+    public void testFixedSizeFieldsAreWrittenInPlace() throws Exception {
+        CompactMutableGenericRecord mutable = serializationService.readAsMutableGenericRecord(serializationService.toData(record));
+
+        mutable.setBoolean("flag", true);
+        mutable.setBoolean("otherFlag", false);
+        mutable.setInt8("b", (byte) -1);
+        mutable.setInt16("s", (short) -2);
+        mutable.setInt32("i", -3);
+        mutable.setInt64("counter", mutable.getInt64("counter") + 1);
+        mutable.setFloat32("f", -5.5f);
+        mutable.setFloat64("d", -6.5d);
+
+        assertTrue(mutable.isModified());
+        assertEquals(5L, mutable.getInt64("counter"));
+        GenericRecord expected = record.newBuilderWithClone()
+                .setBoolean("flag", true)
+                .setBoolean("otherFlag", false)
+                .setInt8("b", (byte) -1)
+                .setInt16("s", (short) -2)
+                .setInt32("i", -3)
+                .setInt64("counter", 5L)
+                .setFloat32("f", -5.5f)
+                .setFloat64("d", -6.5d)
+                .build();
+        assertEquals(serializationService.toData(expected), mutable.toData());
+        assertFalse(mutable.isModified());
+    }
+
+    @Test
+    public void testVariableSizeFieldsAreReEncoded() throws Exception {
+        CompactMutableGenericRecord mutable = serializationService.readAsMutableGenericRecord(serializationService.toData(record));
+
+        mutable.update(builder -> builder.setString("name", "a much longer name than before")
+                .setArrayOfInt32("ints", null));
+        mutable.setInt32("nullableInt", 42);
+        mutable.setInt64("counter", 10L);
+
+        assertEquals("a much longer name than before", mutable.getString("name"));
+        assertNull(mutable.getArrayOfInt32("ints"));
+        assertEquals(Integer.valueOf(42), mutable.getNullableInt32("nullableInt"));
+        assertEquals(10L, mutable.getInt64("counter"));
+
+        GenericRecord actual = serializationService.toObject(mutable.toData());
+        assertEquals("a much longer name than before", actual.getString("name"));
+        assertNull(actual.getArrayOfInt32("ints"));
+        assertEquals(Integer.valueOf(42), actual.getNullableInt32("nullableInt"));
+        assertEquals(10L, actual.getInt64("counter"));
+        assertEquals(6.5d, actual.getFloat64("d"), 0);
+    }
+
+    @Test
+    public void testWritesDoNotChangeSourceOrReturnedData() throws Exception {
+        Data source = serializationService.toData(record);
+        byte[] sourceBytes = source.toByteArray().clone();
+        CompactMutableGenericRecord mutable = serializationService.readAsMutableGenericRecord(source);
+
+        mutable.setInt64("counter", 100L);
+        Data first = mutable.toData();
+        byte[] firstBytes = first.toByteArray().clone();
+        mutable.setInt64("counter", 200L);
+
+        assertArrayEquals(sourceBytes, source.toByteArray());
+        assertArrayEquals(firstBytes, first.toByteArray());
+        assertEquals(100L, ((GenericRecord) serializationService.toObject(first)).getInt64("counter"));
+        assertEquals(200L, ((GenericRecord) serializationService.toObject(mutable.toData())).getInt64("counter"));
+    }
+
+    @Test
+    public void testInvalidWrites() throws Exception {
+        CompactMutableGenericRecord mutable = serializationService.readAsMutableGenericRecord(serializationService.toData(record));
+
+        assertThrows(HazelcastSerializationException.class, () -> mutable.setInt32("counter", 1));
+        assertThrows(HazelcastSerializationException.class, () -> mutable.setInt32("unknown", 1));
+        assertThrows(HazelcastSerializationException.class, () -> mutable.update(builder -> builder.setInt32("name", 1)));
+        assertFalse(mutable.isModified());
+    }
+
+    @Test
+    public void testEntryProcessor() {
+        IMap<Integer, Object> map = createHazelcastInstance().getMap(randomMapName());
+        map.put(1, record);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Boolean.TRUE, map.executeOnKey(1, new IncrementingEntryProcessor()));
+        }
+
+        GenericRecord actual = (GenericRecord) map.get(1);
+        assertEquals(7L, actual.getInt64("counter"));
+        assertEquals("foo", actual.getString("name"));
+    }
+
+    @Test
+    public void testEntryProcessor_whenValueIsNotCompact() {
+        IMap<Integer, Object> map = createHazelcastInstance().getMap(randomMapName());
+        map.put(1, "not compact");
+
+        assertEquals(Boolean.FALSE, map.executeOnKey(1, new IncrementingEntryProcessor()));
+        assertEquals("not compact", map.get(1));
+    }
+
+    private static class IncrementingEntryProcessor implements EntryProcessor<Integer, Object, Boolean> {
+
+        @Override
+        public Boolean process(Map.Entry<Integer, Object> entry) {
+            MutableGenericRecord value = ((ExtendedMapEntry<Integer, Object>) entry).getValueAsMutableGenericRecord();
+            if (value == null) {
+                return false;
+            }
+            value.setInt64("counter", value.getInt64("counter") + 1);
+            return true;
+        }
+    }
+}
@@ -344,7 +344,7 @@ public final class CompactTestUtil {
     public static Collection<Schema> getSchemasFor(Class<?>... classes) {
         CompactStreamSerializer compactStreamSerializer = mock(CompactStreamSerializer.class);
         when(compactStreamSerializer.canBeSerializedAsCompact(any())).thenReturn(true);
-        ReflectiveCompactSerializer serializer = new ReflectiveCompactSerializer(compactStreamSerializer);
+        ReflectiveCompactSerializer serializer = new ReflectiveCompactSerializer(compactStreamSerializer, false);
         ArrayList<Schema> schemas = new ArrayList<>(classes.length);
         for (Class<?> clazz : classes) {
             SchemaWriter writer = new SchemaWriter(clazz.getName());
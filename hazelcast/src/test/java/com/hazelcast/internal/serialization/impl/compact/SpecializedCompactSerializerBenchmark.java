@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import example.serialization.EmployeeDTO;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createInMemorySchemaService;
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createMainDTO;
+
+/**
+ * Compares the throughput of the reflective and the specialized zero-config
+ * Compact serializers, for a class with primitive fields only and for a
+ * class with fields of all types.
+ */
+public class SpecializedCompactSerializerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 1_000_000;
+
+    public static void main(String[] args) {
+        benchmark("EmployeeDTO", new EmployeeDTO(30, 102310312));
+        benchmark("MainDTO", createMainDTO());
+    }
+
+    private static void benchmark(String name, Object object) {
+        SerializationService reflective = createSerializationService(false);
+        SerializationService specialized = createSerializationService(true);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(reflective, object);
+            run(specialized, object);
+        }
+        for (int i = 0; i < ROUNDS; i++) {
+            long[] reflectiveNanos = run(reflective, object);
+            long[] specializedNanos = run(specialized, object);
+            System.out.printf("%s round %d: toData reflective %d ns/op, specialized %d ns/op;"
+                            + " toObject reflective %d ns/op, specialized %d ns/op%n", name, i,
+                    reflectiveNanos[0] / ITERATIONS, specializedNanos[0] / ITERATIONS,
+                    reflectiveNanos[1] / ITERATIONS, specializedNanos[1] / ITERATIONS);
+        }
+    }
+
+    private static long[] run(SerializationService serializationService, Object object) {
+        Data data = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            data = serializationService.toData(object);
+        }
+        long toDataNanos = System.nanoTime() - start;
+
+        int hash = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Object deserialized = serializationService.toObject(data);
+            hash += deserialized.hashCode();
+        }
+        long toObjectNanos = System.nanoTime() - start;
+        if (hash == 42) {
+            // consume the result so that the deserialization isn't eliminated
+            System.out.println();
+        }
+        return new long[]{toDataNanos, toObjectNanos};
+    }
+
+    private static SerializationService createSerializationService(boolean specialized) {
+        return new DefaultSerializationServiceBuilder()
+                .setSchemaService(createInMemorySchemaService())
+                .setConfig(new SerializationConfig())
+                .setSpecializedCompactSerializersEnabled(specialized)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.OverridePropertyRule;
+import com.hazelcast.test.annotation.QuickTest;
+import example.serialization.EmployeeDTO;
+import example.serialization.MainDTO;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import javax.annotation.Nonnull;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createInMemorySchemaService;
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createMainDTO;
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static com.hazelcast.spi.properties.ClusterProperty.COMPACT_SPECIALIZED_SERIALIZERS_ENABLED;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SpecializedCompactSerializerTest {
+
+    @Rule
+    public final OverridePropertyRule specializedSerializers
+            = OverridePropertyRule.set(COMPACT_SPECIALIZED_SERIALIZERS_ENABLED.getName(), "true");
+
+    @Test
+    public void testAllTypes() {
+        SerializationService serializationService = createSerializationService();
+        MainDTO expected = createMainDTO();
+
+        Data data = serializationService.toData(expected);
+        MainDTO actual = serializationService.toObject(data);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testSameBinaryAsReflectiveSerializer() {
+        MainDTO object = createMainDTO();
+        Data specializedData = createSerializationService().toData(object);
+
+        specializedSerializers.setOrClearProperty(null);
+        Data reflectiveData = createSerializationService().toData(object);
+
+        assertArrayEquals(reflectiveData.toByteArray(), specializedData.toByteArray());
+    }
+
+    @Test
+    public void testMissingFieldsAreNotRead() {
+        SchemaService schemaService = createInMemorySchemaService();
+        SerializationService writerService = createSerializationService(PartialEmployeeDTOSerializer::new, schemaService);
+        SerializationService readerService = createSerializationService(schemaService);
+
+        Data data = writerService.toData(new EmployeeDTO(30, 102310312));
+        EmployeeDTO actual = readerService.toObject(data);
+
+        EmployeeDTO expected = new EmployeeDTO();
+        expected.setAge(30);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void testCreate() {
+        // primitive fields only, so the compact stream serializer is not needed for nested fields
+        SpecializedCompactSerializer<EmployeeDTO> serializer = SpecializedCompactSerializer.tryCreate(null, EmployeeDTO.class);
+
+        assertNotNull(serializer);
+        assertEquals(EmployeeDTO.class, serializer.getCompactClass());
+        assertEquals(EmployeeDTO.class.getName(), serializer.getTypeName());
+    }
+
+    private static final class PartialEmployeeDTOSerializer implements CompactSerializer<EmployeeDTO> {
+
+        @Nonnull
+        @Override
+        public EmployeeDTO read(@Nonnull CompactReader reader) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(@Nonnull CompactWriter writer, @Nonnull EmployeeDTO object) {
+            writer.writeInt32("age", object.getAge());
+            // a field with a different kind must not be read either
+            writer.writeString("id", "not a long");
+        }
+
+        @Nonnull
+        @Override
+        public String getTypeName() {
+            return EmployeeDTO.class.getName();
+        }
+
+        @Nonnull
+        @Override
+        public Class<EmployeeDTO> getCompactClass() {
+            return EmployeeDTO.class;
+        }
+    }
+}
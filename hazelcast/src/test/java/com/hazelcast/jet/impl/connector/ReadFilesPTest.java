@@ -23,6 +23,7 @@ import com.hazelcast.jet.pipeline.BatchSource;
 import com.hazelcast.jet.pipeline.Pipeline;
 import com.hazelcast.jet.pipeline.Sinks;
 import com.hazelcast.jet.pipeline.Sources;
+import com.hazelcast.jet.pipeline.file.impl.LineRangeReader;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
 import org.junit.Before;
@@ -33,14 +34,17 @@ import org.junit.experimental.categories.Category;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.hazelcast.jet.Util.entry;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -94,6 +98,27 @@ public class ReadFilesPTest extends SimpleTestInClusterSupport {
         finishDirectory(file1);
     }
 
+    @Test
+    public void when_largeFileSplit_then_eachLineReadOnce() throws Exception {
+        File file1 = new File(directory, randomName());
+        final int listLength = 10000;
+        appendToFile(file1, IntStream.range(0, listLength).mapToObj(String::valueOf).toArray(String[]::new));
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(Sources.<String>batchFromProcessor("source", ReadFilesP.metaSupplier(directory.getPath(), "*",
+                 false, false, Files::lines, (path, start, end) -> LineRangeReader.lines(path, start, end, UTF_8), 1000)))
+         .map(line -> entry(file1.getName(), line))
+         .writeTo(Sinks.list(list));
+
+        instance().getJet().newJob(p).join();
+
+        assertEquals(
+                IntStream.range(0, listLength).mapToObj(String::valueOf).sorted().collect(Collectors.toList()),
+                list.stream().map(Entry::getValue).sorted().collect(Collectors.toList()));
+
+        finishDirectory(file1);
+    }
+
     @Test
     public void when_glob_the_useGlob() throws Exception {
         Pipeline p = pipeline("file2.*");
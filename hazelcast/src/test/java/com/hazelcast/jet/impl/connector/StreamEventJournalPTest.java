@@ -131,7 +131,7 @@ public class StreamEventJournalPTest extends JetTestSupport {
         assertTrueEventually(() -> {
             assertFalse("Processor should never complete", p.complete());
             outbox.drainQueueAndReset(0, actual, true);
-            assertEquals("consumed different number of items than expected", JOURNAL_CAPACITY + 2, actual.size());
+            assertEquals("consumed different number of items than expected", 2 * JOURNAL_CAPACITY, actual.size());
             assertEquals(IntStream.range(0, JOURNAL_CAPACITY).boxed().collect(Collectors.toSet()), new HashSet<>(actual));
         }, 3);
     }
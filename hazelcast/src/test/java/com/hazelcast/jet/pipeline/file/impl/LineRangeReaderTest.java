@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LineRangeReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void when_readWhole_then_sameLinesAsBufferedReader() throws IOException {
+        String content = "first\nsecond\r\nthird\rfourth\n\n\r\n\rlast";
+        assertRangesReadAllLines(content, content.length() + 1);
+    }
+
+    @Test
+    public void when_readInRanges_then_eachLineReadOnce() throws IOException {
+        String content = "a\nbb\r\nccc\rdddd\n\n\r\n\r"
+                + "žluťoučký kůň\n"
+                + Stream.generate(() -> "x").limit(1000).collect(Collectors.joining()) + "\r\n"
+                + "no terminator";
+        for (int rangeSize = 1; rangeSize < 40; rangeSize++) {
+            assertRangesReadAllLines(content, rangeSize);
+        }
+    }
+
+    @Test
+    public void when_emptyFile_then_noLines() throws IOException {
+        assertRangesReadAllLines("", 1);
+    }
+
+    @Test
+    public void when_trailingTerminator_then_noEmptyLastLine() throws IOException {
+        for (int rangeSize = 1; rangeSize < 5; rangeSize++) {
+            assertRangesReadAllLines("a\nb\r\n", rangeSize);
+        }
+    }
+
+    @Test
+    public void testSupportedCharsets() {
+        assertTrue(LineRangeReader.isSupported(UTF_8));
+        assertFalse(LineRangeReader.isSupported(UTF_16));
+    }
+
+    private void assertRangesReadAllLines(String content, int rangeSize) throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(UTF_8));
+        long size = Files.size(file);
+
+        List<String> lines = new ArrayList<>();
+        for (long start = 0; start < Math.max(size, 1); start += rangeSize) {
+            try (Stream<String> rangeLines = LineRangeReader.lines(file, start, start + rangeSize, UTF_8)) {
+                rangeLines.forEach(lines::add);
+            }
+        }
+
+        List<String> expected = new BufferedReader(new StringReader(content)).lines().collect(Collectors.toList());
+        assertEquals("range size: " + rangeSize, expected, lines);
+    }
+}
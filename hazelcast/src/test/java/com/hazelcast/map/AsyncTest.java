@@ -28,11 +28,17 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -61,6 +67,23 @@ public class AsyncTest extends HazelcastTestSupport {
         assertEquals(value1, f1.get());
     }
 
+    @Test
+    public void testGetAllAsync() throws Exception {
+        MapProxyImpl<Object, Object> map = (MapProxyImpl<Object, Object>) instance.getMap(randomString());
+        Map<Object, Object> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value" + i);
+            if (i % 3 == 0) {
+                expected.put(i, "value" + i);
+            }
+        }
+        Set<Object> keys = new HashSet<>(expected.keySet());
+        keys.add(1000);
+
+        assertEquals(expected, map.getAllAsync(keys).toCompletableFuture().get());
+        assertEquals(emptyMap(), map.getAllAsync(emptySet()).toCompletableFuture().get());
+    }
+
     @Test
     public void testPutAsync() throws Exception {
         IMap<String, String> map = instance.getMap(randomString());
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.journal;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EventJournalConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.PredicateEx;
+import com.hazelcast.internal.journal.EventJournalBatchReader;
+import com.hazelcast.map.EventJournalMapEvent;
+import com.hazelcast.map.IMap;
+import com.hazelcast.ringbuffer.ReadResultSet;
+import com.hazelcast.spi.impl.operationparker.impl.OperationParkerImpl;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapEventJournalBatchReadTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "map";
+    private static final int PARTITION_COUNT = 11;
+
+    private HazelcastInstance[] instances;
+    private int[] partitionIds;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig(MAP_NAME).setEventJournalConfig(new EventJournalConfig().setEnabled(true));
+        instances = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(instances);
+        partitionIds = new int[PARTITION_COUNT];
+        for (int i = 0; i < partitionIds.length; i++) {
+            partitionIds[i] = i;
+        }
+    }
+
+    @Test
+    public void readFromEventJournals_readsAllPartitions() throws Exception {
+        IMap<String, Integer> map = instances[0].getMap(MAP_NAME);
+        for (int partitionId : partitionIds) {
+            map.put(generateKeyForPartition(instances[0], partitionId), partitionId);
+        }
+
+        List<ReadResultSet<Integer>> resultSets = readFromEventJournals(new long[PARTITION_COUNT], 10_000,
+                null, EventJournalMapEvent::getNewValue);
+
+        assertEquals(PARTITION_COUNT, resultSets.size());
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            ReadResultSet<Integer> resultSet = resultSets.get(i);
+            assertEquals(1, resultSet.size());
+            assertEquals(partitionIds[i], (int) resultSet.get(0));
+            assertEquals(1, resultSet.getNextSequenceToReadFrom());
+        }
+    }
+
+    @Test
+    public void readFromEventJournals_appliesPredicate() throws Exception {
+        IMap<String, Integer> map = instances[0].getMap(MAP_NAME);
+        for (int partitionId : partitionIds) {
+            map.put(generateKeyForPartition(instances[0], partitionId), partitionId);
+        }
+
+        List<ReadResultSet<Integer>> resultSets = readFromEventJournals(new long[PARTITION_COUNT], 10_000,
+                e -> e.getNewValue() % 2 == 0, EventJournalMapEvent::getNewValue);
+
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            ReadResultSet<Integer> resultSet = resultSets.get(i);
+            assertEquals(partitionIds[i] % 2 == 0 ? 1 : 0, resultSet.size());
+            assertEquals(1, resultSet.readCount());
+            assertEquals(1, resultSet.getNextSequenceToReadFrom());
+        }
+    }
+
+    @Test
+    public void readFromEventJournals_waitsForEvents() throws Exception {
+        CompletableFuture<List<ReadResultSet<Integer>>> future = readFromEventJournalsAsync(new long[PARTITION_COUNT],
+                60_000, null, EventJournalMapEvent::getNewValue);
+        sleepMillis(200);
+        assertFalse(future.isDone());
+
+        int partitionId = partitionIds[PARTITION_COUNT - 1];
+        instances[1].getMap(MAP_NAME).put(generateKeyForPartition(instances[1], partitionId), 42);
+
+        List<ReadResultSet<Integer>> resultSets = future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS);
+        assertEquals(42, (int) resultSets.get(PARTITION_COUNT - 1).get(0));
+        for (int i = 0; i < PARTITION_COUNT - 1; i++) {
+            assertEquals(0, resultSets.get(i).size());
+            assertEquals(0, resultSets.get(i).getNextSequenceToReadFrom());
+        }
+    }
+
+    @Test
+    public void readFromEventJournals_parksOnJournals_whileWaiting() throws Exception {
+        CompletableFuture<List<ReadResultSet<Integer>>> future = readFromEventJournalsAsync(new long[PARTITION_COUNT],
+                5_000, null, EventJournalMapEvent::getNewValue);
+        assertTrueEventually(() -> assertEquals(PARTITION_COUNT, getTotalParkedOperationCount()));
+
+        instances[0].getMap(MAP_NAME).put(generateKeyForPartition(instances[0], partitionIds[0]), 42);
+
+        assertEquals(42, (int) future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS).get(0).get(0));
+        // the waiters of the other journals expire with the wait time
+        assertTrueEventually(() -> assertEquals(0, getTotalParkedOperationCount()));
+    }
+
+    @Test
+    public void readFromEventJournals_returnsEmptyResultSets_whenWaitTimesOut() throws Exception {
+        List<ReadResultSet<Integer>> resultSets = readFromEventJournals(new long[PARTITION_COUNT], 100,
+                null, EventJournalMapEvent::getNewValue);
+
+        assertEquals(PARTITION_COUNT, resultSets.size());
+        for (ReadResultSet<Integer> resultSet : resultSets) {
+            assertEquals(0, resultSet.size());
+            assertEquals(0, resultSet.readCount());
+        }
+    }
+
+    @Test
+    public void readFromEventJournals_continuesFromStartSequences() throws Exception {
+        IMap<String, Integer> map = instances[0].getMap(MAP_NAME);
+        for (int partitionId : partitionIds) {
+            String key = generateKeyForPartition(instances[0], partitionId);
+            map.put(key, 0);
+            map.put(key, 1);
+        }
+
+        long[] startSequences = new long[PARTITION_COUNT];
+        startSequences[0] = 1;
+        List<ReadResultSet<Integer>> resultSets = readFromEventJournals(startSequences, 10_000,
+                null, EventJournalMapEvent::getNewValue);
+
+        assertEquals(1, resultSets.get(0).size());
+        assertEquals(1, (int) resultSets.get(0).get(0));
+        for (int i = 1; i < PARTITION_COUNT; i++) {
+            assertEquals(2, resultSets.get(i).size());
+        }
+    }
+
+    private int getTotalParkedOperationCount() {
+        int count = 0;
+        for (HazelcastInstance instance : instances) {
+            count += ((OperationParkerImpl) getNodeEngineImpl(instance).getOperationParker()).getTotalParkedOperationCount();
+        }
+        return count;
+    }
+
+    private List<ReadResultSet<Integer>> readFromEventJournals(
+            long[] startSequences, long maxWaitMillis,
+            PredicateEx<EventJournalMapEvent<String, Integer>> predicate,
+            FunctionEx<EventJournalMapEvent<String, Integer>, Integer> projection) throws Exception {
+        return readFromEventJournalsAsync(startSequences, maxWaitMillis, predicate, projection)
+                .get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<List<ReadResultSet<Integer>>> readFromEventJournalsAsync(
+            long[] startSequences, long maxWaitMillis,
+            PredicateEx<EventJournalMapEvent<String, Integer>> predicate,
+            FunctionEx<EventJournalMapEvent<String, Integer>, Integer> projection) {
+        EventJournalBatchReader<EventJournalMapEvent<String, Integer>> reader =
+                (EventJournalBatchReader<EventJournalMapEvent<String, Integer>>) instances[0].getMap(MAP_NAME);
+        return reader.readFromEventJournals(partitionIds, startSequences, 100, maxWaitMillis, predicate, projection)
+                     .toCompletableFuture();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RecordStoreMerkleTreeTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "map";
+    private static final String KEY = "key";
+
+    private MapService mapService;
+    private IMap<String, String> map;
+    private int partitionId;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig(MAP_NAME).setMaxIdleSeconds(100);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        map = instance.getMap(MAP_NAME);
+        partitionId = instance.getPartitionService().getPartition(KEY).getPartitionId();
+    }
+
+    @Test
+    public void when_idleEntryRead_then_leavesUnchanged() {
+        map.put(KEY, "value");
+        int[] leaves = leaves();
+
+        sleepMillis(10);
+        map.get(KEY);
+
+        assertArrayEquals(leaves, leaves());
+    }
+
+    @Test
+    public void when_ttlChanged_then_leavesChange() {
+        map.put(KEY, "value");
+        int[] leaves = leaves();
+
+        map.setTtl(KEY, 50, SECONDS);
+
+        assertFalse(Arrays.equals(leaves, leaves()));
+    }
+
+    @Test
+    public void when_valueChanged_then_leavesChange() {
+        map.put(KEY, "value");
+        int[] leaves = leaves();
+
+        map.put(KEY, "otherValue");
+
+        assertFalse(Arrays.equals(leaves, leaves()));
+    }
+
+    private int[] leaves() {
+        ServiceNamespace namespace = MapService.getObjectNamespace(MAP_NAME);
+        int[] leaves = mapService.getMerkleTreeLeaves(partitionId, namespace);
+        assertNotNull(leaves);
+        return leaves;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_MAX_MEMORY_SEGMENTS;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_OVERFLOW_DIR;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_OFFHEAP_SEGMENT_SIZE_BYTES;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapRingbufferTest extends HazelcastTestSupport {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test(expected = StaleSequenceException.class)
+    public void testReadStaleSequenceThrowsException() {
+        OffHeapRingbuffer<Object> rb = fullRingbuffer();
+        rb.read(rb.headSequence() - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFutureSequenceThrowsException() {
+        OffHeapRingbuffer<Object> rb = fullRingbuffer();
+        rb.read(rb.tailSequence() + 1);
+    }
+
+    @Test
+    public void testAddAndRead_objectFormat() {
+        OffHeapRingbuffer<Object> rb = newRingbuffer(10, InMemoryFormat.OBJECT, null);
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i, rb.add("item" + i));
+        }
+
+        assertEquals(15, rb.headSequence());
+        assertEquals(24, rb.tailSequence());
+        for (long seq = 15; seq < 25; seq++) {
+            assertEquals("item" + seq, rb.read(seq));
+        }
+    }
+
+    @Test
+    public void testAddAndRead_binaryFormat() {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(10, InMemoryFormat.BINARY, serializationService,
+                SEGMENT_SIZE, 1, null);
+        Data data = serializationService.toData("item");
+
+        long sequence = rb.add(data);
+
+        assertEquals(data, rb.read(sequence));
+    }
+
+    @Test
+    public void testSet() {
+        OffHeapRingbuffer<Object> rb = fullRingbuffer();
+
+        rb.set(3, "new");
+        rb.set(4, null);
+
+        assertEquals("new", rb.read(3));
+        assertNull(rb.read(4));
+    }
+
+    @Test
+    public void testGetItems() {
+        OffHeapRingbuffer<Object> rb = newRingbuffer(5, InMemoryFormat.OBJECT, null);
+        for (int i = 0; i < 7; i++) {
+            rb.add(i);
+        }
+
+        assertArrayEquals(new Object[]{5, 6, 2, 3, 4}, rb.getItems());
+    }
+
+    @Test
+    public void testSegmentsReleased_whenItemsOverwritten() {
+        OffHeapRingbuffer<Object> rb = newRingbuffer(100, InMemoryFormat.OBJECT, null);
+        for (int i = 0; i < 100_000; i++) {
+            rb.add(new byte[100]);
+        }
+
+        // 100 items of ~100 bytes fit into a few segments of 1 KB
+        assertTrue("segments: " + rb.getSegmentCount(), rb.getSegmentCount() <= 20);
+        assertEquals(rb.getSegmentCount(), rb.getMemorySegmentCount());
+    }
+
+    @Test
+    public void testOverflowToDisk() throws Exception {
+        File overflowDir = folder.newFolder();
+        OffHeapRingbuffer<Object> rb = newRingbuffer(10_000, InMemoryFormat.OBJECT, overflowDir);
+        for (int i = 0; i < 10_000; i++) {
+            rb.add("item" + i);
+        }
+
+        assertEquals(2, rb.getMemorySegmentCount());
+        assertTrue(rb.getSegmentCount() > rb.getMemorySegmentCount());
+        for (long seq = 0; seq < 10_000; seq++) {
+            assertEquals("item" + seq, rb.read(seq));
+        }
+    }
+
+    @Test
+    public void testItemLargerThanSegment() {
+        OffHeapRingbuffer<Object> rb = newRingbuffer(10, InMemoryFormat.OBJECT, null);
+        byte[] item = new byte[10 * SEGMENT_SIZE];
+
+        long sequence = rb.add(item);
+
+        assertArrayEquals(item, (byte[]) rb.read(sequence));
+    }
+
+    @Test
+    public void testClear() {
+        OffHeapRingbuffer<Object> rb = fullRingbuffer();
+
+        rb.clear();
+
+        assertEquals(-1, rb.tailSequence());
+        assertEquals(0, rb.headSequence());
+        assertEquals(0, rb.getSegmentCount());
+        assertEquals(0, rb.getMemorySegmentCount());
+        rb.add("item");
+        assertEquals("item", rb.read(0));
+    }
+
+    @Test
+    public void testSegmentSizedByCapacity() {
+        OffHeapRingbuffer<Object> rb = newRingbuffer(2, InMemoryFormat.OBJECT, null);
+        for (int i = 0; i < 3; i++) {
+            rb.add("item" + i);
+        }
+
+        // the first segment fits only the first two items
+        assertEquals(2, rb.getSegmentCount());
+        assertEquals("item1", rb.read(1));
+        assertEquals("item2", rb.read(2));
+    }
+
+    @Test
+    public void testDispose() {
+        OffHeapRingbuffer<Object> rb = fullRingbuffer();
+
+        rb.dispose();
+
+        assertEquals(-1, rb.tailSequence());
+        assertEquals(0, rb.headSequence());
+        assertEquals(0, rb.getSegmentCount());
+        assertEquals(0, rb.getMemorySegmentCount());
+    }
+
+    @Test
+    public void testSetOverflow() throws Exception {
+        OffHeapRingbuffer<Object> rb = new OffHeapRingbuffer<>(10_000, InMemoryFormat.OBJECT, serializationService,
+                SEGMENT_SIZE, 0, null);
+        for (int i = 0; i < 10_000; i++) {
+            rb.add("item" + i);
+        }
+        assertEquals(rb.getSegmentCount(), rb.getMemorySegmentCount());
+
+        rb.setOverflow(2, folder.newFolder());
+
+        assertEquals(2, rb.getMemorySegmentCount());
+        for (long seq = 0; seq < 10_000; seq++) {
+            assertEquals("item" + seq, rb.read(seq));
+        }
+    }
+
+    @Test
+    public void testRingbuffer_whenOffHeapEnabled() throws Exception {
+        Config config = smallInstanceConfig()
+                .setProperty(RINGBUFFER_OFFHEAP_ENABLED.getName(), "true")
+                .setProperty(RINGBUFFER_OFFHEAP_SEGMENT_SIZE_BYTES.getName(), String.valueOf(SEGMENT_SIZE))
+                .setProperty(RINGBUFFER_OFFHEAP_MAX_MEMORY_SEGMENTS.getName(), "2")
+                .setProperty(RINGBUFFER_OFFHEAP_OVERFLOW_DIR.getName(), folder.newFolder().getAbsolutePath());
+        HazelcastInstance hz = createHazelcastInstance(config);
+        com.hazelcast.ringbuffer.Ringbuffer<String> ringbuffer = hz.getRingbuffer("ringbuffer");
+
+        for (int i = 0; i < 1000; i++) {
+            ringbuffer.add("item" + i);
+        }
+
+        for (long seq = 0; seq < 1000; seq++) {
+            assertEquals("item" + seq, ringbuffer.readOne(seq));
+        }
+    }
+
+    @Test
+    public void testReplicatedRingbuffer_whenOffHeapEnabled() throws Exception {
+        Config config = smallInstanceConfig()
+                .setProperty(RINGBUFFER_OFFHEAP_ENABLED.getName(), "true")
+                .setProperty(RINGBUFFER_OFFHEAP_SEGMENT_SIZE_BYTES.getName(), String.valueOf(SEGMENT_SIZE));
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        com.hazelcast.ringbuffer.Ringbuffer<String> ringbuffer = hz1.getRingbuffer("ringbuffer");
+        for (int i = 0; i < 1000; i++) {
+            ringbuffer.add("item" + i);
+        }
+
+        // the ringbuffer is replicated to the new member
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2);
+        hz1.getLifecycleService().terminate();
+
+        com.hazelcast.ringbuffer.Ringbuffer<String> backup = hz2.getRingbuffer("ringbuffer");
+        assertEquals(999, backup.tailSequence());
+        for (long seq = backup.headSequence(); seq < 1000; seq++) {
+            assertEquals("item" + seq, backup.readOne(seq));
+        }
+    }
+
+    private OffHeapRingbuffer<Object> newRingbuffer(int capacity, InMemoryFormat inMemoryFormat, File overflowDir) {
+        return new OffHeapRingbuffer<>(capacity, inMemoryFormat, serializationService, SEGMENT_SIZE, 2, overflowDir);
+    }
+
+    private OffHeapRingbuffer<Object> fullRingbuffer() {
+        OffHeapRingbuffer<Object> rb = newRingbuffer(5, InMemoryFormat.OBJECT, null);
+        for (int i = 0; i < rb.getCapacity(); i++) {
+            rb.add("item" + i);
+        }
+        return rb;
+    }
+}
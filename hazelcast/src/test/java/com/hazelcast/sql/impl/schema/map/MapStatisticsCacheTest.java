@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema.map;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapStatisticsCacheTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1_000;
+
+    private HazelcastInstance instance;
+
+    @Before
+    public void setUp() {
+        instance = createHazelcastInstance(smallInstanceConfig());
+    }
+
+    @Test
+    public void when_sortedIndex_then_distinctCountAndHistogram() {
+        String mapName = randomName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        map.addIndex(IndexType.SORTED, "this");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i % 100);
+        }
+
+        ColumnStatistics statistics = collect(mapName).get("this");
+
+        assertThat(statistics.getDistinctCount()).isBetween(95L, 105L);
+        assertThat(statistics.getNullFraction()).isZero();
+        assertThat(statistics.hasHistogram()).isTrue();
+        assertThat(statistics.getEqualsSelectivity()).isCloseTo(0.01d, within(0.001d));
+        assertThat(statistics.getRangeSelectivity(Double.NEGATIVE_INFINITY, 49.5d)).isCloseTo(0.5d, within(0.05d));
+        assertThat(statistics.getRangeSelectivity(90d, Double.POSITIVE_INFINITY)).isCloseTo(0.1d, within(0.05d));
+        assertThat(statistics.getRangeSelectivity(200d, 300d)).isCloseTo(0.01d, within(0.001d));
+    }
+
+    @Test
+    public void when_hashIndex_then_distinctCountAndNullFraction() {
+        String mapName = randomName();
+        IMap<Integer, Value> map = instance.getMap(mapName);
+        map.addIndex(IndexType.HASH, "field");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Value(i % 2 == 0 ? null : i % 10));
+        }
+
+        ColumnStatistics statistics = collect(mapName).get("field");
+
+        assertThat(statistics.getDistinctCount()).isEqualTo(5L);
+        assertThat(statistics.getNullFraction()).isEqualTo(0.5d);
+        assertThat(statistics.hasHistogram()).isFalse();
+        assertThat(statistics.getRangeSelectivity(0d, 1d)).isNull();
+    }
+
+    @Test
+    public void when_bitmapIndex_then_noStatistics() {
+        String mapName = randomName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        map.addIndex(IndexType.BITMAP, "this");
+        map.addIndex(IndexType.HASH, "__key");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i % 10);
+        }
+
+        Map<String, ColumnStatistics> statistics = collect(mapName);
+
+        assertThat(statistics).containsOnlyKeys("__key");
+        assertThat(statistics.get("__key").getDistinctCount()).isBetween(950L, 1050L);
+    }
+
+    @Test
+    public void when_compositeIndex_then_leadingAttributeStatistics() {
+        String mapName = randomName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        map.addIndex(IndexType.SORTED, "this", "__key");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i % 10);
+        }
+
+        Map<String, ColumnStatistics> statistics = collect(mapName);
+
+        assertThat(statistics).containsOnlyKeys("this");
+        assertThat(statistics.get("this").getDistinctCount()).isEqualTo(10L);
+        assertThat(statistics.get("this").hasHistogram()).isTrue();
+    }
+
+    @Test
+    public void when_getStatistics_then_collectedAsynchronously() {
+        String mapName = randomName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        map.addIndex(IndexType.SORTED, "this");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        MapStatisticsCache cache = mapServiceContext().getMapStatisticsCache();
+        MapContainer container = mapContainer(mapName);
+
+        assertTrueEventually(() -> assertThat(cache.getStatistics(container, ENTRY_COUNT)).containsKey("this"));
+        assertThat(cache.getStatistics(container, ENTRY_COUNT).get("this").getDistinctCount())
+                .isBetween(950L, 1050L);
+    }
+
+    @Test
+    public void when_indexUnchanged_then_statisticsReused() {
+        String mapName = randomName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        map.addIndex(IndexType.SORTED, "this");
+        map.addIndex(IndexType.HASH, "__key");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        MapStatisticsCache cache = new MapStatisticsCache(getNodeEngineImpl(instance));
+        MapContainer container = mapContainer(mapName);
+        cache.refresh(container, ENTRY_COUNT);
+        Map<String, ColumnStatistics> statistics = cache.getStatistics(container, ENTRY_COUNT);
+
+        // changes less than 10% of the entries
+        for (int i = 0; i < ENTRY_COUNT / 20; i++) {
+            map.set(i, 0);
+        }
+        cache.refresh(container, ENTRY_COUNT);
+
+        assertThat(cache.getStatistics(container, ENTRY_COUNT).get("this")).isSameAs(statistics.get("this"));
+        assertThat(cache.getStatistics(container, ENTRY_COUNT).get("__key")).isSameAs(statistics.get("__key"));
+
+        // changes more than 10% of the entries
+        for (int i = 0; i < ENTRY_COUNT / 2; i++) {
+            map.set(i, 0);
+        }
+        cache.refresh(container, ENTRY_COUNT);
+
+        Map<String, ColumnStatistics> refreshedStatistics = cache.getStatistics(container, ENTRY_COUNT);
+        assertThat(refreshedStatistics.get("this")).isNotSameAs(statistics.get("this"));
+        assertThat(refreshedStatistics.get("this").getDistinctCount()).isBetween(475L, 525L);
+        assertThat(refreshedStatistics.get("__key")).isNotSameAs(statistics.get("__key"));
+    }
+
+    @Test
+    public void when_mapDestroyed_then_statisticsEvicted() {
+        String mapName = randomName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        map.addIndex(IndexType.SORTED, "this");
+        map.put(1, 1);
+        MapStatisticsCache cache = mapServiceContext().getMapStatisticsCache();
+        MapContainer container = mapContainer(mapName);
+        cache.refresh(container, 1);
+        assertThat(cache.getStatistics(container, 1)).containsKey("this");
+
+        map.destroy();
+
+        assertThat(cache.getStatistics(container, 1)).isEmpty();
+    }
+
+    @Test
+    public void when_noIndexes_then_noStatistics() {
+        String mapName = randomName();
+        instance.getMap(mapName).put(1, 1);
+
+        MapStatisticsCache cache = new MapStatisticsCache(getNodeEngineImpl(instance));
+
+        assertThat(cache.getStatistics(mapContainer(mapName), 1)).isEmpty();
+    }
+
+    private Map<String, ColumnStatistics> collect(String mapName) {
+        NodeEngine nodeEngine = getNodeEngineImpl(instance);
+        MapStatisticsCache cache = new MapStatisticsCache(nodeEngine);
+        MapContainer container = mapContainer(mapName);
+
+        cache.refresh(container, ENTRY_COUNT);
+
+        return cache.getStatistics(container, ENTRY_COUNT);
+    }
+
+    private MapContainer mapContainer(String mapName) {
+        return mapServiceContext().getExistingMapContainer(mapName);
+    }
+
+    private MapServiceContext mapServiceContext() {
+        MapService service = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        return service.getMapServiceContext();
+    }
+
+    public static class Value implements Serializable {
+
+        public Integer field;
+
+        public Value(Integer field) {
+            this.field = field;
+        }
+    }
+}
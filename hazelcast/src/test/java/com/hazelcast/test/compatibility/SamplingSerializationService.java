@@ -25,6 +25,7 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactMutableGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
 import com.hazelcast.jet.config.JobConfig;
@@ -204,6 +205,11 @@ public class SamplingSerializationService implements InternalSerializationServic
         return delegate.readAsInternalGenericRecord(data);
     }
 
+    @Override
+    public CompactMutableGenericRecord readAsMutableGenericRecord(@Nonnull Data data) throws IOException {
+        return delegate.readAsMutableGenericRecord(data);
+    }
+
     @Override
     public Schema extractSchemaFromData(@Nonnull Data data) throws IOException {
         return delegate.extractSchemaFromData(data);
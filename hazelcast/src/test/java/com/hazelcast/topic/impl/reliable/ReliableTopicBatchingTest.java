@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ReliableTopicConfig;
+import com.hazelcast.config.RingbufferConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.ReliableBatchMessageListener;
+import com.hazelcast.topic.TopicOverloadException;
+import com.hazelcast.topic.TopicOverloadPolicy;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static com.hazelcast.ringbuffer.impl.RingbufferService.TOPIC_RB_PREFIX;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReliableTopicBatchingTest extends HazelcastTestSupport {
+
+    private static final int CAPACITY = 100;
+
+    private HazelcastInstance hz;
+    private SerializationService serializationService;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        config.addRingBufferConfig(new RingbufferConfig("error*")
+                .setCapacity(CAPACITY).setTimeToLiveSeconds(Integer.MAX_VALUE));
+        config.addReliableTopicConfig(new ReliableTopicConfig("error*")
+                .setTopicOverloadPolicy(TopicOverloadPolicy.ERROR));
+        config.addRingBufferConfig(new RingbufferConfig("discard*").setCapacity(CAPACITY));
+        config.addReliableTopicConfig(new ReliableTopicConfig("discard*")
+                .setTopicOverloadPolicy(TopicOverloadPolicy.DISCARD_OLDEST));
+        config.addReliableTopicConfig(new ReliableTopicConfig("batch*").setReadBatchSize(10));
+        hz = createHazelcastInstance(config);
+        serializationService = getNodeEngineImpl(hz).getSerializationService();
+    }
+
+    @Test
+    public void testPublish_whenConcurrent_thenAllAddedInOrder() throws Exception {
+        ReliableTopicPublisher publisher = newPublisher("topic", TopicOverloadPolicy.BLOCK);
+
+        List<InternalCompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < CAPACITY; i++) {
+            futures.add(publisher.publish(newMessage(i)));
+        }
+        for (InternalCompletableFuture<Void> future : futures) {
+            future.get();
+        }
+
+        Ringbuffer<ReliableTopicMessage> ringbuffer = hz.getRingbuffer(TOPIC_RB_PREFIX + "topic");
+        assertEquals(CAPACITY - 1, ringbuffer.tailSequence());
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(i, (int) serializationService.toObject(ringbuffer.readOne(i).getPayload()));
+        }
+    }
+
+    @Test
+    public void testPublish_whenErrorAndNoSpace_thenFails() throws Exception {
+        ReliableTopicPublisher publisher = newPublisher("error", TopicOverloadPolicy.ERROR);
+        for (int i = 0; i < CAPACITY; i++) {
+            publisher.publish(newMessage(i)).get();
+        }
+
+        // the failure of a batch doesn't prevent publishing the next one
+        for (int i = 0; i < 2; i++) {
+            try {
+                publisher.publish(newMessage(CAPACITY)).get();
+                fail();
+            } catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof TopicOverloadException);
+            }
+        }
+    }
+
+    @Test
+    public void testPublish_whenErrorAndBatchDoesNotFit_thenOnlyOverflowingMessagesFail() throws Exception {
+        ReliableTopicPublisher publisher = newPublisher("error", TopicOverloadPolicy.ERROR);
+        for (int i = 0; i < CAPACITY - 2; i++) {
+            publisher.publish(newMessage(i)).get();
+        }
+
+        // the messages published while the first one is in flight are batched
+        List<InternalCompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(publisher.publish(newMessage(CAPACITY - 2 + i)));
+        }
+
+        int failed = 0;
+        for (InternalCompletableFuture<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof TopicOverloadException);
+                failed++;
+            }
+        }
+        assertEquals(3, failed);
+        Ringbuffer<ReliableTopicMessage> ringbuffer = hz.getRingbuffer(TOPIC_RB_PREFIX + "error");
+        assertEquals(CAPACITY - 1, ringbuffer.tailSequence());
+        assertEquals(CAPACITY - 1, (int) serializationService.toObject(ringbuffer.readOne(CAPACITY - 1).getPayload()));
+    }
+
+    @Test
+    public void testPublishAsync_whenDiscardOldest_thenCompletes() throws Exception {
+        ITopic<Integer> topic = hz.getReliableTopic("discard");
+        for (int i = 0; i < 2 * CAPACITY; i++) {
+            topic.publishAsync(i);
+        }
+        topic.publishAsync(2 * CAPACITY).toCompletableFuture().get();
+
+        Ringbuffer<ReliableTopicMessage> ringbuffer = hz.getRingbuffer(TOPIC_RB_PREFIX + "discard");
+        assertEquals(2 * CAPACITY, ringbuffer.tailSequence());
+        assertEquals(CAPACITY + 1, ringbuffer.headSequence());
+    }
+
+    @Test
+    public void testBatchMessageListener() throws Exception {
+        ITopic<Integer> topic = hz.getReliableTopic("batch");
+        List<Integer> payloads = new ArrayList<>();
+        for (int i = 0; i < CAPACITY; i++) {
+            payloads.add(i);
+        }
+        topic.publishAll(payloads);
+
+        BatchListener listener = new BatchListener();
+        topic.addMessageListener(listener);
+
+        assertTrueEventually(() -> assertEquals(payloads, listener.payloads));
+        assertTrue(listener.batchCount < CAPACITY);
+        assertEquals(CAPACITY - 1, listener.storedSequence);
+        // the sequence of a batch is stored after the batch is processed
+        assertFalse(listener.storedBeforeProcessed);
+    }
+
+    private ReliableTopicPublisher newPublisher(String topicName, TopicOverloadPolicy overloadPolicy) {
+        Ringbuffer<ReliableTopicMessage> ringbuffer = hz.getRingbuffer(TOPIC_RB_PREFIX + topicName);
+        return new ReliableTopicPublisher(ringbuffer, overloadPolicy, topicName,
+                getNodeEngineImpl(hz).getExecutionService().getGlobalTaskScheduler());
+    }
+
+    private ReliableTopicMessage newMessage(int payload) {
+        return new ReliableTopicMessage(serializationService.toData(payload), null);
+    }
+
+    private static class BatchListener implements ReliableBatchMessageListener<Integer> {
+
+        final List<Integer> payloads = new CopyOnWriteArrayList<>();
+        volatile int batchCount;
+        volatile long storedSequence = -1;
+        volatile boolean storedBeforeProcessed;
+
+        @Override
+        public void onMessages(List<Message<Integer>> messages) {
+            batchCount++;
+            if (storedSequence != payloads.size() - 1) {
+                storedBeforeProcessed = true;
+            }
+            for (Message<Integer> message : messages) {
+                payloads.add(message.getMessageObject());
+            }
+        }
+
+        @Override
+        public long retrieveInitialSequence() {
+            return 0;
+        }
+
+        @Override
+        public void storeSequence(long sequence) {
+            storedSequence = sequence;
+        }
+
+        @Override
+        public boolean isLossTolerant() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminal(Throwable failure) {
+            return false;
+        }
+    }
+}